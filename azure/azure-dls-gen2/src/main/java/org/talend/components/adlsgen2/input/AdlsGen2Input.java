@@ -13,6 +13,7 @@
 package org.talend.components.adlsgen2.input;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.json.JsonBuilderFactory;
@@ -47,14 +48,26 @@ public class AdlsGen2Input implements Serializable {
 
     private InputConfiguration configuration;
 
+    /**
+     * Blobs assigned to this worker when the input was split, null to read the whole dataset.
+     */
+    private List<String> blobPaths;
+
     private BlobReader reader;
 
     public AdlsGen2Input(@Option("configuration") final InputConfiguration configuration, final AdlsGen2Service service,
             final RecordBuilderFactory recordBuilderFactory, JsonBuilderFactory jsonFactory) {
+        this(configuration, service, recordBuilderFactory, jsonFactory, null);
+    }
+
+    public AdlsGen2Input(@Option("configuration") final InputConfiguration configuration, final AdlsGen2Service service,
+            final RecordBuilderFactory recordBuilderFactory, JsonBuilderFactory jsonFactory,
+            final List<String> blobPaths) {
         this.configuration = configuration;
         this.service = service;
         this.jsonFactory = jsonFactory;
         this.recordBuilderFactory = recordBuilderFactory;
+        this.blobPaths = blobPaths;
     }
 
     @PostConstruct
@@ -62,7 +75,7 @@ public class AdlsGen2Input implements Serializable {
         log.debug("[init]");
         try {
             reader = BlobFileReaderFactory
-                    .getReader(configuration, recordBuilderFactory, jsonFactory, service);
+                    .getReader(configuration, recordBuilderFactory, jsonFactory, service, blobPaths);
         } catch (Exception e) {
             log.error("[init] Error: {}.", e.getMessage());
             throw new AdlsGen2RuntimeException(e.getMessage(), e);
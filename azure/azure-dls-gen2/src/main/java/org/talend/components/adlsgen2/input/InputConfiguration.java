@@ -15,7 +15,9 @@ package org.talend.components.adlsgen2.input;
 import java.io.Serializable;
 
 import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.common.formats.ParquetReadOptions;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -24,11 +26,27 @@ import static org.talend.sdk.component.api.configuration.ui.layout.GridLayout.Fo
 
 @Data
 @GridLayout(value = { @GridLayout.Row({ "dataSet" }) })
-@GridLayout(names = ADVANCED, value = { @GridLayout.Row({ "dataSet" }) })
+@GridLayout(names = ADVANCED, value = { @GridLayout.Row({ "dataSet" }), @GridLayout.Row({ "parquetReadOptions" }),
+        @GridLayout.Row({ "deltaVersion" }), @GridLayout.Row({ "deltaPartitionFilter" }) })
 @Documentation("ADLS input configuration")
 public class InputConfiguration implements Serializable {
 
     @Option
     @Documentation("Dataset")
     private AdlsGen2DataSet dataSet;
+
+    @Option
+    @ActiveIf(target = "dataSet.format", value = "PARQUET")
+    @Documentation("Columns and rows to read from parquet blobs")
+    private ParquetReadOptions parquetReadOptions = new ParquetReadOptions();
+
+    @Option
+    @ActiveIf(target = "dataSet.format", value = "DELTA")
+    @Documentation("Version of the delta table to read, the latest one when negative")
+    private long deltaVersion = -1;
+
+    @Option
+    @ActiveIf(target = "dataSet.format", value = "DELTA")
+    @Documentation("Partition values to read, like `year=2023,country=FR|DE`. All partitions are read when empty")
+    private String deltaPartitionFilter;
 }
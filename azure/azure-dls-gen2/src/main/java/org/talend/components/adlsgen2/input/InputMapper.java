@@ -13,11 +13,19 @@
 package org.talend.components.adlsgen2.input;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.json.JsonBuilderFactory;
+import org.talend.components.adlsgen2.common.format.FileFormat;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
 import org.talend.components.adlsgen2.datastore.AdlsGen2Connection;
 import org.talend.components.adlsgen2.migration.AdlsRuntimeDatasetMigration;
+import org.talend.components.adlsgen2.runtime.input.DeltaTableFiles;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.components.adlsgen2.service.BlobInformations;
+import org.talend.components.common.BlobBundles;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
@@ -30,12 +38,17 @@ import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.connection.Connection;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import io.delta.standalone.DeltaLog;
+import io.delta.standalone.Snapshot;
+import io.delta.standalone.actions.AddFile;
+import lombok.extern.slf4j.Slf4j;
 import static java.util.Collections.singletonList;
 
 @Version(value = 4, migrationHandler = AdlsRuntimeDatasetMigration.class)
 @Icon(value = Icon.IconType.CUSTOM, custom = "AdlsGen2-input")
 @PartitionMapper(name = "AdlsGen2Input")
 @Documentation("Mapper for Azure Data Lake Storage Gen2")
+@Slf4j
 public class InputMapper implements Serializable {
 
     @Service
@@ -48,32 +61,115 @@ public class InputMapper implements Serializable {
 
     private final JsonBuilderFactory jsonBuilderFactory;
 
+    private final List<String> blobPaths;
+
     @Connection
     private AdlsGen2Connection injectedConnection;
 
     public InputMapper(@Option("configuration") final InputConfiguration configuration, final AdlsGen2Service service,
             final RecordBuilderFactory recordBuilderFactory, final JsonBuilderFactory jsonBuilderFactory) {
+        this(configuration, service, recordBuilderFactory, jsonBuilderFactory, null);
+    }
+
+    private InputMapper(final InputConfiguration configuration, final AdlsGen2Service service,
+            final RecordBuilderFactory recordBuilderFactory, final JsonBuilderFactory jsonBuilderFactory,
+            final List<String> blobPaths) {
         this.configuration = configuration;
         this.service = service;
         this.recordBuilderFactory = recordBuilderFactory;
         this.jsonBuilderFactory = jsonBuilderFactory;
+        this.blobPaths = blobPaths;
     }
 
     @Assessor
     public long estimateSize() {
-        return 1L;
+        return Math.max(1L, listBlobSizes().values().stream().mapToLong(Long::longValue).sum());
     }
 
     @Split
     public List<InputMapper> split(@PartitionSize final long bundles) {
-        return singletonList(this);
+        // pin the table version so that all the workers read the data files of the same snapshot
+        if (configuration.getDataSet().getFormat() == FileFormat.DELTA && configuration.getDeltaVersion() < 0) {
+            try {
+                configuration.setDeltaVersion(openDeltaSnapshot().getVersion());
+            } catch (Exception e) {
+                log.warn("Can't read the delta table version, it is read as a whole: {}", e.getMessage());
+                return singletonList(this);
+            }
+        }
+        List<List<String>> blobBundles = BlobBundles.pack(listBlobSizes(), bundles);
+        if (blobBundles.size() <= 1) {
+            return singletonList(this);
+        }
+        return blobBundles
+                .stream()
+                .map(paths -> {
+                    InputMapper mapper =
+                            new InputMapper(configuration, service, recordBuilderFactory, jsonBuilderFactory, paths);
+                    mapper.injectedConnection = injectedConnection;
+                    return mapper;
+                })
+                .collect(Collectors.toList());
     }
 
     @Emitter
     public AdlsGen2Input createWorker() {
+        applyInjectedConnection();
+        return new AdlsGen2Input(configuration, service, recordBuilderFactory, jsonBuilderFactory, blobPaths);
+    }
+
+    private void applyInjectedConnection() {
         if (injectedConnection != null) {
             configuration.getDataSet().setConnection(injectedConnection);
         }
-        return new AdlsGen2Input(configuration, service, recordBuilderFactory, jsonBuilderFactory);
+    }
+
+    /**
+     * Sizes of the blobs this mapper reads, empty when they can't be listed so that the worker reports the error.
+     */
+    private Map<String, Long> listBlobSizes() {
+        applyInjectedConnection();
+        if (configuration.getDataSet().getFormat() == FileFormat.DELTA) {
+            return listDeltaFileSizes();
+        }
+        Map<String, Long> sizes = new HashMap<>();
+        try {
+            for (BlobInformations blob : service.getBlobs(configuration.getDataSet())) {
+                if (blobPaths == null || blobPaths.contains(blob.getBlobPath())) {
+                    sizes.put(blob.getBlobPath(), blob.getContentLength() == null ? 0L : blob.getContentLength());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Can't list the blobs to estimate the input size: {}", e.getMessage());
+            sizes.clear();
+        }
+        return sizes;
+    }
+
+    /**
+     * Sizes of the active data files of the delta table matching the partition filter, keyed by their log path.
+     */
+    private Map<String, Long> listDeltaFileSizes() {
+        Map<String, Long> sizes = new HashMap<>();
+        try {
+            List<AddFile> files =
+                    DeltaTableFiles.activeFiles(openDeltaSnapshot(), configuration.getDeltaPartitionFilter());
+            for (AddFile file : files) {
+                if (blobPaths == null || blobPaths.contains(file.getPath())) {
+                    sizes.put(file.getPath(), file.getSize());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Can't list the delta table files to estimate the input size: {}", e.getMessage());
+            sizes.clear();
+        }
+        return sizes;
+    }
+
+    private Snapshot openDeltaSnapshot() {
+        AdlsGen2DataSet dataSet = configuration.getDataSet();
+        DeltaLog deltaLog = DeltaLog.forTable(DeltaTableFiles.hadoopConfiguration(dataSet.getConnection()),
+                DeltaTableFiles.tablePath(dataSet, dataSet.getBlobPath()));
+        return DeltaTableFiles.snapshot(deltaLog, configuration.getDeltaVersion());
     }
 }
@@ -105,7 +105,7 @@ public class AdlsGen2Output implements Serializable {
 
     @AfterGroup
     public void afterGroup() {
-        log.debug("[afterGroup] flushing {} records.", blobWriter.getBatch().size());
+        log.debug("[afterGroup] flushing {} records.", blobWriter.getBatchSize());
         try {
             blobWriter.flush();
         } catch (Exception e) {
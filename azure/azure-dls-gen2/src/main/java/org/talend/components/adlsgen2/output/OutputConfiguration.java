@@ -16,6 +16,9 @@ import java.io.Serializable;
 
 import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Max;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -27,7 +30,10 @@ import lombok.Data;
 })
 @GridLayout(names = GridLayout.FormType.ADVANCED, value = { //
         @GridLayout.Row({ "dataSet" }), //
-        @GridLayout.Row({ "blobNameTemplate" }) })
+        @GridLayout.Row({ "blobNameTemplate" }), //
+        @GridLayout.Row({ "appendChunkSize", "maxConcurrentAppends" }), //
+        @GridLayout.Row({ "maxBlobSize" }), //
+        @GridLayout.Row({ "parquetRowGroupSize" }) })
 @Documentation("ADLS output configuration")
 public class OutputConfiguration implements Serializable {
 
@@ -40,4 +46,27 @@ public class OutputConfiguration implements Serializable {
             + "I.e. myPrefix-5deaa8ff-7d22-4b86-a864-9a6fa414501a.avro")
     private String blobNameTemplate = "data-";
 
+    @Option
+    @Min(1)
+    @Documentation("Size in MB of the chunks appended to the blob while the records are written.")
+    private int appendChunkSize = 4;
+
+    @Option
+    @Min(1)
+    @Documentation("Maximum number of chunk appends sent at the same time to the blob.")
+    private int maxConcurrentAppends = 4;
+
+    @Option
+    @Min(0)
+    @Documentation("Size in MB after which the blob is completed and next records go to a new blob.\n"
+            + "0 writes one blob per batch.")
+    private int maxBlobSize = 0;
+
+    @Option
+    @Min(1)
+    @Max(1024)
+    @ActiveIf(target = "dataSet.format", value = "PARQUET")
+    @Documentation("Size in MB of the row groups buffered before being appended to the parquet blob.")
+    private int parquetRowGroupSize = 128;
+
 }
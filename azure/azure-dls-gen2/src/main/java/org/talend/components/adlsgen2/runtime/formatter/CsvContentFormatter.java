@@ -58,16 +58,12 @@ public class CsvContentFormatter extends AbstractContentFormatter {
         if (records.isEmpty()) {
             return new byte[0];
         }
-        // get schema from first record
-        schema = records.get(0).getSchema();
         StringWriter stringWriter = new StringWriter();
         try {
-            CSVPrinter printer = new CSVPrinter(stringWriter, format);
-            if (csvConfiguration.getCsvFormatOptions().isUseHeader()) {
-                printer.printRecord(getHeader());
-            }
+            // get schema from first record
+            CSVPrinter printer = createPrinter(stringWriter, records.get(0).getSchema());
             for (Record rec : records) {
-                printer.printRecord(convertRecordToArray(rec));
+                printRecord(printer, rec);
             }
             printer.flush();
             printer.close();
@@ -78,6 +74,26 @@ public class CsvContentFormatter extends AbstractContentFormatter {
         }
     }
 
+    /**
+     * Creates a printer writing the records of the given schema to the output, with the header when it is configured.
+     */
+    public CSVPrinter createPrinter(Appendable out, Schema recordSchema) throws IOException {
+        schema = recordSchema;
+        CSVPrinter printer = new CSVPrinter(out, format);
+        if (csvConfiguration.getCsvFormatOptions().isUseHeader()) {
+            printer.printRecord(getHeader());
+        }
+        return printer;
+    }
+
+    public void printRecord(CSVPrinter printer, Record rec) throws IOException {
+        printer.printRecord(convertRecordToArray(rec));
+    }
+
+    public String getEncoding() {
+        return csvConfiguration.getCsvFormatOptions().effectiveFileEncoding();
+    }
+
     private Object[] getHeader() {
         // cannot be called in initializeContent because we may need a least one record...
         // first return user schema if exists
@@ -53,6 +53,13 @@ public class JsonContentFormatter extends AbstractContentFormatter {
         return b.build().toString().getBytes();
     }
 
+    /**
+     * @return the content of a single record, without separator.
+     */
+    public byte[] feedRecord(Record rec) {
+        return converter.fromRecord(rec).toString().getBytes();
+    }
+
     @Override
     public boolean hasHeader() {
         return true;
@@ -14,6 +14,7 @@ package org.talend.components.adlsgen2.runtime.input;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import org.apache.avro.file.DataFileStream;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
@@ -31,8 +32,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AvroBlobReader extends BlobReader {
 
     public AvroBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            AdlsGen2Service service) {
-        super(configuration, recordBuilderFactory, service);
+            AdlsGen2Service service, Collection<String> blobPaths) {
+        super(configuration, recordBuilderFactory, service, blobPaths);
     }
 
     @Override
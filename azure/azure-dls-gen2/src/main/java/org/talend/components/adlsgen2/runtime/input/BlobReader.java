@@ -12,7 +12,12 @@
  */
 package org.talend.components.adlsgen2.runtime.input;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.json.JsonBuilderFactory;
 import org.talend.components.adlsgen2.input.InputConfiguration;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
@@ -34,15 +39,32 @@ public abstract class BlobReader {
 
     protected final AdlsGen2Service service;
 
+    protected final Collection<String> blobPaths;
+
+    /**
+     * @param blobPaths paths of the blobs to read among the ones of the dataset, null to read them all.
+     */
     public BlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            AdlsGen2Service service) {
+            AdlsGen2Service service, Collection<String> blobPaths) {
         this.recordBuilderFactory = recordBuilderFactory;
         this.configuration = configuration;
         this.service = service;
-        Iterable<BlobInformations> blobItems = service.getBlobs(configuration.getDataSet());
+        this.blobPaths = blobPaths;
+        List<BlobInformations> blobItems = service.getBlobs(configuration.getDataSet());
+        if (blobPaths != null) {
+            blobItems = selectBlobs(blobItems);
+        }
         iterator = initRecordIterator(blobItems);
     }
 
+    protected List<BlobInformations> selectBlobs(List<BlobInformations> blobItems) {
+        Set<String> selected = new HashSet<>(blobPaths);
+        return blobItems
+                .stream()
+                .filter(blob -> selected.contains(blob.getBlobPath()))
+                .collect(Collectors.toList());
+    }
+
     protected abstract RecordIterator initRecordIterator(Iterable<BlobInformations> blobItems);
 
     public Record readRecord() {
@@ -55,17 +77,22 @@ public abstract class BlobReader {
 
         public static BlobReader getReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
                 JsonBuilderFactory jsonFactory, AdlsGen2Service service) {
+            return getReader(configuration, recordBuilderFactory, jsonFactory, service, null);
+        }
+
+        public static BlobReader getReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
+                JsonBuilderFactory jsonFactory, AdlsGen2Service service, Collection<String> blobPaths) {
             switch (configuration.getDataSet().getFormat()) {
             case CSV:
-                return new CsvBlobReader(configuration, recordBuilderFactory, service);
+                return new CsvBlobReader(configuration, recordBuilderFactory, service, blobPaths);
             case AVRO:
-                return new AvroBlobReader(configuration, recordBuilderFactory, service);
+                return new AvroBlobReader(configuration, recordBuilderFactory, service, blobPaths);
             case PARQUET:
-                return new ParquetBlobReader(configuration, recordBuilderFactory, service);
+                return new ParquetBlobReader(configuration, recordBuilderFactory, service, blobPaths);
             case JSON:
-                return new JsonBlobReader(configuration, recordBuilderFactory, jsonFactory, service);
+                return new JsonBlobReader(configuration, recordBuilderFactory, jsonFactory, service, blobPaths);
             case DELTA:
-                return new DeltaBlobReader(configuration, recordBuilderFactory, service);
+                return new DeltaBlobReader(configuration, recordBuilderFactory, service, blobPaths);
             default:
                 throw new IllegalArgumentException("Unsupported file format"); // shouldn't be here
             }
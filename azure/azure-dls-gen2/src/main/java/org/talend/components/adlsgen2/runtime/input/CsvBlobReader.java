@@ -15,6 +15,7 @@ package org.talend.components.adlsgen2.runtime.input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Collection;
 import java.util.Iterator;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -32,8 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CsvBlobReader extends BlobReader {
 
     CsvBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            AdlsGen2Service service) {
-        super(configuration, recordBuilderFactory, service);
+            AdlsGen2Service service, Collection<String> blobPaths) {
+        super(configuration, recordBuilderFactory, service, blobPaths);
     }
 
     @Override
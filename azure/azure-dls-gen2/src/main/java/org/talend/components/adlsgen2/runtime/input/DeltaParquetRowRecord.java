@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import io.delta.standalone.data.RowRecord;
+import io.delta.standalone.types.ArrayType;
+import io.delta.standalone.types.BinaryType;
+import io.delta.standalone.types.BooleanType;
+import io.delta.standalone.types.ByteType;
+import io.delta.standalone.types.DataType;
+import io.delta.standalone.types.DateType;
+import io.delta.standalone.types.DecimalType;
+import io.delta.standalone.types.DoubleType;
+import io.delta.standalone.types.FloatType;
+import io.delta.standalone.types.IntegerType;
+import io.delta.standalone.types.LongType;
+import io.delta.standalone.types.NullType;
+import io.delta.standalone.types.ShortType;
+import io.delta.standalone.types.StringType;
+import io.delta.standalone.types.StructField;
+import io.delta.standalone.types.StructType;
+import io.delta.standalone.types.TimestampType;
+
+/**
+ * A row of a delta data file read with the parquet example api, seen as the rows of {@code Snapshot.open()}: the
+ * fields of the table schema in its order, values decoded as delta-standalone does and partition values parsed from
+ * the add file. So both are converted to the same records by the DeltaConverter.
+ */
+class DeltaParquetRowRecord implements RowRecord {
+
+    private static final long JULIAN_DAY_OF_EPOCH = 2_440_588L;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final StructType schema;
+
+    private final Group group;
+
+    private final Map<String, String> partitionValues;
+
+    DeltaParquetRowRecord(StructType schema, Group group, Map<String, String> partitionValues) {
+        this.schema = schema;
+        this.group = group;
+        this.partitionValues = partitionValues == null ? Collections.emptyMap() : partitionValues;
+    }
+
+    @Override
+    public StructType getSchema() {
+        return schema;
+    }
+
+    @Override
+    public int getLength() {
+        return schema.getFields().length;
+    }
+
+    @Override
+    public boolean isNullAt(String fieldName) {
+        return get(fieldName) == null;
+    }
+
+    @Override
+    public int getInt(String fieldName) {
+        return (Integer) get(fieldName);
+    }
+
+    @Override
+    public long getLong(String fieldName) {
+        return (Long) get(fieldName);
+    }
+
+    @Override
+    public byte getByte(String fieldName) {
+        return (Byte) get(fieldName);
+    }
+
+    @Override
+    public short getShort(String fieldName) {
+        return (Short) get(fieldName);
+    }
+
+    @Override
+    public boolean getBoolean(String fieldName) {
+        return (Boolean) get(fieldName);
+    }
+
+    @Override
+    public float getFloat(String fieldName) {
+        return (Float) get(fieldName);
+    }
+
+    @Override
+    public double getDouble(String fieldName) {
+        return (Double) get(fieldName);
+    }
+
+    @Override
+    public String getString(String fieldName) {
+        return (String) get(fieldName);
+    }
+
+    @Override
+    public byte[] getBinary(String fieldName) {
+        return (byte[]) get(fieldName);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String fieldName) {
+        return (BigDecimal) get(fieldName);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String fieldName) {
+        return (Timestamp) get(fieldName);
+    }
+
+    @Override
+    public Date getDate(String fieldName) {
+        return (Date) get(fieldName);
+    }
+
+    @Override
+    public RowRecord getRecord(String fieldName) {
+        return (RowRecord) get(fieldName);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String fieldName) {
+        return (List<T>) get(fieldName);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String fieldName) {
+        throw new UnsupportedOperationException("Not supported format:" + field(fieldName).getDataType().getTypeName());
+    }
+
+    private StructField field(String fieldName) {
+        for (StructField field : schema.getFields()) {
+            if (field.getName().equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Field " + fieldName + " is not in the table schema.");
+    }
+
+    private Object get(String fieldName) {
+        DataType type = field(fieldName).getDataType();
+        if (partitionValues.containsKey(fieldName)) {
+            return decodePartition(type, partitionValues.get(fieldName));
+        }
+        // a column added to the table after the file was written is null
+        if (group == null || !group.getType().containsField(fieldName)
+                || group.getFieldRepetitionCount(fieldName) == 0) {
+            return null;
+        }
+        return decode(type, group, group.getType().getFieldIndex(fieldName), 0);
+    }
+
+    private static Object decodePartition(DataType type, String value) {
+        if (value == null || (value.isEmpty() && !(type instanceof StringType))) {
+            return null;
+        }
+        if (type instanceof StringType) {
+            return value;
+        } else if (type instanceof IntegerType) {
+            return Integer.valueOf(value);
+        } else if (type instanceof LongType) {
+            return Long.valueOf(value);
+        } else if (type instanceof ShortType) {
+            return Short.valueOf(value);
+        } else if (type instanceof ByteType) {
+            return Byte.valueOf(value);
+        } else if (type instanceof DoubleType) {
+            return Double.valueOf(value);
+        } else if (type instanceof FloatType) {
+            return Float.valueOf(value);
+        } else if (type instanceof BooleanType) {
+            return Boolean.valueOf(value);
+        } else if (type instanceof DecimalType) {
+            return new BigDecimal(value);
+        } else if (type instanceof DateType) {
+            return Date.valueOf(value);
+        } else if (type instanceof TimestampType) {
+            return Timestamp.valueOf(value);
+        } else if (type instanceof BinaryType) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException("Not supported partition format:" + type.getTypeName());
+    }
+
+    private static Object decode(DataType type, Group parent, int fieldIndex, int index) {
+        if (type instanceof StructType) {
+            return new DeltaParquetRowRecord((StructType) type, parent.getGroup(fieldIndex, index), null);
+        } else if (type instanceof ArrayType) {
+            return decodeList((ArrayType) type, parent.getGroup(fieldIndex, index));
+        } else if (type instanceof StringType) {
+            return parent.getString(fieldIndex, index);
+        } else if (type instanceof IntegerType) {
+            return parent.getInteger(fieldIndex, index);
+        } else if (type instanceof LongType) {
+            return parent.getLong(fieldIndex, index);
+        } else if (type instanceof ShortType) {
+            return (short) parent.getInteger(fieldIndex, index);
+        } else if (type instanceof ByteType) {
+            return (byte) parent.getInteger(fieldIndex, index);
+        } else if (type instanceof DoubleType) {
+            return parent.getDouble(fieldIndex, index);
+        } else if (type instanceof FloatType) {
+            return parent.getFloat(fieldIndex, index);
+        } else if (type instanceof BooleanType) {
+            return parent.getBoolean(fieldIndex, index);
+        } else if (type instanceof BinaryType) {
+            return parent.getBinary(fieldIndex, index).getBytes();
+        } else if (type instanceof DecimalType) {
+            return decodeDecimal((DecimalType) type, parent, fieldIndex, index);
+        } else if (type instanceof DateType) {
+            return Date.valueOf(LocalDate.ofEpochDay(parent.getInteger(fieldIndex, index)));
+        } else if (type instanceof TimestampType) {
+            return decodeTimestamp(parent, fieldIndex, index);
+        } else if (type instanceof NullType) {
+            return null;
+        }
+        throw new IllegalArgumentException("Not supported format:" + type.getTypeName());
+    }
+
+    /**
+     * Lists are written with the 3 levels structure {@code group (LIST) { repeated group list { element } }}, or the
+     * legacy one where the repeated field is the element itself.
+     */
+    private static List<Object> decodeList(ArrayType type, Group list) {
+        Type repeated = list.getType().getType(0);
+        boolean threeLevels = !repeated.isPrimitive() && repeated.asGroupType().getFieldCount() == 1
+                && !"array".equals(repeated.getName()) && !repeated.getName().endsWith("_tuple");
+        int count = list.getFieldRepetitionCount(0);
+        List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (!threeLevels) {
+                values.add(decode(type.getElementType(), list, 0, i));
+            } else {
+                Group element = list.getGroup(0, i);
+                values.add(element.getFieldRepetitionCount(0) == 0 ? null
+                        : decode(type.getElementType(), element, 0, 0));
+            }
+        }
+        return values;
+    }
+
+    private static BigDecimal decodeDecimal(DecimalType type, Group parent, int fieldIndex, int index) {
+        switch (parent.getType().getType(fieldIndex).asPrimitiveType().getPrimitiveTypeName()) {
+        case INT32:
+            return BigDecimal.valueOf(parent.getInteger(fieldIndex, index), type.getScale());
+        case INT64:
+            return BigDecimal.valueOf(parent.getLong(fieldIndex, index), type.getScale());
+        default:
+            return new BigDecimal(new BigInteger(parent.getBinary(fieldIndex, index).getBytes()), type.getScale());
+        }
+    }
+
+    private static Timestamp decodeTimestamp(Group parent, int fieldIndex, int index) {
+        PrimitiveType primitiveType = parent.getType().getType(fieldIndex).asPrimitiveType();
+        if (primitiveType.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT96) {
+            // nanos of the day then julian day, little endian
+            ByteBuffer buffer = parent.getInt96(fieldIndex, index).toByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            long nanosOfDay = buffer.getLong();
+            long julianDay = buffer.getInt();
+            Timestamp timestamp =
+                    new Timestamp(((julianDay - JULIAN_DAY_OF_EPOCH) * 86_400L + nanosOfDay / NANOS_PER_SECOND) * 1000);
+            timestamp.setNanos((int) (nanosOfDay % NANOS_PER_SECOND));
+            return timestamp;
+        }
+        long value = parent.getLong(fieldIndex, index);
+        if (primitiveType.getOriginalType() == OriginalType.TIMESTAMP_MILLIS) {
+            return new Timestamp(value);
+        }
+        Timestamp timestamp = new Timestamp(Math.floorDiv(value, 1_000_000L) * 1000);
+        timestamp.setNanos((int) Math.floorMod(value, 1_000_000L) * 1000);
+        return timestamp;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.talend.components.adlsgen2.datastore.AdlsGen2Connection;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.common.Constants;
+import org.talend.components.common.connection.adls.AuthMethod;
+import io.delta.standalone.DeltaLog;
+import io.delta.standalone.Snapshot;
+import io.delta.standalone.actions.AddFile;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access to the data files of a delta table, shared by the input mapper which splits them and the readers.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeltaTableFiles {
+
+    public static Configuration hadoopConfiguration(AdlsGen2Connection datastore) {
+        Configuration hadoopConfig = new Configuration();
+
+        String accountName = datastore.getAccountName();
+        AuthMethod authMethod = datastore.getAuthMethod();
+
+        switch (authMethod) {
+        case SharedKey:
+            String sharedKey = datastore.getSharedKey();
+            hadoopConfig.set("fs.azure.account.auth.type." + accountName + ".dfs.core.windows.net", "SharedKey");
+            hadoopConfig.set("fs.azure.account.key." + accountName + ".dfs.core.windows.net", sharedKey);
+            break;
+        case SAS:
+            // seems hadoop 3.2.2 don't support that, need to upgrade hadoop
+            String sas = datastore.getSas();
+            hadoopConfig.set("fs.azure.account.auth.type", "SAS");
+            hadoopConfig.set("fs.azure.sas.token.provider.type",
+                    "org.talend.components.adlsgen2.service.TalendSASTokenProvider");
+            hadoopConfig.set(Constants.STATIC_SAS_TOKEN_KEY, sas.substring(1));
+            break;
+        case ActiveDirectory:
+            String tenantId = datastore.getTenantId();
+            String clientId = datastore.getClientId();
+            String clientSecret = datastore.getClientSecret();
+            hadoopConfig.set("fs.azure.account.auth.type", "OAuth");
+            hadoopConfig.set("fs.azure.account.oauth.provider.type",
+                    "org.apache.hadoop.fs.azurebfs.oauth2.ClientCredsTokenProvider");
+            hadoopConfig.set("fs.azure.account.oauth2.client.endpoint",
+                    "https://login.microsoftonline.com/" + tenantId + "/oauth2/v2.0/token");
+            hadoopConfig.set("fs.azure.account.oauth2.client.id", clientId);
+            hadoopConfig.set("fs.azure.account.oauth2.client.secret", clientSecret);
+            break;
+        default:
+            break;
+        }
+        return hadoopConfig;
+    }
+
+    public static String tablePath(AdlsGen2DataSet dataSet, String blobPath) {
+        StringBuilder strBuilder = new StringBuilder();
+        strBuilder.append("abfss://")
+                .append(dataSet.getFilesystem())
+                .append('@')
+                .append(dataSet.getConnection().getAccountName())
+                .append('.')
+                .append(dataSet.getConnection().getEndpointSuffix());
+        if (!blobPath.startsWith("/")) {
+            strBuilder.append("/");
+        }
+        strBuilder.append(blobPath);
+        return strBuilder.toString();
+    }
+
+    /**
+     * @param version version of the table to read, latest one when negative
+     */
+    public static Snapshot snapshot(DeltaLog deltaLog, long version) {
+        return version < 0 ? deltaLog.snapshot() : deltaLog.getSnapshotForVersionAsOf(version);
+    }
+
+    /**
+     * @return the data files of the snapshot which partition values match the filter, see
+     * {@link #parsePartitionFilter(String)}.
+     */
+    public static List<AddFile> activeFiles(Snapshot snapshot, String partitionFilter) {
+        Map<String, Set<String>> filter = parsePartitionFilter(partitionFilter);
+        List<String> partitionColumns = snapshot.getMetadata().getPartitionColumns();
+        for (String column : filter.keySet()) {
+            if (!partitionColumns.contains(column)) {
+                throw new IllegalArgumentException(
+                        "Column " + column + " is not a partition column of the table: " + partitionColumns + ".");
+            }
+        }
+        return snapshot
+                .getAllFiles()
+                .stream()
+                .filter(file -> matches(file.getPartitionValues(), filter))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads filters like {@code year=2023,country=FR|DE}: comma separated conditions which must all match, each one
+     * listing the accepted values of a partition column separated by pipes.
+     */
+    static Map<String, Set<String>> parsePartitionFilter(String partitionFilter) {
+        if (partitionFilter == null || partitionFilter.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Set<String>> filter = new LinkedHashMap<>();
+        for (String condition : partitionFilter.split(",")) {
+            int equal = condition.indexOf('=');
+            if (equal <= 0 || condition.substring(0, equal).trim().isEmpty()) {
+                throw new IllegalArgumentException("Invalid partition condition '" + condition.trim()
+                        + "', column=value expected.");
+            }
+            Set<String> values = Arrays
+                    .stream(condition.substring(equal + 1).split("\\|"))
+                    .map(String::trim)
+                    .collect(Collectors.toCollection(HashSet::new));
+            filter.merge(condition.substring(0, equal).trim(), values, (previous, next) -> {
+                previous.retainAll(next);
+                return previous;
+            });
+        }
+        return filter;
+    }
+
+    static boolean matches(Map<String, String> partitionValues, Map<String, Set<String>> filter) {
+        for (Map.Entry<String, Set<String>> condition : filter.entrySet()) {
+            String value = partitionValues.get(condition.getKey());
+            if (!condition.getValue().contains(value == null ? "" : value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param filePaths paths of the files to keep, as found in the delta log
+     */
+    public static List<AddFile> select(List<AddFile> files, Collection<String> filePaths) {
+        Set<String> selected = new HashSet<>(filePaths);
+        return files.stream().filter(file -> selected.contains(file.getPath())).collect(Collectors.toList());
+    }
+
+    /**
+     * Delta log paths are URIs, relative to the table unless they are absolute.
+     */
+    public static Path filePath(String tablePath, AddFile file) throws URISyntaxException {
+        Path path = new Path(new URI(file.getPath()));
+        return path.isAbsolute() ? path : new Path(new Path(tablePath), path);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.talend.components.common.converters.DeltaConverter;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import io.delta.standalone.DeltaLog;
+import io.delta.standalone.Snapshot;
+import io.delta.standalone.actions.AddFile;
+import io.delta.standalone.data.CloseableIterator;
+import io.delta.standalone.data.RowRecord;
+import io.delta.standalone.types.StructType;
+
+/**
+ * Reads the rows of a delta table snapshot as records.
+ * <p>
+ * The whole snapshot is read through the delta log. When the input was split or partitions are filtered, only the
+ * selected data files are read, straight from parquet as delta-standalone can't open a single one. Their rows are
+ * converted by the same {@link DeltaConverter}, so the records don't depend on the way the table is read.
+ */
+class DeltaTableReader implements Closeable {
+
+    private final DeltaConverter converter;
+
+    private final Configuration hadoopConfig;
+
+    private final String tablePath;
+
+    private CloseableIterator<RowRecord> snapshotRows;
+
+    private StructType tableSchema;
+
+    private Iterator<AddFile> files;
+
+    private AddFile currentFile;
+
+    private ParquetReader<Group> fileReader;
+
+    /**
+     * @param version version of the table to read, latest one when negative
+     * @param partitionFilter see {@link DeltaTableFiles#activeFiles(Snapshot, String)}
+     * @param filePaths paths of the data files to read as found in the delta log, null to read them all
+     */
+    DeltaTableReader(RecordBuilderFactory recordBuilderFactory, Configuration hadoopConfig, String tablePath,
+            long version, String partitionFilter, Collection<String> filePaths) {
+        this.converter = DeltaConverter.of(recordBuilderFactory);
+        this.hadoopConfig = hadoopConfig;
+        this.tablePath = tablePath;
+
+        Snapshot snapshot = DeltaTableFiles.snapshot(DeltaLog.forTable(hadoopConfig, tablePath), version);
+        if (filePaths == null && (partitionFilter == null || partitionFilter.trim().isEmpty())) {
+            snapshotRows = snapshot.open();
+        } else {
+            List<AddFile> activeFiles = DeltaTableFiles.activeFiles(snapshot, partitionFilter);
+            files = (filePaths == null ? activeFiles : DeltaTableFiles.select(activeFiles, filePaths)).iterator();
+            tableSchema = snapshot.getMetadata().getSchema();
+        }
+    }
+
+    /**
+     * @return the next record, null at the end of the table
+     */
+    Record next() throws IOException, URISyntaxException {
+        RowRecord row = nextRow();
+        return row == null ? null : converter.toRecord(row);
+    }
+
+    private RowRecord nextRow() throws IOException, URISyntaxException {
+        if (snapshotRows != null) {
+            return snapshotRows.hasNext() ? snapshotRows.next() : null;
+        }
+
+        while (true) {
+            if (fileReader != null) {
+                Group group = fileReader.read();
+                if (group != null) {
+                    return new DeltaParquetRowRecord(tableSchema, group, currentFile.getPartitionValues());
+                }
+                fileReader.close();
+                fileReader = null;
+            }
+            if (!files.hasNext()) {
+                return null;
+            }
+            currentFile = files.next();
+            fileReader = ParquetReader
+                    .builder(new GroupReadSupport(), DeltaTableFiles.filePath(tablePath, currentFile))
+                    .withConf(hadoopConfig)
+                    .build();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (snapshotRows != null) {
+                snapshotRows.close();
+                snapshotRows = null;
+            }
+        } finally {
+            if (fileReader != null) {
+                fileReader.close();
+                fileReader = null;
+            }
+        }
+    }
+}
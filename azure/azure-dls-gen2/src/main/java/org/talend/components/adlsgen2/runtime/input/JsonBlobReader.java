@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import javax.json.Json;
@@ -40,8 +41,8 @@ public class JsonBlobReader extends BlobReader {
     private JsonBuilderFactory jsonFactoryBuilder;
 
     JsonBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            JsonBuilderFactory jsonFactoryBuilder, AdlsGen2Service service) {
-        super(configuration, recordBuilderFactory, service);
+            JsonBuilderFactory jsonFactoryBuilder, AdlsGen2Service service, Collection<String> blobPaths) {
+        super(configuration, recordBuilderFactory, service, blobPaths);
         this.jsonFactoryBuilder = jsonFactoryBuilder;
     }
 
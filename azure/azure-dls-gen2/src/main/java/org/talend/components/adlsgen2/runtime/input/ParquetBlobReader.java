@@ -17,12 +17,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.io.IOUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.talend.components.adlsgen2.common.format.FileFormatRuntimeException;
@@ -31,6 +31,7 @@ import org.talend.components.adlsgen2.service.AdlsGen2Service;
 import org.talend.components.adlsgen2.service.BlobInformations;
 import org.talend.components.common.Constants;
 import org.talend.components.common.converters.ParquetConverter;
+import org.talend.components.common.formats.ParquetPushdown;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
@@ -40,8 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ParquetBlobReader extends BlobReader {
 
     public ParquetBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            AdlsGen2Service connectionServices) {
-        super(configuration, recordBuilderFactory, connectionServices);
+            AdlsGen2Service connectionServices, Collection<String> blobPaths) {
+        super(configuration, recordBuilderFactory, connectionServices, blobPaths);
     }
 
     @Override
@@ -94,7 +95,7 @@ public class ParquetBlobReader extends BlobReader {
                 Files.copy(input, tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
                 IOUtils.closeQuietly(input);
                 HadoopInputFile hdpIn = HadoopInputFile.fromPath(new Path(tmp.getPath()), hadoopConfig);
-                reader = AvroParquetReader.<GenericRecord> builder(hdpIn).build();
+                reader = ParquetPushdown.openReader(hdpIn, hadoopConfig, configuration.getParquetReadOptions());
                 currentRecord = reader.read();
             } catch (IOException e) {
                 log.error("[ParquetIterator] {}", e.getMessage());
@@ -12,8 +12,8 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.json.JsonBuilderFactory;
 
@@ -37,6 +37,8 @@ public class AvroBlobWriter extends BlobWriter {
 
     private RecordToAvro converter;
 
+    private DataFileWriter<GenericRecord> dataFileWriter;
+
     public AvroBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service) {
         super(configuration, recordBuilderFactory, jsonFactory, service);
@@ -49,29 +51,20 @@ public class AvroBlobWriter extends BlobWriter {
     }
 
     @Override
-    public void flush() {
-        if (getBatch().isEmpty()) {
-            return;
-        }
-        byte[] contents = convertBatchToBytes();
-        uploadContent(contents);
-        getBatch().clear();
-        currentItem.setBlobPath("");
+    protected void startContent(OutputStream out) throws IOException {
+        DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>();
+        dataFileWriter = new DataFileWriter<>(datumWriter);
+        dataFileWriter.create(converter.fromRecordSchema(getSchema()), out);
     }
 
-    private byte[] convertBatchToBytes() {
-        try {
-            ByteArrayOutputStream byteBuffer = new ByteArrayOutputStream();
-            DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>();
-            DataFileWriter<GenericRecord> dataFileWriter = new DataFileWriter<>(datumWriter);
-            dataFileWriter.create(converter.fromRecordSchema(getSchema()), byteBuffer);
-            for (Record rec : getBatch()) {
-                dataFileWriter.append(converter.fromRecord(rec));
-            }
-            dataFileWriter.flush();
-            return byteBuffer.toByteArray();
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
-        }
+    @Override
+    protected void appendRecord(Record rec) throws IOException {
+        dataFileWriter.append(converter.fromRecord(rec));
+    }
+
+    @Override
+    protected void finishContent() throws IOException {
+        dataFileWriter.close();
+        dataFileWriter = null;
     }
 }
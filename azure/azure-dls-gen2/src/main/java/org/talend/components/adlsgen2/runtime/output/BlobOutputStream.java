@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the content of a blob to the path with fixed size appends at explicit offsets, so that several appends can
+ * be in flight while the next chunk is filled. The blob is flushed once, when the stream is closed.
+ */
+@Slf4j
+public class BlobOutputStream extends OutputStream {
+
+    private final AdlsGen2Service service;
+
+    private final AdlsGen2DataSet blobDataSet;
+
+    private final int chunkSize;
+
+    private final ExecutorService executor;
+
+    private final Semaphore inFlight;
+
+    private final List<Future<?>> appends = new LinkedList<>();
+
+    private byte[] chunk;
+
+    private int count;
+
+    private long position;
+
+    private boolean closed;
+
+    /**
+     * @param blobDataSet dataset which blob path is the created path to append to
+     * @param executor executor running the appends, null to append from the writing thread
+     * @param maxConcurrentAppends maximum number of appends in flight, ignored without executor
+     */
+    public BlobOutputStream(AdlsGen2Service service, AdlsGen2DataSet blobDataSet, int chunkSize,
+            ExecutorService executor, int maxConcurrentAppends) {
+        this.service = service;
+        this.blobDataSet = blobDataSet;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.inFlight = new Semaphore(Math.max(1, maxConcurrentAppends));
+        this.chunk = new byte[chunkSize];
+    }
+
+    /**
+     * @return number of bytes written to the stream so far, sent or not.
+     */
+    public long getPosition() {
+        return position + count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        chunk[count++] = (byte) b;
+        if (count == chunkSize) {
+            sendChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int copied = Math.min(len, chunkSize - count);
+            System.arraycopy(b, off, chunk, count, copied);
+            count += copied;
+            off += copied;
+            len -= copied;
+            if (count == chunkSize) {
+                sendChunk();
+            }
+        }
+    }
+
+    /**
+     * Sends the pending bytes, waits for all the appends and flushes the blob to its final length.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (count > 0) {
+            sendChunk();
+        }
+        chunk = null;
+        for (Future<?> append : appends) {
+            awaitAppend(append);
+        }
+        appends.clear();
+        service.flushBlob(blobDataSet, position);
+        log.debug("[close] Flushed {} bytes to {}.", position, blobDataSet.getBlobPath());
+    }
+
+    /**
+     * Discards the blob instead of closing it: the pending bytes are dropped, the appends in flight are cancelled and
+     * the blob is never flushed, then its path is deleted.
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunk = null;
+        count = 0;
+        appends.forEach(append -> append.cancel(true));
+        appends.clear();
+        service.pathDelete(blobDataSet);
+        log.debug("[abort] Deleted {}.", blobDataSet.getBlobPath());
+    }
+
+    private void sendChunk() throws IOException {
+        final byte[] content = count == chunkSize ? chunk : Arrays.copyOf(chunk, count);
+        final long offset = position;
+        position += count;
+        count = 0;
+        if (executor == null) {
+            service.pathUpdate(blobDataSet, content, offset);
+            return;
+        }
+        chunk = new byte[chunkSize];
+        checkCompletedAppends();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        try {
+            appends.add(executor.submit(() -> {
+                try {
+                    service.pathUpdate(blobDataSet, content, offset);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void checkCompletedAppends() throws IOException {
+        Iterator<Future<?>> iterator = appends.iterator();
+        while (iterator.hasNext()) {
+            Future<?> append = iterator.next();
+            if (append.isDone()) {
+                awaitAppend(append);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void awaitAppend(Future<?> append) throws IOException {
+        try {
+            append.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new AdlsGen2RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -12,22 +12,27 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.json.JsonBuilderFactory;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
 import org.talend.components.adlsgen2.output.OutputConfiguration;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
 import org.talend.components.adlsgen2.service.BlobInformations;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import lombok.extern.slf4j.Slf4j;
-import static java.util.Optional.ofNullable;
 
 @Slf4j
 public abstract class BlobWriter {
 
+    protected static final int MEGABYTE = 1024 * 1024;
+
     protected final AdlsGen2Service service;
 
     protected final JsonBuilderFactory jsonFactory;
@@ -36,12 +41,19 @@ public abstract class BlobWriter {
 
     protected final OutputConfiguration configuration;
 
-    protected List<Record> batch;
-
     protected Schema schema;
 
     protected BlobInformations currentItem = null;
 
+    /**
+     * Number of records written since the last flush.
+     */
+    private int batchSize;
+
+    private BlobOutputStream blobStream;
+
+    private ExecutorService appendExecutor;
+
     public BlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service) {
         this.configuration = configuration;
@@ -68,38 +80,115 @@ public abstract class BlobWriter {
     }
 
     public void newBatch() {
-        batch = new LinkedList<>();
+        batchSize = 0;
         log.debug("New batch created");
     }
 
     protected abstract void generateFile();
 
+    /**
+     * Starts the content of a new blob, the records of the blob are written to the given stream.
+     */
+    protected abstract void startContent(OutputStream out) throws IOException;
+
+    protected abstract void appendRecord(Record rec) throws IOException;
+
+    /**
+     * Writes what is left of the current blob content, the stream is closed afterwards.
+     */
+    protected abstract void finishContent() throws IOException;
+
+    /**
+     * Forgets the content of a blob discarded after a write failure, nothing can be written to its stream anymore.
+     */
+    protected void dropContent() {
+    }
+
+    /**
+     * @return size in bytes of the current blob content so far, used to roll to a new blob.
+     */
+    protected long getContentSize() {
+        return blobStream.getPosition();
+    }
+
     public void writeRecord(Record rec) {
         if (schema == null) {
             schema = rec.getSchema();
         }
-        batch.add(rec);
+        try {
+            if (blobStream == null) {
+                blobStream = openBlob();
+                startContent(blobStream);
+            }
+            appendRecord(rec);
+            batchSize++;
+            long maxBlobSize = (long) configuration.getMaxBlobSize() * MEGABYTE;
+            if (maxBlobSize > 0 && getContentSize() >= maxBlobSize) {
+                log.debug("[writeRecord] Blob {} reached {} bytes, rolling to a new blob.",
+                        currentItem.getBlobPath(), getContentSize());
+                closeBlob();
+            }
+        } catch (IOException e) {
+            abortBlob();
+            throw new AdlsGen2RuntimeException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            abortBlob();
+            throw e;
+        }
+    }
+
+    /**
+     * A failed write may stop in the middle of a record or of a parquet row group, finishing such a blob would flush a
+     * corrupt file. The blob is discarded without being finished and the next record starts a new one.
+     */
+    private void abortBlob() {
+        if (blobStream == null) {
+            return;
+        }
+        log.warn("[writeRecord] Blob {} is discarded after a write failure.", currentItem.getBlobPath());
+        try {
+            dropContent();
+            blobStream.abort();
+        } catch (RuntimeException e) {
+            log.warn("[writeRecord] Can't delete the discarded blob {}: {}", currentItem.getBlobPath(),
+                    e.getMessage());
+        } finally {
+            blobStream = null;
+            currentItem.setBlobPath("");
+        }
     }
 
-    protected void uploadContent(byte[] content) {
+    private BlobOutputStream openBlob() {
         generateFile();
-        String oldBlobPath = configuration.getDataSet().getBlobPath();
-        configuration.getDataSet().setBlobPath(currentItem.getBlobPath());
-        // path create
-        service.pathCreate(configuration.getDataSet());
-        long position = 0;
-        // update blob
-        service.pathUpdate(configuration.getDataSet(), content, position);
-        position += content.length; // cumulate length of written records for current offset
-        // flush blob
-        service.flushBlob(configuration.getDataSet(), position);
-        // reset name
-        currentItem.setBlobPath("");
-        configuration.getDataSet().setBlobPath(oldBlobPath);
+        AdlsGen2DataSet blobDataSet = new AdlsGen2DataSet();
+        blobDataSet.setConnection(configuration.getDataSet().getConnection());
+        blobDataSet.setFilesystem(configuration.getDataSet().getFilesystem());
+        blobDataSet.setBlobPath(currentItem.getBlobPath());
+        service.pathCreate(blobDataSet);
+        int maxConcurrentAppends = configuration.getMaxConcurrentAppends();
+        if (maxConcurrentAppends > 1 && appendExecutor == null) {
+            appendExecutor = Executors.newFixedThreadPool(maxConcurrentAppends, r -> {
+                Thread thread = new Thread(r, "adls-gen2-append");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return new BlobOutputStream(service, blobDataSet, configuration.getAppendChunkSize() * MEGABYTE,
+                maxConcurrentAppends > 1 ? appendExecutor : null, maxConcurrentAppends);
     }
 
-    public List<Record> getBatch() {
-        return batch;
+    private void closeBlob() throws IOException {
+        try {
+            finishContent();
+            blobStream.close();
+        } finally {
+            blobStream = null;
+            currentItem.setBlobPath("");
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
     }
 
     protected BlobInformations getCurrentItem() {
@@ -115,18 +204,35 @@ public abstract class BlobWriter {
     }
 
     /**
-     * Upload prepared batch
+     * Completes the blob of the current batch
      */
-    public abstract void flush();
+    public void flush() {
+        try {
+            if (blobStream != null) {
+                closeBlob();
+            }
+        } catch (IOException e) {
+            throw new AdlsGen2RuntimeException(e.getMessage(), e);
+        } finally {
+            batchSize = 0;
+        }
+    }
 
     /**
      * Finish everything
      */
     public void complete() throws Exception {
-        ofNullable(getBatch()).filter(list -> !list.isEmpty()).ifPresent(list -> {
-            log.info("[complete] Executing last batch with {} records", list.size());
-            flush();
-        });
+        try {
+            if (blobStream != null) {
+                log.info("[complete] Executing last batch with {} records", batchSize);
+                flush();
+            }
+        } finally {
+            if (appendExecutor != null) {
+                appendExecutor.shutdownNow();
+                appendExecutor = null;
+            }
+        }
     }
 
 }
@@ -12,11 +12,17 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+
 import javax.json.JsonBuilderFactory;
 
+import org.apache.commons.csv.CSVPrinter;
 import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.formatter.CsvContentFormatter;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +34,8 @@ public class CsvBlobWriter extends BlobWriter {
 
     private final CsvContentFormatter formatter;
 
+    private CSVPrinter printer;
+
     public CsvBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service)
             throws Exception {
@@ -41,13 +49,18 @@ public class CsvBlobWriter extends BlobWriter {
     }
 
     @Override
-    public void flush() {
-        if (getBatch().isEmpty()) {
-            return;
-        }
-        byte[] contentBytes = formatter.feedContent(getBatch());
-        uploadContent(contentBytes);
-        getBatch().clear();
-        currentItem.setBlobPath("");
+    protected void startContent(OutputStream out) throws IOException {
+        printer = formatter.createPrinter(new OutputStreamWriter(out, formatter.getEncoding()), getSchema());
+    }
+
+    @Override
+    protected void appendRecord(Record rec) throws IOException {
+        formatter.printRecord(printer, rec);
+    }
+
+    @Override
+    protected void finishContent() throws IOException {
+        printer.close();
+        printer = null;
     }
 }
@@ -12,10 +12,13 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import javax.json.JsonBuilderFactory;
 import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.formatter.JsonContentFormatter;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,8 +27,14 @@ public class JsonBlobWriter extends BlobWriter {
 
     protected static final String EXT_JSON = ".json";
 
+    private static final byte[] SEPARATOR = ",".getBytes();
+
     private JsonContentFormatter formatter;
 
+    private OutputStream out;
+
+    private boolean hasRecords;
+
     public JsonBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service) {
         super(configuration, recordBuilderFactory, jsonFactory, service);
@@ -38,14 +47,25 @@ public class JsonBlobWriter extends BlobWriter {
     }
 
     @Override
-    public void flush() {
-        if (getBatch().isEmpty()) {
-            return;
+    protected void startContent(OutputStream out) throws IOException {
+        this.out = out;
+        hasRecords = false;
+        out.write(formatter.initializeContent());
+    }
+
+    @Override
+    protected void appendRecord(Record rec) throws IOException {
+        if (hasRecords) {
+            out.write(SEPARATOR);
         }
-        byte[] contentBytes = formatter.feedContent(getBatch());
-        uploadContent(contentBytes);
-        getBatch().clear();
-        currentItem.setBlobPath("");
+        out.write(formatter.feedRecord(rec));
+        hasRecords = true;
+    }
+
+    @Override
+    protected void finishContent() throws IOException {
+        out.write(formatter.finalizeContent());
+        out = null;
     }
 
 }
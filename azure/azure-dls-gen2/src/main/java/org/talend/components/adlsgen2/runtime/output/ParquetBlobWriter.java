@@ -12,23 +12,21 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
 
 import javax.json.JsonBuilderFactory;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.talend.components.adlsgen2.output.OutputConfiguration;
-import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
 import org.talend.components.common.Constants;
 import org.talend.components.common.converters.ParquetConverter;
+import org.talend.components.common.formats.ParquetOutputFile;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
@@ -38,6 +36,8 @@ public class ParquetBlobWriter extends BlobWriter {
 
     private Configuration config;
 
+    private ParquetWriter<GenericRecord> writer;
+
     protected static final String EXT_PARQUET = ".parquet";
 
     public ParquetBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
@@ -46,7 +46,6 @@ public class ParquetBlobWriter extends BlobWriter {
         this.converter = ParquetConverter.of(recordBuilderFactory, configuration.getDataSet().getParquetConfiguration(),
                 Constants.ADLS_NAMESPACE);
         this.config = new Configuration();
-        config.set("fs.file.impl", org.apache.hadoop.fs.LocalFileSystem.class.getName());
     }
 
     @Override
@@ -54,34 +53,44 @@ public class ParquetBlobWriter extends BlobWriter {
         generateFileWithExtension(EXT_PARQUET);
     }
 
+    /**
+     * Row groups are appended to the blob as soon as they are complete.
+     */
     @Override
-    public void flush() {
-        if (getBatch().isEmpty()) {
-            return;
-        }
-        File tempFilePath = null;
+    protected void startContent(OutputStream out) throws IOException {
+        writer = AvroParquetWriter
+                .<GenericRecord> builder(new ParquetOutputFile(out))
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .withSchema(converter.inferAvroSchema(getSchema()))
+                .withRowGroupSize(configuration.getParquetRowGroupSize() * MEGABYTE)
+                .withConf(config)
+                .build();
+    }
+
+    @Override
+    protected void appendRecord(Record rec) throws IOException {
+        writer.write(converter.fromRecord(rec));
+    }
+
+    @Override
+    protected long getContentSize() {
+        return writer.getDataSize();
+    }
+
+    /**
+     * The writer is not closed, that would write the footer, it is only released with its buffered row group.
+     */
+    @Override
+    protected void dropContent() {
+        writer = null;
+    }
+
+    @Override
+    protected void finishContent() throws IOException {
         try {
-            tempFilePath = File.createTempFile("tempFile", EXT_PARQUET);
-            Path tempFile = new Path(tempFilePath.getPath());
-            ParquetWriter<GenericRecord> writer = AvroParquetWriter
-                    .<GenericRecord> builder(tempFile)
-                    .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
-                    .withSchema(converter.inferAvroSchema(getSchema()))
-                    .withConf(config)
-                    .build();
-            for (Record r : getBatch()) {
-                writer.write(converter.fromRecord(r));
-            }
             writer.close();
-            uploadContent(Files.readAllBytes(tempFilePath.toPath()));
-        } catch (IOException e) {
-            throw new AdlsGen2RuntimeException(e.getMessage(), e);
         } finally {
-            getBatch().clear();
-            currentItem.setBlobPath("");
-            if (tempFilePath != null) {
-                tempFilePath.delete();
-            }
+            writer = null;
         }
     }
 }
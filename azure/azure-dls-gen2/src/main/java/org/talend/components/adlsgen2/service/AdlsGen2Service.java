@@ -149,6 +149,20 @@ public class AdlsGen2Service {
         }
     }
 
+    /**
+     * Deletes the path with the data appended to it, flushed or not.
+     */
+    @SuppressWarnings("unchecked")
+    public void pathDelete(AdlsGen2DataSet dataSet) {
+        DataLakeServiceClient client = getDataLakeConnectionClient(dataSet.getConnection());
+        DataLakeFileSystemClient fsClient =
+                client.getFileSystemClient(dataSet.getFilesystem());
+        DataLakeFileClient fileClient = fsClient.getFileClient(dataSet.getBlobPath());
+        fileClient
+                .deleteWithResponse(null, Duration.of(dataSet.getConnection().getTimeout().longValue(), SECONDS),
+                        Context.NONE);
+    }
+
     /**
      * To flush, the previously uploaded data must be contiguous, the position parameter must be specified and equal to
      * the length of the file after all data has been written, and there must not be a request entity body included
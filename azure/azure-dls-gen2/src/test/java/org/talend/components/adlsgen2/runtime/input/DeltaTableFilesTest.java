@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.fs.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.delta.standalone.actions.AddFile;
+
+class DeltaTableFilesTest {
+
+    @Test
+    void parsePartitionFilter() {
+        Map<String, Set<String>> filter = DeltaTableFiles.parsePartitionFilter(" year=2023, country=FR|DE ");
+        Assertions.assertEquals(2, filter.size());
+        Assertions.assertEquals(Collections.singleton("2023"), filter.get("year"));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("FR", "DE")), filter.get("country"));
+
+        Assertions.assertTrue(DeltaTableFiles.parsePartitionFilter("").isEmpty());
+        Assertions.assertTrue(DeltaTableFiles.parsePartitionFilter(null).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DeltaTableFiles.parsePartitionFilter("year"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DeltaTableFiles.parsePartitionFilter("=2023"));
+    }
+
+    @Test
+    void matches() {
+        Map<String, Set<String>> filter = DeltaTableFiles.parsePartitionFilter("year=2023,country=FR|DE");
+        Assertions.assertTrue(DeltaTableFiles.matches(partition("2023", "DE"), filter));
+        Assertions.assertFalse(DeltaTableFiles.matches(partition("2022", "DE"), filter));
+        Assertions.assertFalse(DeltaTableFiles.matches(partition("2023", "IT"), filter));
+        Assertions.assertFalse(DeltaTableFiles.matches(partition("2023", null), filter));
+        Assertions.assertTrue(DeltaTableFiles.matches(partition("2023", null),
+                DeltaTableFiles.parsePartitionFilter("country=")));
+    }
+
+    @Test
+    void selectAndResolveFiles() throws Exception {
+        List<AddFile> files = Arrays.asList(file("year=2023/part-0.parquet"), file("year=2023/part-1.parquet"),
+                file("abfss://fs@account.dfs.core.windows.net/other/part-2.parquet"));
+
+        List<AddFile> selected = DeltaTableFiles.select(files, Arrays.asList("year=2023/part-1.parquet"));
+        Assertions.assertEquals(1, selected.size());
+        Assertions.assertEquals("year=2023/part-1.parquet", selected.get(0).getPath());
+
+        String table = "abfss://fs@account.dfs.core.windows.net/tables/sales";
+        Assertions.assertEquals(new Path(table + "/year=2023/part-0.parquet"),
+                DeltaTableFiles.filePath(table, files.get(0)));
+        Assertions.assertEquals(new Path("abfss://fs@account.dfs.core.windows.net/other/part-2.parquet"),
+                DeltaTableFiles.filePath(table, files.get(2)));
+    }
+
+    private Map<String, String> partition(String year, String country) {
+        Map<String, String> values = new HashMap<>();
+        values.put("year", year);
+        values.put("country", country);
+        return values;
+    }
+
+    private AddFile file(String path) {
+        return new AddFile(path, Collections.emptyMap(), 10L, 0L, true, null, null);
+    }
+}
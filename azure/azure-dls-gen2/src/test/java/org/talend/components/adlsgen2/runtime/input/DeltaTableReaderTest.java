@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class DeltaTableReaderTest {
+
+    private static final String FR_FILE = "country=FR/day=2023-01-02/part-00000.parquet";
+
+    private static final String DE_FILE = "country=DE/day=2023-01-03/part-00000.parquet";
+
+    private static final MessageType FILE_SCHEMA = MessageTypeParser.parseMessageType("message spark_schema {\n"
+            + "  optional int32 id;\n"
+            + "  optional binary name (UTF8);\n"
+            + "  optional fixed_len_byte_array(5) amount (DECIMAL(10,2));\n"
+            + "  optional int96 ts;\n"
+            + "  optional group tags (LIST) {\n"
+            + "    repeated group list {\n"
+            + "      optional binary element (UTF8);\n"
+            + "    }\n"
+            + "  }\n"
+            + "}");
+
+    // partition columns first and last, as the records must follow the table order
+    private static final String TABLE_SCHEMA = "{\"type\":\"struct\",\"fields\":["
+            + "{\"name\":\"country\",\"type\":\"string\",\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"id\",\"type\":\"integer\",\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"name\",\"type\":\"string\",\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"amount\",\"type\":\"decimal(10,2)\",\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"ts\",\"type\":\"timestamp\",\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"elementType\":\"string\",\"containsNull\":true},"
+            + "\"nullable\":true,\"metadata\":{}},"
+            + "{\"name\":\"day\",\"type\":\"date\",\"nullable\":true,\"metadata\":{}}]}";
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private final Configuration hadoopConfig = new Configuration();
+
+    @TempDir
+    Path table;
+
+    @BeforeEach
+    void createTable() throws Exception {
+        final SimpleGroupFactory groups = new SimpleGroupFactory(FILE_SCHEMA);
+        final Group first = groups.newGroup()
+                .append("id", 1)
+                .append("name", "first")
+                .append("amount", decimal("12.34"))
+                .append("ts", int96(2_459_947L, 3_723_000_000_000L));
+        first.addGroup("tags").addGroup("list").append("element", "a");
+        final Group second = groups.newGroup().append("id", 2).append("amount", decimal("-0.50"));
+        final Group third = groups.newGroup()
+                .append("id", 3)
+                .append("name", "third")
+                .append("ts", int96(2_459_948L, 0L));
+
+        final long frSize = writeDataFile(FR_FILE, first, second);
+        final long deSize = writeDataFile(DE_FILE, third);
+
+        final Path log = Files.createDirectories(table.resolve("_delta_log"));
+        Files.write(log.resolve("00000000000000000000.json"), Arrays.asList(
+                "{\"protocol\":{\"minReaderVersion\":1,\"minWriterVersion\":2}}",
+                "{\"metaData\":{\"id\":\"test\",\"format\":{\"provider\":\"parquet\",\"options\":{}},"
+                        + "\"schemaString\":" + quote(TABLE_SCHEMA) + ",\"partitionColumns\":[\"country\",\"day\"],"
+                        + "\"configuration\":{},\"createdTime\":0}}",
+                add(FR_FILE, "FR", "2023-01-02", frSize),
+                add(DE_FILE, "DE", "2023-01-03", deSize)), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void splitReadGivesTheRecordsOfTheWholeRead() throws Exception {
+        final List<Record> whole = read(null, null);
+        final List<Record> split = new ArrayList<>(read(null, Collections.singletonList(FR_FILE)));
+        split.addAll(read(null, Collections.singletonList(DE_FILE)));
+
+        Assertions.assertEquals(3, whole.size());
+        Assertions.assertEquals(sorted(whole), sorted(split));
+
+        final Schema schema = split.get(0).getSchema();
+        Assertions.assertEquals(whole.get(0).getSchema(), schema);
+        Assertions.assertEquals(Arrays.asList("country", "id", "name", "amount", "ts", "tags", "day"),
+                schema.getEntries().stream().map(Schema.Entry::getName).collect(Collectors.toList()));
+        Assertions.assertEquals(Schema.Type.DATETIME, schema.getEntry("day").getType());
+        Assertions.assertEquals(Schema.Type.STRING, schema.getEntry("amount").getType());
+    }
+
+    @Test
+    void partitionFilteredReadGivesTheRecordsOfTheWholeRead() throws Exception {
+        final List<Record> whole = read(null, null);
+        final List<Record> filtered = read("country=DE", null);
+
+        Assertions.assertEquals(1, filtered.size());
+        Assertions.assertEquals(
+                whole.stream().filter(r -> "DE".equals(r.getString("country"))).collect(Collectors.toList()),
+                filtered);
+    }
+
+    private List<Record> read(String partitionFilter, Collection<String> filePaths) throws Exception {
+        final List<Record> records = new ArrayList<>();
+        try (DeltaTableReader reader = new DeltaTableReader(factory, hadoopConfig, table.toUri().toString(), -1,
+                partitionFilter, filePaths)) {
+            Record record = reader.next();
+            while (record != null) {
+                records.add(record);
+                record = reader.next();
+            }
+        }
+        return records;
+    }
+
+    private static List<Record> sorted(List<Record> records) {
+        return records.stream()
+                .sorted(Comparator.comparing(r -> r.getInt("id")))
+                .collect(Collectors.toList());
+    }
+
+    private long writeDataFile(String path, Group... rows) throws Exception {
+        final File file = table.resolve(path).toFile();
+        Files.createDirectories(file.getParentFile().toPath());
+        try (ParquetWriter<Group> writer =
+                ExampleParquetWriter.builder(new org.apache.hadoop.fs.Path(file.toURI()))
+                        .withType(FILE_SCHEMA)
+                        .withConf(hadoopConfig)
+                        .build()) {
+            for (Group row : rows) {
+                writer.write(row);
+            }
+        }
+        return file.length();
+    }
+
+    private static String add(String path, String country, String day, long size) {
+        return "{\"add\":{\"path\":\"" + path + "\",\"partitionValues\":{\"country\":\"" + country + "\",\"day\":\""
+                + day + "\"},\"size\":" + size + ",\"modificationTime\":0,\"dataChange\":true}}";
+    }
+
+    private static String quote(String json) {
+        return "\"" + json.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    // big endian two's complement unscaled value on the 5 bytes of the column
+    private static Binary decimal(String value) {
+        final byte[] unscaled = new BigDecimal(value).unscaledValue().toByteArray();
+        final byte[] bytes = new byte[5];
+        Arrays.fill(bytes, unscaled[0] < 0 ? (byte) -1 : 0);
+        System.arraycopy(unscaled, 0, bytes, bytes.length - unscaled.length, unscaled.length);
+        return Binary.fromConstantByteArray(bytes);
+    }
+
+    private static Binary int96(long julianDay, long nanosOfDay) {
+        return Binary.fromConstantByteArray(ByteBuffer.allocate(12)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(nanosOfDay)
+                .putInt((int) julianDay)
+                .array());
+    }
+}
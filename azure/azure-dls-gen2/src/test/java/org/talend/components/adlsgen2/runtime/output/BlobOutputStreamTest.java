@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+
+class BlobOutputStreamTest {
+
+    private final Map<Long, byte[]> appends = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong flushedPosition = new AtomicLong(-1);
+
+    private final AdlsGen2Service service = new AdlsGen2Service() {
+
+        @Override
+        public void pathUpdate(AdlsGen2DataSet dataSet, byte[] content, long position) {
+            if (new String(content, StandardCharsets.UTF_8).contains("!")) {
+                throw new IllegalStateException("append failed");
+            }
+            appends.put(position, content);
+        }
+
+        @Override
+        public void flushBlob(AdlsGen2DataSet dataSet, long position) {
+            flushedPosition.set(position);
+        }
+    };
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void appendsChunksAtTheirOffsets() throws IOException {
+        BlobOutputStream out = new BlobOutputStream(service, new AdlsGen2DataSet(), 4, executor, 3);
+        out.write("0123456".getBytes(StandardCharsets.UTF_8));
+        out.write('7');
+        out.write("89".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(10, out.getPosition());
+        out.close();
+        out.close();
+
+        Assertions.assertArrayEquals(new Long[] { 0L, 4L, 8L }, appends.keySet().toArray(new Long[0]));
+        Assertions.assertEquals("0123456789", assemble());
+        Assertions.assertEquals(10, flushedPosition.get());
+        Assertions.assertThrows(IOException.class, () -> out.write('x'));
+    }
+
+    @Test
+    void appendsFromTheWritingThreadWithoutExecutor() throws IOException {
+        try (BlobOutputStream out = new BlobOutputStream(service, new AdlsGen2DataSet(), 3, null, 1)) {
+            out.write("abcdefg".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals("abcdef", assemble());
+        }
+        Assertions.assertEquals("abcdefg", assemble());
+        Assertions.assertEquals(7, flushedPosition.get());
+    }
+
+    @Test
+    void failedAppendIsReportedOnClose() throws IOException {
+        BlobOutputStream out = new BlobOutputStream(service, new AdlsGen2DataSet(), 4, executor, 3);
+        out.write("abc!".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(AdlsGen2RuntimeException.class, out::close);
+        Assertions.assertEquals(-1, flushedPosition.get());
+    }
+
+    private String assemble() {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        appends.values().forEach(chunk -> content.write(chunk, 0, chunk.length));
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import javax.json.Json;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.adlsgen2.output.OutputConfiguration;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class ParquetBlobWriterTest {
+
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private final Map<String, ByteArrayOutputStream> paths = new HashMap<>();
+
+    private final List<String> flushed = new ArrayList<>();
+
+    private final List<String> deleted = new ArrayList<>();
+
+    private boolean failAppends;
+
+    private final AdlsGen2Service service = new AdlsGen2Service() {
+
+        @Override
+        public boolean blobExists(AdlsGen2DataSet dataSet, String blobName) {
+            return false;
+        }
+
+        @Override
+        public boolean pathCreate(AdlsGen2DataSet dataSet) {
+            paths.put(dataSet.getBlobPath(), new ByteArrayOutputStream());
+            return true;
+        }
+
+        @Override
+        public void pathUpdate(AdlsGen2DataSet dataSet, byte[] content, long position) {
+            if (failAppends) {
+                throw new IllegalStateException("Connection reset");
+            }
+            paths.get(dataSet.getBlobPath()).write(content, 0, content.length);
+        }
+
+        @Override
+        public void flushBlob(AdlsGen2DataSet dataSet, long position) {
+            flushed.add(dataSet.getBlobPath());
+        }
+
+        @Override
+        public void pathDelete(AdlsGen2DataSet dataSet) {
+            deleted.add(dataSet.getBlobPath());
+            paths.remove(dataSet.getBlobPath());
+        }
+    };
+
+    private ParquetBlobWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        AdlsGen2DataSet dataSet = new AdlsGen2DataSet();
+        dataSet.setBlobPath("dir");
+        OutputConfiguration config = new OutputConfiguration();
+        config.setDataSet(dataSet);
+        config.setAppendChunkSize(1);
+        config.setMaxConcurrentAppends(1);
+        config.setParquetRowGroupSize(1);
+        writer = new ParquetBlobWriter(config, factory, Json.createBuilderFactory(Collections.emptyMap()), service);
+    }
+
+    @Test
+    void flushCompletesTheBlob() throws Exception {
+        writer.newBatch();
+        for (int i = 0; i < 3; i++) {
+            writer.writeRecord(record(i));
+        }
+        Assertions.assertTrue(flushed.isEmpty(), "Blob flushed before the end of the batch");
+
+        writer.flush();
+        writer.complete();
+        Assertions.assertEquals(1, flushed.size());
+        assertParquet(flushed.get(0));
+    }
+
+    @Test
+    void failedWriteIsNeverFlushed() throws Exception {
+        // the first row group fills an append chunk, which fails
+        failAppends = true;
+        writer.newBatch();
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            for (int i = 0; i < 10000; i++) {
+                writer.writeRecord(record(i));
+            }
+        });
+        Assertions.assertEquals(1, deleted.size());
+
+        writer.flush();
+        writer.complete();
+        Assertions.assertTrue(flushed.isEmpty(), "Blob without footer flushed");
+
+        failAppends = false;
+        writer.newBatch();
+        writer.writeRecord(record(0));
+        writer.complete();
+        Assertions.assertEquals(1, flushed.size());
+        Assertions.assertNotEquals(deleted.get(0), flushed.get(0), "Next batch should start a new blob");
+        assertParquet(flushed.get(0));
+    }
+
+    private Record record(int id) {
+        char[] payload = new char[1024];
+        Arrays.fill(payload, (char) ('a' + id % 26));
+        return factory
+                .newRecordBuilder()
+                .withInt("id", id)
+                .withString("payload", id + new String(payload))
+                .build();
+    }
+
+    private void assertParquet(String path) {
+        byte[] content = paths.get(path).toByteArray();
+        Assertions.assertArrayEquals(MAGIC, Arrays.copyOfRange(content, 0, MAGIC.length), "No parquet header");
+        Assertions
+                .assertArrayEquals(MAGIC, Arrays.copyOfRange(content, content.length - MAGIC.length, content.length),
+                        "No parquet footer");
+    }
+}
@@ -16,6 +16,9 @@ import java.io.Serializable;
 
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Max;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -23,7 +26,8 @@ import lombok.Data;
 
 @GridLayout({ @GridLayout.Row({ "dataset" }) })
 
-@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("blobNameTemplate") })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("blobNameTemplate"),
+        @GridLayout.Row({ "parquetRowGroupSize", "maxBlobSize" }) })
 @Documentation("Options for the output component")
 @Data
 public class BlobOutputConfiguration implements Serializable {
@@ -36,4 +40,18 @@ public class BlobOutputConfiguration implements Serializable {
     @Documentation("Generated blob item name prefix.\nBatch file would have name prefix + UUID + extension.\n"
             + "I.e. myPrefix-5deaa8ff-7d22-4b86-a864-9a6fa414501a.avro")
     private String blobNameTemplate = "data-";
+
+    @Option
+    @Min(1)
+    @Max(1024)
+    @ActiveIf(target = "dataset.fileFormat", value = "PARQUET")
+    @Documentation("Size in MB of the row groups buffered before being uploaded to the parquet blob.")
+    private int parquetRowGroupSize = 128;
+
+    @Option
+    @Min(0)
+    @ActiveIf(target = "dataset.fileFormat", value = "PARQUET")
+    @Documentation("Size in MB after which the parquet blob is completed and next records go to a new blob.\n"
+            + "0 writes one blob per batch.")
+    private int maxBlobSize = 0;
 }
\ No newline at end of file
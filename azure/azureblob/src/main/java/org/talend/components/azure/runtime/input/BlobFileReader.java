@@ -13,12 +13,18 @@
 package org.talend.components.azure.runtime.input;
 
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.components.azure.service.AzureBlobComponentServices;
 import org.talend.components.azure.service.MessageService;
+import org.talend.components.common.formats.ParquetReadOptions;
 import org.talend.components.common.formats.excel.ExcelFormat;
 import org.talend.components.common.service.azureblob.AzureComponentServices;
 import org.talend.sdk.component.api.exception.ComponentException;
@@ -46,9 +52,12 @@ public abstract class BlobFileReader {
 
     private final AzureBlobDataset config;
 
+    /**
+     * @param blobNames names of the blobs to read among the ones of the dataset directory, null to read them all.
+     */
     public BlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames) throws URISyntaxException, StorageException {
         this.recordBuilderFactory = recordBuilderFactory;
         this.config = config;
         this.messageService = messageService;
@@ -59,16 +68,13 @@ public abstract class BlobFileReader {
                         AzureComponentServices.DEFAULT_RETRY_POLICY);
         CloudBlobContainer container = checkBlobContainer(config, blobClient);
 
-        String directoryName = config.getDirectory();
-        if (directoryName == null) {
-            directoryName = "";
-        } else if (!directoryName.endsWith("/")) {
-            directoryName += "/";
+        Iterable<ListBlobItem> blobItems = listBlobItems(container, config);
+        if (blobNames != null) {
+            Set<String> selected = new HashSet<>(blobNames);
+            blobItems = StreamSupport.stream(blobItems.spliterator(), false)
+                    .filter(item -> item instanceof CloudBlob && selected.contains(((CloudBlob) item).getName()))
+                    .collect(Collectors.toList());
         }
-
-        Iterable<ListBlobItem> blobItems = container
-                .listBlobs(directoryName, false, EnumSet.noneOf(BlobListingDetails.class),
-                        null, AzureComponentServices.getTalendOperationContext());
         if (!blobItems.iterator().hasNext()) {
             throw new RuntimeException("Folder doesn't exist/is empty");
         }
@@ -89,6 +95,23 @@ public abstract class BlobFileReader {
         return container;
     }
 
+    /**
+     * Lists the items found directly in the dataset directory, for blobs the listing fills their properties.
+     */
+    public static Iterable<ListBlobItem> listBlobItems(CloudBlobContainer container, AzureBlobDataset config)
+            throws StorageException, URISyntaxException {
+        String directoryName = config.getDirectory();
+        if (directoryName == null) {
+            directoryName = "";
+        } else if (!directoryName.endsWith("/")) {
+            directoryName += "/";
+        }
+
+        return container
+                .listBlobs(directoryName, false, EnumSet.noneOf(BlobListingDetails.class),
+                        null, AzureComponentServices.getTalendOperationContext());
+    }
+
     protected abstract ItemRecordIterator initItemRecordIterator(Iterable<ListBlobItem> blobItems);
 
     public Record readRecord() {
@@ -103,23 +126,43 @@ public abstract class BlobFileReader {
 
         public static BlobFileReader getReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
                 AzureBlobComponentServices connectionServices, MessageService messageService) throws Exception {
+            return getReader(config, recordBuilderFactory, connectionServices, messageService, null);
+        }
+
+        public static BlobFileReader getReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
+                AzureBlobComponentServices connectionServices, MessageService messageService,
+                Collection<String> blobNames) throws Exception {
+            return getReader(config, recordBuilderFactory, connectionServices, messageService, blobNames, null);
+        }
+
+        /**
+         * @param parquetReadOptions columns and rows to read from parquet blobs, null to read everything
+         */
+        public static BlobFileReader getReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
+                AzureBlobComponentServices connectionServices, MessageService messageService,
+                Collection<String> blobNames, ParquetReadOptions parquetReadOptions) throws Exception {
             switch (config.getFileFormat()) {
             case CSV:
-                return new CSVBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new CSVBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                        blobNames);
             case AVRO:
-                return new AvroBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new AvroBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                        blobNames);
 
             case EXCEL:
                 if (config.getExcelOptions().getExcelFormat() == ExcelFormat.HTML) {
                     return new ExcelHTMLBlobFileReader(config, recordBuilderFactory, connectionServices,
-                            messageService);
+                            messageService, blobNames);
                 } else {
-                    return new ExcelBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                    return new ExcelBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                            blobNames);
                 }
             case PARQUET:
-                return new ParquetBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new ParquetBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                        blobNames, parquetReadOptions);
             case JSON:
-                return new JsonBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new JsonBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                        blobNames);
             default:
                 throw new IllegalArgumentException("Unsupported file format"); // shouldn't be here
             }
@@ -14,10 +14,10 @@ package org.talend.components.azure.runtime.input;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collection;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.io.InputFile;
@@ -26,6 +26,8 @@ import org.talend.components.common.connection.azureblob.AzureAuthType;
 import org.talend.components.common.connection.azureblob.Protocol;
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.components.common.converters.ParquetConverter;
+import org.talend.components.common.formats.ParquetPushdown;
+import org.talend.components.common.formats.ParquetReadOptions;
 import org.talend.components.azure.service.AzureBlobComponentServices;
 import org.talend.components.azure.service.MessageService;
 import org.talend.components.azure.service.RegionUtils;
@@ -41,15 +43,30 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ParquetBlobFileReader extends BlobFileReader {
 
+    private ParquetReadOptions readOptions;
+
+    // set while the parent constructor runs, so it must not have an initializer
+    private ParquetRecordIterator recordIterator;
+
+    public ParquetBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames) throws URISyntaxException, StorageException {
+        this(config, recordBuilderFactory, connectionServices, messageService, blobNames, null);
+    }
+
     public ParquetBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, ParquetReadOptions readOptions) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames);
+        this.readOptions = readOptions;
+        // the first blob is opened once the read options are known
+        recordIterator.takeFirstItem();
     }
 
     @Override
     protected ItemRecordIterator initItemRecordIterator(Iterable<ListBlobItem> blobItems) {
-        return new ParquetRecordIterator(blobItems, getRecordBuilderFactory());
+        recordIterator = new ParquetRecordIterator(blobItems, getRecordBuilderFactory());
+        return recordIterator;
     }
 
     private class ParquetRecordIterator extends ItemRecordIterator<GenericRecord> {
@@ -74,7 +91,6 @@ public class ParquetBlobFileReader extends BlobFileReader {
         private ParquetRecordIterator(Iterable<ListBlobItem> blobItemsList, RecordBuilderFactory recordBuilderFactory) {
             super(blobItemsList, recordBuilderFactory);
             initConfig();
-            takeFirstItem();
         }
 
         private void initConfig() {
@@ -124,7 +140,7 @@ public class ParquetBlobFileReader extends BlobFileReader {
                             endpointSuffix, getCurrentItem().getName());
             try {
                 InputFile file = HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(blobURI), hadoopConfig);
-                reader = AvroParquetReader.<GenericRecord> builder(file).build();
+                reader = ParquetPushdown.openReader(file, hadoopConfig, readOptions);
                 currentRecord = reader.read();
             } catch (IOException e) {
                 log.error("Can't read item", e);
@@ -104,6 +104,10 @@ public abstract class BlobFileWriter {
         return schema;
     }
 
+    protected void setSchema(Schema schema) {
+        this.schema = schema;
+    }
+
     /**
      * Upload prepared batch
      *
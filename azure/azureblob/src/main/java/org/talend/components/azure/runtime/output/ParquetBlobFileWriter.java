@@ -12,20 +12,18 @@
  */
 package org.talend.components.azure.runtime.output;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
 
 import org.apache.avro.generic.GenericRecord;
-import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.talend.components.common.service.azureblob.AzureComponentServices;
 import org.talend.components.azure.output.BlobOutputConfiguration;
 import org.talend.components.common.converters.ParquetConverter;
+import org.talend.components.common.formats.ParquetOutputFile;
 import org.talend.components.azure.service.AzureBlobComponentServices;
 import org.talend.sdk.component.api.record.Record;
 
@@ -33,14 +31,25 @@ import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudBlob;
 import com.microsoft.azure.storage.blob.CloudBlockBlob;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the records of a batch to a parquet blob as they come, row groups are staged as blocks of the blob as soon as
+ * they are complete and the block list is committed when the batch is flushed.
+ */
+@Slf4j
 public class ParquetBlobFileWriter extends BlobFileWriter {
 
     private static final String PARQUET = ".parquet";
 
+    private static final int MEGABYTE = 1024 * 1024;
+
     private BlobOutputConfiguration config;
 
     private ParquetConverter converter;
 
+    private ParquetWriter<GenericRecord> writer;
+
     public ParquetBlobFileWriter(BlobOutputConfiguration config, AzureBlobComponentServices connectionServices)
             throws Exception {
         super(config, connectionServices);
@@ -74,36 +83,74 @@ public class ParquetBlobFileWriter extends BlobFileWriter {
     }
 
     @Override
-    public void flush() {
-        if (getBatch().isEmpty()) {
-            return;
+    public void writeRecord(Record rec) {
+        if (getSchema() == null) {
+            setSchema(rec.getSchema());
         }
-
-        File tempFilePath = null;
+        // a record which can't be converted never reaches the parquet writer, which stays consistent
+        GenericRecord avroRecord = converter.fromRecord(rec);
         try {
-            tempFilePath = File.createTempFile("tempFile", PARQUET);
-            Path tempFile = new org.apache.hadoop.fs.Path(tempFilePath.getPath());
-            ParquetWriter<GenericRecord> writer = AvroParquetWriter
-                    .<GenericRecord> builder(tempFile)
-                    .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
-                    .withSchema(converter.inferAvroSchema(getSchema()))
-                    .build();
-            for (Record r : getBatch()) {
-                writer.write(converter.fromRecord(r));
+            if (writer == null) {
+                writer = openWriter();
+            }
+            writer.write(avroRecord);
+
+            long maxBlobSize = (long) config.getMaxBlobSize() * MEGABYTE;
+            if (maxBlobSize > 0 && writer.getDataSize() >= maxBlobSize) {
+                log.debug("Blob {} reached {} bytes, rolling to a new blob", getCurrentItem().getName(),
+                        writer.getDataSize());
+                flush();
+                generateFile();
             }
+        } catch (IOException | StorageException | URISyntaxException e) {
+            abortWriter();
+            throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            abortWriter();
+            throw e;
+        }
+    }
+
+    private ParquetWriter<GenericRecord> openWriter() throws IOException, StorageException {
+        return AvroParquetWriter
+                .<GenericRecord> builder(new ParquetOutputFile(openBlobStream()))
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .withSchema(converter.inferAvroSchema(getSchema()))
+                .withRowGroupSize(config.getParquetRowGroupSize() * MEGABYTE)
+                .build();
+    }
+
+    protected OutputStream openBlobStream() throws StorageException {
+        return ((CloudBlockBlob) getCurrentItem()).openOutputStream();
+    }
 
+    /**
+     * Drops a writer which failed in the middle of a record or of a row group. Closing it would write the footer and
+     * commit the block list, i.e. publish a corrupt blob; left open, its staged blocks are never committed and the
+     * blob is not created (or keeps its previous content).
+     */
+    private void abortWriter() {
+        if (writer != null) {
+            log.warn("Parquet blob {} is not committed after a write failure", getCurrentItem().getName());
+            writer = null;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        try {
             writer.close();
-            OutputStream blobOutputStream = ((CloudBlockBlob) getCurrentItem()).openOutputStream();
-            Files.copy(tempFilePath.toPath(), blobOutputStream);
-            blobOutputStream.flush();
-            blobOutputStream.close();
-        } catch (IOException | StorageException e) {
-            throw new RuntimeException(e);
         } finally {
-            getBatch().clear();
-            if (tempFilePath != null) {
-                tempFilePath.delete();
-            }
+            writer = null;
         }
     }
+
+    @Override
+    public void complete() throws Exception {
+        flush();
+    }
 }
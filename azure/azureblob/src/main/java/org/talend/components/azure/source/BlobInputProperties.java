@@ -15,13 +15,16 @@ package org.talend.components.azure.source;
 import java.io.Serializable;
 
 import org.talend.components.azure.dataset.AzureBlobDataset;
+import org.talend.components.common.formats.ParquetReadOptions;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
 import lombok.Data;
 
 @GridLayout({ @GridLayout.Row({ "dataset" }) })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("parquetReadOptions") })
 @Documentation("Options for the input component")
 @Data
 public class BlobInputProperties implements Serializable {
@@ -29,4 +32,9 @@ public class BlobInputProperties implements Serializable {
     @Option
     @Documentation("Azure Connection")
     private AzureBlobDataset dataset;
+
+    @Option
+    @ActiveIf(target = "dataset.fileFormat", value = "PARQUET")
+    @Documentation("Columns and rows to read from parquet blobs")
+    private ParquetReadOptions parquetReadOptions = new ParquetReadOptions();
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 package org.talend.components.azure.source;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 
@@ -37,15 +38,27 @@ public class BlobSource implements Serializable {
 
     private final MessageService messageService;
 
+    /**
+     * Blobs assigned to this worker when the input was split, null to read the whole directory.
+     */
+    private final List<String> blobNames;
+
     private BlobFileReader reader;
 
     public BlobSource(@Option("configuration") final BlobInputProperties configuration,
             final AzureBlobComponentServices service,
             final RecordBuilderFactory builderFactory, final MessageService i18n) {
+        this(configuration, service, builderFactory, i18n, null);
+    }
+
+    public BlobSource(@Option("configuration") final BlobInputProperties configuration,
+            final AzureBlobComponentServices service,
+            final RecordBuilderFactory builderFactory, final MessageService i18n, final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.builderFactory = builderFactory;
         this.messageService = i18n;
+        this.blobNames = blobNames;
     }
 
     @PostConstruct
@@ -53,7 +66,7 @@ public class BlobSource implements Serializable {
         try {
             reader = BlobFileReader.BlobFileReaderFactory
                     .getReader(configuration.getDataset(), builderFactory, service,
-                            messageService);
+                            messageService, blobNames, configuration.getParquetReadOptions());
         } catch (Exception e) {
             throw new ComponentException(messageService.cantStartReadBlobItems(e.getMessage()), e);
         }
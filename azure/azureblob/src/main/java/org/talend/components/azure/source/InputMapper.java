@@ -15,10 +15,17 @@ package org.talend.components.azure.source;
 import static java.util.Collections.singletonList;
 
 import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.talend.components.azure.migration.AzureStorageRuntimeDatasetMigration;
+import org.talend.components.azure.runtime.input.BlobFileReader;
 import org.talend.components.azure.service.MessageService;
+import org.talend.components.common.BlobBundles;
+import org.talend.components.common.service.azureblob.AzureComponentServices;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
@@ -32,6 +39,13 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import org.talend.components.azure.service.AzureBlobComponentServices;
 
+import com.microsoft.azure.storage.CloudStorageAccount;
+import com.microsoft.azure.storage.blob.CloudBlob;
+import com.microsoft.azure.storage.blob.CloudBlobContainer;
+import com.microsoft.azure.storage.blob.ListBlobItem;
+
+import lombok.extern.slf4j.Slf4j;
+
 //
 // this class role is to enable the work to be distributed in environments supporting it.
 //
@@ -40,6 +54,7 @@ import org.talend.components.azure.service.AzureBlobComponentServices;
 @Icon(value = Icon.IconType.CUSTOM, custom = "azure-blob-input")
 @PartitionMapper(name = "Input")
 @Documentation("Mapper for AzureBlobStorage Readers")
+@Slf4j
 public class InputMapper implements Serializable {
 
     private final BlobInputProperties configuration;
@@ -50,27 +65,69 @@ public class InputMapper implements Serializable {
 
     private final MessageService messageService;
 
+    private final List<String> blobNames;
+
     public InputMapper(@Option("configuration") final BlobInputProperties configuration,
             final AzureBlobComponentServices service,
             final RecordBuilderFactory recordBuilderFactory, final MessageService messageService) {
+        this(configuration, service, recordBuilderFactory, messageService, null);
+    }
+
+    private InputMapper(final BlobInputProperties configuration, final AzureBlobComponentServices service,
+            final RecordBuilderFactory recordBuilderFactory, final MessageService messageService,
+            final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.recordBuilderFactory = recordBuilderFactory;
         this.messageService = messageService;
+        this.blobNames = blobNames;
     }
 
     @Assessor
     public long estimateSize() {
-        return 1L;
+        return Math.max(1L, listBlobSizes().values().stream().mapToLong(Long::longValue).sum());
     }
 
     @Split
     public List<InputMapper> split(@PartitionSize final long bundles) {
-        return singletonList(this);
+        List<List<String>> blobBundles = BlobBundles.pack(listBlobSizes(), bundles);
+        if (blobBundles.size() <= 1) {
+            return singletonList(this);
+        }
+        return blobBundles
+                .stream()
+                .map(names -> new InputMapper(configuration, service, recordBuilderFactory, messageService, names))
+                .collect(Collectors.toList());
     }
 
     @Emitter
     public BlobSource createWorker() {
-        return new BlobSource(configuration, service, recordBuilderFactory, messageService);
+        return new BlobSource(configuration, service, recordBuilderFactory, messageService, blobNames);
+    }
+
+    /**
+     * Sizes of the blobs this mapper reads, empty when they can't be listed so that the worker reports the error.
+     */
+    private Map<String, Long> listBlobSizes() {
+        Map<String, Long> sizes = new HashMap<>();
+        try {
+            CloudStorageAccount account = service.createStorageAccount(configuration.getDataset().getConnection());
+            CloudBlobContainer container = service
+                    .getConnectionService()
+                    .createCloudBlobClient(account, AzureComponentServices.DEFAULT_RETRY_POLICY)
+                    .getContainerReference(configuration.getDataset().getContainerName());
+            for (ListBlobItem item : BlobFileReader.listBlobItems(container, configuration.getDataset())) {
+                if (item instanceof CloudBlob) {
+                    CloudBlob blob = (CloudBlob) item;
+                    if (blobNames == null || blobNames.contains(blob.getName())) {
+                        sizes.put(blob.getName(), blob.getProperties().getLength());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Can't list the blobs to estimate the input size: {}", e.getMessage());
+            sizes.clear();
+        }
+        return sizes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.azure.runtime.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.azure.common.FileFormat;
+import org.talend.components.azure.dataset.AzureBlobDataset;
+import org.talend.components.azure.output.BlobOutputConfiguration;
+import org.talend.components.azure.service.AzureBlobComponentServices;
+import org.talend.components.common.service.azureblob.AzureComponentServices;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import com.microsoft.azure.storage.CloudStorageAccount;
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.blob.CloudBlobClient;
+import com.microsoft.azure.storage.blob.CloudBlobContainer;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class ParquetBlobFileWriterTest {
+
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private AzureBlobComponentServices blobComponentServicesMock;
+
+    private BlobOutputConfiguration config;
+
+    @BeforeEach
+    void initMocks() throws Exception {
+        CloudBlobContainer containerMock = Mockito.mock(CloudBlobContainer.class);
+        Mockito.when(containerMock.getBlockBlobReference(anyString()))
+                .thenAnswer(invocation -> Mockito.mock(CloudBlockBlob.class));
+        CloudBlobClient blobClientMock = Mockito.mock(CloudBlobClient.class);
+        Mockito.when(blobClientMock.getContainerReference(any())).thenReturn(containerMock);
+        AzureComponentServices componentServicesMock = Mockito.mock(AzureComponentServices.class);
+        Mockito.when(componentServicesMock.createCloudBlobClient(any(), any())).thenReturn(blobClientMock);
+        blobComponentServicesMock = Mockito.mock(AzureBlobComponentServices.class);
+        Mockito.when(blobComponentServicesMock.getConnectionService()).thenReturn(componentServicesMock);
+        Mockito
+                .when(blobComponentServicesMock.createStorageAccount(any()))
+                .thenReturn(Mockito.mock(CloudStorageAccount.class));
+
+        AzureBlobDataset dataset = new AzureBlobDataset();
+        dataset.setContainerName("container");
+        dataset.setDirectory("dir");
+        dataset.setFileFormat(FileFormat.PARQUET);
+        config = new BlobOutputConfiguration();
+        config.setDataset(dataset);
+        config.setParquetRowGroupSize(1);
+    }
+
+    @Test
+    void testFlushCommitsTheBlob() throws Exception {
+        TestWriter writer = new TestWriter(config, blobComponentServicesMock, Integer.MAX_VALUE);
+        writer.newBatch();
+        for (int i = 0; i < 3; i++) {
+            writer.writeRecord(record(i));
+        }
+        Assertions.assertEquals(1, writer.streams.size());
+        Assertions.assertFalse(writer.streams.get(0).closed, "Blob committed before the end of the batch");
+
+        writer.flush();
+        assertCommittedParquet(writer.streams.get(0));
+
+        writer.complete();
+        Assertions.assertEquals(1, writer.streams.size(), "Nothing left to write on complete");
+
+        writer.newBatch();
+        writer.writeRecord(record(3));
+        writer.complete();
+        Assertions.assertEquals(2, writer.streams.size());
+        assertCommittedParquet(writer.streams.get(1));
+    }
+
+    @Test
+    void testRollOverAtMaxBlobSize() throws Exception {
+        config.setMaxBlobSize(1);
+        TestWriter writer = new TestWriter(config, blobComponentServicesMock, Integer.MAX_VALUE);
+        writer.newBatch();
+        for (int i = 0; i < 3000; i++) {
+            writer.writeRecord(record(i));
+        }
+        Assertions.assertTrue(writer.streams.size() >= 2, "3MB should not fit in a single 1MB blob");
+        for (BlobStream stream : writer.streams.subList(0, writer.streams.size() - 1)) {
+            assertCommittedParquet(stream);
+            Assertions.assertTrue(stream.content.size() >= 1024 * 1024, "Blob rolled before reaching its max size");
+        }
+
+        writer.complete();
+        writer.streams.forEach(this::assertCommittedParquet);
+    }
+
+    @Test
+    void testFailedWriteIsNotCommitted() throws Exception {
+        // the blob accepts the parquet header and fails on the first row group
+        TestWriter writer = new TestWriter(config, blobComponentServicesMock, MAGIC.length);
+        writer.newBatch();
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            for (int i = 0; i < 10000; i++) {
+                writer.writeRecord(record(i));
+            }
+        });
+        BlobStream failed = writer.streams.get(0);
+
+        writer.complete();
+        Assertions.assertFalse(failed.closed, "Blob without footer committed");
+        Assertions.assertEquals(1, writer.streams.size());
+
+        writer.capacity = Integer.MAX_VALUE;
+        writer.newBatch();
+        writer.writeRecord(record(0));
+        writer.complete();
+        Assertions.assertEquals(2, writer.streams.size(), "Next batch should start a new blob");
+        Assertions.assertFalse(failed.closed);
+    }
+
+    @Test
+    void testUnconvertibleRecordKeepsTheWriter() throws Exception {
+        TestWriter writer = new TestWriter(config, blobComponentServicesMock, Integer.MAX_VALUE);
+        writer.newBatch();
+        writer.writeRecord(record(0));
+
+        Record broken = Mockito.mock(Record.class);
+        Mockito.when(broken.getSchema()).thenReturn(record(1).getSchema());
+        Mockito.when(broken.getOptionalString(anyString())).thenThrow(new IllegalStateException("Not a string"));
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.writeRecord(broken));
+        Assertions.assertFalse(writer.streams.get(0).closed);
+
+        writer.writeRecord(record(2));
+        writer.complete();
+        Assertions.assertEquals(1, writer.streams.size());
+        assertCommittedParquet(writer.streams.get(0));
+    }
+
+    private Record record(int id) {
+        char[] payload = new char[1024];
+        Arrays.fill(payload, (char) ('a' + id % 26));
+        return factory
+                .newRecordBuilder()
+                .withInt("id", id)
+                .withString("payload", id + new String(payload))
+                .build();
+    }
+
+    private void assertCommittedParquet(BlobStream stream) {
+        Assertions.assertTrue(stream.closed, "Blob not committed");
+        byte[] content = stream.content.toByteArray();
+        Assertions.assertArrayEquals(MAGIC, Arrays.copyOfRange(content, 0, MAGIC.length), "No parquet header");
+        Assertions
+                .assertArrayEquals(MAGIC, Arrays.copyOfRange(content, content.length - MAGIC.length, content.length),
+                        "No parquet footer");
+    }
+
+    private static class TestWriter extends ParquetBlobFileWriter {
+
+        private final List<BlobStream> streams = new ArrayList<>();
+
+        private int capacity;
+
+        TestWriter(BlobOutputConfiguration config, AzureBlobComponentServices connectionServices, int capacity)
+                throws Exception {
+            super(config, connectionServices);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected OutputStream openBlobStream() throws StorageException {
+            BlobStream stream = new BlobStream(capacity);
+            streams.add(stream);
+            return stream;
+        }
+    }
+
+    /**
+     * Blob stream kept in memory, closing it stands for the commit of the block list.
+     */
+    private static class BlobStream extends OutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private final int capacity;
+
+        private boolean closed;
+
+        BlobStream(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            content.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(len);
+            content.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void ensureCapacity(int len) throws IOException {
+            if (content.size() + len > capacity) {
+                throw new IOException("Connection reset");
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Distributes files between input workers so that each one reads about the same amount of bytes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BlobBundles {
+
+    /**
+     * Packs the blobs in as many bundles as needed to get bundles of about {@code bundleSize} bytes, a blob is never
+     * cut and there are never more bundles than blobs. Blobs are assigned from the largest to the smallest to the
+     * lightest bundle so far, then sorted by name inside each bundle.
+     *
+     * @param blobSizes size in bytes of every blob, by name
+     * @param bundleSize expected size of a bundle in bytes
+     * @return the blob names of each bundle, empty when there is no blob
+     */
+    public static List<List<String>> pack(final Map<String, Long> blobSizes, final long bundleSize) {
+        long totalSize = blobSizes.values().stream().mapToLong(Long::longValue).sum();
+        long wanted = bundleSize <= 0 ? 1 : (totalSize + bundleSize - 1) / bundleSize;
+        int bundleCount = (int) Math.max(1, Math.min(blobSizes.size(), wanted));
+
+        List<Bundle> bundles = new ArrayList<>(bundleCount);
+        PriorityQueue<Bundle> lightest = new PriorityQueue<>(Comparator.comparingLong((Bundle b) -> b.size));
+        for (int i = 0; i < bundleCount; i++) {
+            Bundle bundle = new Bundle();
+            bundles.add(bundle);
+            lightest.add(bundle);
+        }
+        blobSizes.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long> comparingByValue()
+                        .reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(blob -> {
+                    Bundle bundle = lightest.poll();
+                    bundle.names.add(blob.getKey());
+                    bundle.size += blob.getValue();
+                    lightest.add(bundle);
+                });
+        return bundles.stream()
+                .filter(bundle -> !bundle.names.isEmpty())
+                .map(bundle -> bundle.names.stream().sorted().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static class Bundle {
+
+        private final List<String> names = new ArrayList<>();
+
+        private long size;
+    }
+}
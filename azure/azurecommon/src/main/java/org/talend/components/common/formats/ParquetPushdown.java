@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.formats;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Opens parquet readers which only decode the requested columns and skip the row groups that the filter excludes
+ * according to their column statistics, rows of the remaining row groups are filtered too.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParquetPushdown {
+
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    private static final Pattern TOKEN = Pattern
+            .compile("\\s*(?:(\\()|(\\))|(<=|>=|!=|<>|=|<|>)|'((?:[^']|'')*)'|(-?\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?)"
+                    + "|([A-Za-z_][A-Za-z0-9_.]*))");
+
+    /**
+     * @param options read options, null to read everything
+     */
+    public static ParquetReader<GenericRecord> openReader(InputFile file, Configuration configuration,
+            ParquetReadOptions options) throws IOException {
+        List<String> columns = options == null ? null : options.getColumnNames();
+        String filter = options == null ? null : options.getFilter();
+        boolean hasFilter = filter != null && !filter.trim().isEmpty();
+        if (columns == null && !hasFilter) {
+            return AvroParquetReader.<GenericRecord> builder(file).withConf(configuration).build();
+        }
+
+        FileMetaData metadata;
+        try (ParquetFileReader footerReader = ParquetFileReader.open(file)) {
+            metadata = footerReader.getFooter().getFileMetaData();
+        }
+        MessageType fileSchema = metadata.getSchema();
+        Configuration readConfiguration = new Configuration(configuration);
+        AvroParquetReader.Builder<GenericRecord> builder = AvroParquetReader.<GenericRecord> builder(file);
+        Set<String> filterColumns = new LinkedHashSet<>();
+        if (hasFilter) {
+            FilterPredicate predicate = new FilterParser(filter, fileSchema, filterColumns).parse();
+            builder.withFilter(FilterCompat.get(predicate));
+        }
+        if (columns != null) {
+            // filtered rows are evaluated on the read columns
+            Set<String> projected = new LinkedHashSet<>(columns);
+            filterColumns.forEach(column -> projected.add(column.split("\\.")[0]));
+            Schema projection = projection(fileSchema, metadata.getKeyValueMetaData().get(AVRO_SCHEMA_METADATA_KEY),
+                    projected, readConfiguration);
+            AvroReadSupport.setRequestedProjection(readConfiguration, projection);
+            AvroReadSupport.setAvroReadSchema(readConfiguration, projection);
+        }
+        return builder.withConf(readConfiguration).build();
+    }
+
+    /**
+     * Keeps the file fields which are requested, from the avro schema stored in the file when there is one so that
+     * the records are the same as without projection.
+     */
+    static Schema projection(MessageType fileSchema, String fileAvroSchema, Set<String> columns,
+            Configuration configuration) {
+        List<Type> fields = new ArrayList<>();
+        for (String column : columns) {
+            if (fileSchema.containsField(column)) {
+                fields.add(fileSchema.getType(column));
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("None of the columns " + columns + " exists in the parquet file.");
+        }
+        if (fileAvroSchema == null) {
+            return new AvroSchemaConverter(configuration).convert(new MessageType(fileSchema.getName(), fields));
+        }
+        Schema avroSchema = new Schema.Parser().parse(fileAvroSchema);
+        List<Schema.Field> projectedFields = new ArrayList<>();
+        for (Schema.Field field : avroSchema.getFields()) {
+            if (columns.contains(field.name())) {
+                projectedFields.add(new Schema.Field(field.name(), field.schema(), field.doc(), field.defaultVal()));
+            }
+        }
+        return Schema
+                .createRecord(avroSchema.getName(), avroSchema.getDoc(), avroSchema.getNamespace(), false,
+                        projectedFields);
+    }
+
+    /**
+     * Recursive descent parser of the filter expressions, {@code and} takes precedence over {@code or}.
+     */
+    static class FilterParser {
+
+        private final List<String[]> tokens = new ArrayList<>();
+
+        private final MessageType fileSchema;
+
+        private final Set<String> columns;
+
+        private int index;
+
+        FilterParser(String expression, MessageType fileSchema, Set<String> columns) {
+            this.fileSchema = fileSchema;
+            this.columns = columns;
+            Matcher matcher = TOKEN.matcher(expression);
+            int end = 0;
+            while (end < expression.length() && matcher.find(end) && matcher.start() == end) {
+                end = matcher.end();
+                if (matcher.group(1) != null || matcher.group(2) != null || matcher.group(3) != null) {
+                    tokens.add(new String[] { "op", matcher.group().trim() });
+                } else if (matcher.group(4) != null) {
+                    tokens.add(new String[] { "string", matcher.group(4).replace("''", "'") });
+                } else if (matcher.group(5) != null) {
+                    tokens.add(new String[] { "number", matcher.group(5) });
+                } else {
+                    tokens.add(new String[] { "word", matcher.group(6) });
+                }
+            }
+            if (!expression.substring(end).trim().isEmpty()) {
+                throw invalid("unexpected '" + expression.substring(end).trim() + "'");
+            }
+        }
+
+        FilterPredicate parse() {
+            FilterPredicate predicate = or();
+            if (index < tokens.size()) {
+                throw invalid("unexpected '" + tokens.get(index)[1] + "'");
+            }
+            return predicate;
+        }
+
+        private FilterPredicate or() {
+            FilterPredicate predicate = and();
+            while (acceptKeyword("or")) {
+                predicate = FilterApi.or(predicate, and());
+            }
+            return predicate;
+        }
+
+        private FilterPredicate and() {
+            FilterPredicate predicate = unary();
+            while (acceptKeyword("and")) {
+                predicate = FilterApi.and(predicate, unary());
+            }
+            return predicate;
+        }
+
+        private FilterPredicate unary() {
+            if (acceptKeyword("not")) {
+                return FilterApi.not(unary());
+            }
+            if (accept("op", "(")) {
+                FilterPredicate predicate = or();
+                expect("op", ")");
+                return predicate;
+            }
+            String column = expect("word", null);
+            if (acceptKeyword("is")) {
+                boolean not = acceptKeyword("not");
+                if (!acceptKeyword("null")) {
+                    throw invalid("null expected after '" + column + " is'");
+                }
+                return comparison(column, not ? "!=" : "=", null);
+            }
+            String operator = expect("op", null);
+            if (index >= tokens.size()) {
+                throw invalid("value expected after '" + column + " " + operator + "'");
+            }
+            String[] value = tokens.get(index++);
+            if ("op".equals(value[0])) {
+                throw invalid("value expected after '" + column + " " + operator + "'");
+            }
+            return comparison(column, operator, value[1]);
+        }
+
+        private FilterPredicate comparison(String column, String operator, String value) {
+            String[] path = column.split("\\.");
+            if (!fileSchema.containsPath(path) || !fileSchema.getType(path).isPrimitive()) {
+                throw invalid("unknown column '" + column + "'");
+            }
+            PrimitiveType primitiveType = fileSchema.getType(path).asPrimitiveType();
+            PrimitiveTypeName type = primitiveType.getPrimitiveTypeName();
+            if (!isFilterable(primitiveType)) {
+                OriginalType originalType = primitiveType.getOriginalType();
+                throw invalid("column '" + column + "' of type " + type
+                        + (originalType == null ? "" : " (" + originalType + ")") + " can't be filtered");
+            }
+            columns.add(column);
+            try {
+                switch (type) {
+                case INT32:
+                    return compare(FilterApi.intColumn(column), operator,
+                            value == null ? null : Integer.valueOf(value));
+                case INT64:
+                    return compare(FilterApi.longColumn(column), operator, value == null ? null : Long.valueOf(value));
+                case FLOAT:
+                    return compare(FilterApi.floatColumn(column), operator,
+                            value == null ? null : Float.valueOf(value));
+                case DOUBLE:
+                    return compare(FilterApi.doubleColumn(column), operator,
+                            value == null ? null : Double.valueOf(value));
+                case BINARY:
+                    return compare(FilterApi.binaryColumn(column), operator,
+                            value == null ? null : Binary.fromString(value));
+                case BOOLEAN:
+                    Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(column);
+                    Boolean booleanValue = value == null ? null : Boolean.valueOf(value);
+                    if ("=".equals(operator)) {
+                        return FilterApi.eq(booleanColumn, booleanValue);
+                    } else if ("!=".equals(operator) || "<>".equals(operator)) {
+                        return FilterApi.notEq(booleanColumn, booleanValue);
+                    }
+                    throw invalid("only = and != apply to the boolean column '" + column + "'");
+                default:
+                    throw invalid("column '" + column + "' of type " + type + " can't be filtered");
+                }
+            } catch (NumberFormatException e) {
+                throw invalid("'" + value + "' is not a valid value for column '" + column + "'");
+            }
+        }
+
+        /**
+         * The literal is compared to the stored value: a logical type which changes what is stored, like a date, a
+         * timestamp or a decimal, can't be filtered, nor can bytes which are not text.
+         */
+        private static boolean isFilterable(PrimitiveType type) {
+            OriginalType originalType = type.getOriginalType();
+            switch (type.getPrimitiveTypeName()) {
+            case INT32:
+            case INT64:
+                return originalType == null || originalType == OriginalType.INT_8
+                        || originalType == OriginalType.INT_16 || originalType == OriginalType.INT_32
+                        || originalType == OriginalType.INT_64;
+            case BINARY:
+                return originalType == OriginalType.UTF8 || originalType == OriginalType.ENUM;
+            case FIXED_LEN_BYTE_ARRAY:
+                return false;
+            default:
+                return originalType == null;
+            }
+        }
+
+        private <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate
+                compare(C column, String operator, T value) {
+            switch (operator) {
+            case "=":
+                return FilterApi.eq(column, value);
+            case "!=":
+            case "<>":
+                return FilterApi.notEq(column, value);
+            case "<":
+                return FilterApi.lt(column, value);
+            case "<=":
+                return FilterApi.ltEq(column, value);
+            case ">":
+                return FilterApi.gt(column, value);
+            case ">=":
+                return FilterApi.gtEq(column, value);
+            default:
+                throw invalid("unknown operator '" + operator + "'");
+            }
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (index < tokens.size() && "word".equals(tokens.get(index)[0])
+                    && keyword.equals(tokens.get(index)[1].toLowerCase(Locale.ROOT))) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean accept(String kind, String text) {
+            if (index < tokens.size() && kind.equals(tokens.get(index)[0]) && text.equals(tokens.get(index)[1])) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private String expect(String kind, String text) {
+            if (index >= tokens.size()) {
+                throw invalid("unexpected end, " + (text == null ? kind : "'" + text + "'") + " expected");
+            }
+            String[] token = tokens.get(index);
+            if (!kind.equals(token[0]) || (text != null && !text.equals(token[1]))) {
+                throw invalid("unexpected '" + token[1] + "', " + (text == null ? kind : "'" + text + "'")
+                        + " expected");
+            }
+            index++;
+            return token[1];
+        }
+
+        private IllegalArgumentException invalid(String reason) {
+            return new IllegalArgumentException("Invalid parquet filter: " + reason + ".");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.formats;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
+import org.talend.sdk.component.api.meta.Documentation;
+
+import lombok.Data;
+
+@Data
+@GridLayout({ @GridLayout.Row("columns"), @GridLayout.Row("filter") })
+@Documentation("Parquet read options")
+public class ParquetReadOptions implements Serializable {
+
+    @Option
+    @Documentation("Comma separated names of the columns to read, all of them when empty.")
+    private String columns;
+
+    @Option
+    @Documentation("Rows to read, i.e. \"country = 'FR' and (amount >= 100 or vip = true)\".\n"
+            + "Supports =, !=, <, <=, >, >=, is null, is not null, and, or, not and parenthesis.\n"
+            + "Only number, boolean and text columns can be filtered, not date, timestamp or decimal ones.")
+    private String filter;
+
+    public List<String> getColumnNames() {
+        if (columns == null || columns.trim().isEmpty()) {
+            return null;
+        }
+        return Arrays
+                .stream(columns.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class BlobBundlesTest {
+
+    @Test
+    void packBalancesBundles() {
+        Map<String, Long> sizes = new HashMap<>();
+        sizes.put("a.csv", 70L);
+        sizes.put("b.csv", 40L);
+        sizes.put("c.csv", 35L);
+        sizes.put("d.csv", 30L);
+        sizes.put("e.csv", 25L);
+
+        List<List<String>> bundles = BlobBundles.pack(sizes, 100);
+
+        assertEquals(2, bundles.size());
+        assertEquals(Arrays.asList("a.csv", "d.csv"), bundles.get(0));
+        assertEquals(Arrays.asList("b.csv", "c.csv", "e.csv"), bundles.get(1));
+    }
+
+    @Test
+    void packNeverCreatesMoreBundlesThanBlobs() {
+        Map<String, Long> sizes = new HashMap<>();
+        sizes.put("big.parquet", 1000L);
+        sizes.put("small.parquet", 10L);
+
+        List<List<String>> bundles = BlobBundles.pack(sizes, 1);
+
+        assertEquals(2, bundles.size());
+        List<String> all = bundles.stream().flatMap(List::stream).sorted().collect(Collectors.toList());
+        assertEquals(Arrays.asList("big.parquet", "small.parquet"), all);
+    }
+
+    @Test
+    void packWithoutBlobs() {
+        List<List<String>> bundles = BlobBundles.pack(Collections.emptyMap(), 100);
+
+        assertTrue(bundles.isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.junit.jupiter.api.Test;
+
+class ParquetOutputFileTest {
+
+    @Test
+    void writesParquetToStream() throws IOException {
+        final boolean[] closed = { false };
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        Schema schema = SchemaBuilder.record("test").fields().requiredString("name").endRecord();
+
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord> builder(new ParquetOutputFile(out)).withSchema(schema).build()) {
+            for (int i = 0; i < 3; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("name", "name_" + i);
+                writer.write(record);
+            }
+        }
+
+        byte[] content = out.toByteArray();
+        byte[] magic = "PAR1".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(closed[0]);
+        assertTrue(content.length > 2 * magic.length);
+        assertEquals(Arrays.toString(magic), Arrays.toString(Arrays.copyOfRange(content, 0, magic.length)));
+        assertEquals(Arrays.toString(magic),
+                Arrays.toString(Arrays.copyOfRange(content, content.length - magic.length, content.length)));
+    }
+}
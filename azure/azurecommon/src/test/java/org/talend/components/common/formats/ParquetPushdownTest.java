@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParquetPushdownTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Configuration configuration;
+
+    private InputFile file;
+
+    @BeforeEach
+    void writeFile() throws IOException {
+        configuration = new Configuration();
+        configuration.set("fs.file.impl", org.apache.hadoop.fs.LocalFileSystem.class.getName());
+        Schema schema = SchemaBuilder
+                .record("customer")
+                .fields()
+                .requiredInt("id")
+                .optionalString("name")
+                .requiredBoolean("vip")
+                .endRecord();
+        File parquet = tempDir.resolve("customers.parquet").toFile();
+        try (ParquetWriter<GenericRecord> writer = AvroParquetWriter
+                .<GenericRecord> builder(new ParquetOutputFile(new FileOutputStream(parquet)))
+                .withSchema(schema)
+                .build()) {
+            for (int i = 0; i < 20; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", i % 5 == 0 ? null : "name_" + i);
+                record.put("vip", i % 2 == 0);
+                writer.write(record);
+            }
+        }
+        file = HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(parquet.getPath()), configuration);
+    }
+
+    @Test
+    void readEverythingWithoutOptions() throws IOException {
+        List<GenericRecord> records = read(new ParquetReadOptions());
+        assertEquals(20, records.size());
+        assertEquals(3, records.get(0).getSchema().getFields().size());
+    }
+
+    @Test
+    void filterRows() throws IOException {
+        assertEquals("[12, 14, 16, 18]", ids(read(options(null, "id > 10 and vip = true"))));
+        assertEquals("[0, 1, 5, 10, 15]", ids(read(options(null, "id < 2 OR name IS NULL"))));
+        assertEquals("[3]", ids(read(options(null, "name = 'name_3'"))));
+        assertEquals("[18, 19]", ids(read(options(null, "not (id <= 17 or (vip != true and id = 18))"))));
+    }
+
+    @Test
+    void projectColumns() throws IOException {
+        List<GenericRecord> records = read(options("name", null));
+        assertEquals(20, records.size());
+        assertEquals("[name]", fields(records.get(0)));
+
+        records = read(options("vip, name", "id >= 18"));
+        assertEquals(2, records.size());
+        assertEquals("[id, name, vip]", fields(records.get(0)));
+        assertEquals("name_18", records.get(0).get("name").toString());
+    }
+
+    @Test
+    void rejectInvalidFilters() {
+        assertThrows(IllegalArgumentException.class, () -> read(options(null, "unknown = 1")));
+        assertThrows(IllegalArgumentException.class, () -> read(options(null, "id = 'one'")));
+        assertThrows(IllegalArgumentException.class, () -> read(options(null, "vip > true")));
+        assertThrows(IllegalArgumentException.class, () -> read(options(null, "(id = 1")));
+        assertThrows(IllegalArgumentException.class, () -> read(options(null, "id = 1 ; drop")));
+        assertThrows(IllegalArgumentException.class, () -> read(options("unknown", null)));
+    }
+
+    @Test
+    void rejectColumnsWhichLiteralsDontMatch() {
+        MessageType schema = MessageTypeParser
+                .parseMessageType("message payment { required binary amount (DECIMAL(9,2)); "
+                        + "required int32 price (DECIMAL(9,2)); required int64 total (DECIMAL(18,2)); "
+                        + "required fixed_len_byte_array(16) id; required int32 day (DATE); "
+                        + "required int64 paid_at (TIMESTAMP_MILLIS); required binary signature; "
+                        + "required binary label (UTF8); required binary status (ENUM); required int32 count; }");
+        for (String filter : new String[] { "amount > '12.50'", "price > 12.5", "total = 1250", "id = 'a'",
+                "day = 18000", "paid_at > 0", "signature = 'x'" }) {
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                    () -> new ParquetPushdown.FilterParser(filter, schema, new HashSet<>()).parse(), filter);
+            assertTrue(error.getMessage().contains("can't be filtered"), error.getMessage());
+        }
+        assertNotNull(new ParquetPushdown.FilterParser("label = 'a' and status = 'PAID' and count > 1", schema,
+                new HashSet<>()).parse());
+    }
+
+    private ParquetReadOptions options(String columns, String filter) {
+        ParquetReadOptions options = new ParquetReadOptions();
+        options.setColumns(columns);
+        options.setFilter(filter);
+        return options;
+    }
+
+    private List<GenericRecord> read(ParquetReadOptions options) throws IOException {
+        List<GenericRecord> records = new ArrayList<>();
+        try (ParquetReader<GenericRecord> reader = ParquetPushdown.openReader(file, configuration, options)) {
+            GenericRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private String ids(List<GenericRecord> records) {
+        return records.stream().map(record -> String.valueOf(record.get("id"))).collect(Collectors.toList()).toString();
+    }
+
+    private String fields(GenericRecord record) {
+        return record
+                .getSchema()
+                .getFields()
+                .stream()
+                .map(Schema.Field::name)
+                .sorted()
+                .collect(Collectors.toList())
+                .toString();
+    }
+}
@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -574,7 +575,10 @@ public class AvroConverter implements RecordConverter<GenericRecord>, Serializab
             break;
         case INT:
             int ivalue = value != null ? (Integer) value : 0;
-            if (AVRO_LOGICAL_TYPE_DATE.equals(logicalType) || AVRO_LOGICAL_TYPE_TIME_MILLIS.equals(logicalType)) {
+            if (AVRO_LOGICAL_TYPE_DATE.equals(logicalType)) {
+                // avro dates are a number of days, as sent by the Storage Read API
+                recordBuilder.withDateTime(entry, LocalDate.ofEpochDay(ivalue).atStartOfDay(ZoneOffset.UTC));
+            } else if (AVRO_LOGICAL_TYPE_TIME_MILLIS.equals(logicalType)) {
                 recordBuilder
                         .withDateTime(entry, ZonedDateTime.ofInstant(Instant.ofEpochMilli(ivalue), ZoneOffset.UTC));
             } else {
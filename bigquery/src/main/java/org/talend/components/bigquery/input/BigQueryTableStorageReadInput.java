@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.ReadRowsRequest;
+import com.google.cloud.bigquery.storage.v1.ReadRowsResponse;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.talend.components.bigquery.avro.AvroConverter;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Read the streams of a Storage Read API session, each response holds a block of avro rows without header which
+ * are decoded directly with the session schema.
+ */
+public class BigQueryTableStorageReadInput implements Serializable {
+
+    protected final BigQueryTableStorageReadInputConfig configuration;
+
+    protected final BigQueryService service;
+
+    protected final RecordBuilderFactory builderFactory;
+
+    private final Schema tckSchema;
+
+    private List<String> streams;
+
+    private String avroSchema;
+
+    private transient BigQueryReadClient client;
+
+    private transient DatumReader<GenericRecord> datumReader;
+
+    private transient AvroConverter converter;
+
+    private transient Iterator<ReadRowsResponse> responses;
+
+    private transient BinaryDecoder decoder;
+
+    private transient int streamIndex;
+
+    private transient boolean loaded;
+
+    public BigQueryTableStorageReadInput(final BigQueryTableStorageReadInputConfig configuration,
+            final BigQueryService service, final RecordBuilderFactory builderFactory, final List<String> streams,
+            final String avroSchema, final Schema tckSchema) {
+        this.configuration = configuration;
+        this.service = service;
+        this.builderFactory = builderFactory;
+        this.streams = streams;
+        this.avroSchema = avroSchema;
+        this.tckSchema = tckSchema;
+    }
+
+    @Producer
+    public Record next() {
+        if (!loaded) {
+            load();
+        }
+
+        try {
+            while (true) {
+                if (decoder != null && !decoder.isEnd()) {
+                    return converter.toRecord(datumReader.read(null, decoder));
+                }
+                if (responses != null && responses.hasNext()) {
+                    byte[] rows = responses.next().getAvroRows().getSerializedBinaryRows().toByteArray();
+                    decoder = DecoderFactory.get().binaryDecoder(rows, decoder);
+                } else if (streamIndex < streams.size()) {
+                    responses = readRows(streams.get(streamIndex++));
+                } else {
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        }
+    }
+
+    private void load() {
+        loaded = true;
+        if (streams == null) {
+            // Not split: a session with a single stream
+            ReadSession session =
+                    BigQueryTableStorageReadMapper.createReadSession(getClient(), configuration, 1);
+            streams = session.getStreamsList().stream().map(ReadStream::getName).collect(Collectors.toList());
+            avroSchema = session.getAvroSchema().getSchema();
+        }
+        datumReader = new GenericDatumReader<>(new org.apache.avro.Schema.Parser().parse(avroSchema));
+        converter = AvroConverter.of(builderFactory, tckSchema);
+    }
+
+    /**
+     * The client retries and resumes the stream from the last received row on transient errors.
+     */
+    protected Iterator<ReadRowsResponse> readRows(final String stream) {
+        ReadRowsRequest request = ReadRowsRequest.newBuilder().setReadStream(stream).build();
+        return getClient().readRowsCallable().call(request).iterator();
+    }
+
+    private BigQueryReadClient getClient() {
+        if (client == null) {
+            client = service.createReadClient(configuration.getDataStore());
+        }
+        return client;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import lombok.Data;
+import org.talend.components.bigquery.dataset.TableDataSet;
+import org.talend.components.bigquery.datastore.BigQueryConnection;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
+import org.talend.sdk.component.api.meta.Documentation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Icon(value = Icon.IconType.CUSTOM, custom = "bigquery-connector")
+@Documentation("Dataset of a BigQuery for Input through the Storage Read API.")
+@GridLayout({ @GridLayout.Row("tableDataset"), @GridLayout.Row("selectedFields") })
+public class BigQueryTableStorageReadInputConfig implements Serializable {
+
+    @Option
+    @Documentation("BigQuery Table Dataset")
+    private TableDataSet tableDataset;
+
+    @Option
+    @Documentation("Columns to read, all of them when empty")
+    private List<String> selectedFields = new ArrayList<>();
+
+    public BigQueryConnection getDataStore() {
+        return tableDataset.getConnection();
+    }
+
+}
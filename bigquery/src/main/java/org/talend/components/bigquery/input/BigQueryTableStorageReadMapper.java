@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.CreateReadSessionRequest;
+import com.google.cloud.bigquery.storage.v1.DataFormat;
+import com.google.cloud.bigquery.storage.v1.ReadSession;
+import com.google.cloud.bigquery.storage.v1.ReadStream;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.dataset.TableDataSet;
+import org.talend.components.bigquery.datastore.BigQueryConnection;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.components.bigquery.service.I18nMessage;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import javax.annotation.PostConstruct;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Version(1)
+@Icon(value = Icon.IconType.CUSTOM, custom = "bigquery-connector")
+@PartitionMapper(name = "BigQueryTableStorageReadInput")
+@Documentation("This component reads a table from BigQuery with parallel streams of the Storage Read API.")
+@Slf4j
+public class BigQueryTableStorageReadMapper implements Serializable {
+
+    /** Streams requested for a session are capped by the API */
+    private static final int MAX_STREAMS = 1000;
+
+    protected final BigQueryService service;
+
+    protected final I18nMessage i18n;
+
+    protected final RecordBuilderFactory builderFactory;
+
+    protected final BigQueryTableStorageReadInputConfig configuration;
+
+    /** Streams of the read session to read, null when the mapper has not been split */
+    protected final List<String> streams;
+
+    /** Avro schema of the read session, null when the mapper has not been split */
+    protected final String avroSchema;
+
+    private transient Table table;
+
+    private transient org.talend.sdk.component.api.record.Schema tckSchema;
+
+    public BigQueryTableStorageReadMapper(
+            @Option("configuration") final BigQueryTableStorageReadInputConfig configuration,
+            final BigQueryService service, final I18nMessage i18n, final RecordBuilderFactory builderFactory) {
+        this(configuration, service, i18n, builderFactory, null, null);
+    }
+
+    protected BigQueryTableStorageReadMapper(final BigQueryTableStorageReadInputConfig configuration,
+            final BigQueryService service, final I18nMessage i18n, final RecordBuilderFactory builderFactory,
+            final List<String> streams, final String avroSchema) {
+        this.configuration = configuration;
+        this.service = service;
+        this.i18n = i18n;
+        this.builderFactory = builderFactory;
+        this.streams = streams;
+        this.avroSchema = avroSchema;
+    }
+
+    @PostConstruct
+    public void init() {
+        BigQueryConnection connection = configuration.getDataStore();
+        BigQuery bigQuery = service.createClient(connection);
+        TableDataSet dataSet = configuration.getTableDataset();
+        table = bigQuery
+                .getTable(TableId.of(connection.getProjectName(), dataSet.getBqDataset(), dataSet.getTableName()));
+        if (table == null) {
+            throw new BigQueryConnectorException(
+                    i18n.infoTableNoExists(dataSet.getBqDataset() + "." + dataSet.getTableName()));
+        }
+        tckSchema = service.convertToTckSchema(getReadSchema(table.getDefinition().getSchema()));
+    }
+
+    /**
+     * Only the selected columns are read, in the order of the table.
+     */
+    private Schema getReadSchema(final Schema tableSchema) {
+        List<String> selectedFields = configuration.getSelectedFields();
+        if (selectedFields == null || selectedFields.isEmpty()) {
+            return tableSchema;
+        }
+        List<Field> fields = tableSchema
+                .getFields()
+                .stream()
+                .filter(f -> selectedFields.contains(f.getName()))
+                .collect(Collectors.toList());
+        return Schema.of(fields);
+    }
+
+    @Assessor
+    public long estimateSize() {
+        return Optional.ofNullable(table.getNumBytes()).orElse(0L);
+    }
+
+    @Split
+    public List<BigQueryTableStorageReadMapper> split(@PartitionSize final long bundleSize) {
+        long size = estimateSize();
+        int streamCount = bundleSize <= 0 ? 1
+                : (int) Math.min(MAX_STREAMS, Math.max(1, (size + bundleSize - 1) / bundleSize));
+
+        try (BigQueryReadClient client = service.createReadClient(configuration.getDataStore())) {
+            ReadSession session = createReadSession(client, configuration, streamCount);
+            String sessionSchema = session.getAvroSchema().getSchema();
+            List<BigQueryTableStorageReadMapper> mappers = session
+                    .getStreamsList()
+                    .stream()
+                    .map(ReadStream::getName)
+                    .map(stream -> new BigQueryTableStorageReadMapper(configuration, service, i18n, builderFactory,
+                            Collections.singletonList(stream), sessionSchema))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (mappers.isEmpty()) {
+                // Empty table: the session has no stream
+                mappers.add(new BigQueryTableStorageReadMapper(configuration, service, i18n, builderFactory,
+                        Collections.emptyList(), sessionSchema));
+            }
+            log.info(i18n.nbMappers(), mappers.size());
+            return mappers;
+        } catch (BigQueryConnectorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(i18n.errorSplit(), e);
+            throw new BigQueryConnectorException(e);
+        }
+    }
+
+    @Emitter
+    public BigQueryTableStorageReadInput createSource() {
+        return new BigQueryTableStorageReadInput(configuration, service, builderFactory, streams, avroSchema,
+                tckSchema);
+    }
+
+    /**
+     * Open a read session in avro format on the configured table, the API can return less streams than asked.
+     */
+    static ReadSession createReadSession(final BigQueryReadClient client,
+            final BigQueryTableStorageReadInputConfig configuration, final int maxStreams) {
+        BigQueryConnection connection = configuration.getDataStore();
+        TableDataSet dataSet = configuration.getTableDataset();
+        String tablePath = String
+                .format("projects/%s/datasets/%s/tables/%s", connection.getProjectName(), dataSet.getBqDataset(),
+                        dataSet.getTableName());
+
+        ReadSession.TableReadOptions.Builder readOptions = ReadSession.TableReadOptions.newBuilder();
+        if (configuration.getSelectedFields() != null) {
+            readOptions.addAllSelectedFields(configuration.getSelectedFields());
+        }
+        ReadSession.Builder session = ReadSession
+                .newBuilder()
+                .setTable(tablePath)
+                .setDataFormat(DataFormat.AVRO)
+                .setReadOptions(readOptions);
+        CreateReadSessionRequest request = CreateReadSessionRequest
+                .newBuilder()
+                .setParent("projects/" + connection.getProjectName())
+                .setReadSession(session)
+                .setMaxStreamCount(maxStreams)
+                .build();
+        return client.createReadSession(request);
+    }
+
+}
@@ -39,13 +39,17 @@ import org.talend.sdk.component.api.processor.Processor;
 import org.talend.sdk.component.api.record.Record;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Version(1)
@@ -54,8 +58,8 @@ import java.util.UUID;
 @Documentation("This component writes into BigQuery.")
 public class BigQueryOutput implements Serializable {
 
-    /** Maximum records per request allowed by Google API */
-    private static final int MAX_BATCH_SIZE = 10_000;
+    /** insertAll requests sent at the same time in streaming mode */
+    private static final int MAX_REQUESTS_IN_FLIGHT = 4;
 
     private final I18nMessage i18n;
 
@@ -91,6 +95,12 @@ public class BigQueryOutput implements Serializable {
 
     private transient boolean isTruncateDone;
 
+    private transient boolean tableExists;
+
+    private transient ExecutorService insertExecutor;
+
+    private transient BigQueryStreamWriter streamWriter;
+
     public BigQueryOutput(@Option("configuration") final BigQueryOutputConfig configuration,
             BigQueryService bigQueryService,
             GoogleStorageService storageService, RecordIORepository ioRepository, I18nMessage i18n) {
@@ -121,6 +131,21 @@ public class BigQueryOutput implements Serializable {
                         configuration.getDataSet().getTableName());
         if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation()) {
             storage = storageService.getStorage(bigQuery.getOptions().getCredentials());
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            insertExecutor = Executors.newFixedThreadPool(MAX_REQUESTS_IN_FLIGHT, r -> {
+                Thread thread = new Thread(r, "bigquery-insert-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (insertExecutor != null) {
+            insertExecutor.shutdownNow();
+            insertExecutor = null;
         }
     }
 
@@ -196,7 +221,15 @@ public class BigQueryOutput implements Serializable {
         if (!init) {
             lazyInit();
         }
-        records.add(rec);
+        if (tableExists && BigQueryOutputConfig.TableOperation.TRUNCATE != configuration.getTableOperation()) {
+            // The table schema is known, no need to wait for the end of the group to send the records
+            if (streamWriter == null) {
+                streamWriter = newStreamWriter();
+            }
+            streamWriter.write(rec);
+        } else {
+            records.add(rec);
+        }
     }
 
     private void lazyInit() {
@@ -204,6 +237,7 @@ public class BigQueryOutput implements Serializable {
         Table table = bigQuery.getTable(tableId);
         if (table != null) {
             tableSchema = table.getDefinition().getSchema();
+            tableExists = true;
         } else if (configuration.getTableOperation() != BigQueryOutputConfig.TableOperation.CREATE_IF_NOT_EXISTS) {
             throw new BigQueryConnectorException(i18n
                     .infoTableNoExists(
@@ -262,44 +296,27 @@ public class BigQueryOutput implements Serializable {
         }
     }
 
+    private BigQueryStreamWriter newStreamWriter() {
+        return new BigQueryStreamWriter(bigQuery, tableId, new TacoKitRecordToTableRowConverter(tableSchema, i18n),
+                i18n, insertExecutor, MAX_REQUESTS_IN_FLIGHT);
+    }
+
     private void streamData() {
-        TacoKitRecordToTableRowConverter converter = new TacoKitRecordToTableRowConverter(tableSchema, i18n);
-
-        int nbRecordsToSend = records.size();
-        int nbRecordsSent = 0;
-        List<Map<String, ?>> recordsBuffer = new ArrayList<>();
-
-        while (nbRecordsSent < nbRecordsToSend) {
-
-            recordsBuffer.clear();
-            records
-                    .stream()
-                    .skip(nbRecordsSent)
-                    .limit(MAX_BATCH_SIZE)
-                    .map(converter::apply)
-                    .forEach(recordsBuffer::add);
-
-            InsertAllRequest.Builder insertAllRequestBuilder = InsertAllRequest.newBuilder(tableId);
-            recordsBuffer.forEach(insertAllRequestBuilder::addRow);
-            InsertAllResponse response = bigQuery.insertAll(insertAllRequestBuilder.build());
-
-            if (response.hasErrors()) {
-                // response.getInsertErrors()
-                // rejected no handled by TCK
-                log.warn(i18n.warnRejected(response.getInsertErrors().size()));
-                // log errors for first row
-                response.getInsertErrors().values().iterator().next().forEach(e -> log.warn(e.getMessage()));
-                if (response.getInsertErrors().size() == recordsBuffer.size()) {
-                    // All rows were rejected : there's an issue with schema ?
-                    log.warn(records.get(0).getSchema().toString());
-                    log.warn(tableSchema.toString());
-                    // Let's show how the first record was handled.
-                    log.warn(records.get(nbRecordsSent).toString());
-                    log.warn(recordsBuffer.get(0).toString());
-                }
+        if (streamWriter == null) {
+            if (records.isEmpty()) {
+                return;
             }
-
-            nbRecordsSent += recordsBuffer.size();
+            streamWriter = newStreamWriter();
+        }
+        try {
+            records.forEach(streamWriter::write);
+            // rejected records are not handled by TCK, log each of them with all its errors
+            for (BigQueryStreamWriter.RejectedRecord rejected : streamWriter.flush()) {
+                log.warn(i18n.warnRejectedRecord(String.valueOf(rejected.getRecord()),
+                        rejected.getErrors().stream().map(String::valueOf).collect(Collectors.joining(", "))));
+            }
+        } finally {
+            streamWriter = null;
         }
     }
 
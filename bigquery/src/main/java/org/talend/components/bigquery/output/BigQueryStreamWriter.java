@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.TableId;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+import org.talend.components.bigquery.service.I18nMessage;
+import org.talend.sdk.component.api.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Stream records into a table with insertAll.
+ * Each record is converted once and added to the request being filled, which is sent when it reaches the row or the
+ * byte limit of the API. Up to maxRequestsInFlight requests are sent at the same time on the given executor.
+ */
+@Slf4j
+class BigQueryStreamWriter {
+
+    /** Maximum rows per request allowed by Google API */
+    static final int MAX_ROWS_PER_REQUEST = 10_000;
+
+    /** Google API refuses requests over 10MB, the size of a row is only estimated so keep a margin */
+    static final long MAX_REQUEST_BYTES = 9L * 1024 * 1024;
+
+    private final BigQuery bigQuery;
+
+    private final TableId tableId;
+
+    private final TacoKitRecordToTableRowConverter converter;
+
+    private final I18nMessage i18n;
+
+    private final ExecutorService executor;
+
+    private final int maxRequestsInFlight;
+
+    private final long maxRequestBytes;
+
+    private final Deque<Future<List<RejectedRecord>>> inFlight = new ArrayDeque<>();
+
+    private final List<RejectedRecord> rejected = new ArrayList<>();
+
+    private List<Record> records = new ArrayList<>();
+
+    private InsertAllRequest.Builder request;
+
+    private long requestBytes;
+
+    BigQueryStreamWriter(final BigQuery bigQuery, final TableId tableId,
+            final TacoKitRecordToTableRowConverter converter, final I18nMessage i18n, final ExecutorService executor,
+            final int maxRequestsInFlight) {
+        this(bigQuery, tableId, converter, i18n, executor, maxRequestsInFlight, MAX_REQUEST_BYTES);
+    }
+
+    BigQueryStreamWriter(final BigQuery bigQuery, final TableId tableId,
+            final TacoKitRecordToTableRowConverter converter, final I18nMessage i18n, final ExecutorService executor,
+            final int maxRequestsInFlight, final long maxRequestBytes) {
+        this.bigQuery = bigQuery;
+        this.tableId = tableId;
+        this.converter = converter;
+        this.i18n = i18n;
+        this.executor = executor;
+        this.maxRequestsInFlight = maxRequestsInFlight;
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    public void write(final Record record) {
+        Map<String, ?> row = converter.apply(record);
+        long rowBytes = estimateSize(row);
+        if (request != null && (records.size() >= MAX_ROWS_PER_REQUEST || requestBytes + rowBytes > maxRequestBytes)) {
+            send();
+        }
+        if (request == null) {
+            request = InsertAllRequest.newBuilder(tableId);
+            requestBytes = 0;
+        }
+        request.addRow(row);
+        records.add(record);
+        requestBytes += rowBytes;
+    }
+
+    /**
+     * Send the last request and wait for all of them.
+     *
+     * @return The records rejected by BigQuery with their errors.
+     */
+    public List<RejectedRecord> flush() {
+        if (request != null) {
+            send();
+        }
+        while (!inFlight.isEmpty()) {
+            waitForOldest();
+        }
+        return rejected;
+    }
+
+    private void send() {
+        while (inFlight.size() >= maxRequestsInFlight) {
+            waitForOldest();
+        }
+        InsertAllRequest insertAllRequest = request.build();
+        List<Record> sentRecords = records;
+        inFlight.add(executor.submit(() -> insert(insertAllRequest, sentRecords)));
+        request = null;
+        records = new ArrayList<>();
+    }
+
+    private List<RejectedRecord> insert(final InsertAllRequest insertAllRequest, final List<Record> sentRecords) {
+        InsertAllResponse response = bigQuery.insertAll(insertAllRequest);
+        if (!response.hasErrors()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<BigQueryError>> insertErrors = response.getInsertErrors();
+        log.warn(i18n.warnRejected(insertErrors.size()));
+        List<RejectedRecord> rejectedRecords = new ArrayList<>(insertErrors.size());
+        // error index is the position of the row in the request
+        insertErrors.forEach((index, errors) -> rejectedRecords
+                .add(new RejectedRecord(index, sentRecords.get(index.intValue()), errors)));
+        if (insertErrors.size() == sentRecords.size()) {
+            RejectedRecord first = rejectedRecords.get(0);
+            // All rows were rejected : there's an issue with schema ?
+            log.warn(first.getRecord().getSchema().toString());
+            // Let's show how the first record was handled.
+            log.warn(first.getRecord().toString());
+            log.warn(String.valueOf(insertAllRequest.getRows().get(first.getIndex().intValue()).getContent()));
+        }
+        return rejectedRecords;
+    }
+
+    private void waitForOldest() {
+        try {
+            rejected.addAll(inFlight.poll().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BigQueryConnectorException(e.getMessage());
+        } catch (ExecutionException e) {
+            inFlight.forEach(f -> f.cancel(true));
+            inFlight.clear();
+            if (e.getCause() instanceof BigQueryException) {
+                throw (BigQueryException) e.getCause();
+            }
+            throw new BigQueryConnectorException(e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Approximate size of the row once serialized as json by the client.
+     */
+    static long estimateSize(final Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof Map) {
+            long size = 2;
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                size += String.valueOf(e.getKey()).length() + 4 + estimateSize(e.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 2;
+            for (Object o : (Collection<?>) value) {
+                size += estimateSize(o) + 1;
+            }
+            return size;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2L;
+        }
+        return String.valueOf(value).length();
+    }
+
+    @Value
+    static class RejectedRecord {
+
+        /** Position of the row in its insertAll request */
+        Long index;
+
+        Record record;
+
+        List<BigQueryError> errors;
+    }
+
+}
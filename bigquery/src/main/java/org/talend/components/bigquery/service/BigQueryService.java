@@ -13,12 +13,15 @@
 package org.talend.components.bigquery.service;
 
 import com.google.api.client.util.Base64;
+import com.google.api.gax.core.FixedCredentialsProvider;
 import com.google.api.services.bigquery.BigqueryScopes;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.bigquery.*;
 import com.google.cloud.bigquery.BigQuery.DatasetListOption;
 import com.google.cloud.bigquery.BigQuery.TableField;
 import com.google.cloud.bigquery.BigQuery.TableOption;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadClient;
+import com.google.cloud.bigquery.storage.v1.BigQueryReadSettings;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializer;
@@ -35,6 +38,7 @@ import org.talend.sdk.component.api.service.healthcheck.HealthCheckStatus;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -149,6 +153,23 @@ public class BigQueryService {
         return client;
     }
 
+    /**
+     * Client of the BigQuery Storage Read API, it has to be closed.
+     */
+    public BigQueryReadClient createReadClient(final BigQueryConnection connection) {
+        try {
+            BigQueryReadSettings.Builder settings = BigQueryReadSettings.newBuilder();
+            if (connection.getJsonCredentials() != null && !"".equals(connection.getJsonCredentials().trim())) {
+                settings
+                        .setCredentialsProvider(
+                                FixedCredentialsProvider.create(getCredentials(connection.getJsonCredentials())));
+            }
+            return BigQueryReadClient.create(settings.build());
+        } catch (IOException e) {
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        }
+    }
+
     public com.google.cloud.bigquery.Schema guessSchema(BigQueryOutputConfig configuration) {
         BigQuery client = createClient(configuration.getDataSet().getConnection());
         Table table = client
@@ -49,6 +49,8 @@ public interface I18nMessage {
 
     String warnRejected(int nbRecords);
 
+    String warnRejectedRecord(String record, String errors);
+
     String projectNameRequired();
 
     String credentialsRequired();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.cloud.bigquery.storage.v1.AvroRows;
+import com.google.cloud.bigquery.storage.v1.ReadRowsResponse;
+import com.google.protobuf.ByteString;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class BigQueryTableStorageReadInputTest {
+
+    private final Schema avroSchema = SchemaBuilder
+            .record("row")
+            .fields()
+            .optionalLong("id")
+            .optionalString("name")
+            .endRecord();
+
+    private final RecordBuilderFactory builderFactory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void readStreams() throws IOException {
+        Map<String, List<ReadRowsResponse>> streams = new HashMap<>();
+        streams.put("s1", Arrays.asList(getResponse(0, 3), getResponse(3, 2)));
+        streams.put("s2", Collections.emptyList());
+        streams.put("s3", Collections.singletonList(getResponse(5, 1)));
+
+        org.talend.sdk.component.api.record.Schema tckSchema = builderFactory
+                .newSchemaBuilder(org.talend.sdk.component.api.record.Schema.Type.RECORD)
+                .withEntry(builderFactory
+                        .newEntryBuilder()
+                        .withName("id")
+                        .withType(org.talend.sdk.component.api.record.Schema.Type.LONG)
+                        .withNullable(true)
+                        .build())
+                .withEntry(builderFactory
+                        .newEntryBuilder()
+                        .withName("name")
+                        .withType(org.talend.sdk.component.api.record.Schema.Type.STRING)
+                        .withNullable(true)
+                        .build())
+                .build();
+
+        BigQueryTableStorageReadInput input = new BigQueryTableStorageReadInput(
+                new BigQueryTableStorageReadInputConfig(), Mockito.mock(BigQueryService.class), builderFactory,
+                Arrays.asList("s1", "s2", "s3"), avroSchema.toString(), tckSchema) {
+
+            @Override
+            protected Iterator<ReadRowsResponse> readRows(final String stream) {
+                return streams.get(stream).iterator();
+            }
+        };
+
+        List<Record> records = new ArrayList<>();
+        Record record;
+        while ((record = input.next()) != null) {
+            records.add(record);
+        }
+
+        Assertions.assertEquals(6, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(i, records.get(i).getLong("id"));
+            Assertions.assertEquals("name_" + i, records.get(i).getString("name"));
+        }
+    }
+
+    private ReadRowsResponse getResponse(final int from, final int count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        GenericDatumWriter<GenericRecord> writer = new GenericDatumWriter<>(avroSchema);
+        for (int i = from; i < from + count; i++) {
+            GenericRecord row = new GenericData.Record(avroSchema);
+            row.put("id", (long) i);
+            row.put("name", "name_" + i);
+            writer.write(row, encoder);
+        }
+        encoder.flush();
+        return ReadRowsResponse
+                .newBuilder()
+                .setAvroRows(AvroRows.newBuilder().setSerializedBinaryRows(ByteString.copyFrom(out.toByteArray())))
+                .setRowCount(count)
+                .build();
+    }
+
+}
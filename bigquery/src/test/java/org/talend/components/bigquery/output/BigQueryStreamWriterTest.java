@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.LegacySQLTypeName;
+import com.google.cloud.bigquery.Schema;
+import com.google.cloud.bigquery.TableId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.bigquery.service.I18nMessage;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class BigQueryStreamWriterTest {
+
+    private final TableId tableId = TableId.of("project", "dataset", "table");
+
+    private final Schema tableSchema =
+            Schema.of(Field.of("id", LegacySQLTypeName.INTEGER), Field.of("name", LegacySQLTypeName.STRING));
+
+    private BigQuery bigQuery;
+
+    private I18nMessage i18n;
+
+    private ExecutorService executor;
+
+    private ConcurrentLinkedQueue<InsertAllRequest> requests;
+
+    @BeforeEach
+    void init() {
+        bigQuery = Mockito.mock(BigQuery.class);
+        i18n = Mockito.mock(I18nMessage.class);
+        executor = Executors.newFixedThreadPool(3);
+        requests = new ConcurrentLinkedQueue<>();
+    }
+
+    @AfterEach
+    void release() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void splitByRequestSize() {
+        InsertAllResponse noError = Mockito.mock(InsertAllResponse.class);
+        Mockito.when(bigQuery.insertAll(Mockito.any(InsertAllRequest.class))).thenAnswer(invocation -> {
+            requests.add((InsertAllRequest) invocation.getArguments()[0]);
+            return noError;
+        });
+
+        List<Record> records = getRecords(25);
+        long maxBytes = BigQueryStreamWriter.estimateSize(newConverter().apply(records.get(24))) * 10;
+        BigQueryStreamWriter writer = new BigQueryStreamWriter(bigQuery, tableId, newConverter(), i18n, executor, 2,
+                maxBytes);
+        records.forEach(writer::write);
+
+        Assertions.assertTrue(writer.flush().isEmpty());
+        Assertions.assertTrue(requests.size() >= 3);
+        List<Integer> ids = requests
+                .stream()
+                .sorted((r1, r2) -> Long.compare(getId(r1.getRows().get(0)), getId(r2.getRows().get(0))))
+                .peek(r -> Assertions.assertTrue(r
+                        .getRows()
+                        .stream()
+                        .mapToLong(row -> BigQueryStreamWriter.estimateSize(row.getContent()))
+                        .sum() <= maxBytes))
+                .flatMap(r -> r.getRows().stream())
+                .map(row -> (int) getId(row))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toList()), ids);
+    }
+
+    @Test
+    void rejectedRecords() {
+        InsertAllResponse withError = Mockito.mock(InsertAllResponse.class);
+        BigQueryError error = new BigQueryError("invalid", "name", "Invalid value");
+        Mockito.when(withError.hasErrors()).thenReturn(true);
+        Mockito
+                .when(withError.getInsertErrors())
+                .thenReturn(Collections.singletonMap(1L, Collections.singletonList(error)));
+        Mockito.when(bigQuery.insertAll(Mockito.any(InsertAllRequest.class))).thenReturn(withError);
+
+        List<Record> records = getRecords(3);
+        BigQueryStreamWriter writer = new BigQueryStreamWriter(bigQuery, tableId, newConverter(), i18n, executor, 2);
+        records.forEach(writer::write);
+        List<BigQueryStreamWriter.RejectedRecord> rejected = writer.flush();
+
+        Assertions.assertEquals(1, rejected.size());
+        Assertions.assertSame(records.get(1), rejected.get(0).getRecord());
+        Assertions.assertEquals(Collections.singletonList(error), rejected.get(0).getErrors());
+    }
+
+    private TacoKitRecordToTableRowConverter newConverter() {
+        return new TacoKitRecordToTableRowConverter(tableSchema, i18n);
+    }
+
+    private static long getId(final InsertAllRequest.RowToInsert row) {
+        Map<String, Object> content = row.getContent();
+        return ((Number) content.get("id")).longValue();
+    }
+
+    private List<Record> getRecords(final int count) {
+        RecordBuilderFactory rbf = new RecordBuilderFactoryImpl("test");
+        return IntStream
+                .range(0, count)
+                .mapToObj(i -> rbf.newRecordBuilder().withInt("id", i).withString("name", "name_" + i).build())
+                .collect(Collectors.toList());
+    }
+
+}
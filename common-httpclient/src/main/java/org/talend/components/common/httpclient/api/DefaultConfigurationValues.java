@@ -58,6 +58,16 @@ public final class DefaultConfigurationValues {
     public static final String HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN =
             "org.talend.http.client.oauth.token.forced.expires_in";
 
+    /**
+     * Whether HTTP clients are kept by HTTPClientFactory to reuse their connections between calls.
+     */
+    public static final String HTTP_CLIENT_REUSE_CLIENTS = "org.talend.http.client.reuse.clients";
+
+    /**
+     * Duration, in millisecond, after which an unused HTTP client is released.
+     */
+    public static final String HTTP_CLIENT_IDLE_TIMEOUT = "org.talend.http.client.idle.timeout";
+
     // Need to wait for https://issues.apache.org/jira/browse/CXF-8752
     /*
      * public static String HTTP_CLIENT_ALLOWED_REDIRECTED_VERBS =
@@ -87,6 +97,10 @@ public final class DefaultConfigurationValues {
 
     public static long HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN_VALUE;
 
+    public static boolean HTTP_CLIENT_REUSE_CLIENTS_VALUE;
+
+    public static long HTTP_CLIENT_IDLE_TIMEOUT_VALUE;
+
     public static final int HTTP_CLIENT_CONNECT_TIMEOUT_DEFAULT_VALUE = 30000;
 
     public static final int HTTP_CLIENT_RECEIVE_TIMEOUT_DEFAULT_VALUE = 120000;
@@ -103,6 +117,10 @@ public final class DefaultConfigurationValues {
 
     public static final long HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN_DEFAULT_VALUE = Long.MIN_VALUE;
 
+    public static final boolean HTTP_CLIENT_REUSE_CLIENTS_DEFAULT_VALUE = true;
+
+    public static final long HTTP_CLIENT_IDLE_TIMEOUT_DEFAULT_VALUE = 300000;
+
     public static final String HTTP_CLIENT_URL_PLACE_HOLDER_BEGIN_DEFAULT_VALUE = "{";
 
     public static final String HTTP_CLIENT_URL_PLACE_HOLDER_END_DEFAULT_VALUE = "}";
@@ -142,6 +160,10 @@ public final class DefaultConfigurationValues {
 
         HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN_VALUE = getValueAsLong(HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN,
                 HTTP_CLIENT_OAUTH_TOKEN_FORCED_EXPIRES_IN_DEFAULT_VALUE);
+
+        HTTP_CLIENT_REUSE_CLIENTS_VALUE =
+                getValueAsBoolean(HTTP_CLIENT_REUSE_CLIENTS, HTTP_CLIENT_REUSE_CLIENTS_DEFAULT_VALUE);
+        HTTP_CLIENT_IDLE_TIMEOUT_VALUE = getValueAsLong(HTTP_CLIENT_IDLE_TIMEOUT, HTTP_CLIENT_IDLE_TIMEOUT_DEFAULT_VALUE);
     }
 
     private static Map<String, String> varEnvNameCache;
@@ -48,6 +48,31 @@ public interface HTTPClient<C> {
 
         InputStream getBodyAsStream() throws HTTPClientException;
 
+        /**
+         * Give the body as it is received, without loading it in memory first. The stream can be consumed only once,
+         * after that only the first bytes of the body remain available through {@link #getBodyPrefix(int)}. If the
+         * body has already been loaded, the stream reads the loaded payload.
+         */
+        default InputStream streamBody() throws HTTPClientException {
+            return getBodyAsStream();
+        }
+
+        /**
+         * Get the beginning of the body, at most maxLength characters, to be displayed in messages.
+         * It never loads a body which has been streamed.
+         */
+        default String getBodyPrefix(final int maxLength) throws HTTPClientException {
+            final String body = getBodyAsString();
+            return body.length() > maxLength ? body.substring(0, maxLength) : body;
+        }
+
+        /**
+         * Give back the connection of the response. A streamed body keeps it until it is read to its end or closed, so
+         * this has to be called when the body may not be fully read. It does nothing once the body has been loaded.
+         */
+        default void close() {
+        }
+
         R getNestedResponse();
 
         String getEncoding();
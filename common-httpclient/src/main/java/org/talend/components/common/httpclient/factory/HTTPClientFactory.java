@@ -12,13 +12,18 @@
  */
 package org.talend.components.common.httpclient.factory;
 
+import org.talend.components.common.httpclient.api.DefaultConfigurationValues;
 import org.talend.components.common.httpclient.api.HTTPClient;
 import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.impl.cxf.CXFHTTPClientCache;
 import org.talend.components.common.httpclient.impl.cxf.CXFHTTPClientImpl;
 
 /**
  * In prevision of several implementations of HTTPClient.
  * Constructor of classes that implement HTTPClient should take a QueryConfiguration instance as parameter.
+ * <p>
+ * Unless {@link DefaultConfigurationValues#HTTP_CLIENT_REUSE_CLIENTS} is false, the returned clients share the
+ * underlying client of previous calls done with the same connection settings, to reuse their open connections.
  */
 public class HTTPClientFactory {
 
@@ -27,7 +32,14 @@ public class HTTPClientFactory {
     }
 
     public static HTTPClient create(QueryConfiguration queryConfiguration) {
+        if (DefaultConfigurationValues.HTTP_CLIENT_REUSE_CLIENTS_VALUE) {
+            return CXFHTTPClientCache.getInstance().create(queryConfiguration);
+        }
         return new CXFHTTPClientImpl(queryConfiguration);
     }
 
+    public static CXFHTTPClientCache getClientCache() {
+        return CXFHTTPClientCache.getInstance();
+    }
+
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.httpclient.impl.cxf;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.cxf.jaxrs.client.WebClient;
+import org.talend.components.common.httpclient.api.DefaultConfigurationValues;
+import org.talend.components.common.httpclient.api.HTTPClient;
+import org.talend.components.common.httpclient.api.ProxyConfiguration;
+import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.api.authentication.AuthenticationType;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keep the CXF WebClient, and so its conduit and the keep-alive connections of the underlying HTTP client, between
+ * calls done with the same connection settings: base URL, proxy, TLS, timeouts, conduit authentication and
+ * redirections.
+ * <p>
+ * Cached clients are created thread safe: the request state (path, headers, query parameters) is kept by thread while
+ * the conduit is shared. A client which has not been used for {@link DefaultConfigurationValues#HTTP_CLIENT_IDLE_TIMEOUT}
+ * is closed. A client is in use from the creation of an HTTPClient on it until the response of the first call of that
+ * HTTPClient is loaded or closed, so neither a long call nor a body still streamed get their client closed.
+ */
+@Slf4j
+public class CXFHTTPClientCache {
+
+    private static final CXFHTTPClientCache INSTANCE = new CXFHTTPClientCache();
+
+    private final Map<ClientKey, CachedClient> clients = new ConcurrentHashMap<>();
+
+    private final AtomicLong createdClients = new AtomicLong();
+
+    private final AtomicLong reusedClients = new AtomicLong();
+
+    private final AtomicLong evictedClients = new AtomicLong();
+
+    public static CXFHTTPClientCache getInstance() {
+        return INSTANCE;
+    }
+
+    public HTTPClient<WebClient> create(final QueryConfiguration queryConfiguration) {
+        Optional<ClientKey> key = ClientKey.of(queryConfiguration);
+        if (!key.isPresent()) {
+            // URL with unresolved place holders or not parsable, it gets its own client as before
+            return new CXFHTTPClientImpl(queryConfiguration);
+        }
+
+        long now = System.currentTimeMillis();
+        evictIdleClients(now);
+
+        CachedClient cached = clients.compute(key.get(), (k, c) -> {
+            if (c == null) {
+                createdClients.incrementAndGet();
+                c = new CachedClient(createWebClient(k, queryConfiguration));
+            } else {
+                reusedClients.incrementAndGet();
+            }
+            c.users.incrementAndGet();
+            c.lastUsed = now;
+            return c;
+        });
+
+        AtomicBoolean released = new AtomicBoolean();
+        return new CXFHTTPClientImpl(queryConfiguration, cached.webClient, () -> {
+            if (released.compareAndSet(false, true)) {
+                // the idle time counts from the release, stamped before the client can be seen as unused
+                cached.lastUsed = System.currentTimeMillis();
+                cached.users.decrementAndGet();
+            }
+        });
+    }
+
+    private WebClient createWebClient(final ClientKey key, final QueryConfiguration queryConfiguration) {
+        // Same as in CXFHTTPClientImpl, the Bus has to be loaded with the classloader of this module
+        ClassLoader backupThreadContextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
+            WebClient webClient = WebClient.create(key.getBaseURL(), Collections.emptyList(), true);
+            new CXFHTTPClientImpl(queryConfiguration, webClient, null).configureConnection();
+            log.debug("New HTTP client for {}.", key.getBaseURL());
+            return webClient;
+        } finally {
+            Thread.currentThread().setContextClassLoader(backupThreadContextClassLoader);
+        }
+    }
+
+    private void evictIdleClients(final long now) {
+        long idleTimeout = DefaultConfigurationValues.HTTP_CLIENT_IDLE_TIMEOUT_VALUE;
+        for (ClientKey key : clients.keySet()) {
+            AtomicReference<CachedClient> evicted = new AtomicReference<>();
+            clients.computeIfPresent(key, (k, c) -> {
+                if (c.users.get() > 0 || now - c.lastUsed <= idleTimeout) {
+                    return c;
+                }
+                evicted.set(c);
+                return null;
+            });
+            if (evicted.get() != null) {
+                evictedClients.incrementAndGet();
+                log.debug("Close HTTP client for {}, unused since {} ms.", key.getBaseURL(),
+                        now - evicted.get().lastUsed);
+                evicted.get().webClient.close();
+            }
+        }
+    }
+
+    /**
+     * Close all cached clients.
+     */
+    public void clear() {
+        for (ClientKey key : clients.keySet()) {
+            CachedClient removed = clients.remove(key);
+            if (removed != null) {
+                removed.webClient.close();
+            }
+        }
+    }
+
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * @return The number of clients created since the start, each opens its own connections.
+     */
+    public long getCreatedClients() {
+        return createdClients.get();
+    }
+
+    /**
+     * @return The number of calls which got an already existing client, and so could reuse its open connections.
+     */
+    public long getReusedClients() {
+        return reusedClients.get();
+    }
+
+    /**
+     * @return The number of clients closed because they were idle.
+     */
+    public long getEvictedClients() {
+        return evictedClients.get();
+    }
+
+    private static class CachedClient {
+
+        private final WebClient webClient;
+
+        /**
+         * HTTPClients created on this client whose response is not loaded or closed yet.
+         */
+        private final AtomicInteger users = new AtomicInteger();
+
+        private volatile long lastUsed;
+
+        CachedClient(final WebClient webClient) {
+            this.webClient = webClient;
+        }
+
+    }
+
+    /**
+     * All settings applied by CXFHTTPClientImpl#configureConnection().
+     */
+    @Value
+    static class ClientKey {
+
+        String baseURL;
+
+        long connectionTimeout;
+
+        long receiveTimeout;
+
+        boolean bypassCertificateValidation;
+
+        AuthenticationType authenticationType;
+
+        String login;
+
+        String password;
+
+        ProxyConfiguration.ProxyType proxyType;
+
+        String proxyHost;
+
+        int proxyPort;
+
+        String proxyLogin;
+
+        String proxyPassword;
+
+        boolean acceptRedirections;
+
+        boolean acceptOnlySameHostRedirection;
+
+        boolean acceptRelativeURLRedirection;
+
+        int maxNumberOfAcceptedRedirectionsOnSameURI;
+
+        String allowedURIRedirection;
+
+        boolean decompressResponsePayload;
+
+        static Optional<ClientKey> of(final QueryConfiguration config) {
+            if (config.getUrl() == null) {
+                return Optional.empty();
+            }
+
+            URI uri;
+            try {
+                uri = new URI(config.getUrl());
+            } catch (URISyntaxException e) {
+                return Optional.empty();
+            }
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                return Optional.empty();
+            }
+
+            boolean conduitAuthentication = config.getLoginPassword() != null
+                    && (config.getAuthenticationType() == AuthenticationType.Basic
+                            || config.getAuthenticationType() == AuthenticationType.Digest
+                            || config.getAuthenticationType() == AuthenticationType.NTLM);
+            ProxyConfiguration proxy = config.getProxy();
+            boolean proxyCredentials = proxy != null && proxy.getCredentials() != null;
+
+            return Optional.of(new ClientKey(uri.getScheme() + "://" + uri.getRawAuthority(),
+                    config.getConnectionTimeout(),
+                    config.getReceiveTimeout(),
+                    config.isBypassCertificateValidation(),
+                    config.getAuthenticationType(),
+                    conduitAuthentication ? config.getLoginPassword().getLogin() : null,
+                    conduitAuthentication ? config.getLoginPassword().getPassword() : null,
+                    proxy == null ? null : proxy.getType(),
+                    proxy == null ? null : proxy.getHost(),
+                    proxy == null ? 0 : proxy.getPort(),
+                    proxyCredentials ? proxy.getCredentials().getLogin() : null,
+                    proxyCredentials ? proxy.getCredentials().getPassword() : null,
+                    config.isAcceptRedirections(),
+                    config.isAcceptOnlySameHostRedirection(),
+                    config.isAcceptRelativeURLRedirection(),
+                    config.getMaxNumberOfAcceptedRedirectionsOnSameURI(),
+                    config.getAllowedURIRedirection(),
+                    config.isDecompressResponsePayload()));
+        }
+
+    }
+
+}
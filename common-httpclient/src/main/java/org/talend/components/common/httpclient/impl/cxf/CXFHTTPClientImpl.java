@@ -26,7 +26,6 @@ import javax.ws.rs.core.Response;
 import org.apache.cxf.configuration.jsse.TLSClientParameters;
 import org.apache.cxf.configuration.security.AuthorizationPolicy;
 import org.apache.cxf.helpers.HttpHeaderHelper;
-import org.apache.cxf.jaxrs.client.ClientConfiguration;
 import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.AttachmentBuilder;
@@ -60,6 +59,18 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
 
     private Token token;
 
+    /**
+     * True when the WebClient comes from CXFHTTPClientCache: its conduit is already configured and it is shared with
+     * other calls, so only the request state of the current thread is set.
+     */
+    private final boolean shared;
+
+    /**
+     * Hands the shared WebClient back to CXFHTTPClientCache once the response body is loaded or closed, or when the
+     * call fails, null if not shared.
+     */
+    private final Runnable release;
+
     public CXFHTTPClientImpl(final QueryConfiguration queryConfiguration) {
         // This is to force the use of the same classloader of this class
         // If not, it uses the cxf tries to load the Bus with the current thread contextclassloader
@@ -72,12 +83,22 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
             this.queryConfiguration = queryConfiguration;
             String url = configureURL();
             this.webClient = WebClient.create(url);
+            this.shared = false;
+            this.release = null;
         } finally {
             Thread.currentThread().setContextClassLoader(backupThreadContextClassLoader);
         }
 
     }
 
+    CXFHTTPClientImpl(final QueryConfiguration queryConfiguration, final WebClient sharedClient,
+            final Runnable release) {
+        this.queryConfiguration = queryConfiguration;
+        this.webClient = sharedClient;
+        this.shared = true;
+        this.release = release;
+    }
+
     @Override
     public WebClient getNestedClient() {
         return this.webClient;
@@ -90,11 +111,28 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
 
     @Override
     public HTTPResponse invoke() throws HTTPClientException {
+        try {
+            return doInvoke();
+        } catch (HTTPClientException | RuntimeException e) {
+            if (release != null) {
+                release.run();
+            }
+            throw e;
+        }
+    }
+
+    private HTTPResponse doInvoke() throws HTTPClientException {
         validateURL();
 
-        manageAuthentication();
+        if (shared) {
+            // Drop what the previous call of this thread left in the client state
+            webClient.reset();
+            webClient.to(configureURL(), false);
+        } else {
+            configureConnection();
+        }
 
-        certificateValidation();
+        manageAuthentication();
 
         if (queryConfiguration.getBodyType() != null) {
             webClient
@@ -105,26 +143,18 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
             webClient.header(HttpHeaders.ACCEPT, queryConfiguration.getResponseFormat().getAcceptedType());
         }
 
-        // Set timeouts
-        final HTTPConduit conduit = WebClient.getConfig(webClient).getHttpConduit();
-        conduit.getClient().setConnectionTimeout(queryConfiguration.getConnectionTimeout());
-        conduit.getClient().setReceiveTimeout(queryConfiguration.getReceiveTimeout());
-
         // Set headers
         queryConfiguration.getHeaders().stream().forEach(h -> webClient.header(h.getKey(), h.getValue()));
 
         // Set URL query parameters
         queryConfiguration.getQueryParams().stream().forEach(q -> webClient.query(q.getKey(), q.getValue()));
 
-        manageProxy();
-
-        manageRedirections();
-
         try {
             Response invoke = getResponse();
             PaginationStrategy paginationStrategy =
                     PaginationStrategyFactory.getPaginationStrategy(this.queryConfiguration);
-            CXFHTTPResponseImpl cxfhttpResponse = new CXFHTTPResponseImpl(invoke, paginationStrategy);
+            // the body may still be streamed from the conduit, the response releases the client when done
+            CXFHTTPResponseImpl cxfhttpResponse = new CXFHTTPResponseImpl(invoke, paginationStrategy, release);
 
             log.info(String.format("HTTP Query '%s' : '%s' ", queryConfiguration.getUrl(),
                     cxfhttpResponse.getStatus().getCodeWithReason()));
@@ -140,7 +170,34 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
         }
     }
 
-    private void certificateValidation() throws HTTPClientException {
+    /**
+     * Apply the settings bound to the conduit and the client configuration rather than to a single request. They are
+     * the ones CXFHTTPClientCache keys its clients on.
+     */
+    void configureConnection() {
+        manageConduitAuthentication();
+
+        certificateValidation();
+
+        // Set timeouts
+        final HTTPConduit conduit = WebClient.getConfig(webClient).getHttpConduit();
+        conduit.getClient().setConnectionTimeout(queryConfiguration.getConnectionTimeout());
+        conduit.getClient().setReceiveTimeout(queryConfiguration.getReceiveTimeout());
+
+        manageProxy();
+
+        manageRedirections();
+
+        if (queryConfiguration.isDecompressResponsePayload()
+                && WebClient.getConfig(webClient)
+                        .getInInterceptors()
+                        .stream()
+                        .noneMatch(GZIPInInterceptor.class::isInstance)) {
+            WebClient.getConfig(webClient).getInInterceptors().add(new GZIPInInterceptor());
+        }
+    }
+
+    private void certificateValidation() {
         final HTTPConduit conduit = WebClient.getConfig(webClient).getHttpConduit();
 
         // skip server truststore validation
@@ -225,7 +282,7 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
         }
     }
 
-    private void manageAuthentication() throws HTTPClientException {
+    private void manageConduitAuthentication() {
         HTTPConduit httpConduit = WebClient.getConfig(webClient).getHttpConduit();
 
         switch (queryConfiguration.getAuthenticationType()) {
@@ -255,6 +312,13 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
             authPolicy.setPassword(queryConfiguration.getLoginPassword().getPassword());
             httpConduit.setAuthorization(authPolicy);
             break;
+        default:
+            break;
+        }
+    }
+
+    private void manageAuthentication() throws HTTPClientException {
+        switch (queryConfiguration.getAuthenticationType()) {
         case Authorization_Token:
             this.setAuthorizationToken(queryConfiguration.getAuthorizationToken());
             break;
@@ -267,6 +331,8 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
             String t = String.format("%s %s", token.getTokenType(), token.getAccessToken());
             this.setAuthorizationToken(t);
             break;
+        default:
+            break;
         }
 
     }
@@ -320,12 +386,6 @@ public class CXFHTTPClientImpl implements HTTPClient<WebClient> {
     private Response getResponse() {
         Response invoke;
 
-        ClientConfiguration config = WebClient.getConfig(webClient);
-
-        if (queryConfiguration.isDecompressResponsePayload()) {
-            config.getInInterceptors().add(new GZIPInInterceptor());
-        }
-
         BodyFormat bodyType = queryConfiguration.getBodyType();
         if (bodyType == BodyFormat.FORM_DATA) {
             invoke = webClient.invoke(getHTTPMethod(), buildMultiPartBody());
@@ -20,6 +20,7 @@ import java.io.UnsupportedEncodingException;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -33,6 +34,11 @@ import org.talend.components.common.httpclient.api.authentication.Token;
 
 class CXFHTTPResponseImpl implements HTTPClient.HTTPResponse<Response> {
 
+    /**
+     * Number of bytes of a streamed body kept to build messages.
+     */
+    private static final int STREAMED_PREFIX_SIZE = 4096;
+
     private Response response;
 
     private HTTPClient.Status status;
@@ -45,11 +51,26 @@ class CXFHTTPResponseImpl implements HTTPClient.HTTPResponse<Response> {
 
     private byte[] payload;
 
+    private PrefixCapturingInputStream streamedPayload;
+
     private final PaginationStrategy paginationStrategy;
 
+    /**
+     * Hands the client back to CXFHTTPClientCache once the body is loaded or closed, null if the client is not shared.
+     */
+    private final Runnable release;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     public CXFHTTPResponseImpl(final Response response, PaginationStrategy paginationStrategy) {
+        this(response, paginationStrategy, null);
+    }
+
+    CXFHTTPResponseImpl(final Response response, final PaginationStrategy paginationStrategy,
+            final Runnable release) {
         this.response = response;
         this.paginationStrategy = paginationStrategy;
+        this.release = release;
         computeResponse();
     }
 
@@ -109,13 +130,62 @@ class CXFHTTPResponseImpl implements HTTPClient.HTTPResponse<Response> {
         return new ByteArrayInputStream(this.payload);
     }
 
+    @Override
+    public InputStream streamBody() throws HTTPClientException {
+        if (this.payload != null) {
+            return new ByteArrayInputStream(this.payload);
+        }
+        if (this.streamedPayload != null) {
+            throw new HTTPClientException("HTTP response payload has already been streamed.");
+        }
+        this.streamedPayload = new PrefixCapturingInputStream(getEntityStream(), STREAMED_PREFIX_SIZE) {
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    CXFHTTPResponseImpl.this.close();
+                }
+            }
+        };
+        return this.streamedPayload;
+    }
+
+    @Override
+    public String getBodyPrefix(final int maxLength) throws HTTPClientException {
+        final byte[] bytes;
+        if (this.streamedPayload != null) {
+            bytes = this.streamedPayload.getPrefix();
+        } else {
+            loadPayload();
+            bytes = this.payload;
+        }
+        try {
+            // decode at most 4 bytes per character, whatever the encoding is
+            final String prefix = new String(bytes, 0, (int) Math.min(bytes.length, 4L * maxLength),
+                    this.getEncoding());
+            return prefix.length() > maxLength ? prefix.substring(0, maxLength) : prefix;
+        } catch (UnsupportedEncodingException e) {
+            throw new HTTPClientException(
+                    String.format("Can't convert HTTP response payload to string with that encoding '%s' : %s",
+                            this.encoding, e.getMessage()),
+                    e);
+        }
+    }
+
+    private InputStream getEntityStream() {
+        final InputStream inputStream = (InputStream) response.getEntity();
+        return inputStream == null ? new ByteArrayInputStream(new byte[] {}) : inputStream;
+    }
+
     private void loadPayload() throws HTTPClientException {
+        if (this.payload == null && this.streamedPayload != null) {
+            throw new HTTPClientException("Can't load HTTP response payload, it has already been streamed.");
+        }
         try {
             if (this.payload == null) {
-                InputStream inputStream = (InputStream) response.getEntity();
-                if (inputStream == null) {
-                    inputStream = new ByteArrayInputStream(new byte[] {});
-                }
+                InputStream inputStream = getEntityStream();
 
                 ByteArrayOutputStream baos = new ByteArrayOutputStream();
                 byte[] buffer = new byte[1024];
@@ -130,6 +200,27 @@ class CXFHTTPResponseImpl implements HTTPClient.HTTPResponse<Response> {
             }
         } catch (IOException e) {
             throw new HTTPClientException("Can't load HTTP response payload: " + e.getMessage(), e);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (this.payload == null) {
+                // drops what is left of the body
+                response.close();
+            }
+        } catch (RuntimeException e) {
+            // the connection is not reused, it is closed anyway
+        } finally {
+            if (release != null) {
+                release.run();
+            }
         }
     }
 
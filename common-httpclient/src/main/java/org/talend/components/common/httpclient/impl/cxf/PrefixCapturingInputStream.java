@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.httpclient.impl.cxf;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Keeps a copy of the first bytes going through the stream, so a response body can be streamed and still be quoted
+ * in error messages.
+ */
+class PrefixCapturingInputStream extends FilterInputStream {
+
+    private final byte[] prefix;
+
+    private int captured;
+
+    PrefixCapturingInputStream(final InputStream in, final int prefixSize) {
+        super(in);
+        this.prefix = new byte[prefixSize];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0 && captured < prefix.length) {
+            prefix[captured++] = (byte) b;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0 && captured < prefix.length) {
+            final int length = Math.min(read, prefix.length - captured);
+            System.arraycopy(b, off, prefix, captured, length);
+            captured += length;
+        }
+        return read;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // a reset would capture the same bytes twice
+        return false;
+    }
+
+    byte[] getPrefix() {
+        return Arrays.copyOf(prefix, captured);
+    }
+}
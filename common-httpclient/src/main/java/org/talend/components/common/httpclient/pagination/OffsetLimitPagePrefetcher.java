@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.httpclient.pagination;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.talend.components.common.httpclient.api.HTTPClient;
+import org.talend.components.common.httpclient.api.HTTPClientException;
+import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.api.pagination.OffsetLimitPagination;
+
+/**
+ * Requests offset/limit pages ahead of time. Up to {@code window} pages are in flight, each one assuming the
+ * previous pages are full, and responses are given back in offset order until the first empty page.
+ * <p>
+ * When a page holds less elements than the limit (the server may cap the page size) the pages requested after it
+ * are dropped and the prefetch restarts right after the last received element, so no element is skipped.
+ */
+public class OffsetLimitPagePrefetcher implements AutoCloseable {
+
+    /**
+     * Runs one HTTP call, usually the service call which manages authentication and errors.
+     */
+    @FunctionalInterface
+    public interface PageInvoker {
+
+        HTTPClient.HTTPResponse invoke(QueryConfiguration queryConfiguration) throws HTTPClientException;
+    }
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final Supplier<QueryConfiguration> pageTemplate;
+
+    private final PageInvoker invoker;
+
+    private final int window;
+
+    private final long limit;
+
+    private final ExecutorService executor;
+
+    private final Deque<Page> inFlight = new ArrayDeque<>();
+
+    private long nextOffset;
+
+    private boolean finished;
+
+    /**
+     * @param pageTemplate Builds a new configuration of the first page at each call, pages are requested
+     * concurrently so they can't share the same instance.
+     * @param invoker The HTTP call.
+     * @param window Maximum number of pages in flight.
+     */
+    public OffsetLimitPagePrefetcher(final Supplier<QueryConfiguration> pageTemplate, final PageInvoker invoker,
+            final int window) {
+        final OffsetLimitPagination pagination = pageTemplate.get().getOffsetLimitPagination();
+        if (pagination == null) {
+            throw new IllegalArgumentException("Page prefetching needs an offset/limit pagination.");
+        }
+        this.pageTemplate = pageTemplate;
+        this.invoker = invoker;
+        this.window = Math.max(1, window);
+        this.limit = Long.parseLong(pagination.getLimitValue().trim());
+        this.nextOffset = Long.parseLong(pagination.getOffsetValue().trim());
+        this.executor = Executors.newFixedThreadPool(this.window, r -> {
+            Thread thread = new Thread(r, "http-page-prefetch-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return The response of the next page, or null when the previous one was the last.
+     */
+    public HTTPClient.HTTPResponse next() throws HTTPClientException {
+        if (finished) {
+            return null;
+        }
+        fill();
+        final Page page = inFlight.poll();
+        final HTTPClient.HTTPResponse response = page.await();
+        final int count = response.getLastPageCount();
+        if (count <= 0) {
+            close();
+            return null;
+        }
+        if (count < limit) {
+            // Either the last page or a page capped by the server: what was requested ahead can't be trusted.
+            cancelInFlight();
+            nextOffset = page.offset + count;
+        }
+        return response;
+    }
+
+    private void fill() {
+        while (inFlight.size() < window) {
+            final long offset = nextOffset;
+            final Future<HTTPClient.HTTPResponse> future = executor.submit(() -> {
+                final QueryConfiguration configuration = new OffsetLimitPaginationStrategy(pageTemplate.get())
+                        .getPageConfiguration(offset);
+                final HTTPClient.HTTPResponse response = invoker.invoke(configuration);
+                // Count elements here, the payload is then loaded and parsed on the prefetch thread
+                response.getLastPageCount();
+                return response;
+            });
+            inFlight.add(new Page(offset, future));
+            nextOffset += limit;
+        }
+    }
+
+    private void cancelInFlight() {
+        inFlight.forEach(p -> p.future.cancel(true));
+        inFlight.clear();
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        cancelInFlight();
+        executor.shutdownNow();
+    }
+
+    private static class Page {
+
+        private final long offset;
+
+        private final Future<HTTPClient.HTTPResponse> future;
+
+        Page(final long offset, final Future<HTTPClient.HTTPResponse> future) {
+            this.offset = offset;
+            this.future = future;
+        }
+
+        HTTPClient.HTTPResponse await() throws HTTPClientException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HTTPClientException("Interrupted while waiting for page at offset " + offset, e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof HTTPClientException) {
+                    throw (HTTPClientException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new HTTPClientException("Can't retrieve page at offset " + offset + ": " + cause.getMessage(),
+                        cause);
+            }
+        }
+    }
+}
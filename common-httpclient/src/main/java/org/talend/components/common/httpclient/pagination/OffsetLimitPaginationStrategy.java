@@ -92,6 +92,28 @@ public class OffsetLimitPaginationStrategy implements PaginationStrategy {
         return Optional.ofNullable(this.queryConfiguration);
     }
 
+    /**
+     * Point the configuration, whose pagination has been initiated, to the page starting at the given offset. It lets
+     * callers request pages before the previous ones have been received.
+     */
+    public QueryConfiguration getPageConfiguration(final long offset) {
+        OffsetLimitPagination offsetLimitPagination = this.queryConfiguration.getOffsetLimitPagination();
+        List<KeyValuePair> keyValuePairs = offsetLimitPagination.getLocation() == PaginationParametersLocation.HEADERS
+                ? this.queryConfiguration.getHeaders()
+                : this.queryConfiguration.getQueryParams();
+
+        Optional<KeyValuePair> existingOffset = keyValuePairs.stream()
+                .filter(h -> h.getKey().equals(offsetLimitPagination.getOffsetParamName()))
+                .findFirst();
+        if (existingOffset.isPresent()) {
+            existingOffset.get().setValue(String.valueOf(offset));
+        } else {
+            keyValuePairs.add(new KeyValuePair(offsetLimitPagination.getOffsetParamName(), String.valueOf(offset)));
+        }
+
+        return this.queryConfiguration;
+    }
+
     @Override
     public int getLastCount(HTTPClient.HTTPResponse response) throws HTTPClientException {
         if (lastCount < 0) {
@@ -12,12 +12,14 @@
  */
 package org.talend.components.common.httpclient.impl.cxf;
 
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.json.Json;
@@ -38,6 +40,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.talend.components.common.httpclient.api.DefaultConfigurationValues;
 import org.talend.components.common.httpclient.api.HTTPClient;
 import org.talend.components.common.httpclient.api.HTTPClientException;
 import org.talend.components.common.httpclient.api.QueryConfiguration;
@@ -49,6 +52,7 @@ import org.talend.components.common.httpclient.api.pagination.PaginationParamete
 import org.talend.components.common.httpclient.factory.HTTPClientFactory;
 import org.talend.components.common.httpclient.impl.cxf.servers.AbstractHTTPServerFactory;
 import org.talend.components.common.httpclient.impl.cxf.servers.BasicHTTPServerFactory;
+import org.talend.components.common.httpclient.pagination.OffsetLimitPagePrefetcher;
 
 class CXFHTTPClientImplWithBasicHTTPServerTest {
 
@@ -70,6 +74,20 @@ class CXFHTTPClientImplWithBasicHTTPServerTest {
 
     }
 
+    @Test
+    void streamedBody() throws HTTPClientException {
+        QueryConfiguration config =
+                QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_SIMPLE)).build();
+
+        HTTPClient.HTTPResponse response = HTTPClientFactory.create(config).invoke();
+        String expected = ResourcesUtils.loadResource("/responses/simple.json");
+
+        Assertions.assertEquals(expected, ResourcesUtils.getString(response.streamBody()));
+        Assertions.assertEquals(expected.substring(0, 10), response.getBodyPrefix(10));
+        Assertions.assertThrows(HTTPClientException.class, response::getBodyAsString);
+        Assertions.assertThrows(HTTPClientException.class, response::streamBody);
+    }
+
     @Test
     void urlEncodedForm() throws HTTPClientException {
         String comment = "<p>This is a <em>description</emp> &to check URL encode of form parameters: !=&éè.</p>";
@@ -493,6 +511,120 @@ class CXFHTTPClientImplWithBasicHTTPServerTest {
 
     }
 
+    @ParameterizedTest
+    @CsvSource({ "QUERY_PARAMETERS,0,3,4",
+            "QUERY_PARAMETERS,40,10,2",
+            "HEADERS,1,6,8", })
+    void offsetLimitPaginationPrefetch(PaginationParametersLocation location, int offset, int limit, int window)
+            throws HTTPClientException {
+        Supplier<QueryConfiguration> pageTemplate =
+                () -> QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT))
+                        .setMethod("GET")
+                        .setOffsetLimitPagination(location,
+                                BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT_OFFSETNAME,
+                                String.valueOf(offset),
+                                BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT_LIMITNAME,
+                                String.valueOf(limit),
+                                BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT_ELEMENTS)
+                        .addQueryParam(BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT_LOCALISATION,
+                                location.name())
+                        .build();
+
+        List<JsonObject> allElements = new ArrayList<>();
+        try (OffsetLimitPagePrefetcher prefetcher = new OffsetLimitPagePrefetcher(pageTemplate,
+                q -> HTTPClientFactory.create(q).invoke(), window)) {
+            HTTPClient.HTTPResponse response;
+            while ((response = prefetcher.next()) != null) {
+                JsonReader reader = Json.createReader(new StringReader(response.getBodyAsString()));
+                reader.readObject()
+                        .getJsonArray(BasicHTTPServerFactory.HTTP_PAGINATION_OFFSET_LIMIT_ELEMENTS)
+                        .forEach(e -> allElements.add((JsonObject) e));
+            }
+        }
+
+        Assertions.assertEquals(53 - offset, allElements.size());
+        for (int i = 0; i < allElements.size(); i++) {
+            Assertions.assertEquals(i + offset + 1, allElements.get(i).getInt("id"));
+        }
+    }
+
+    @Test
+    void reusedClient() throws HTTPClientException {
+        CXFHTTPClientCache cache = HTTPClientFactory.getClientCache();
+
+        QueryConfiguration withHeader = QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_ECHO))
+                .setMethod("GET")
+                .addHeader("X-First-Call", "true")
+                .setConnectionTimeout(12345)
+                .build();
+        HTTPClient firstClient = HTTPClientFactory.create(withHeader);
+        JsonObject firstHeaders = ResourcesUtils.getJsonObject(firstClient.invoke().getBodyAsString())
+                .getJsonObject("request-headers");
+        Assertions.assertEquals("true", firstHeaders.getString("x-first-call"));
+
+        long reused = cache.getReusedClients();
+        QueryConfiguration withoutHeader = QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_ECHO))
+                .setMethod("GET")
+                .setConnectionTimeout(12345)
+                .build();
+        HTTPClient secondClient = HTTPClientFactory.create(withoutHeader);
+        JsonObject secondHeaders = ResourcesUtils.getJsonObject(secondClient.invoke().getBodyAsString())
+                .getJsonObject("request-headers");
+
+        Assertions.assertEquals(reused + 1, cache.getReusedClients());
+        Assertions.assertSame(firstClient.getNestedClient(), secondClient.getNestedClient());
+        Assertions.assertFalse(secondHeaders.containsKey("x-first-call"));
+
+        QueryConfiguration otherTimeout = QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_ECHO))
+                .setMethod("GET")
+                .setConnectionTimeout(54321)
+                .build();
+        Assertions.assertNotSame(firstClient.getNestedClient(),
+                HTTPClientFactory.create(otherTimeout).getNestedClient());
+    }
+
+    @Test
+    void clientInUseIsNotEvicted() throws Exception {
+        CXFHTTPClientCache cache = HTTPClientFactory.getClientCache();
+        QueryConfiguration config = QueryConfigurationBuilder.create(getUrl(BasicHTTPServerFactory.HTTP_ECHO))
+                .setMethod("GET")
+                .setConnectionTimeout(23456)
+                .build();
+
+        long idleTimeout = DefaultConfigurationValues.HTTP_CLIENT_IDLE_TIMEOUT_VALUE;
+        DefaultConfigurationValues.HTTP_CLIENT_IDLE_TIMEOUT_VALUE = 0;
+        try {
+            HTTPClient first = HTTPClientFactory.create(config);
+            Thread.sleep(10);
+
+            // the first client has not done its call yet, its WebClient is idle for longer than the timeout but kept
+            HTTPClient second = HTTPClientFactory.create(config);
+            Assertions.assertSame(first.getNestedClient(), second.getNestedClient());
+
+            InputStream body = first.invoke().streamBody();
+            second.invoke().getBodyAsString();
+            // a second call of the same client doesn't release it twice
+            second.invoke().getBodyAsString();
+            Thread.sleep(10);
+
+            // the first body is still streamed from the WebClient
+            HTTPClient third = HTTPClientFactory.create(config);
+            Assertions.assertSame(first.getNestedClient(), third.getNestedClient());
+            ResourcesUtils.getString(body);
+            body.close();
+            third.invoke().close();
+            Thread.sleep(10);
+
+            long evicted = cache.getEvictedClients();
+            HTTPClient fourth = HTTPClientFactory.create(config);
+            Assertions.assertNotSame(first.getNestedClient(), fourth.getNestedClient());
+            Assertions.assertTrue(cache.getEvictedClients() > evicted);
+            fourth.invoke().close();
+        } finally {
+            DefaultConfigurationValues.HTTP_CLIENT_IDLE_TIMEOUT_VALUE = idleTimeout;
+        }
+    }
+
     private static String getUrl(String endPoint) {
         return getBaseURL() + endPoint;
     }
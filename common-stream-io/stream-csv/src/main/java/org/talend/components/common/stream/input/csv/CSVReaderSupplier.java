@@ -12,21 +12,15 @@
  */
 package org.talend.components.common.stream.input.csv;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.StringReader;
 import java.util.Collections;
-import java.util.List;
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
-import org.talend.components.common.stream.CSVHelper;
 import org.talend.components.common.stream.api.input.RecordReader;
 import org.talend.components.common.stream.api.input.RecordReaderSupplier;
 import org.talend.components.common.stream.format.ContentFormat;
 import org.talend.components.common.stream.format.csv.CSVConfiguration;
-import org.talend.components.common.stream.input.line.DefaultRecordReader;
 import org.talend.components.common.stream.input.line.LineSplitter;
+import org.talend.components.common.stream.input.line.LineToRecord;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 public class CSVReaderSupplier implements RecordReaderSupplier {
@@ -38,18 +32,17 @@ public class CSVReaderSupplier implements RecordReaderSupplier {
         }
 
         final CSVConfiguration csvConfig = (CSVConfiguration) config;
-        final CSVFormat csvFormat = CSVHelper.getCsvFormat(csvConfig);
-        final LineSplitter splitter = new CSVLineSplitter(csvFormat);
+        final LineSplitter splitter = new CSVLineSplitter(csvConfig);
 
-        return DefaultRecordReader.of(factory, csvConfig.getLineConfiguration(), splitter);
+        return new CSVRecordReader(csvConfig, new LineToRecord(factory, splitter));
     }
 
     static class CSVLineSplitter implements LineSplitter {
 
-        private final CSVFormat format;
+        private final CSVConfiguration config;
 
-        public CSVLineSplitter(CSVFormat format) {
-            this.format = format;
+        public CSVLineSplitter(CSVConfiguration config) {
+            this.config = config;
         }
 
         /**
@@ -60,16 +53,12 @@ public class CSVReaderSupplier implements RecordReaderSupplier {
          */
         @Override
         public Iterable<String> translate(String line) {
-            try {
-                final CSVParser parser = CSVParser.parse(line, this.format);
-                final List<CSVRecord> records = parser.getRecords();
-                if (records.isEmpty()) {
-                    return Collections.emptyList();
-                }
-                return records.get(0);
-            } catch (IOException e) {
-                throw new UncheckedIOException("Unparsable CSV line '" + line + "'", e);
+            final CSVTokenizer tokenizer =
+                    CSVRecordReader.tokenizer(this.config, new StringReader(line), line.length() + 1);
+            if (!tokenizer.hasNext()) {
+                return Collections.emptyList();
             }
+            return tokenizer.next();
         }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.talend.components.common.collections.IteratorMap;
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.csv.CSVConfiguration;
+import org.talend.components.common.stream.input.line.LineToRecord;
+import org.talend.sdk.component.api.record.Record;
+
+/**
+ * Read csv source to records with a {@link CSVTokenizer} on the whole stream, so quoted values can contain line
+ * separators.
+ */
+public class CSVRecordReader implements RecordReader {
+
+    /** csv format */
+    private final CSVConfiguration config;
+
+    /** translate values to record */
+    private final LineToRecord toRecord;
+
+    /** current tokenizer */
+    private CSVTokenizer tokenizer = null;
+
+    public CSVRecordReader(CSVConfiguration config, LineToRecord toRecord) {
+        this.config = config;
+        this.toRecord = toRecord;
+    }
+
+    @Override
+    public Iterator<Record> read(InputStream in) {
+        this.close();
+        this.tokenizer = CSVRecordReader.tokenizer(this.config,
+                new InputStreamReader(in, this.config.getLineConfiguration().getEncodingCharset()));
+        this.treatHeaders(this.tokenizer);
+        return new IteratorMap<>(this.tokenizer, this.toRecord::build);
+    }
+
+    private void treatHeaders(Iterator<List<String>> records) {
+        final int headerLines = this.config.getLineConfiguration().calcHeader();
+        if (headerLines <= 0) {
+            return;
+        }
+        // skip un-usefull lines
+        for (int i = 1; i < headerLines && records.hasNext(); i++) {
+            records.next();
+        }
+        if (records.hasNext()) {
+            this.toRecord.withHeaders(records.next());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.tokenizer != null) {
+            try {
+                this.tokenizer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.tokenizer = null;
+        }
+    }
+
+    static CSVTokenizer tokenizer(CSVConfiguration config, Reader reader) {
+        return new CSVTokenizer(reader, config.findFieldSeparator(), config.getQuotedValue(), config.getEscape(),
+                config.getLineConfiguration().getLineSeparator());
+    }
+
+    static CSVTokenizer tokenizer(CSVConfiguration config, Reader reader, int bufferSize) {
+        return new CSVTokenizer(reader, config.findFieldSeparator(), config.getQuotedValue(), config.getEscape(),
+                config.getLineConfiguration().getLineSeparator(), bufferSize);
+    }
+}
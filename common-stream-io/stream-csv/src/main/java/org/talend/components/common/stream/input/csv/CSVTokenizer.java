@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming CSV tokenizer.
+ * <p>
+ * Reads the characters through one reusable buffer and splits them into records of field values in a single pass,
+ * without any per line parser. A record ends with the configured record separator (which can be longer than one
+ * char), a quoted value may contain the field and the record separators. Quotes, doubled quotes and escaped chars
+ * follow the rules of the commons-csv parser for a format with a delimiter, a quote and an escape char.
+ */
+public class CSVTokenizer implements Iterator<List<String>>, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int END = -1;
+
+    /** value for a disabled quote or escape char. */
+    private static final int NONE = -2;
+
+    private final Reader reader;
+
+    private final int delimiter;
+
+    private final int quote;
+
+    private final int escape;
+
+    private final char[] recordSeparator;
+
+    private final char[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    private boolean endOfStream;
+
+    /** current value, reused for all fields. */
+    private final StringBuilder value = new StringBuilder();
+
+    /** fields count of the last record, to size the next one. */
+    private int fieldCount = 8;
+
+    private List<String> nextRecord;
+
+    public CSVTokenizer(Reader reader, char delimiter, Character quote, Character escape, String recordSeparator) {
+        this(reader, delimiter, quote, escape, recordSeparator, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CSVTokenizer(Reader reader, char delimiter, Character quote, Character escape, String recordSeparator,
+            int bufferSize) {
+        if (recordSeparator == null || recordSeparator.isEmpty()) {
+            throw new IllegalArgumentException("CSV record separator can't be empty");
+        }
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.quote = quote == null ? NONE : quote;
+        this.escape = escape == null ? NONE : escape;
+        this.recordSeparator = recordSeparator.toCharArray();
+        // room for a CR before the separator
+        this.buffer = new char[Math.max(bufferSize, this.recordSeparator.length + 1)];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.nextRecord == null) {
+            this.nextRecord = this.readRecord();
+        }
+        return this.nextRecord != null;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more CSV record");
+        }
+        final List<String> current = this.nextRecord;
+        this.nextRecord = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private List<String> readRecord() {
+        int c = this.read();
+        if (c == END) {
+            return null;
+        }
+        if (this.isRecordSeparator(c)) {
+            // empty line
+            return Collections.emptyList();
+        }
+
+        final List<String> fields = new ArrayList<>(this.fieldCount);
+        while (true) {
+            if (c == this.quote) {
+                c = this.readQuotedValue();
+            } else {
+                while (c != END && c != this.delimiter && !this.isRecordSeparator(c)) {
+                    if (c == this.escape) {
+                        this.readEscaped();
+                    } else {
+                        this.value.append((char) c);
+                    }
+                    c = this.read();
+                }
+            }
+            fields.add(this.value.toString());
+            this.value.setLength(0);
+
+            if (c != this.delimiter) {
+                // record separator or end of stream
+                this.fieldCount = fields.size();
+                return fields;
+            }
+            c = this.read();
+        }
+    }
+
+    /**
+     * @return the char following the value : delimiter, end of record or end of stream.
+     */
+    private int readQuotedValue() {
+        int c = this.read();
+        while (true) {
+            if (c == END) {
+                throw new UncheckedIOException(
+                        new IOException("EOF reached before encapsulated token finished : '" + this.value + "'"));
+            }
+            if (c == this.quote) {
+                if (this.peek(0) != this.quote) {
+                    break;
+                }
+                // doubled quote
+                this.value.append((char) this.read());
+            } else if (c == this.escape) {
+                this.readEscaped();
+            } else {
+                this.value.append((char) c);
+            }
+            c = this.read();
+        }
+
+        c = this.read();
+        while (c != END && c != this.delimiter && !this.isRecordSeparator(c)) {
+            if (!Character.isWhitespace(c)) {
+                throw new UncheckedIOException(new IOException(
+                        "Invalid char between encapsulated token and delimiter after '" + this.value + "'"));
+            }
+            c = this.read();
+        }
+        return c;
+    }
+
+    private void readEscaped() {
+        final int c = this.read();
+        switch (c) {
+        case 'r':
+            this.value.append('\r');
+            break;
+        case 'n':
+            this.value.append('\n');
+            break;
+        case 't':
+            this.value.append('\t');
+            break;
+        case 'b':
+            this.value.append('\b');
+            break;
+        case 'f':
+            this.value.append('\f');
+            break;
+        case '\r':
+        case '\n':
+        case '\t':
+        case '\b':
+        case '\f':
+            this.value.append((char) c);
+            break;
+        case END:
+            throw new UncheckedIOException(new IOException("EOF whilst processing escape sequence"));
+        default:
+            if (c != this.delimiter && c != this.quote && c != this.escape) {
+                // not an escape sequence, keep it as is
+                this.value.append((char) this.escape);
+            }
+            this.value.append((char) c);
+        }
+    }
+
+    /**
+     * Check if the char just read starts the record separator, and consume the rest of the separator if so.
+     * A CR right before the separator, or before the end of the stream, belongs to the line break as commons-csv took
+     * CR, LF and CRLF as line ends : CRLF files read with the default LF separator don't keep it in their last field.
+     */
+    private boolean isRecordSeparator(int c) {
+        if (c == '\r' && this.recordSeparator[0] != '\r') {
+            final int next = this.peek(0);
+            if (next == END) {
+                return true;
+            }
+            if (next != this.recordSeparator[0] || !this.followsSeparator(1)) {
+                return false;
+            }
+            this.position += this.recordSeparator.length;
+            return true;
+        }
+        if (c != this.recordSeparator[0] || !this.followsSeparator(0)) {
+            return false;
+        }
+        this.position += this.recordSeparator.length - 1;
+        return true;
+    }
+
+    /**
+     * @param offset offset from the next char to read of the char following the first one of the separator.
+     * @return true if the remaining chars of the separator are found from this offset.
+     */
+    private boolean followsSeparator(int offset) {
+        for (int i = 1; i < this.recordSeparator.length; i++) {
+            if (this.peek(offset + i - 1) != this.recordSeparator[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int read() {
+        if (this.position >= this.limit && !this.fill(1)) {
+            return END;
+        }
+        return this.buffer[this.position++];
+    }
+
+    /**
+     * @param offset offset from the next char to read.
+     * @return the char at this offset, without consuming it.
+     */
+    private int peek(int offset) {
+        if (this.position + offset >= this.limit && !this.fill(offset + 1)) {
+            return END;
+        }
+        return this.buffer[this.position + offset];
+    }
+
+    /**
+     * Ensure at least the given count of chars are available from the current position.
+     */
+    private boolean fill(int count) {
+        if (this.endOfStream) {
+            return false;
+        }
+        // keep the unread chars at the start of the buffer
+        final int remaining = this.limit - this.position;
+        if (remaining > 0 && this.position > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+        }
+        this.position = 0;
+        this.limit = remaining;
+        try {
+            while (this.limit < count) {
+                final int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+                if (read < 0) {
+                    this.endOfStream = true;
+                    return false;
+                }
+                this.limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read CSV content", e);
+        }
+        return true;
+    }
+}
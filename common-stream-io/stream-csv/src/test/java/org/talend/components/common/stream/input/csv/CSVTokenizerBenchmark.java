@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.talend.components.common.stream.CSVHelper;
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.LineConfiguration;
+import org.talend.components.common.stream.format.csv.CSVConfiguration;
+import org.talend.components.common.stream.format.csv.FieldSeparator;
+import org.talend.components.common.stream.input.line.DefaultRecordReader;
+import org.talend.components.common.stream.input.line.LineSplitter;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+/**
+ * compare the former csv reading (Scanner lines then one commons-csv parser per line) with the {@link CSVTokenizer}
+ * on a generated file, of 1 GB by default, run it with the main method from the ide or with :
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.talend.components.common.stream.input.csv.CSVTokenizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CSVTokenizerBenchmark {
+
+    @Param({ "1024" })
+    private int sizeMb;
+
+    private final RecordBuilderFactory recordBuilderFactory = new RecordBuilderFactoryImpl("benchmark");
+
+    private final CSVConfiguration configuration = new CSVConfiguration();
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        configuration.setFieldSeparator(new FieldSeparator());
+        configuration.getFieldSeparator().setFieldSeparatorType(FieldSeparator.Type.COMMA);
+        configuration.setLineConfiguration(new LineConfiguration());
+
+        file = Files.createTempFile("csv-benchmark", ".csv");
+        final long size = sizeMb * 1024L * 1024L;
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int row = 0; written < size; row++) {
+                final String line = row + ",John,Doe,\"120 Jefferson St., Riverside\",NJ,08075,"
+                        + "\"said \"\"hello\"\"\"," + (row * 31 % 1000) + "." + (row % 100) + ",2024-01-"
+                        + (row % 28 + 1) + ",true";
+                writer.write(line);
+                writer.write('\n');
+                written += line.length() + 1;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void legacyLineParser(final Blackhole blackhole) throws IOException {
+        final CSVFormat format = CSVHelper.getCsvFormat(configuration);
+        try (InputStream in = open();
+                Scanner scanner = new Scanner(in, "UTF-8").useDelimiter(Pattern.compile(Pattern.quote("\n")))) {
+            while (scanner.hasNext()) {
+                final List<CSVRecord> records = CSVParser.parse(scanner.next(), format).getRecords();
+                for (String value : records.get(0)) {
+                    blackhole.consume(value);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void tokenizer(final Blackhole blackhole) throws IOException {
+        try (CSVTokenizer tokenizer = CSVRecordReader.tokenizer(configuration,
+                new InputStreamReader(open(), StandardCharsets.UTF_8))) {
+            while (tokenizer.hasNext()) {
+                for (String value : tokenizer.next()) {
+                    blackhole.consume(value);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyRecords(final Blackhole blackhole) throws IOException {
+        final CSVFormat format = CSVHelper.getCsvFormat(configuration);
+        final LineSplitter splitter = line -> {
+            try {
+                return CSVParser.parse(line, format).getRecords().get(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        consume(DefaultRecordReader.of(recordBuilderFactory, configuration.getLineConfiguration(), splitter),
+                blackhole);
+    }
+
+    @Benchmark
+    public void tokenizerRecords(final Blackhole blackhole) throws IOException {
+        consume(new CSVReaderSupplier().getReader(recordBuilderFactory, configuration), blackhole);
+    }
+
+    private void consume(final RecordReader reader, final Blackhole blackhole) throws IOException {
+        try (InputStream in = open()) {
+            final Iterator<Record> records = reader.read(in);
+            while (records.hasNext()) {
+                blackhole.consume(records.next());
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private InputStream open() throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CSVTokenizerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.HeaderLine;
+import org.talend.components.common.stream.format.LineConfiguration;
+import org.talend.components.common.stream.format.csv.CSVConfiguration;
+import org.talend.components.common.stream.format.csv.FieldSeparator;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class CSVTokenizerTest {
+
+    private static List<List<String>> tokenize(String content, String separator, int bufferSize) {
+        final CSVTokenizer tokenizer =
+                new CSVTokenizer(new StringReader(content), ',', '"', '\\', separator, bufferSize);
+        final List<List<String>> records = new ArrayList<>();
+        tokenizer.forEachRemaining(records::add);
+        return records;
+    }
+
+    // small buffers force the refill in the middle of values and separators
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 1024 })
+    void tokenize(int bufferSize) {
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("a", "b", "c"), Arrays.asList("d", "", "e\"x")),
+                tokenize("a,b,c\nd,,\"e\"\"x\"\n", "\n", bufferSize));
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("multi\nline", "2"), Collections.emptyList(),
+                        Collections.singletonList("last")),
+                tokenize("\"multi\nline\",2\n\nlast", "\n", bufferSize));
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d\r\ne")),
+                tokenize("a,b\r\nc,\"d\r\ne\"\r\n", "\r\n", bufferSize));
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("John \"Da Man\"", "Repici"), Arrays.asList("", "Blank")),
+                tokenize("\"John \\\"Da Man\\\"\",Repici|\"\",Blank", "|", bufferSize));
+
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList("a\nb", "c\\qd", "")),
+                tokenize("a\\nb,c\\qd,", "\n", bufferSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 1024 })
+    void crlfWithLineFeedSeparator(int bufferSize) {
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("a", "b"), Collections.emptyList(), Arrays.asList("c", "d\r\ne"),
+                        Arrays.asList("f", "g")),
+                tokenize("a,b\r\n\r\nc,\"d\r\ne\"\r\nf,g\r", "\n", bufferSize));
+
+        // a CR inside a line is kept
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList("a\rb", "c")),
+                tokenize("a\rb,c\r\n", "\n", bufferSize));
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")),
+                tokenize("a,b\r|c", "|", bufferSize));
+    }
+
+    @Test
+    void unclosedQuote() {
+        Assertions.assertThrows(UncheckedIOException.class, () -> tokenize("a,\"b\nc", "\n", 16));
+        Assertions.assertThrows(UncheckedIOException.class, () -> tokenize("a,\"b\"c\n", "\n", 16));
+    }
+
+    @Test
+    void readerWithHeaderAndMultiLineValue() {
+        final CSVConfiguration configuration = new CSVConfiguration();
+        configuration.setFieldSeparator(new FieldSeparator());
+        configuration.getFieldSeparator().setFieldSeparatorType(FieldSeparator.Type.SEMICOLON);
+        configuration.setLineConfiguration(new LineConfiguration());
+        configuration.getLineConfiguration().setHeader(new HeaderLine());
+        configuration.getLineConfiguration().getHeader().setActive(true);
+        configuration.getLineConfiguration().getHeader().setSize(1);
+
+        final RecordReader reader =
+                new CSVReaderSupplier().getReader(new RecordBuilderFactoryImpl("test"), configuration);
+        final Iterator<Record> records = reader.read(new ByteArrayInputStream(
+                "id;comment\n1;\"first\nsecond\"\n2;single\n".getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertTrue(records.hasNext());
+        final Record first = records.next();
+        Assertions.assertEquals("1", first.getString("id"));
+        Assertions.assertEquals("first\nsecond", first.getString("comment"));
+        Assertions.assertEquals("single", records.next().getString("comment"));
+        Assertions.assertFalse(records.hasNext());
+        reader.close();
+    }
+}
@@ -44,7 +44,15 @@ public class LineToRecord implements LineTranslator<Record> {
      * @param headersLine header from header line.
      */
     public void withHeaders(String headersLine) {
-        final Iterable<String> headers = splitter.translate(headersLine);
+        this.withHeaders(splitter.translate(headersLine));
+    }
+
+    /**
+     * Build schema with header values, for readers which split the source themselves.
+     *
+     * @param headers values of header line.
+     */
+    public void withHeaders(Iterable<String> headers) {
         this.schemaBuilder.get(this.recordBuilderFactory, headers, true);
     }
 
@@ -54,7 +62,13 @@ public class LineToRecord implements LineTranslator<Record> {
         return this.build(fields);
     }
 
-    private Record build(Iterable<String> fields) {
+    /**
+     * Build record with values already split.
+     *
+     * @param fields values of the line.
+     * @return record.
+     */
+    public Record build(Iterable<String> fields) {
         final Schema schema = this.schemaBuilder.get(this.recordBuilderFactory, fields, false);
         final Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(schema);
 
@@ -32,7 +32,9 @@ import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @Documentation("This component reads data from cosmosDB.")
@@ -50,24 +52,47 @@ public class CosmosDBInput implements Serializable {
 
     private transient Iterator<Document> iterator;
 
+    private final List<String> partitionKeyRangeIds;
+
+    private transient Iterator<String> remainingRanges;
+
     public CosmosDBInput(@Option("configuration") final CosmosDBInputConfiguration configuration,
             final CosmosDBService service,
             final RecordBuilderFactory builderFactory) {
+        this(configuration, service, builderFactory, null);
+    }
+
+    /**
+     * @param partitionKeyRangeIds the partition key ranges to read one after the other, null for the whole
+     * collection.
+     */
+    public CosmosDBInput(final CosmosDBInputConfiguration configuration, final CosmosDBService service,
+            final RecordBuilderFactory builderFactory, final List<String> partitionKeyRangeIds) {
         this.configuration = configuration;
         this.service = service;
         this.builderFactory = builderFactory;
+        this.partitionKeyRangeIds = partitionKeyRangeIds;
     }
 
     @PostConstruct
     public void init() {
         this.jsonToRecord = new JsonToRecord(builderFactory, configuration.isJsonForceDouble());
         client = service.documentClientFrom(configuration.getDataset().getDatastore());
-        iterator = getResults(configuration.getDataset().getDatastore().getDatabaseID(),
-                configuration.getDataset().getCollectionID());
+        if (partitionKeyRangeIds == null) {
+            iterator = getResults(configuration.getDataset().getDatastore().getDatabaseID(),
+                    configuration.getDataset().getCollectionID(), null);
+        } else {
+            remainingRanges = partitionKeyRangeIds.iterator();
+            iterator = Collections.emptyIterator();
+        }
     }
 
     @Producer
     public Record next() {
+        while (!iterator.hasNext() && remainingRanges != null && remainingRanges.hasNext()) {
+            iterator = getResults(configuration.getDataset().getDatastore().getDatabaseID(),
+                    configuration.getDataset().getCollectionID(), remainingRanges.next());
+        }
         if (iterator.hasNext()) {
             Document next = iterator.next();
             JsonReader reader = Json.createReader(new StringReader(next.toJson()));
@@ -85,21 +110,32 @@ public class CosmosDBInput implements Serializable {
         }
     }
 
-    private Iterator<Document> getResults(String databaseName, String collectionName) {
+    Iterator<Document> getResults(String databaseName, String collectionName, String partitionKeyRangeId) {
         String collectionLink = String.format("/dbs/%s/colls/%s", databaseName, collectionName);
         FeedResponse<Document> queryResults;
+        FeedOptions queryOptions = feedOptions(partitionKeyRangeId);
         if (configuration.getDataset().isUseQuery()) {
-            // Set some common query options
-            FeedOptions queryOptions = new FeedOptions();
-            queryOptions.setPageSize(-1);
-            queryOptions.setEnableCrossPartitionQuery(true);
             log.debug("query: " + configuration.getDataset().getQuery());
             queryResults =
                     this.client.queryDocuments(collectionLink, configuration.getDataset().getQuery(), queryOptions);
             log.info("Query [{}] execution success.", configuration.getDataset().getQuery());
         } else {
-            queryResults = client.readDocuments(collectionLink, null);
+            queryResults = client.readDocuments(collectionLink, queryOptions);
         }
         return queryResults.getQueryIterator();
     }
+
+    /**
+     * Query options reading only the given partition key range, or all of them when it is null.
+     */
+    FeedOptions feedOptions(String partitionKeyRangeId) {
+        FeedOptions queryOptions = new FeedOptions();
+        queryOptions.setPageSize(configuration.getPageSize());
+        if (partitionKeyRangeId != null) {
+            queryOptions.setPartitionKeyRangeIdInternal(partitionKeyRangeId);
+        } else {
+            queryOptions.setEnableCrossPartitionQuery(true);
+        }
+        return queryOptions;
+    }
 }
\ No newline at end of file
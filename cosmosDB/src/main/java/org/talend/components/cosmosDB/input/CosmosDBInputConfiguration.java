@@ -16,6 +16,7 @@ import lombok.Data;
 import org.talend.components.cosmosDB.dataset.QueryDataset;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.DefaultValue;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayouts;
@@ -28,7 +29,7 @@ import java.io.Serializable;
 @GridLayouts({ @GridLayout({ @GridLayout.Row({ "dataset" }), //
 }), @GridLayout(names = GridLayout.FormType.ADVANCED,
         value = { @GridLayout.Row({ "dataset" }),
-                @GridLayout.Row({ "jsonForceDouble" }) }) })
+                @GridLayout.Row({ "jsonForceDouble" }), @GridLayout.Row({ "pageSize" }) }) })
 @Documentation("cosmosDB input Mapper Configuration")
 public class CosmosDBInputConfiguration implements Serializable {
 
@@ -41,4 +42,9 @@ public class CosmosDBInputConfiguration implements Serializable {
     @Documentation("Force json number to double.")
     private boolean jsonForceDouble = true;
 
+    @Option
+    @Min(-1)
+    @Documentation("Maximum number of documents fetched per request, -1 lets the service size the pages.")
+    private int pageSize = -1;
+
 }
\ No newline at end of file
@@ -20,56 +20,131 @@ import org.talend.sdk.component.api.input.*;
 import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
+import com.microsoft.azure.documentdb.DocumentClient;
+import com.microsoft.azure.documentdb.DocumentClientException;
+import com.microsoft.azure.documentdb.DocumentCollection;
+import com.microsoft.azure.documentdb.PartitionKeyRange;
+import com.microsoft.azure.documentdb.RequestOptions;
+import com.microsoft.azure.documentdb.ResourceResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static java.util.Collections.singletonList;
 
+@Slf4j
 @Version(1)
 @Icon(value = Icon.IconType.CUSTOM, custom = "CosmosDB-input")
 @PartitionMapper(name = "SQLAPIInput")
 @Documentation("cosmosDB input Mapper")
 public class CosmosDBInputMapper implements Serializable {
 
+    /**
+     * Queries whose result depends on documents of several partitions can't be evaluated range by range.
+     */
+    private static final Pattern CROSS_PARTITION_CLAUSE = Pattern.compile(
+            "\\b(ORDER\\s+BY|GROUP\\s+BY|TOP|DISTINCT|OFFSET|COUNT|SUM|AVG|MIN|MAX)\\b", Pattern.CASE_INSENSITIVE);
+
     private final CosmosDBInputConfiguration configuration;
 
     private final CosmosDBService service;
 
     private final RecordBuilderFactory recordBuilderFactory;
 
+    /**
+     * Partition key ranges read by this mapper, null to read the whole collection.
+     */
+    private final List<String> partitionKeyRangeIds;
+
     public CosmosDBInputMapper(@Option("configuration") final CosmosDBInputConfiguration configuration,
             final CosmosDBService service, final RecordBuilderFactory recordBuilderFactory) {
+        this(configuration, service, recordBuilderFactory, null);
+    }
+
+    private CosmosDBInputMapper(final CosmosDBInputConfiguration configuration, final CosmosDBService service,
+            final RecordBuilderFactory recordBuilderFactory, final List<String> partitionKeyRangeIds) {
         this.configuration = configuration;
         this.service = service;
         this.recordBuilderFactory = recordBuilderFactory;
+        this.partitionKeyRangeIds = partitionKeyRangeIds;
     }
 
     @Assessor
     public long estimateSize() {
-        // this method should return the estimation of the dataset size
-        // it is recommended to return a byte value
-        // if you don't have the exact size you can use a rough estimation
-        return 1L;
+        try (DocumentClient client = service.documentClientFrom(configuration.getDataset().getDatastore())) {
+            RequestOptions options = new RequestOptions();
+            options.setPopulateQuotaInfo(true);
+            ResourceResponse<DocumentCollection> response = client.readCollection(collectionLink(), options);
+            // usage is reported in KB
+            return Math.max(1L, response.getDocumentUsage() * 1024);
+        } catch (DocumentClientException e) {
+            log.warn("Can't read the statistics of collection {}: {}", configuration.getDataset().getCollectionID(),
+                    e.getMessage());
+            return 1L;
+        }
     }
 
     @Split
     public List<CosmosDBInputMapper> split(@PartitionSize final long bundles) {
-        // overall idea here is to split the work related to configuration in bundles of size "bundles"
-        //
-        // for instance if your estimateSize() returned 1000 and you can run on 10 nodes
-        // then the environment can decide to run it concurrently (10 * 100).
-        // In this case bundles = 100 and we must try to return 10 CosmosDBInputMapper with 1/10 of the overall work
-        // each.
-        //
-        // default implementation returns this which means it doesn't support the work to be split
-        return singletonList(this);
+        if (partitionKeyRangeIds != null || bundles <= 0 || !isSplittable()) {
+            return singletonList(this);
+        }
+        long wanted = (estimateSize() + bundles - 1) / bundles;
+        if (wanted <= 1) {
+            return singletonList(this);
+        }
+        List<String> rangeIds = new ArrayList<>();
+        try (DocumentClient client = service.documentClientFrom(configuration.getDataset().getDatastore())) {
+            for (PartitionKeyRange range : client.readPartitionKeyRanges(collectionLink(), null).getQueryIterable()) {
+                rangeIds.add(range.getId());
+            }
+        }
+        List<List<String>> slices = sliceRanges(rangeIds, wanted);
+        if (slices.size() <= 1) {
+            return singletonList(this);
+        }
+        List<CosmosDBInputMapper> mappers = new ArrayList<>(slices.size());
+        for (List<String> slice : slices) {
+            mappers.add(new CosmosDBInputMapper(configuration, service, recordBuilderFactory, slice));
+        }
+        return mappers;
+    }
+
+    /**
+     * Cut the ranges in at most wanted contiguous slices, the first ones taking the remainder.
+     */
+    static List<List<String>> sliceRanges(final List<String> rangeIds, final long wanted) {
+        int workers = (int) Math.min(rangeIds.size(), Math.max(1L, wanted));
+        List<List<String>> slices = new ArrayList<>(workers);
+        int start = 0;
+        for (int i = 0; i < workers; i++) {
+            int end = start + rangeIds.size() / workers + (i < rangeIds.size() % workers ? 1 : 0);
+            slices.add(new ArrayList<>(rangeIds.subList(start, end)));
+            start = end;
+        }
+        return slices;
+    }
+
+    List<String> getPartitionKeyRangeIds() {
+        return partitionKeyRangeIds;
     }
 
     @Emitter
     public CosmosDBInput createWorker() {
-        // here we create an actual worker,
-        // you are free to rework the configuration etc but our default generated implementation
-        // propagates the partition mapper entries.
-        return new CosmosDBInput(configuration, service, recordBuilderFactory);
+        return new CosmosDBInput(configuration, service, recordBuilderFactory, partitionKeyRangeIds);
+    }
+
+    private boolean isSplittable() {
+        return !configuration.getDataset().isUseQuery()
+                || !CROSS_PARTITION_CLAUSE.matcher(configuration.getDataset().getQuery()).find();
+    }
+
+    private String collectionLink() {
+        return String.format("/dbs/%s/colls/%s", configuration.getDataset().getDatastore().getDatabaseID(),
+                configuration.getDataset().getCollectionID());
     }
-}
\ No newline at end of file
+}
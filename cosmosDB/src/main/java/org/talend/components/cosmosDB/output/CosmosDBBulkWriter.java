@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.cosmosDB.output;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.talend.sdk.component.api.record.Record;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers records and writes them in parallel. Records sharing a partition key value are written sequentially by
+ * the same task so that concurrent requests are spread over the partitions instead of piling up on a hot one.
+ * Records without a partition key value are grouped by document id, so that the last record of an id still wins, and
+ * records with neither are written independently.
+ */
+@Slf4j
+class CosmosDBBulkWriter {
+
+    private static final String ID = "id";
+
+    private final OutputParserFactory.IOutputParser parser;
+
+    private final Function<Record, Object> partitionKeyOf;
+
+    private final ExecutorService executor;
+
+    private final int batchSize;
+
+    private final List<Record> batch;
+
+    CosmosDBBulkWriter(final OutputParserFactory.IOutputParser parser, final Function<Record, Object> partitionKeyOf,
+            final ExecutorService executor, final int batchSize) {
+        this.parser = parser;
+        this.partitionKeyOf = partitionKeyOf;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    void add(final Record rec) {
+        batch.add(rec);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all the buffered records and waits for them, the first failure is rethrown once every task ended.
+     */
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<List<Record>> groups = new ArrayList<>();
+        Map<Object, List<Record>> byPartitionKey = new LinkedHashMap<>();
+        Map<Object, List<Record>> byId = new LinkedHashMap<>();
+        for (Record rec : batch) {
+            Object key = partitionKeyOf.apply(rec);
+            Object id = key == null ? rec.get(Object.class, ID) : null;
+            if (key != null) {
+                byPartitionKey.computeIfAbsent(key, k -> new ArrayList<>()).add(rec);
+            } else if (id != null) {
+                byId.computeIfAbsent(id, k -> new ArrayList<>()).add(rec);
+            } else {
+                List<Record> single = new ArrayList<>(1);
+                single.add(rec);
+                groups.add(single);
+            }
+        }
+        groups.addAll(byPartitionKey.values());
+        groups.addAll(byId.values());
+        batch.clear();
+
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (List<Record> group : groups) {
+            futures.add(executor.submit(() -> group.forEach(parser::output)));
+        }
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                log.error("Failed to write documents: {}", e.getCause().getMessage());
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                            : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -14,6 +14,8 @@ package org.talend.components.cosmosDB.output;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -24,6 +26,7 @@ import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
 import org.talend.sdk.component.api.processor.Input;
 import org.talend.sdk.component.api.processor.Processor;
@@ -56,6 +59,10 @@ public class CosmosDBOutput implements Serializable {
 
     private OutputParserFactory.IOutputParser out;
 
+    private transient ExecutorService executor;
+
+    private transient CosmosDBBulkWriter bulkWriter;
+
     public CosmosDBOutput(@Option("configuration") final CosmosDBOutputConfiguration configuration,
             final CosmosDBService service) {
         this.configuration = configuration;
@@ -70,16 +77,42 @@ public class CosmosDBOutput implements Serializable {
         if (configuration.isCreateCollection()) {
             createDocumentCollectionIfNotExists();
         }
-        out = new OutputParserFactory(configuration, client).getOutputParser();
+        OutputParserFactory parserFactory = new OutputParserFactory(configuration, client);
+        out = parserFactory.getOutputParser();
+        if (configuration.getBatchSize() > 1) {
+            String partitionKeyPath = parserFactory.readPartitionKeyPath();
+            executor = Executors.newFixedThreadPool(configuration.getMaxConcurrentRequests(), r -> {
+                Thread thread = new Thread(r, "cosmosdb-output-" + configuration.getDataset().getCollectionID());
+                thread.setDaemon(true);
+                return thread;
+            });
+            bulkWriter = new CosmosDBBulkWriter(out,
+                    rec -> OutputParserFactory.getPartitionKeyValue(rec, partitionKeyPath), executor,
+                    configuration.getBatchSize());
+        }
     }
 
     @ElementListener
     public void onNext(@Input final Record rec) {
-        out.output(rec);
+        if (bulkWriter != null) {
+            bulkWriter.add(rec);
+        } else {
+            out.output(rec);
+        }
+    }
+
+    @AfterGroup
+    public void afterGroup() {
+        if (bulkWriter != null) {
+            bulkWriter.flush();
+        }
     }
 
     @PreDestroy
     public void release() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         if (client != null) {
             client.close();
         }
@@ -21,6 +21,7 @@ import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.condition.ActiveIfs;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayouts;
 import org.talend.sdk.component.api.meta.Documentation;
@@ -36,7 +37,8 @@ import lombok.Data;
 }),
         @GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "dataset" }),
                 @GridLayout.Row({ "offerThroughput" }), @GridLayout.Row({ "partitionKey" }),
-                @GridLayout.Row({ "partitionKeyForDelete" }) }) })
+                @GridLayout.Row({ "partitionKeyForDelete" }), @GridLayout.Row({ "batchSize", "maxConcurrentRequests" }),
+                @GridLayout.Row({ "throttlingRetries" }) }) })
 @Documentation("cosmosDB output configuration")
 public class CosmosDBOutputConfiguration implements Serializable {
 
@@ -75,4 +77,19 @@ public class CosmosDBOutputConfiguration implements Serializable {
     @ActiveIf(target = "dataAction", value = { "INSERT", "UPSERT" })
     private boolean autoIDGeneration;
 
+    @Option
+    @Min(1)
+    @Documentation("Number of records buffered before being written in parallel, 1 writes each record as it comes")
+    private int batchSize = 1;
+
+    @Option
+    @Min(1)
+    @Documentation("Maximum number of write requests sent at the same time for a batch")
+    private int maxConcurrentRequests = 8;
+
+    @Option
+    @Min(0)
+    @Documentation("How many times a request throttled by the service (HTTP 429) is retried")
+    private int throttlingRetries = 9;
+
 }
@@ -12,13 +12,17 @@
  */
 package org.talend.components.cosmosDB.output;
 
+import java.util.Collection;
+
 import org.apache.commons.lang3.StringUtils;
+import org.talend.components.common.stream.output.json.RecordToJson;
 import org.talend.sdk.component.api.record.Record;
 
 import com.microsoft.azure.documentdb.Document;
 import com.microsoft.azure.documentdb.DocumentClient;
 import com.microsoft.azure.documentdb.DocumentClientException;
 import com.microsoft.azure.documentdb.PartitionKey;
+import com.microsoft.azure.documentdb.PartitionKeyDefinition;
 import com.microsoft.azure.documentdb.RequestOptions;
 
 import lombok.extern.slf4j.Slf4j;
@@ -26,19 +30,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OutputParserFactory {
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Wait used between two throttled attempts when the service does not send a retry-after delay.
+     */
+    private static final long DEFAULT_THROTTLING_BACKOFF_MS = 500;
+
     final String databaseName;
 
     final String collectionName;
 
     final CosmosDBOutputConfiguration configuration;
 
+    final String collectionLink;
+
     DocumentClient client;
 
+    private final RecordToJson recordToJson = new RecordToJson();
+
     public OutputParserFactory(final CosmosDBOutputConfiguration configuration, DocumentClient client) {
         this.configuration = configuration;
         this.client = client;
         databaseName = configuration.getDataset().getDatastore().getDatabaseID();
         collectionName = configuration.getDataset().getCollectionID();
+        collectionLink = String.format("/dbs/%s/colls/%s", databaseName, collectionName);
     }
 
     public IOutputParser getOutputParser() {
@@ -57,13 +73,74 @@ public class OutputParserFactory {
     }
 
     public String getJsonString(Record rec) {
-        String delegate = rec.toString();
-        log.debug("delegate: " + delegate);
-        if (delegate.startsWith("AvroRecord")) {
-            // To avoid import dependence of AvroRecord
-            return delegate.substring(20, delegate.length() - 1);
+        return recordToJson.fromRecord(rec).toString();
+    }
+
+    /**
+     * @return the first path of the collection partition key definition, null when the collection is not
+     * partitioned or when its definition can't be read.
+     */
+    public String readPartitionKeyPath() {
+        try {
+            PartitionKeyDefinition definition =
+                    client.readCollection(collectionLink, null).getResource().getPartitionKey();
+            Collection<String> paths = definition == null ? null : definition.getPaths();
+            return paths == null || paths.isEmpty() ? null : paths.iterator().next();
+        } catch (DocumentClientException e) {
+            log.warn("Can't read the partition key of {}: {}", collectionName, e.getMessage());
+            return null;
         }
-        return delegate;
+    }
+
+    /**
+     * Resolves a partition key path such as {@code /address/city} against the record, null when absent.
+     */
+    public static Object getPartitionKeyValue(Record rec, String partitionKeyPath) {
+        if (StringUtils.isEmpty(partitionKeyPath)) {
+            return null;
+        }
+        String[] segments = StringUtils.removeStart(partitionKeyPath, "/").split("/");
+        Object value = rec;
+        for (String segment : segments) {
+            if (!(value instanceof Record)) {
+                return null;
+            }
+            value = ((Record) value).get(Object.class, segment);
+        }
+        return value;
+    }
+
+    /**
+     * Client side retries are disabled on the connection policy, throttled requests are retried here after the
+     * delay requested by the service, up to {@link CosmosDBOutputConfiguration#getThrottlingRetries()} times.
+     */
+    void callWithRetry(DocumentClientCall call) {
+        int attempts = 0;
+        while (true) {
+            try {
+                call.call();
+                return;
+            } catch (DocumentClientException e) {
+                if (e.getStatusCode() != TOO_MANY_REQUESTS || attempts++ >= configuration.getThrottlingRetries()) {
+                    throw new IllegalArgumentException(e);
+                }
+                long backoff = e.getRetryAfterInMilliseconds() > 0 ? e.getRetryAfterInMilliseconds()
+                        : DEFAULT_THROTTLING_BACKOFF_MS * attempts;
+                log.debug("Request throttled, retrying in {} ms.", backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ie);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface DocumentClientCall {
+
+        void call() throws DocumentClientException;
     }
 
     interface IOutputParser {
@@ -73,19 +150,15 @@ public class OutputParserFactory {
 
     class Insert implements IOutputParser {
 
-        String collectionLink = String.format("/dbs/%s/colls/%s", databaseName, collectionName);
-
         boolean disAbleautoID = !configuration.isAutoIDGeneration();
 
         @Override
         public void output(Record rec) {
             String jsonString = getJsonString(rec);
-            try {
+            callWithRetry(() -> {
                 Document document = new Document(jsonString);
                 client.createDocument(collectionLink, document, new RequestOptions(), disAbleautoID);
-            } catch (DocumentClientException e) {
-                throw new IllegalArgumentException(e);
-            }
+            });
         }
     }
 
@@ -105,11 +178,8 @@ public class OutputParserFactory {
         public void output(Record rec) {
             String id = rec.getString("id");
             final String documentLink = String.format("/dbs/%s/colls/%s/docs/%s", databaseName, collectionName, id);
-            try {
-                client.deleteDocument(documentLink, getPartitionKey(rec));
-            } catch (DocumentClientException e) {
-                throw new IllegalArgumentException(e);
-            }
+            RequestOptions requestOptions = getPartitionKey(rec);
+            callWithRetry(() -> client.deleteDocument(documentLink, requestOptions));
         }
 
         public RequestOptions getPartitionKey(Record rec) {
@@ -131,11 +201,7 @@ public class OutputParserFactory {
             String id = rec.getString("id");
             final String documentLink = String.format("/dbs/%s/colls/%s/docs/%s", databaseName, collectionName, id);
             String jsonString = getJsonString(rec);
-            try {
-                client.replaceDocument(documentLink, new Document(jsonString), new RequestOptions());
-            } catch (DocumentClientException e) {
-                throw new IllegalArgumentException(e);
-            }
+            callWithRetry(() -> client.replaceDocument(documentLink, new Document(jsonString), new RequestOptions()));
         }
     }
 
@@ -143,16 +209,11 @@ public class OutputParserFactory {
 
         boolean disAbleautoID = !configuration.isAutoIDGeneration();
 
-        String collectionLink = String.format("/dbs/%s/colls/%s", databaseName, collectionName);
-
         @Override
         public void output(Record rec) {
             String jsonString = getJsonString(rec);
-            try {
-                client.upsertDocument(collectionLink, new Document(jsonString), new RequestOptions(), disAbleautoID);
-            } catch (DocumentClientException e) {
-                throw new IllegalArgumentException(e);
-            }
+            callWithRetry(() -> client.upsertDocument(collectionLink, new Document(jsonString), new RequestOptions(),
+                    disAbleautoID));
         }
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.cosmosDB.input;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.talend.components.cosmosDB.dataset.QueryDataset;
+import org.talend.components.cosmosDB.datastore.CosmosDBDataStore;
+import org.talend.components.cosmosDB.service.CosmosDBService;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import com.microsoft.azure.documentdb.Document;
+import com.microsoft.azure.documentdb.DocumentClient;
+import com.microsoft.azure.documentdb.FeedOptions;
+
+class CosmosDBInputMapperTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void sliceWithLessBundlesThanRanges() {
+        Assertions.assertEquals(asList(asList("0", "1", "2"), asList("3", "4")),
+                CosmosDBInputMapper.sliceRanges(asList("0", "1", "2", "3", "4"), 2));
+        Assertions.assertEquals(asList(asList("0", "1"), asList("2", "3"), asList("4", "5")),
+                CosmosDBInputMapper.sliceRanges(asList("0", "1", "2", "3", "4", "5"), 3));
+    }
+
+    @Test
+    void sliceWithMoreBundlesThanRanges() {
+        Assertions.assertEquals(asList(singletonList("0"), singletonList("1"), singletonList("2")),
+                CosmosDBInputMapper.sliceRanges(asList("0", "1", "2"), 8));
+        Assertions.assertEquals(singletonList(asList("0", "1", "2")),
+                CosmosDBInputMapper.sliceRanges(asList("0", "1", "2"), 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "SELECT * FROM c ORDER BY c.id", "SELECT TOP 10 * FROM c",
+            "SELECT COUNT(1) FROM c", "SELECT DISTINCT c.name FROM c", "select max(c.age) from c",
+            "SELECT c.city, SUM(c.amount) FROM c GROUP BY c.city" })
+    void crossPartitionQueryIsNotSplit(final String query) {
+        // the service is not needed: the query is checked before anything is read from the collection
+        final CosmosDBInputMapper mapper = new CosmosDBInputMapper(configuration(true, query), null, factory);
+
+        final List<CosmosDBInputMapper> mappers = mapper.split(1L);
+
+        Assertions.assertEquals(1, mappers.size());
+        Assertions.assertSame(mapper, mappers.get(0));
+        Assertions.assertNull(mappers.get(0).getPartitionKeyRangeIds());
+    }
+
+    @Test
+    void readOnlyAssignedRanges() {
+        final List<String> readRanges = new ArrayList<>();
+        final CosmosDBInput input = new CosmosDBInput(configuration(true, "SELECT * FROM c"), new NoClientService(),
+                factory, asList("2", "3")) {
+
+            @Override
+            Iterator<Document> getResults(final String databaseName, final String collectionName,
+                    final String partitionKeyRangeId) {
+                readRanges.add(partitionKeyRangeId);
+                // the range 2 is empty
+                return "2".equals(partitionKeyRangeId) ? new ArrayList<Document>().iterator()
+                        : asList(new Document("{\"id\":\"a\"}"), new Document("{\"id\":\"b\"}")).iterator();
+            }
+        };
+        input.init();
+
+        final List<String> ids = new ArrayList<>();
+        Record record;
+        while ((record = input.next()) != null) {
+            ids.add(record.getString("id"));
+        }
+        input.release();
+
+        Assertions.assertEquals(asList("2", "3"), readRanges);
+        Assertions.assertEquals(asList("a", "b"), ids);
+    }
+
+    @Test
+    void feedOptionsOfRange() {
+        final CosmosDBInput input =
+                new CosmosDBInput(configuration(false, null), new NoClientService(), factory, singletonList("4"));
+
+        final FeedOptions rangeOptions = input.feedOptions("4");
+        Assertions.assertEquals("4", rangeOptions.getPartitionKeyRangeIdInternal());
+        Assertions.assertNotEquals(Boolean.TRUE, rangeOptions.getEnableCrossPartitionQuery());
+
+        final FeedOptions allOptions = input.feedOptions(null);
+        Assertions.assertNull(allOptions.getPartitionKeyRangeIdInternal());
+        Assertions.assertEquals(Boolean.TRUE, allOptions.getEnableCrossPartitionQuery());
+    }
+
+    private static CosmosDBInputConfiguration configuration(final boolean useQuery, final String query) {
+        final CosmosDBDataStore store = new CosmosDBDataStore();
+        store.setDatabaseID("db");
+        final QueryDataset dataset = new QueryDataset();
+        dataset.setDatastore(store);
+        dataset.setCollectionID("collection");
+        dataset.setUseQuery(useQuery);
+        if (query != null) {
+            dataset.setQuery(query);
+        }
+        final CosmosDBInputConfiguration configuration = new CosmosDBInputConfiguration();
+        configuration.setDataset(dataset);
+        return configuration;
+    }
+
+    private static class NoClientService extends CosmosDBService {
+
+        @Override
+        public DocumentClient documentClientFrom(final CosmosDBDataStore datastore) {
+            return null;
+        }
+    }
+}
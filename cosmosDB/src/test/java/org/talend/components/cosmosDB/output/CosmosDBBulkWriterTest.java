@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.cosmosDB.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class CosmosDBBulkWriterTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writesEveryRecordKeepingPartitionOrder() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CosmosDBBulkWriter writer = new CosmosDBBulkWriter(rec -> written.add(rec.getString("id")),
+                rec -> OutputParserFactory.getPartitionKeyValue(rec, "/pk"), executor, 4);
+
+        writer.add(record("1", "a"));
+        writer.add(record("2", "b"));
+        writer.add(record("3", "a"));
+        assertTrue(written.isEmpty());
+        // the batch is full, it is written before add returns
+        writer.add(record("4", null));
+        assertEquals(4, written.size());
+
+        writer.add(record("5", "a"));
+        writer.flush();
+        assertEquals(5, written.size());
+        List<String> partitionA = written.stream()
+                .filter(id -> Arrays.asList("1", "3").contains(id))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("1", "3"), partitionA);
+    }
+
+    @Test
+    void lastRecordOfAnIdWinsWithoutPartitionKey() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CosmosDBBulkWriter writer = new CosmosDBBulkWriter(rec -> {
+            if ("first".equals(rec.getString("version"))) {
+                // a slow first write would let the second one of a separate task pass it
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            written.add(rec.getString("id") + ":" + rec.getString("version"));
+        }, rec -> null, executor, 10);
+
+        writer.add(factory.newRecordBuilder().withString("id", "1").withString("version", "first").build());
+        writer.add(factory.newRecordBuilder().withString("id", "2").withString("version", "first").build());
+        writer.add(factory.newRecordBuilder().withString("id", "1").withString("version", "second").build());
+        writer.add(factory.newRecordBuilder().withString("version", "no id").build());
+        writer.flush();
+
+        assertEquals(4, written.size());
+        assertEquals(Arrays.asList("1:first", "1:second"), written.stream()
+                .filter(id -> id.startsWith("1:"))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void failureIsRethrownAfterTheBatch() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CosmosDBBulkWriter writer = new CosmosDBBulkWriter(rec -> {
+            if ("2".equals(rec.getString("id"))) {
+                throw new IllegalArgumentException("boom");
+            }
+            written.add(rec.getString("id"));
+        }, rec -> null, executor, 10);
+
+        writer.add(record("1", "a"));
+        writer.add(record("2", "a"));
+        writer.add(record("3", "a"));
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, writer::flush);
+        assertEquals("boom", error.getMessage());
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    void nestedPartitionKey() {
+        Record address = factory.newRecordBuilder().withString("city", "Nantes").build();
+        Record rec = factory.newRecordBuilder().withString("id", "1").withRecord("address", address).build();
+
+        assertEquals("Nantes", OutputParserFactory.getPartitionKeyValue(rec, "/address/city"));
+        assertNull(OutputParserFactory.getPartitionKeyValue(rec, "/id/city"));
+        assertNull(OutputParserFactory.getPartitionKeyValue(rec, null));
+    }
+
+    private Record record(String id, String partitionKey) {
+        Record.Builder builder = factory.newRecordBuilder().withString("id", id);
+        if (partitionKey != null) {
+            builder.withString("pk", partitionKey);
+        }
+        return builder.build();
+    }
+}
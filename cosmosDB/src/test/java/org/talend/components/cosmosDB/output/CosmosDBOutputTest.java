@@ -19,6 +19,7 @@ import org.talend.components.cosmosDB.datastore.CosmosDBDataStore;
 import org.talend.components.cosmosDB.input.CosmosDBInput;
 import org.talend.components.cosmosDB.input.CosmosDBInputConfiguration;
 import org.talend.components.cosmosDB.service.CosmosDBService;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.junit.environment.Environment;
@@ -71,4 +72,21 @@ class CosmosDBOutputTest {
         Assertions.assertNotNull(cfgCopy.getDataset());
         Assertions.assertEquals(dataset, cfgCopy.getDataset());
     }
+
+    @Test
+    void testJsonString() {
+        final CosmosDBOutputConfiguration cfg = new CosmosDBOutputConfiguration();
+        final QueryDataset dataset = new QueryDataset();
+        dataset.setDatastore(new CosmosDBDataStore());
+        cfg.setDataset(dataset);
+        final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+        final Record rec = factory.newRecordBuilder()
+                .withString("id", "1")
+                .withInt("count", 3)
+                .withRecord("nested", factory.newRecordBuilder().withBoolean("flag", true).build())
+                .build();
+
+        final String json = new OutputParserFactory(cfg, null).getJsonString(rec);
+        Assertions.assertEquals("{\"id\":\"1\",\"count\":3,\"nested\":{\"flag\":true}}", json);
+    }
 }
\ No newline at end of file
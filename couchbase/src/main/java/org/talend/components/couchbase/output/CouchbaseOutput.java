@@ -15,6 +15,8 @@ package org.talend.components.couchbase.output;
 import static com.couchbase.client.java.kv.MutateInSpec.upsert;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
@@ -26,11 +28,13 @@ import javax.annotation.PreDestroy;
 
 import org.talend.components.couchbase.dataset.DocumentType;
 import org.talend.components.couchbase.service.CouchbaseService;
+import org.talend.components.couchbase.service.I18nMessage;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.exception.ComponentException;
 import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
 import org.talend.sdk.component.api.processor.Input;
 import org.talend.sdk.component.api.processor.Processor;
@@ -38,17 +42,25 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 
 import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.core.error.ServerOutOfMemoryException;
+import com.couchbase.client.core.error.TemporaryFailureException;
+import com.couchbase.client.core.error.TimeoutException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.codec.RawBinaryTranscoder;
 import com.couchbase.client.java.codec.RawStringTranscoder;
 import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.MutateInSpec;
 import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryOptions;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Version(1)
 @Slf4j
@@ -67,12 +79,24 @@ public class CouchbaseOutput implements Serializable {
 
     private final CouchbaseService service;
 
+    private final I18nMessage i18n;
+
+    private transient List<Record> batch;
+
     private static final String CONTENT_FIELD_NAME = "content";
 
+    /**
+     * Server side limit of the number of paths a single sub-document mutation can carry.
+     */
+    private static final int MAX_MUTATE_IN_SPECS = 16;
+
+    private static final Duration FIRST_RETRY_BACKOFF = Duration.ofMillis(100);
+
     public CouchbaseOutput(@Option("configuration") final CouchbaseOutputConfiguration configuration,
-            final CouchbaseService service) {
+            final CouchbaseService service, final I18nMessage i18n) {
         this.configuration = configuration;
         this.service = service;
+        this.i18n = i18n;
     }
 
     @PostConstruct
@@ -81,6 +105,9 @@ public class CouchbaseOutput implements Serializable {
         Bucket bucket = cluster.bucket(configuration.getDataSet().getBucket());
         collection = bucket.defaultCollection();
         idFieldName = configuration.getIdFieldName();
+        if (isBatchMode()) {
+            batch = new ArrayList<>(configuration.getBatchSize());
+        }
     }
 
     @ElementListener
@@ -98,6 +125,11 @@ public class CouchbaseOutput implements Serializable {
                 log.error("N1QL failed: {}.", ex.getMessage());
                 throw new ComponentException(ex.getMessage());
             }
+        } else if (isBatchMode()) {
+            batch.add(rec);
+            if (batch.size() >= configuration.getBatchSize()) {
+                flush();
+            }
         } else {
             if (configuration.isPartialUpdate()) {
                 updatePartiallyDocument(rec);
@@ -115,11 +147,82 @@ public class CouchbaseOutput implements Serializable {
         }
     }
 
+    @AfterGroup
+    public void afterGroup() {
+        if (isBatchMode()) {
+            flush();
+        }
+    }
+
     @PreDestroy
     public void release() {
         service.closeConnection(configuration.getDataSet().getDatastore());
     }
 
+    private boolean isBatchMode() {
+        return !configuration.isUseN1QLQuery() && configuration.getBatchSize() > 1;
+    }
+
+    /**
+     * Sends the mutations of the buffered records through the reactive API, at most
+     * {@link CouchbaseOutputConfiguration#getMaxConcurrentMutations()} at a time. Every document is attempted even
+     * when some fail, failures are then reported together.
+     */
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ReactiveCollection reactiveCollection = collection.reactive();
+        Retry retry = Retry.backoff(configuration.getMutationRetries(), FIRST_RETRY_BACKOFF)
+                .filter(CouchbaseOutput::isTransient)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        List<String> failures = Flux.fromIterable(batch)
+                .flatMap(rec -> Mono.defer(() -> mutate(reactiveCollection, rec))
+                        .retryWhen(retry)
+                        .then(Mono.<String> empty())
+                        .onErrorResume(e -> Mono.just(i18n.documentWriteFailed(rec.getString(idFieldName),
+                                e.getMessage()))),
+                        configuration.getMaxConcurrentMutations())
+                .collectList()
+                .block();
+        int total = batch.size();
+        batch.clear();
+        if (failures != null && !failures.isEmpty()) {
+            failures.forEach(log::error);
+            throw new ComponentException(i18n.documentsWriteFailed(failures.size(), total, failures.get(0)));
+        }
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TimeoutException || e instanceof TemporaryFailureException
+                || e instanceof ServerOutOfMemoryException;
+    }
+
+    private Mono<?> mutate(ReactiveCollection reactiveCollection, Record rec) {
+        String id = rec.getString(idFieldName);
+        if (configuration.isPartialUpdate()) {
+            List<MutateInSpec> specs = rec.getSchema()
+                    .getEntries()
+                    .stream()
+                    .filter(e -> !idFieldName.equals(e.getName()))
+                    .map(e -> upsert(e.getName(), jsonValueFromRecordValue(e, rec)))
+                    .collect(Collectors.toList());
+            List<List<MutateInSpec>> chunks = new ArrayList<>();
+            for (int i = 0; i < specs.size(); i += MAX_MUTATE_IN_SPECS) {
+                chunks.add(specs.subList(i, Math.min(specs.size(), i + MAX_MUTATE_IN_SPECS)));
+            }
+            return Flux.fromIterable(chunks).concatMap(chunk -> reactiveCollection.mutateIn(id, chunk)).then();
+        }
+        if (configuration.getDataSet().getDocumentType() == DocumentType.BINARY) {
+            return reactiveCollection.upsert(id, rec.getBytes(CONTENT_FIELD_NAME),
+                    UpsertOptions.upsertOptions().transcoder(RawBinaryTranscoder.INSTANCE));
+        } else if (configuration.getDataSet().getDocumentType() == DocumentType.STRING) {
+            return reactiveCollection.upsert(id, rec.getString(CONTENT_FIELD_NAME),
+                    UpsertOptions.upsertOptions().transcoder(RawStringTranscoder.INSTANCE));
+        }
+        return reactiveCollection.upsert(id, buildJsonObjectWithoutId(rec));
+    }
+
     private void updatePartiallyDocument(Record rec) {
         rec.getSchema()
                 .getEntries()
@@ -20,6 +20,7 @@ import org.talend.components.couchbase.dataset.CouchbaseDataSet;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.configuration.ui.widget.Code;
 import org.talend.sdk.component.api.configuration.ui.widget.TextArea;
@@ -33,7 +34,8 @@ import lombok.Data;
         @GridLayout.Row({ "idFieldName", "partialUpdate" }), @GridLayout.Row({ "useN1QLQuery" }),
         @GridLayout.Row({ "query" }),
         @GridLayout.Row({ "queryParams" }), })
-@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "dataSet" }) })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "dataSet" }),
+        @GridLayout.Row({ "batchSize", "maxConcurrentMutations" }), @GridLayout.Row({ "mutationRetries" }) })
 @Documentation("Couchbase output configuration.")
 public class CouchbaseOutputConfiguration implements Serializable {
 
@@ -67,4 +69,23 @@ public class CouchbaseOutputConfiguration implements Serializable {
     @Documentation("N1QL Query Parameters.")
     private List<N1QLQueryParameter> queryParams = Collections.emptyList();
 
+    @Option
+    @Min(1)
+    @ActiveIf(target = "useN1QLQuery", value = "false")
+    @Documentation("Number of records buffered before their mutations are sent together, 1 writes each record as it "
+            + "comes.")
+    private int batchSize = 1;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "useN1QLQuery", value = "false")
+    @Documentation("Maximum number of mutations of a batch in flight at the same time.")
+    private int maxConcurrentMutations = 32;
+
+    @Option
+    @Min(0)
+    @ActiveIf(target = "useN1QLQuery", value = "false")
+    @Documentation("How many times a batched mutation failing on a timeout or a temporary failure is retried.")
+    private int mutationRetries = 2;
+
 }
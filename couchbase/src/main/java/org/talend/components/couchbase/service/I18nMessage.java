@@ -46,4 +46,8 @@ public interface I18nMessage {
     String connectionKODetailed(String details);
 
     String unexpectedValue(String parameterValue);
+
+    String documentWriteFailed(String id, String message);
+
+    String documentsWriteFailed(int failed, int total, String firstError);
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -42,11 +43,12 @@ import com.couchbase.client.core.error.CouchbaseException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
-import com.couchbase.client.java.analytics.AnalyticsResult;
+import com.couchbase.client.java.analytics.ReactiveAnalyticsResult;
 import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.manager.query.CreatePrimaryQueryIndexOptions;
-import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -68,6 +70,17 @@ public class CouchbaseInput implements Serializable {
 
     private Set<String> columnsSet;
 
+    /**
+     * Number of rows requested at once from the reactive result, it bounds the rows buffered ahead of the producer.
+     */
+    private static final int ROWS_PREFETCH = 256;
+
+    private final String lowerBound;
+
+    private final String upperBound;
+
+    private transient Stream<JsonObject> queryResults;
+
     private transient Iterator<JsonObject> queryResultsIterator = null;
 
     private transient Collection collection;
@@ -76,10 +89,22 @@ public class CouchbaseInput implements Serializable {
 
     public CouchbaseInput(@Option("configuration") final CouchbaseInputConfiguration configuration,
             final CouchbaseService service, final RecordBuilderFactory builderFactory, final I18nMessage i18n) {
+        this(configuration, service, builderFactory, i18n, null, null);
+    }
+
+    /**
+     * Reads only the documents whose meta().id is in [lowerBound, upperBound), a null bound leaves that side open.
+     * Bounds are only honoured for {@link SelectAction#ALL}.
+     */
+    public CouchbaseInput(final CouchbaseInputConfiguration configuration, final CouchbaseService service,
+            final RecordBuilderFactory builderFactory, final I18nMessage i18n, final String lowerBound,
+            final String upperBound) {
         this.configuration = configuration;
         this.service = service;
         this.builderFactory = builderFactory;
         this.i18n = i18n;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
     }
 
     @PostConstruct
@@ -95,46 +120,65 @@ public class CouchbaseInput implements Serializable {
         columnsSet = new HashSet<>();
 
         if (configuration.getSelectAction() == SelectAction.ANALYTICS) {
-            AnalyticsResult analyticsResult = null;
+            ReactiveAnalyticsResult analyticsResult = null;
             try {
-                analyticsResult = cluster.analyticsQuery(configuration.getQuery());
+                analyticsResult = cluster.reactive().analyticsQuery(configuration.getQuery()).block();
             } catch (CouchbaseException e) {
                 LOG.error(i18n.queryResultError(e.getMessage()));
                 throw new ComponentException(i18n.queryResultError(e.getMessage()));
             }
-            queryResultsIterator = analyticsResult.rowsAsObject().iterator();
+            queryResults = analyticsResult.rowsAsObject().toStream(ROWS_PREFETCH);
         } else {
             // DSL API (Statement, AsPath classes etc. was deprecated, cannot use it anymore!)
             // In most cases, a simple string statement is the best replacement.
 
-            QueryResult n1qlResult;
+            // the reactive API emits the result once its header is received, rows are then pulled with backpressure
+            // instead of being all buffered in memory before the first one is returned
+            ReactiveQueryResult n1qlResult;
             StringBuilder statementBuilder;
             switch (configuration.getSelectAction()) {
             case ALL:
                 statementBuilder = new StringBuilder();
                 statementBuilder.append("SELECT meta().id as `_meta_id_`, * FROM `").append(bucket.name()).append("`");
+                JsonObject parameters = JsonObject.create();
+                if (lowerBound != null) {
+                    parameters.put("lower", lowerBound);
+                }
+                if (upperBound != null) {
+                    parameters.put("upper", upperBound);
+                }
+                if (lowerBound != null && upperBound != null) {
+                    statementBuilder.append(" WHERE meta().id >= $lower AND meta().id < $upper");
+                } else if (lowerBound != null) {
+                    statementBuilder.append(" WHERE meta().id >= $lower");
+                } else if (upperBound != null) {
+                    statementBuilder.append(" WHERE meta().id < $upper");
+                }
                 if (!configuration.getLimit().isEmpty()) {
                     statementBuilder.append(" LIMIT ").append(configuration.getLimit().trim());
                 }
-                n1qlResult = cluster.query(statementBuilder.toString());
+                n1qlResult = cluster.reactive()
+                        .query(statementBuilder.toString(), QueryOptions.queryOptions().parameters(parameters))
+                        .block();
                 break;
             case N1QL:
                 /*
                  * should contain "meta().id as `_meta_id_`" field for non-json (binary) documents
                  */
-                n1qlResult = cluster.query(configuration.getQuery());
+                n1qlResult = cluster.reactive().query(configuration.getQuery()).block();
                 break;
             case ONE:
                 statementBuilder = new StringBuilder();
                 statementBuilder.append("SELECT meta().id as `_meta_id_`, * FROM `").append(bucket.name()).append("`");
                 statementBuilder.append(" USE KEYS \"").append(configuration.getDocumentId()).append("\"");
-                n1qlResult = cluster.query(statementBuilder.toString());
+                n1qlResult = cluster.reactive().query(statementBuilder.toString()).block();
                 break;
             default:
                 throw new ComponentException("Select action: '" + configuration.getSelectAction() + "' is unsupported");
             }
-            queryResultsIterator = n1qlResult.rowsAsObject().iterator();
+            queryResults = n1qlResult.rowsAsObject().toStream(ROWS_PREFETCH);
         }
+        queryResultsIterator = queryResults.iterator();
     }
 
     @Producer
@@ -193,6 +237,10 @@ public class CouchbaseInput implements Serializable {
 
     @PreDestroy
     public void release() {
+        if (queryResults != null) {
+            // cancels the underlying subscription when the results were not fully consumed
+            queryResults.close();
+        }
         service.closeConnection(configuration.getDataSet().getDatastore());
     }
 
@@ -22,17 +22,34 @@ import org.talend.sdk.component.api.input.*;
 import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
+import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.manager.query.CreatePrimaryQueryIndexOptions;
+import com.couchbase.client.java.query.QueryOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
 
+@Slf4j
 @Version(value = 3, migrationHandler = CouchbaseInputMigrationHandler.class)
 @Icon(value = Icon.IconType.CUSTOM, custom = "couchbase-input")
 @PartitionMapper(name = "Input")
 @Documentation("Couchbase input Mapper")
 public class CouchbaseInputMapper implements Serializable {
 
+    /**
+     * Each boundary is found with an OFFSET scan of the primary index, so keep the number of ranges reasonable.
+     */
+    static final int MAX_PARTITIONS = 100;
+
+    private static final int SIZE_SAMPLE = 100;
+
     private final CouchbaseInputConfiguration configuration;
 
     private final CouchbaseService service;
@@ -41,41 +58,144 @@ public class CouchbaseInputMapper implements Serializable {
 
     private final I18nMessage i18nMessage;
 
+    /**
+     * Inclusive lower bound of the meta().id range read by this mapper, null when unbounded.
+     */
+    private final String lowerBound;
+
+    /**
+     * Exclusive upper bound of the meta().id range read by this mapper, null when unbounded.
+     */
+    private final String upperBound;
+
     public CouchbaseInputMapper(@Option("configuration") final CouchbaseInputConfiguration configuration,
             final CouchbaseService service, final RecordBuilderFactory recordBuilderFactory,
             final I18nMessage i18nMessage) {
+        this(configuration, service, recordBuilderFactory, i18nMessage, null, null);
+    }
+
+    private CouchbaseInputMapper(final CouchbaseInputConfiguration configuration, final CouchbaseService service,
+            final RecordBuilderFactory recordBuilderFactory, final I18nMessage i18nMessage, final String lowerBound,
+            final String upperBound) {
         this.configuration = configuration;
         this.service = service;
         this.recordBuilderFactory = recordBuilderFactory;
         this.i18nMessage = i18nMessage;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
     }
 
     @Assessor
     public long estimateSize() {
-        // this method should return the estimation of the dataset size
-        // it is recommended to return a byte value
-        // if you don't have the exact size you can use a rough estimation
-        return 1L;
+        if (!isSplittable()) {
+            return 1L;
+        }
+        try {
+            Cluster cluster = openCluster();
+            try {
+                String bucket = configuration.getDataSet().getBucket();
+                long count = countDocuments(cluster);
+                Double averageSize = cluster
+                        .query("SELECT RAW AVG(ENCODED_SIZE(s)) FROM (SELECT RAW b FROM `" + bucket + "` b LIMIT "
+                                + SIZE_SAMPLE + ") AS s")
+                        .rowsAs(Double.class)
+                        .stream()
+                        .findFirst()
+                        .orElse(null);
+                return averageSize == null ? count : Math.max(1L, Math.round(count * averageSize));
+            } finally {
+                service.closeConnection(configuration.getDataSet().getDatastore());
+            }
+        } catch (CouchbaseException e) {
+            log.warn(i18nMessage.queryResultError(e.getMessage()));
+            return 1L;
+        }
     }
 
     @Split
     public List<CouchbaseInputMapper> split(@PartitionSize final long bundles) {
-        // overall idea here is to split the work related to configuration in bundles of size "bundles"
-        //
-        // for instance if your estimateSize() returned 1000 and you can run on 10 nodes
-        // then the environment can decide to run it concurrently (10 * 100).
-        // In this case bundles = 100 and we must try to return 10 CouchbaseInputMapper with 1/10 of the overall work
-        // each.
-        //
-        // default implementation returns this which means it doesn't support the work to be split
-        return singletonList(this);
+        if (!isSplittable() || bundles <= 0) {
+            return singletonList(this);
+        }
+        long partitions = Math.min(MAX_PARTITIONS, (estimateSize() + bundles - 1) / bundles);
+        if (partitions <= 1) {
+            return singletonList(this);
+        }
+        try {
+            Cluster cluster = openCluster();
+            try {
+                List<String> boundaries = findBoundaries(cluster, countDocuments(cluster), (int) partitions);
+                List<CouchbaseInputMapper> mappers = new ArrayList<>(boundaries.size() + 1);
+                String lower = null;
+                for (String boundary : boundaries) {
+                    mappers.add(new CouchbaseInputMapper(configuration, service, recordBuilderFactory, i18nMessage,
+                            lower, boundary));
+                    lower = boundary;
+                }
+                mappers.add(new CouchbaseInputMapper(configuration, service, recordBuilderFactory, i18nMessage,
+                        lower, null));
+                return mappers;
+            } finally {
+                service.closeConnection(configuration.getDataSet().getDatastore());
+            }
+        } catch (CouchbaseException e) {
+            log.warn(i18nMessage.queryResultError(e.getMessage()));
+            return singletonList(this);
+        }
     }
 
     @Emitter
     public CouchbaseInput createWorker() {
-        // here we create an actual worker,
-        // you are free to rework the configuration etc but our default generated implementation
-        // propagates the partition mapper entries.
-        return new CouchbaseInput(configuration, service, recordBuilderFactory, i18nMessage);
+        return new CouchbaseInput(configuration, service, recordBuilderFactory, i18nMessage, lowerBound, upperBound);
+    }
+
+    /**
+     * Only a full bucket scan can be cut into meta().id ranges: custom N1QL and analytics queries are opaque, a
+     * single key lookup has nothing to split and a LIMIT would have to be distributed across the ranges.
+     */
+    private boolean isSplittable() {
+        return lowerBound == null && upperBound == null && configuration.getSelectAction() == SelectAction.ALL
+                && configuration.getLimit().trim().isEmpty();
+    }
+
+    private Cluster openCluster() {
+        Cluster cluster = service.openConnection(configuration.getDataSet().getDatastore());
+        if (configuration.isCreatePrimaryIndex()) {
+            cluster.queryIndexes()
+                    .createPrimaryIndex(configuration.getDataSet().getBucket(),
+                            CreatePrimaryQueryIndexOptions.createPrimaryQueryIndexOptions().ignoreIfExists(true));
+        }
+        return cluster;
+    }
+
+    private long countDocuments(Cluster cluster) {
+        return cluster
+                .query("SELECT RAW COUNT(*) FROM `" + configuration.getDataSet().getBucket() + "`")
+                .rowsAs(Long.class)
+                .stream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    /**
+     * Picks the document ids found at evenly spaced offsets of the primary index, duplicates (possible when
+     * documents are removed in between two lookups) are dropped so that no range is empty by construction.
+     */
+    private List<String> findBoundaries(Cluster cluster, long count, int partitions) {
+        String statement = "SELECT RAW meta().id FROM `" + configuration.getDataSet().getBucket()
+                + "` ORDER BY meta().id OFFSET $offset LIMIT 1";
+        List<String> boundaries = new ArrayList<>(partitions - 1);
+        for (int i = 1; i < partitions; i++) {
+            long offset = count * i / partitions;
+            cluster
+                    .query(statement,
+                            QueryOptions.queryOptions().parameters(JsonObject.create().put("offset", offset)))
+                    .rowsAs(String.class)
+                    .stream()
+                    .findFirst()
+                    .filter(id -> boundaries.isEmpty() || boundaries.get(boundaries.size() - 1).compareTo(id) < 0)
+                    .ifPresent(boundaries::add);
+        }
+        return boundaries;
     }
-}
\ No newline at end of file
+}
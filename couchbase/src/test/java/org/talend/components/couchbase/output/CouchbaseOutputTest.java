@@ -104,6 +104,29 @@ class CouchbaseOutputTest extends CouchbaseUtilTest {
         assertJsonEquals(new TestData(), resultList.get(0));
     }
 
+    @Test
+    @DisplayName("Check batched output writes every record")
+    void batchOutputTest() {
+        log.info("Test start: batchOutputTest");
+        final String BATCH_OUTPUT_TEST_ID = "batchOutputTest";
+        TestData testData = new TestData();
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(testData.createRecord(recordBuilderFactory, generateDocId(BATCH_OUTPUT_TEST_ID, i)));
+        }
+        componentsHandler.setInputData(records);
+        CouchbaseOutputConfiguration configuration = getOutputConfiguration();
+        // 10 records do not fill the last batch, it has to be flushed when the group ends
+        configuration.setBatchSize(4);
+        configuration.setMaxConcurrentMutations(2);
+        executeJob(configuration);
+
+        List<JsonObject> resultList = retrieveDataFromDatabase(BATCH_OUTPUT_TEST_ID, 10);
+
+        assertEquals(10, resultList.size());
+        resultList.forEach(json -> assertJsonEquals(testData, json));
+    }
+
     private void assertJsonEquals(TestData expected, JsonObject actual) {
         assertEquals(Integer.valueOf(expected.getColIntMin()), actual.getInt("t_int_min"));
         assertEquals(Integer.valueOf(expected.getColIntMax()), actual.getInt("t_int_max"));
@@ -15,13 +15,16 @@ package org.talend.components.couchbase.source;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.talend.sdk.component.junit.SimpleFactory.configurationByExample;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +38,8 @@ import org.talend.components.couchbase.configuration.ConnectionParameter;
 import org.talend.components.couchbase.dataset.CouchbaseDataSet;
 import org.talend.components.couchbase.dataset.DocumentType;
 import org.talend.components.couchbase.datastore.CouchbaseDataStore;
+import org.talend.components.couchbase.service.CouchbaseService;
+import org.talend.components.couchbase.service.I18nMessage;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.junit5.WithComponents;
 import org.talend.sdk.component.runtime.manager.chain.Job;
@@ -121,6 +126,42 @@ class CouchbaseInputTest extends CouchbaseUtilTest {
         assertOneRecord("1", data.get(0));
     }
 
+    @Test
+    @DisplayName("Split input reads every document exactly once")
+    void splitInputDataTest() {
+        log.info("Test start: splitInputDataTest");
+        String idPrefix = "splitInputDataTest";
+        Collection collection = couchbaseCluster.bucket(BUCKET_NAME).defaultCollection();
+        JsonObject json = createJsonObject("split");
+        int documents = 30;
+        for (int i = 0; i < documents; i++) {
+            collection.insert(generateDocId(idPrefix, i), json);
+        }
+
+        CouchbaseInputMapper mapper = new CouchbaseInputMapper(getInputConfiguration(),
+                componentsHandler.findService(CouchbaseService.class), recordBuilderFactory,
+                componentsHandler.findService(I18nMessage.class));
+        List<CouchbaseInputMapper> splits = mapper.split(Math.max(1, mapper.estimateSize() / 3));
+        assertTrue(splits.size() > 1);
+
+        List<String> ids = new ArrayList<>();
+        for (CouchbaseInputMapper split : splits) {
+            CouchbaseInput input = split.createWorker();
+            input.init();
+            try {
+                Record record;
+                while ((record = input.next()) != null) {
+                    ids.add(record.getString("_meta_id_"));
+                }
+            } finally {
+                input.release();
+            }
+        }
+        Set<String> distinctIds = new HashSet<>(ids);
+        assertEquals(ids.size(), distinctIds.size());
+        assertEquals(documents, distinctIds.stream().filter(id -> id.startsWith(idPrefix)).count());
+    }
+
     private void assertOneRecord(String id, Record record) {
         TestData testData = new TestData();
         assertEquals(testData.getColId() + id, record.getString("t_string"));
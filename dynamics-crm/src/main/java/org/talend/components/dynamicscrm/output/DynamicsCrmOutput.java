@@ -13,8 +13,11 @@
 package org.talend.components.dynamicscrm.output;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -37,10 +40,15 @@ import org.talend.sdk.component.api.component.Icon.IconType;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
 import org.talend.sdk.component.api.processor.Input;
+import org.talend.sdk.component.api.processor.Output;
+import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.processor.Processor;
 import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 @Version(value = 2, migrationHandler = DynamicsRuntimeMigrationHandler.class)
 @Icon(value = IconType.CUSTOM, custom = "azure-dynamics-connector")
@@ -48,6 +56,8 @@ import org.talend.sdk.component.api.record.Record;
 @Documentation("Azure Dynamics 365 output")
 public class DynamicsCrmOutput implements Serializable {
 
+    private static final String ERROR_MESSAGE = "errorMessage";
+
     private final DynamicsCrmOutputConfiguration configuration;
 
     private final DynamicsCrmService service;
@@ -58,27 +68,29 @@ public class DynamicsCrmOutput implements Serializable {
 
     private I18n i18n;
 
+    private final RecordBuilderFactory recordBuilderFactory;
+
     private List<String> fields;
 
     private EdmEntitySet entitySet;
 
     private RecordProcessor processor;
 
+    private transient ExecutorService executor;
+
+    private transient ParallelRecordWriter writer;
+
     public DynamicsCrmOutput(@Option("configuration") final DynamicsCrmOutputConfiguration configuration,
-            final DynamicsCrmService service, final I18n i18n) {
+            final DynamicsCrmService service, final I18n i18n, final RecordBuilderFactory recordBuilderFactory) {
         this.configuration = configuration;
         this.service = service;
         this.i18n = i18n;
+        this.recordBuilderFactory = recordBuilderFactory;
     }
 
     @PostConstruct
     public void init() {
-        try {
-            client = service
-                    .createClient(configuration.getDataset().getDatastore(), configuration.getDataset().getEntitySet());
-        } catch (AuthenticationException e) {
-            throw new DynamicsCrmException(i18n.authenticationFailed(e.getMessage()));
-        }
+        client = createClient();
         metadata = service.getMetadata(client);
         entitySet = metadata.getEntityContainer().getEntitySet(configuration.getDataset().getEntitySet());
         Set<String> possibleColumns = service
@@ -97,7 +109,33 @@ public class DynamicsCrmOutput implements Serializable {
                 .stream()
                 .filter(s -> possibleColumns.contains(client.extractNavigationLinkName(s)))
                 .collect(Collectors.toList());
-        processor = createProcessor(configuration.getAction());
+        processor = createProcessor(configuration.getAction(), client);
+        if (configuration.getBatchSize() > 1) {
+            // each writing thread gets its own client, the first one reuses the client opened above
+            List<RecordProcessor> processors = new ArrayList<>();
+            processors.add(processor);
+            for (int i = 1; i < configuration.getMaxConcurrentRequests(); i++) {
+                processors.add(createProcessor(configuration.getAction(), createClient()));
+            }
+            executor = Executors.newFixedThreadPool(processors.size(), r -> {
+                Thread thread = new Thread(r, "dynamics-crm-output-" + configuration.getDataset().getEntitySet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            // There is only one key in Dynamics CRM.
+            String keyName = entitySet.getEntityType().getKeyPropertyRefs().get(0).getName();
+            writer = new ParallelRecordWriter(processors, rec -> rec.getString(keyName), executor,
+                    configuration.getBatchSize(), configuration.getThrottlingRetries(), i18n);
+        }
+    }
+
+    private DynamicsCRMClient createClient() {
+        try {
+            return service
+                    .createClient(configuration.getDataset().getDatastore(), configuration.getDataset().getEntitySet());
+        } catch (AuthenticationException e) {
+            throw new DynamicsCrmException(i18n.authenticationFailed(e.getMessage()));
+        }
     }
 
     private Predicate<? super PropertyValidationData> getFilter() {
@@ -111,7 +149,7 @@ public class DynamicsCrmOutput implements Serializable {
         }
     }
 
-    private RecordProcessor createProcessor(Action action) {
+    private RecordProcessor createProcessor(Action action, DynamicsCRMClient client) {
         switch (action) {
         case DELETE:
             return new DeleteRecordProcessor(client, entitySet, i18n);
@@ -125,16 +163,52 @@ public class DynamicsCrmOutput implements Serializable {
     }
 
     @ElementListener
-    public void onNext(@Input final Record defaultInput) {
+    public void onNext(@Input final Record defaultInput, @Output("reject") final OutputEmitter<Record> reject) {
+        if (writer != null) {
+            reject(writer.add(defaultInput), reject);
+            return;
+        }
         try {
-            processor.processRecord(defaultInput);
+            ParallelRecordWriter.process(processor, defaultInput, configuration.getThrottlingRetries());
         } catch (ServiceUnavailableException e) {
             throw new DynamicsCrmException(i18n.failedToInsertEntity(e.getMessage()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamicsCrmException(e);
+        }
+    }
+
+    @AfterGroup
+    public void afterGroup(@Output("reject") final OutputEmitter<Record> reject) {
+        if (writer != null) {
+            reject(writer.flush(), reject);
+        }
+    }
+
+    private void reject(final List<ParallelRecordWriter.Failure> failures, final OutputEmitter<Record> reject) {
+        for (ParallelRecordWriter.Failure failure : failures) {
+            Record rec = failure.getRecord();
+            Schema.Builder schema = recordBuilderFactory.newSchemaBuilder(rec.getSchema());
+            if (rec.getSchema().getEntry(ERROR_MESSAGE) == null) {
+                schema.withEntry(recordBuilderFactory
+                        .newEntryBuilder()
+                        .withName(ERROR_MESSAGE)
+                        .withType(Schema.Type.STRING)
+                        .withNullable(true)
+                        .build());
+            }
+            reject.emit(recordBuilderFactory
+                    .newRecordBuilder(schema.build(), rec)
+                    .withString(ERROR_MESSAGE, failure.getMessage())
+                    .build());
         }
     }
 
     @PreDestroy
     public void release() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         client = null;
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.List;
 import org.talend.components.dynamicscrm.dataset.DynamicsCrmDataset;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.constraint.Required;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
@@ -29,7 +30,8 @@ import lombok.Data;
 @Data
 @GridLayout({ @GridLayout.Row({ "dataset" }), @GridLayout.Row({ "action" }), @GridLayout.Row({ "lookupMapping" }) })
 @GridLayout(names = ADVANCED, value = { @GridLayout.Row("dataset"), @GridLayout.Row("emptyStringToNull"),
-        @GridLayout.Row("ignoreNull") })
+        @GridLayout.Row("ignoreNull"), @GridLayout.Row({ "batchSize", "maxConcurrentRequests" }),
+        @GridLayout.Row("throttlingRetries") })
 @Documentation("Azure Dynamics 365 output configuration")
 public class DynamicsCrmOutputConfiguration implements Serializable {
 
@@ -62,6 +64,25 @@ public class DynamicsCrmOutputConfiguration implements Serializable {
     @Documentation("Fields to write to CRM")
     private List<String> columns;
 
+    @Option
+    @Min(1)
+    @Documentation("Number of records collected before being sent to Dynamics 365 over several connections, 1 sends "
+            + "each record as soon as it is received and stops at the first rejected record, while the records "
+            + "rejected in a batch are sent to the reject flow with an errorMessage")
+    private int batchSize = 1;
+
+    @Option
+    @Min(1)
+    @Documentation("Number of Web API connections sharing the records of a batch, records with the same key always "
+            + "use the same connection")
+    private int maxConcurrentRequests = 4;
+
+    @Option
+    @Min(0)
+    @Documentation("How many times a call refused by the Dynamics 365 service protection limits (HTTP 429) is sent "
+            + "again after the Retry-After delay")
+    private int throttlingRetries = 5;
+
     public enum Action {
         INSERT,
         UPSERT,
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.dynamicscrm.output;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import javax.naming.ServiceUnavailableException;
+
+import org.apache.http.Header;
+import org.apache.olingo.client.api.communication.ODataClientErrorException;
+import org.talend.components.dynamicscrm.service.DynamicsCrmException;
+import org.talend.components.dynamicscrm.service.I18n;
+import org.talend.sdk.component.api.record.Record;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers records and writes them with several processors at once, each processor owning its own client. Records
+ * sharing an entity key are written by the same processor in their input order, so the last record of a key wins as
+ * with one-by-one writes. A failed record does not stop the others, the failures of a batch are returned once it is
+ * written.
+ * <p>
+ * The records are sent as individual Web API calls rather than in an OData $batch request: the Dataverse service
+ * protection limits count each operation of a $batch as one request, so a $batch saves no throughput over the same
+ * requests sent in parallel.
+ */
+@Slf4j
+public class ParallelRecordWriter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Used when a throttled response carries no Retry-After header, service protection limits are evaluated over
+     * windows of several seconds.
+     */
+    private static final long DEFAULT_RETRY_AFTER_MS = 5000;
+
+    private final BlockingQueue<RecordProcessor> processors;
+
+    private final Function<Record, String> keyOf;
+
+    private final ExecutorService executor;
+
+    private final int batchSize;
+
+    private final int throttlingRetries;
+
+    private final I18n i18n;
+
+    private final List<Record> batch;
+
+    /**
+     * @param keyOf gives the entity key of a record, null when it has none (created entities) and can be written by
+     * any processor.
+     */
+    public ParallelRecordWriter(final List<RecordProcessor> processors, final Function<Record, String> keyOf,
+            final ExecutorService executor, final int batchSize, final int throttlingRetries, final I18n i18n) {
+        this.processors = new ArrayBlockingQueue<>(processors.size(), false, processors);
+        this.keyOf = keyOf;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.throttlingRetries = throttlingRetries;
+        this.i18n = i18n;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * @return the records rejected by Dynamics 365 when the batch was full and has been written, empty otherwise
+     */
+    public List<Failure> add(final Record rec) {
+        batch.add(rec);
+        if (batch.size() >= batchSize) {
+            return flush();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return the records of the batch rejected by Dynamics 365, in their input order
+     */
+    public List<Failure> flush() {
+        if (batch.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Record> records = new ArrayList<>(batch);
+        batch.clear();
+        // one lane of record positions per processor, a key always lands in the same lane
+        int laneCount = processors.size();
+        List<List<Integer>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (int position = 0; position < records.size(); position++) {
+            String key = keyOf.apply(records.get(position));
+            int lane = key == null ? position % laneCount : Math.floorMod(key.hashCode(), laneCount);
+            lanes.get(lane).add(position);
+        }
+        // sorted by position, so the rejected records come back in their input order
+        SortedMap<Integer, Failure> failures = Collections.synchronizedSortedMap(new TreeMap<>());
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Integer> lane : lanes) {
+            if (!lane.isEmpty()) {
+                futures.add(executor.submit(() -> write(records, lane, failures)));
+            }
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new DynamicsCrmException(e);
+            } catch (ExecutionException e) {
+                throw new DynamicsCrmException(e.getCause());
+            }
+        }
+        if (!failures.isEmpty()) {
+            int first = failures.firstKey();
+            log.warn(i18n.batchWriteFailed(failures.size(), records.size(),
+                    i18n.recordWriteFailed(first, failures.get(first).getMessage())));
+        }
+        return new ArrayList<>(failures.values());
+    }
+
+    private Void write(List<Record> records, List<Integer> positions, SortedMap<Integer, Failure> failures)
+            throws InterruptedException {
+        RecordProcessor processor = processors.take();
+        try {
+            for (int position : positions) {
+                try {
+                    process(processor, records.get(position), throttlingRetries);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error(i18n.recordWriteFailed(position, e.getMessage()));
+                    failures.put(position, new Failure(records.get(position), e.getMessage()));
+                }
+            }
+            return null;
+        } finally {
+            processors.put(processor);
+        }
+    }
+
+    /**
+     * A record rejected by Dynamics 365 with the reason of the rejection.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Failure {
+
+        private final Record record;
+
+        private final String message;
+    }
+
+    /**
+     * Processes a record, retrying it when the service answers 429 (service protection limits) after the delay
+     * given by its Retry-After header.
+     */
+    public static void process(final RecordProcessor processor, final Record rec, final int throttlingRetries)
+            throws ServiceUnavailableException, InterruptedException {
+        int attempts = 0;
+        while (true) {
+            try {
+                processor.processRecord(rec);
+                return;
+            } catch (RuntimeException | ServiceUnavailableException e) {
+                ODataClientErrorException throttled = findThrottlingError(e);
+                if (throttled == null || attempts++ >= throttlingRetries) {
+                    throw e;
+                }
+                long wait = retryAfter(throttled, attempts);
+                log.debug("Request throttled, retrying in {} ms.", wait);
+                Thread.sleep(wait);
+            }
+        }
+    }
+
+    private static ODataClientErrorException findThrottlingError(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof ODataClientErrorException
+                    && ((ODataClientErrorException) current).getStatusLine().getStatusCode() == TOO_MANY_REQUESTS) {
+                return (ODataClientErrorException) current;
+            }
+        }
+        return null;
+    }
+
+    private static long retryAfter(ODataClientErrorException throttled, int attempts) {
+        Header[] headers = throttled.getHeaderInfo();
+        if (headers != null) {
+            for (Header header : headers) {
+                if ("Retry-After".equalsIgnoreCase(header.getName())) {
+                    try {
+                        return Math.max(1L, Long.parseLong(header.getValue().trim())) * 1000;
+                    } catch (NumberFormatException e) {
+                        // an HTTP date, fall back on the default delay
+                    }
+                }
+            }
+        }
+        return DEFAULT_RETRY_AFTER_MS * attempts;
+    }
+}
@@ -34,4 +34,8 @@ public interface I18n {
     String failedToInsertEntity(String message);
 
     String idCannotBeNull(String keyFieldName);
+
+    String recordWriteFailed(int position, String message);
+
+    String batchWriteFailed(int failed, int total, String firstError);
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.dynamicscrm.output;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.talend.components.dynamicscrm.service.I18n;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.junit5.WithComponents;
+
+@WithComponents("org.talend.components.dynamicscrm")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ParallelRecordWriterTest {
+
+    @Service
+    private I18n i18n;
+
+    @Service
+    private RecordBuilderFactory recordBuilderFactory;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testAllRecordsWritten() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        RecordProcessor processor = rec -> written.add(rec.getString("name"));
+        ParallelRecordWriter writer =
+                new ParallelRecordWriter(Arrays.asList(processor, processor, processor), r -> null, executor, 4, 0,
+                        i18n);
+
+        for (int i = 0; i < 10; i++) {
+            writer.add(record("name" + i));
+        }
+        // two full batches were written on the way, the last two records wait for the flush
+        assertEquals(8, written.size());
+        writer.flush();
+        assertEquals(10, written.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(written.contains("name" + i));
+        }
+    }
+
+    @Test
+    void testFailuresRejectedAfterBatch() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        RecordProcessor processor = rec -> {
+            if ("name1".equals(rec.getString("name"))) {
+                throw new IllegalStateException("rejected");
+            }
+            written.add(rec.getString("name"));
+        };
+        ParallelRecordWriter writer =
+                new ParallelRecordWriter(Arrays.asList(processor, processor), r -> null, executor, 100, 0, i18n);
+
+        for (int i = 0; i < 12; i++) {
+            assertTrue(writer.add(record("name" + i)).isEmpty());
+        }
+        List<ParallelRecordWriter.Failure> failures = writer.flush();
+        assertEquals(1, failures.size());
+        assertEquals("name1", failures.get(0).getRecord().getString("name"));
+        assertEquals("rejected", failures.get(0).getMessage());
+        assertEquals(11, written.size());
+    }
+
+    @Test
+    void testRecordsOfAKeyKeepTheirOrder() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        RecordProcessor processor = rec -> {
+            try {
+                // the first records of the batch are the slowest, they would be overtaken if split across processors
+                Thread.sleep(20 - Integer.parseInt(rec.getString("value")));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(rec.getString("name") + "=" + rec.getString("value"));
+        };
+        ParallelRecordWriter writer = new ParallelRecordWriter(Arrays.asList(processor, processor, processor),
+                r -> r.getString("name"), executor, 20, 0, i18n);
+
+        for (int i = 0; i < 20; i++) {
+            writer.add(recordBuilderFactory.newRecordBuilder()
+                    .withString("name", "key" + (i % 4))
+                    .withString("value", String.valueOf(i))
+                    .build());
+        }
+
+        assertEquals(20, written.size());
+        for (int key = 0; key < 4; key++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = key; i < 20; i += 4) {
+                expected.add("key" + key + "=" + i);
+            }
+            String prefix = "key" + key + "=";
+            assertEquals(expected, written.stream().filter(w -> w.startsWith(prefix)).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testFailuresInBatchOrder() {
+        RecordProcessor processor = rec -> {
+            if (!"name0".equals(rec.getString("name"))) {
+                throw new IllegalStateException("rejected " + rec.getString("name"));
+            }
+        };
+        ParallelRecordWriter writer =
+                new ParallelRecordWriter(Arrays.asList(processor, processor), r -> null, executor, 100, 0, i18n);
+
+        for (int i = 0; i < 6; i++) {
+            writer.add(record("name" + i));
+        }
+        List<ParallelRecordWriter.Failure> failures = writer.flush();
+        assertEquals(Arrays.asList("rejected name1", "rejected name2", "rejected name3", "rejected name4",
+                "rejected name5"),
+                failures.stream().map(ParallelRecordWriter.Failure::getMessage).collect(Collectors.toList()));
+    }
+
+    private Record record(String name) {
+        return recordBuilderFactory.newRecordBuilder().withString("name", name).build();
+    }
+}
@@ -19,6 +19,7 @@ import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.condition.UIScope;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 import lombok.Data;
@@ -28,7 +29,8 @@ import lombok.Data;
 @GridLayout({ @GridLayout.Row({ "dataset" }), @GridLayout.Row({ "downloadFile", "directoryToSave" }) })
 @GridLayout(names = GridLayout.FormType.ADVANCED,
         value = { @GridLayout.Row({ "dataset" }), @GridLayout.Row("uploadFiles"),
-                @GridLayout.Row("uploadFileTable"), @GridLayout.Row("dieOnError") })
+                @GridLayout.Row("uploadFileTable"), @GridLayout.Row("dieOnError"),
+                @GridLayout.Row({ "maxConcurrentRequests", "keepInputOrder" }) })
 public class RequestConfig implements Serializable {
 
     @Option
@@ -59,4 +61,13 @@ public class RequestConfig implements Serializable {
     @Documentation("Table to attach files.")
     @ActiveIf(target = "uploadFiles", value = "true")
     private List<UploadFile> uploadFileTable;
+
+    @Option
+    @Min(1)
+    @Documentation("Maximum number of HTTP calls in progress at the same time, 1 calls them one after the other.")
+    private int maxConcurrentRequests = 1;
+
+    @Option
+    @Documentation("Emit the responses in the order of the input records, otherwise as soon as they are received.")
+    private boolean keepInputOrder = true;
 }
@@ -14,6 +14,7 @@ package org.talend.components.http.configuration.pagination;
 
 import lombok.Data;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.DefaultValue;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
@@ -24,7 +25,8 @@ import java.io.Serializable;
 @GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "location" }),
         @GridLayout.Row({ "offsetParamName", "offsetValue" }),
         @GridLayout.Row({ "limitParamName", "limitValue" }),
-        @GridLayout.Row({ "elementsPath" })
+        @GridLayout.Row({ "elementsPath" }),
+        @GridLayout.Row({ "prefetchPages" })
 })
 @Documentation("Offset/max HTTP pagination strategy configuration.")
 public class OffsetLimitStrategyConfig implements Serializable {
@@ -54,6 +56,12 @@ public class OffsetLimitStrategyConfig implements Serializable {
     @Documentation("Path to the list of element contained by the page.")
     private String elementsPath;
 
+    @Option
+    @Min(1)
+    @Documentation("Number of pages requested in parallel, 1 requests pages one after the other.")
+    @DefaultValue("1")
+    private int prefetchPages = 1;
+
     public enum Location {
         QUERY_PARAMETERS,
         HEADERS
@@ -16,8 +16,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.talend.components.common.httpclient.api.HTTPClient;
 import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.pagination.OffsetLimitPagePrefetcher;
 import org.talend.components.extension.polling.api.Pollable;
 import org.talend.components.http.configuration.RequestConfig;
+import org.talend.components.http.configuration.pagination.Pagination;
 import org.talend.components.http.service.I18n;
 import org.talend.components.http.service.RecordBuilderService;
 import org.talend.components.http.service.httpClient.HTTPClientService;
@@ -27,6 +29,7 @@ import org.talend.sdk.component.api.input.Producer;
 import org.talend.sdk.component.api.record.Record;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Optional;
@@ -48,10 +51,19 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
 
     private Iterator<Record> items;
 
+    /**
+     * The response the items are read from, closed once they are all read so that a streamed body gives its
+     * connection back even when it is not read to its end.
+     */
+    @Getter(AccessLevel.NONE)
+    private transient HTTPClient.HTTPResponse response;
+
     private boolean done;
 
     private Optional<QueryConfiguration> queryConfiguration;
 
+    private transient OffsetLimitPagePrefetcher pagePrefetcher;
+
     public AbstractHTTPInput(final T config, final HTTPClientService client,
             final RecordBuilderService recordBuilder, final I18n i18n) {
         this.config = translateConfiguration(config);
@@ -82,6 +94,33 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
     @PostConstruct
     public void postConstruct() {
         this.queryConfiguration = Optional.ofNullable(client.convertConfiguration(this.config, null));
+
+        int prefetchPages = getPrefetchPages();
+        if (prefetchPages > 1) {
+            this.pagePrefetcher = new OffsetLimitPagePrefetcher(() -> client.convertConfiguration(this.config, null),
+                    q -> client.invoke(q, this.config.isDieOnError()), prefetchPages);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        closeResponse();
+        if (this.pagePrefetcher != null) {
+            this.pagePrefetcher.close();
+            this.pagePrefetcher = null;
+        }
+    }
+
+    private int getPrefetchPages() {
+        if (!this.config.getDataset().isHasPagination()) {
+            return 1;
+        }
+        Pagination pagination = this.config.getDataset().getPagination();
+        if (pagination.getStrategy() != Pagination.Strategy.OFFSET_LIMIT
+                || pagination.getOffsetLimitStrategyConfig() == null) {
+            return 1;
+        }
+        return pagination.getOffsetLimitStrategyConfig().getPrefetchPages();
     }
 
     @Producer
@@ -89,10 +128,17 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
         if (items == null && !done) {
             done = true;
             try {
-                HTTPClient.HTTPResponse response =
-                        client.invoke(this.queryConfiguration.get(), this.config.isDieOnError());
-
-                this.queryConfiguration = response.nextPageQueryConfiguration();
+                if (this.pagePrefetcher != null) {
+                    // Pages are requested ahead in offset order, queryConfiguration stays present until the
+                    // prefetcher meets an empty page.
+                    response = this.pagePrefetcher.next();
+                    if (response == null) {
+                        return null;
+                    }
+                } else {
+                    response = client.invoke(this.queryConfiguration.get(), this.config.isDieOnError());
+                    this.queryConfiguration = response.nextPageQueryConfiguration();
+                }
 
                 if (response.getLastPageCount() <= 0) {
                     // This getLastPageCount() has been added because DSSL doesn't deal with json empty array.
@@ -100,11 +146,13 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
                     // we can have something like '.element.name' but, on the last pagination call, when an empty array
                     // is retrieved, it generates an exception since .element is empty and we try to access nested
                     // .name.
+                    closeResponse();
                     return null;
                 }
 
                 items = recordBuilder.buildFixedRecord(response, config);
             } catch (Exception e) {
+                closeResponse();
                 HTTPComponentException ce = new HTTPComponentException(ComponentException.ErrorOrigin.BACKEND,
                         i18n.httpClientException(String.valueOf(e.getClass()), e.getMessage()));
                 ce.setStackTrace(e.getStackTrace());
@@ -125,6 +173,7 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
 
         if (!items.hasNext()) {
             items = null;
+            closeResponse();
 
             if (this.queryConfiguration.isPresent()) {
                 done = false;
@@ -134,4 +183,11 @@ public abstract class AbstractHTTPInput<T> implements Serializable {
         return r;
 
     }
+
+    private void closeResponse() {
+        if (this.response != null) {
+            this.response.close();
+            this.response = null;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import org.talend.components.http.service.I18n;
 import org.talend.components.http.service.RecordBuilderService;
 import org.talend.components.http.service.httpClient.HTTPClientService;
 import org.talend.sdk.component.api.exception.ComponentException;
+import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
 import org.talend.sdk.component.api.processor.Input;
 import org.talend.sdk.component.api.processor.Output;
@@ -26,8 +27,22 @@ import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.record.Record;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -45,6 +60,19 @@ public abstract class AbstractHTTPProcessor<T> implements Serializable {
 
     private final I18n i18n;
 
+    /**
+     * Used when several calls can be in progress: each input record is called on this executor and its responses are
+     * emitted by the next process() or afterGroup() call after they are received.
+     */
+    private transient ExecutorService executor;
+
+    private transient CompletionService<List<Record>> completionService;
+
+    /**
+     * Calls in progress, in the order of their input records.
+     */
+    private transient Deque<Future<List<Record>>> pendingCalls;
+
     public AbstractHTTPProcessor(final T config, final HTTPClientService client,
             final RecordBuilderService recordBuilder, final I18n i18n) {
         this.client = client;
@@ -55,14 +83,57 @@ public abstract class AbstractHTTPProcessor<T> implements Serializable {
 
     @ElementListener
     public void process(@Input final Record input, @Output final OutputEmitter<Record> main) {
+        if (config.getMaxConcurrentRequests() <= 1) {
+            try {
+                call(input, main::emit);
+            } catch (Exception e) {
+                throw toComponentException(e);
+            }
+            return;
+        }
 
-        try {
-            Optional<QueryConfiguration> nextPageConfiguration = Optional.empty();
+        if (executor == null) {
+            initExecutor();
+        }
+
+        // Emit what has already been received, then wait until there is a free slot for this record
+        emitReceived(main, false);
+        while (pendingCalls.size() >= config.getMaxConcurrentRequests()) {
+            emitNext(main);
+        }
+
+        Callable<List<Record>> task = () -> {
+            List<Record> records = new ArrayList<>();
+            call(input, records::add);
+            return records;
+        };
+        // Only unordered emission reads the completion queue, so it is the only one to feed it
+        pendingCalls.add(config.isKeepInputOrder() ? executor.submit(task) : completionService.submit(task));
+    }
+
+    @AfterGroup
+    public void afterGroup(@Output final OutputEmitter<Record> main) {
+        if (pendingCalls != null) {
+            emitReceived(main, true);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
 
-            do {
-                QueryConfiguration queryConfiguration = nextPageConfiguration.isPresent() ? nextPageConfiguration.get()
-                        : client.convertConfiguration(config, input);
-                HTTPClient.HTTPResponse response = client.invoke(queryConfiguration, config.isDieOnError());
+    private void call(final Record input, final RecordConsumer consumer) throws Exception {
+        Optional<QueryConfiguration> nextPageConfiguration = Optional.empty();
+
+        do {
+            QueryConfiguration queryConfiguration = nextPageConfiguration.isPresent() ? nextPageConfiguration.get()
+                    : client.convertConfiguration(config, input);
+            HTTPClient.HTTPResponse response = client.invoke(queryConfiguration, config.isDieOnError());
+            try {
                 if (response.getLastPageCount() <= 0) {
                     return;
                 }
@@ -70,19 +141,86 @@ public abstract class AbstractHTTPProcessor<T> implements Serializable {
                 Iterator<Record> items = recordBuilder.buildFixedRecord(input, response, config);
 
                 while (items.hasNext()) {
-                    main.emit(items.next());
+                    consumer.accept(items.next());
                 }
                 nextPageConfiguration = response.nextPageQueryConfiguration();
-            } while (nextPageConfiguration.isPresent());
+            } finally {
+                // a streamed body which is not read to its end keeps its connection until closed
+                response.close();
+            }
+        } while (nextPageConfiguration.isPresent());
+    }
 
-        } catch (Exception e) {
-            ComponentException ce = new ComponentException(ComponentException.ErrorOrigin.BACKEND,
-                    i18n.httpClientException(String.valueOf(e.getClass()), e.getMessage()));
-            ce.setStackTrace(e.getStackTrace());
-            throw ce;
+    private void initExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(config.getMaxConcurrentRequests(), r -> {
+            Thread thread = new Thread(r, "http-processor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        completionService = new ExecutorCompletionService<>(executor);
+        pendingCalls = new ArrayDeque<>();
+    }
+
+    /**
+     * Emit the responses of the calls already done, or of all pending calls if wait is true.
+     */
+    private void emitReceived(final OutputEmitter<Record> main, final boolean wait) {
+        while (!pendingCalls.isEmpty()) {
+            if (!wait && !isNextReceived()) {
+                return;
+            }
+            emitNext(main);
         }
     }
 
+    private boolean isNextReceived() {
+        if (config.isKeepInputOrder()) {
+            return pendingCalls.peek().isDone();
+        }
+        return pendingCalls.stream().anyMatch(Future::isDone);
+    }
+
+    /**
+     * Wait for the next call to emit: the oldest one when the input order is kept, the first completed one otherwise.
+     */
+    private void emitNext(final OutputEmitter<Record> main) {
+        try {
+            Future<List<Record>> next;
+            if (config.isKeepInputOrder()) {
+                next = pendingCalls.peek();
+            } else {
+                next = completionService.take();
+            }
+            List<Record> records = next.get();
+            pendingCalls.remove(next);
+            records.forEach(main::emit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release();
+            throw toComponentException(e);
+        } catch (ExecutionException e) {
+            // Same as a synchronous call: the first failing call stops the processor
+            release();
+            pendingCalls.clear();
+            throw toComponentException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
+    }
+
+    private ComponentException toComponentException(final Exception e) {
+        ComponentException ce = new ComponentException(ComponentException.ErrorOrigin.BACKEND,
+                i18n.httpClientException(String.valueOf(e.getClass()), e.getMessage()));
+        ce.setStackTrace(e.getStackTrace());
+        return ce;
+    }
+
     protected abstract RequestConfig translateConfiguration(T config);
 
+    @FunctionalInterface
+    private interface RecordConsumer {
+
+        void accept(Record record) throws Exception;
+
+    }
+
 }
@@ -15,7 +15,9 @@ package org.talend.components.http.service;
 import java.io.ByteArrayInputStream;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -71,6 +73,17 @@ public class RecordBuilderService {
     public static final String CONTEXT_SUBSTITUTOR_RESULT_CLOSER = System
             .getProperty("org.talend.components.rest.context_substitutor_result_closer", "}");
 
+    /**
+     * When enabled, the response body goes from the connection to the record reader without being loaded in memory.
+     */
+    public static final boolean STREAM_RESPONSE_BODY = Boolean
+            .parseBoolean(System.getProperty("org.talend.components.rest.stream_response_body", "true"));
+
+    /**
+     * Number of characters of the payload quoted in error messages.
+     */
+    private static final int PAYLOAD_EXCERPT_LENGTH = 100;
+
     @Service
     private I18n i18n;
 
@@ -133,45 +146,30 @@ public class RecordBuilderService {
 
         String payload = null;
         try {
-            // I read the payload in case of an exception to be able to display it in the message.
-            payload = response.getBodyAsString();
-            if (config.isDownloadFile()) {
-                MediaType mediaType = getNestedResponseMediaType(response);
-                if (attachmentService.isMultipart(mediaType)) {
+            final boolean multipartDownload = config.isDownloadFile()
+                    && attachmentService.isMultipart(getNestedResponseMediaType(response));
+            if (STREAM_RESPONSE_BODY && !multipartDownload && isStreamable(format, response.getEncoding())) {
+                readIterator = reader.read(response.streamBody());
+            } else {
+                // I read the payload in case of an exception to be able to display it in the message.
+                payload = response.getBodyAsString();
+                if (multipartDownload) {
+                    MediaType mediaType = getNestedResponseMediaType(response);
                     String notAttachmentPartOfMultipart = attachmentService.parseMultipartAndDownloadAttachments(
                             mediaType.getType() + "/" + mediaType.getSubtype(), payload, config);
 
                     payload = notAttachmentPartOfMultipart;
                 }
+                // Inject null in reader if null or, the ByteArrayInputStream if it contains something.
+                readIterator = reader.read(payload == null ? null : new ByteArrayInputStream(payload.getBytes()));
             }
-            // Inject null in reader if null or, the ByteArrayInputStream if it contains something.
-            readIterator = reader.read(payload == null ? null : new ByteArrayInputStream(payload.getBytes()));
         } catch (RuntimeException | HTTPClientException e) {
-            int endSubstring = 100;
-            payload = (payload == null || "".equals(payload)) ? i18n.emptyPayload() : payload.trim();
-            // Display only first characters of the payload in the message
-            endSubstring = endSubstring > payload.length() ? payload.length() : endSubstring;
-            String partial = (endSubstring < payload.length()) ? "..." : "";
-            String sFormat = "Unknown";
-            switch (format) {
-            case JSON:
-                sFormat = i18n.formatJSON();
-                break;
-            case RAW_TEXT:
-                sFormat = i18n.formatText();
-                break;
-            }
-            throw new IllegalArgumentException(
-                    i18n
-                            .invalideBodyContent(
-                                    sFormat,
-                                    response.getStatus().getCodeWithReason(),
-                                    payload == null ? "" : payload.substring(0, endSubstring) + partial,
-                                    e.getMessage()),
-                    e);
+            final IllegalArgumentException failure = invalidBodyContent(response, format, payload, e);
+            response.close();
+            throw failure;
         }
 
-        return new IteratorMap<>(readIterator,
+        return new IteratorMap<>(new ResponseIterator(readIterator, response, format, payload),
                 r -> this.buildRecord(r, response.getStatus().getCode(), headerRecords, isCompletePayload,
                         createContext,
                         completeContext, format,
@@ -179,6 +177,113 @@ public class RecordBuilderService {
                 true);
     }
 
+    /**
+     * @param payload The loaded payload, null if the body is streamed and only its beginning can be quoted.
+     */
+    private IllegalArgumentException invalidBodyContent(final HTTPClient.HTTPResponse response, final Format format,
+            String payload, final Exception e) {
+        if (payload == null) {
+            payload = payloadExcerpt(response);
+        }
+        int endSubstring = PAYLOAD_EXCERPT_LENGTH;
+        payload = (payload == null || "".equals(payload)) ? i18n.emptyPayload() : payload.trim();
+        // Display only first characters of the payload in the message
+        endSubstring = endSubstring > payload.length() ? payload.length() : endSubstring;
+        String partial = (endSubstring < payload.length()) ? "..." : "";
+        String sFormat = "Unknown";
+        switch (format) {
+        case JSON:
+            sFormat = i18n.formatJSON();
+            break;
+        case RAW_TEXT:
+            sFormat = i18n.formatText();
+            break;
+        }
+        return new IllegalArgumentException(
+                i18n
+                        .invalideBodyContent(
+                                sFormat,
+                                response.getStatus().getCodeWithReason(),
+                                payload == null ? "" : payload.substring(0, endSubstring) + partial,
+                                e.getMessage()),
+                e);
+    }
+
+    /**
+     * The records read from a response body: a streamed body is parsed while iterating, so the parsing errors are
+     * reported here, and the response is closed once the last record is read or the parsing fails.
+     */
+    private final class ResponseIterator implements Iterator<Record> {
+
+        private final Iterator<Record> records;
+
+        private final HTTPClient.HTTPResponse response;
+
+        private final Format format;
+
+        private final String payload;
+
+        ResponseIterator(final Iterator<Record> records, final HTTPClient.HTTPResponse response, final Format format,
+                final String payload) {
+            this.records = records;
+            this.response = response;
+            this.format = format;
+            this.payload = payload;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext;
+            try {
+                hasNext = records.hasNext();
+            } catch (RuntimeException e) {
+                throw fail(e);
+            }
+            if (!hasNext) {
+                response.close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Record next() {
+            try {
+                return records.next();
+            } catch (NoSuchElementException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw fail(e);
+            }
+        }
+
+        private IllegalArgumentException fail(final RuntimeException e) {
+            final IllegalArgumentException failure = invalidBodyContent(response, format, payload, e);
+            response.close();
+            return failure;
+        }
+    }
+
+    /**
+     * Raw text is decoded by the reader with the response encoding, json is decoded by the parser which only detects
+     * the UTF family: other charsets still go through the string conversion.
+     */
+    private static boolean isStreamable(final Format format, final String encoding) {
+        return format == Format.RAW_TEXT
+                || (encoding != null && encoding.toUpperCase(Locale.ROOT).startsWith("UTF"));
+    }
+
+    /**
+     * The beginning of the payload, one character more than displayed so the message can tell it was truncated.
+     */
+    private String payloadExcerpt(final HTTPClient.HTTPResponse response) {
+        try {
+            return response.getBodyPrefix(PAYLOAD_EXCERPT_LENGTH + 1);
+        } catch (RuntimeException | HTTPClientException e) {
+            log.debug("Can't read the HTTP response payload: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private MediaType getNestedResponseMediaType(
             HTTPClient.HTTPResponse response) {
         return ((Response) response.getNestedResponse()).getMediaType();
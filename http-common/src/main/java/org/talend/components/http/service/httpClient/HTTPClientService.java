@@ -16,10 +16,10 @@ import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 
 import javax.activation.FileDataSource;
@@ -69,7 +69,7 @@ public class HTTPClientService {
     @Service
     private I18n messages;
 
-    private Map<String, Token> tokenCache = new HashMap<>();
+    private Map<String, Token> tokenCache = new ConcurrentHashMap<>();
 
     public HTTPClient.HTTPResponse invoke(QueryConfiguration queryConfiguration, boolean isDieOnError) // final
                                                                                                        // RequestConfig
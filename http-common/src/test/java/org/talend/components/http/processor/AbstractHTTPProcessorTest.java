@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.http.processor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.common.httpclient.api.HTTPClient;
+import org.talend.components.common.httpclient.api.HTTPClientException;
+import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.api.authentication.Token;
+import org.talend.components.http.configuration.RequestConfig;
+import org.talend.components.http.service.I18n;
+import org.talend.components.http.service.RecordBuilderService;
+import org.talend.components.http.service.httpClient.HTTPClientService;
+import org.talend.sdk.component.api.exception.ComponentException;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.junit5.WithComponents;
+
+@WithComponents(value = "org.talend.components.http")
+class AbstractHTTPProcessorTest {
+
+    @Service
+    private RecordBuilderFactory recordBuilderFactory;
+
+    @Service
+    private I18n i18n;
+
+    private final FakeClient client = new FakeClient();
+
+    private TestProcessor processor;
+
+    @AfterEach
+    void after() {
+        if (processor != null) {
+            processor.release();
+        }
+    }
+
+    @Test
+    void keepInputOrder() {
+        processor = buildProcessor(3, true, false);
+
+        // the first calls are the slowest ones, they have to be emitted first anyway
+        final List<Record> emitted = processAll(IntStream.range(0, 10).mapToObj(i -> input(i, (10 - i) * 10, false)));
+
+        Assertions.assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), ids(emitted));
+        Assertions.assertTrue(client.maxInFlight.get() > 1, "Calls should have been done in parallel.");
+    }
+
+    @Test
+    void emitInCompletionOrder() {
+        processor = buildProcessor(3, false, false);
+
+        final List<Record> emitted =
+                processAll(IntStream.range(0, 6).mapToObj(i -> input(i, i == 0 ? 500 : 10, false)));
+
+        Assertions.assertEquals(IntStream.range(0, 6).boxed().collect(Collectors.toSet()),
+                ids(emitted).stream().collect(Collectors.toSet()));
+        Assertions.assertEquals(6, emitted.size());
+        Assertions.assertNotEquals(0, ids(emitted).get(0), "The slow call should not block the next responses.");
+    }
+
+    @Test
+    void inFlightCallsAreBounded() {
+        processor = buildProcessor(3, false, false);
+
+        final List<Record> emitted = processAll(IntStream.range(0, 20).mapToObj(i -> input(i, 20, false)));
+
+        Assertions.assertEquals(20, emitted.size());
+        Assertions.assertTrue(client.maxInFlight.get() <= 3,
+                "At most 3 calls expected in progress, was " + client.maxInFlight.get());
+    }
+
+    @Test
+    void afterGroupFlushesPendingResponses() {
+        processor = buildProcessor(5, true, false);
+
+        final List<Record> emitted = new ArrayList<>();
+        IntStream.range(0, 5).forEach(i -> processor.process(input(i, 100, false), emitted::add));
+        Assertions.assertTrue(emitted.size() < 5, "Responses should still be pending before the end of the group.");
+
+        processor.afterGroup(emitted::add);
+        Assertions.assertEquals(IntStream.range(0, 5).boxed().collect(Collectors.toList()), ids(emitted));
+
+        // nothing left to emit for the next group
+        processor.afterGroup(r -> Assertions.fail("Unexpected record " + r));
+    }
+
+    @Test
+    void dieOnErrorWithConcurrentCalls() {
+        processor = buildProcessor(2, true, true);
+
+        final ComponentException e = Assertions.assertThrows(ComponentException.class,
+                () -> processAll(IntStream.range(0, 6).mapToObj(i -> input(i, 10, i == 3))));
+        Assertions.assertTrue(e.getMessage().contains("Call 3 failed"), e.getMessage());
+    }
+
+    @Test
+    void dieOnErrorWithSynchronousCalls() {
+        processor = buildProcessor(1, true, true);
+
+        final List<Record> emitted = new ArrayList<>();
+        processor.process(input(0, 0, false), emitted::add);
+        final ComponentException e = Assertions.assertThrows(ComponentException.class,
+                () -> processor.process(input(1, 0, true), emitted::add));
+        Assertions.assertTrue(e.getMessage().contains("Call 1 failed"), e.getMessage());
+        Assertions.assertEquals(Collections.singletonList(0), ids(emitted));
+    }
+
+    private TestProcessor buildProcessor(final int maxConcurrentRequests, final boolean keepInputOrder,
+            final boolean dieOnError) {
+        final RequestConfig config = new RequestConfig();
+        config.setMaxConcurrentRequests(maxConcurrentRequests);
+        config.setKeepInputOrder(keepInputOrder);
+        config.setDieOnError(dieOnError);
+        return new TestProcessor(config, client, new FakeRecordBuilder(), i18n);
+    }
+
+    private List<Record> processAll(final Stream<Record> inputs) {
+        final List<Record> emitted = new ArrayList<>();
+        inputs.forEach(input -> processor.process(input, emitted::add));
+        processor.afterGroup(emitted::add);
+        return emitted;
+    }
+
+    private Record input(final int id, final int delay, final boolean fail) {
+        return recordBuilderFactory.newRecordBuilder()
+                .withInt("id", id)
+                .withInt("delay", delay)
+                .withBoolean("fail", fail)
+                .build();
+    }
+
+    private static List<Integer> ids(final List<Record> records) {
+        return records.stream().map(r -> r.getInt("id")).collect(Collectors.toList());
+    }
+
+    private static class TestProcessor extends AbstractHTTPProcessor<RequestConfig> {
+
+        TestProcessor(final RequestConfig config, final HTTPClientService client,
+                final RecordBuilderService recordBuilder, final I18n i18n) {
+            super(config, client, recordBuilder, i18n);
+        }
+
+        @Override
+        protected RequestConfig translateConfiguration(final RequestConfig config) {
+            return config;
+        }
+    }
+
+    /**
+     * Answers after the delay of the input record, and fails for the records flagged so.
+     */
+    private static class FakeClient extends HTTPClientService {
+
+        // the query configuration is converted and invoked by the same thread
+        private final ThreadLocal<Record> currentInput = new ThreadLocal<>();
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public QueryConfiguration convertConfiguration(final RequestConfig config, final Record input) {
+            currentInput.set(input);
+            return null;
+        }
+
+        @Override
+        public HTTPClient.HTTPResponse invoke(final QueryConfiguration queryConfiguration,
+                final boolean isDieOnError) throws HTTPClientException {
+            final Record input = currentInput.get();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(input.getInt("delay"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HTTPClientException("Call " + input.getInt("id") + " interrupted", e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            if (isDieOnError && input.getBoolean("fail")) {
+                throw new HTTPClientException("Call " + input.getInt("id") + " failed");
+            }
+            return new FakeResponse();
+        }
+    }
+
+    /**
+     * Gives back the input record as the only record of the response.
+     */
+    private static class FakeRecordBuilder extends RecordBuilderService {
+
+        @Override
+        public Iterator<Record> buildFixedRecord(final Record input, final HTTPClient.HTTPResponse response,
+                final RequestConfig config) {
+            return Collections.singletonList(input).iterator();
+        }
+    }
+
+    private static class FakeResponse implements HTTPClient.HTTPResponse<Object> {
+
+        @Override
+        public HTTPClient.Status getStatus() {
+            return new HTTPClient.Status(200, "OK", "SUCCESSFUL");
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getBodyAsString() {
+            return "";
+        }
+
+        @Override
+        public InputStream getBodyAsStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public Object getNestedResponse() {
+            return null;
+        }
+
+        @Override
+        public String getEncoding() {
+            return "UTF-8";
+        }
+
+        @Override
+        public void setOAuth20Token(final Token token) {
+            // not used
+        }
+
+        @Override
+        public Optional<Token> getOAuth20Token() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<QueryConfiguration> nextPageQueryConfiguration() {
+            return Optional.empty();
+        }
+
+        @Override
+        public int getLastPageCount() {
+            return 1;
+        }
+    }
+
+}
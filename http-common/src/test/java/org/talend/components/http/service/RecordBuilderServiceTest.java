@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.http.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.common.httpclient.api.HTTPClient;
+import org.talend.components.common.httpclient.api.QueryConfiguration;
+import org.talend.components.common.httpclient.api.authentication.Token;
+import org.talend.components.http.configuration.Format;
+import org.talend.components.http.configuration.RequestConfig;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.junit5.WithComponents;
+
+@WithComponents(value = "org.talend.components.http")
+class RecordBuilderServiceTest {
+
+    @Service
+    private RecordBuilderService recordBuilderService;
+
+    @Test
+    void responseIsClosedOnceRead() {
+        final RequestConfig config = RequestConfigBuilder.getEmptyRequestConfig();
+        config.getDataset().setFormat(Format.RAW_TEXT);
+        final StreamedResponse response = new StreamedResponse("Hello");
+
+        final Iterator<Record> records = recordBuilderService.buildFixedRecord(response, config);
+        Assertions.assertTrue(records.hasNext());
+        Assertions.assertEquals("Hello", records.next().getString("body"));
+        Assertions.assertEquals(0, response.closed.get(), "Closed before the end of the records.");
+
+        Assertions.assertFalse(records.hasNext());
+        Assertions.assertEquals(1, response.closed.get());
+    }
+
+    @Test
+    void parsingErrorQuotesThePayloadAndClosesTheResponse() {
+        final RequestConfig config = RequestConfigBuilder.getEmptyRequestConfig();
+        config.getDataset().setFormat(Format.JSON);
+        config.getDataset().setSelector("/items");
+        final StreamedResponse response = new StreamedResponse("{\"items\": [{\"id\": 1}, {\"id\": ");
+
+        final IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> recordBuilderService.buildFixedRecord(response, config).forEachRemaining(r -> {
+                }));
+
+        Assertions.assertTrue(e.getMessage().contains("{\"items\": [{\"id\": 1}"), e.getMessage());
+        Assertions.assertEquals(1, response.closed.get());
+    }
+
+    /**
+     * Response whose body can only be streamed, as the one of a real call, and which counts its close calls.
+     */
+    private static class StreamedResponse implements HTTPClient.HTTPResponse<Object> {
+
+        private final byte[] body;
+
+        private final AtomicInteger closed = new AtomicInteger();
+
+        StreamedResponse(final String body) {
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public HTTPClient.Status getStatus() {
+            return new HTTPClient.Status(200, "OK", "SUCCESSFUL");
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getBodyAsString() {
+            throw new IllegalStateException("The body is streamed.");
+        }
+
+        @Override
+        public InputStream getBodyAsStream() {
+            throw new IllegalStateException("The body is streamed.");
+        }
+
+        @Override
+        public InputStream streamBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public String getBodyPrefix(final int maxLength) {
+            final String prefix = new String(body, StandardCharsets.UTF_8);
+            return prefix.length() > maxLength ? prefix.substring(0, maxLength) : prefix;
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+
+        @Override
+        public Object getNestedResponse() {
+            return null;
+        }
+
+        @Override
+        public String getEncoding() {
+            return "UTF-8";
+        }
+
+        @Override
+        public void setOAuth20Token(final Token token) {
+            // not used
+        }
+
+        @Override
+        public Optional<Token> getOAuth20Token() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<QueryConfiguration> nextPageQueryConfiguration() {
+            return Optional.empty();
+        }
+
+        @Override
+        public int getLastPageCount() {
+            return 1;
+        }
+    }
+}
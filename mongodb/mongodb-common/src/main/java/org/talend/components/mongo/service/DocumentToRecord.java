@@ -25,6 +25,7 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,15 +38,49 @@ import java.util.stream.Collectors;
  * while in json/document, array can contains different kind of type :
  * `[ "Is a String", 123, { "field": "value" }, [1, 2, "text"] ]`
  * records does not.
+ *
+ * The schemas inferred by {@link #toRecord(Document)} are kept in a small LRU cache keyed by the document shape (keys
+ * and value classes), as a collection has usually a few shapes only. Not thread safe, use one instance per reader.
  */
 @Slf4j
 public class DocumentToRecord {
 
+    /** default number of document shapes kept in the schema cache */
+    public static final int DEFAULT_SCHEMA_CACHE_SIZE = 64;
+
     /** record factory */
     private final RecordBuilderFactory recordBuilderFactory;
 
+    /** inferred schemas by document fingerprint, null when disabled */
+    private final Map<String, Schema> schemaCache;
+
+    private final StringBuilder fingerprint = new StringBuilder();
+
+    private long schemaCacheHits;
+
+    private long schemaCacheMisses;
+
     public DocumentToRecord(RecordBuilderFactory recordBuilderFactory) {
+        this(recordBuilderFactory, DEFAULT_SCHEMA_CACHE_SIZE);
+    }
+
+    /**
+     * @param recordBuilderFactory : record factory.
+     * @param schemaCacheSize : max number of cached schemas, 0 to infer the schema of every document.
+     */
+    public DocumentToRecord(RecordBuilderFactory recordBuilderFactory, int schemaCacheSize) {
         this.recordBuilderFactory = recordBuilderFactory;
+        if (schemaCacheSize > 0) {
+            this.schemaCache = new LinkedHashMap<String, Schema>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+                    return size() > schemaCacheSize;
+                }
+            };
+        } else {
+            this.schemaCache = null;
+        }
     }
 
     /**
@@ -71,10 +106,83 @@ public class DocumentToRecord {
             return null;
         }
 
-        final Schema schema = inferSchema(document);
+        final Schema schema = cachedSchema(document);
         return convertDocumentToRecord(schema, document);
     }
 
+    public long getSchemaCacheHits() {
+        return schemaCacheHits;
+    }
+
+    public long getSchemaCacheMisses() {
+        return schemaCacheMisses;
+    }
+
+    /**
+     * @return part of the documents whose schema was found in the cache, 0 if no document was converted.
+     */
+    public double getSchemaCacheHitRatio() {
+        final long total = schemaCacheHits + schemaCacheMisses;
+        return total == 0 ? 0 : (double) schemaCacheHits / total;
+    }
+
+    private Schema cachedSchema(final Document document) {
+        if (schemaCache == null) {
+            return inferSchema(document);
+        }
+
+        fingerprint.setLength(0);
+        appendFingerprint(document);
+        final String key = fingerprint.toString();
+
+        Schema schema = schemaCache.get(key);
+        if (schema == null) {
+            schemaCacheMisses++;
+            schema = inferSchema(document);
+            schemaCache.put(key, schema);
+        } else {
+            schemaCacheHits++;
+        }
+        return schema;
+    }
+
+    /**
+     * Append what inferSchema depends on : key names (length prefixed, so any char can be used in a key) and value
+     * classes, nested documents, the first element of arrays, or all the documents of arrays of documents as they are
+     * merged.
+     */
+    private void appendFingerprint(final Document document) {
+        fingerprint.append('{');
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            fingerprint.append(entry.getKey().length()).append(':').append(entry.getKey());
+            appendFingerprint(entry.getValue());
+        }
+        fingerprint.append('}');
+    }
+
+    private void appendFingerprint(final Object value) {
+        if (isNull(value)) {
+            fingerprint.append('n');
+        } else if (isDocument(value)) {
+            appendFingerprint((Document) value);
+        } else if (isArray(value)) {
+            final List<?> array = (List<?>) value;
+            fingerprint.append('[');
+            if (!array.isEmpty()) {
+                final Object first = array.get(0);
+                if (isDocument(first)) {
+                    array.stream().filter(Document.class::isInstance).map(Document.class::cast)
+                            .forEach(this::appendFingerprint);
+                } else {
+                    appendFingerprint(first);
+                }
+            }
+            fingerprint.append(']');
+        } else {
+            fingerprint.append('<').append(value.getClass().getName()).append('>');
+        }
+    }
+
     private Schema inferSchema(final List<?> array, DatatypeHolder dataTypeHolder) {
         Schema.Builder builder = recordBuilderFactory.newSchemaBuilder(Type.ARRAY);
         final Schema subSchema;
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.mongo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class DocumentToRecordTest {
+
+    private final RecordBuilderFactoryImpl factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void sameShapeHitsTheCache() {
+        final DocumentToRecord converter = new DocumentToRecord(factory);
+
+        final Record first = converter.toRecord(new Document("id", 1).append("name", "first"));
+        final Record second = converter.toRecord(new Document("id", 2).append("name", "second"));
+
+        Assertions.assertEquals(1, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(1, converter.getSchemaCacheHits());
+        Assertions.assertEquals(0.5, converter.getSchemaCacheHitRatio());
+        Assertions.assertEquals(first.getSchema(), second.getSchema());
+        Assertions.assertEquals(2, second.getInt("id"));
+        Assertions.assertEquals("second", second.getString("name"));
+    }
+
+    @Test
+    void differentShapesGetTheirOwnSchema() {
+        final DocumentToRecord converter = new DocumentToRecord(factory);
+
+        final Record intId = converter.toRecord(new Document("id", 1));
+        final Record stringId = converter.toRecord(new Document("id", "1"));
+        final Record otherKey = converter.toRecord(new Document("key", 1));
+        final Record nullId = converter.toRecord(new Document("id", null));
+
+        Assertions.assertEquals(4, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(0, converter.getSchemaCacheHits());
+        Assertions.assertEquals(Schema.Type.INT, intId.getSchema().getEntry("id").getType());
+        Assertions.assertEquals(Schema.Type.STRING, stringId.getSchema().getEntry("id").getType());
+        Assertions.assertEquals("1", stringId.getString("id"));
+        Assertions.assertEquals(1, otherKey.getInt("key"));
+        Assertions.assertNull(nullId.getString("id"));
+
+        // back to a known shape
+        Assertions.assertEquals(3, converter.toRecord(new Document("id", 3)).getInt("id"));
+        Assertions.assertEquals(1, converter.getSchemaCacheHits());
+    }
+
+    @Test
+    void nestedDocuments() {
+        final DocumentToRecord converter = new DocumentToRecord(factory);
+
+        final Record intValue = converter.toRecord(new Document("nested", new Document("value", 1)));
+        final Record sameShape = converter.toRecord(new Document("nested", new Document("value", 2)));
+        final Record stringValue = converter.toRecord(new Document("nested", new Document("value", "text")));
+
+        Assertions.assertEquals(2, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(1, converter.getSchemaCacheHits());
+        Assertions.assertEquals(1, intValue.getRecord("nested").getInt("value"));
+        Assertions.assertEquals(2, sameShape.getRecord("nested").getInt("value"));
+        Assertions.assertEquals("text", stringValue.getRecord("nested").getString("value"));
+    }
+
+    @Test
+    void arraysOfDocuments() {
+        final DocumentToRecord converter = new DocumentToRecord(factory);
+
+        // the documents of an array are merged in the element schema, so each of them is part of the shape
+        final Record oneField = converter.toRecord(new Document("items",
+                Arrays.asList(new Document("a", 1), new Document("a", 2))));
+        final Record twoFields = converter.toRecord(new Document("items",
+                Arrays.asList(new Document("a", 1), new Document("b", "x"))));
+        final Record sameAsFirst = converter.toRecord(new Document("items",
+                Arrays.asList(new Document("a", 3), new Document("a", 4))));
+
+        Assertions.assertEquals(2, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(1, converter.getSchemaCacheHits());
+        Assertions.assertEquals(Arrays.asList(3, 4), values(sameAsFirst, "a"));
+
+        final Schema twoFieldsElement = twoFields.getSchema().getEntry("items").getElementSchema();
+        Assertions.assertNotNull(twoFieldsElement.getEntry("a"));
+        Assertions.assertNotNull(twoFieldsElement.getEntry("b"));
+        Assertions.assertNull(oneField.getSchema().getEntry("items").getElementSchema().getEntry("b"));
+        Assertions.assertEquals("x", new ArrayList<>(twoFields.getArray(Record.class, "items")).get(1).getString("b"));
+    }
+
+    @Test
+    void leastRecentlyUsedShapeIsEvicted() {
+        final DocumentToRecord converter = new DocumentToRecord(factory, 1);
+
+        converter.toRecord(new Document("a", 1));
+        converter.toRecord(new Document("b", 1));
+        converter.toRecord(new Document("a", 1));
+
+        Assertions.assertEquals(3, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(0, converter.getSchemaCacheHits());
+    }
+
+    @Test
+    void noCache() {
+        final DocumentToRecord converter = new DocumentToRecord(factory, 0);
+
+        final Record first = converter.toRecord(new Document("id", 1));
+        final Record second = converter.toRecord(new Document("id", 2));
+
+        Assertions.assertEquals(1, first.getInt("id"));
+        Assertions.assertEquals(2, second.getInt("id"));
+        Assertions.assertEquals(0, converter.getSchemaCacheMisses());
+        Assertions.assertEquals(0, converter.getSchemaCacheHits());
+        Assertions.assertEquals(0, converter.getSchemaCacheHitRatio());
+    }
+
+    private static List<Integer> values(final Record record, final String field) {
+        final Collection<Record> items = record.getArray(Record.class, "items");
+        final List<Integer> values = new ArrayList<>();
+        items.forEach(item -> values.add(item.getInt(field)));
+        return values;
+    }
+}
@@ -185,6 +185,12 @@ public class MongoDBReader extends MongoCommonInput {
 
     @PreDestroy
     public void release() {
+        if (documentToRecord != null
+                && documentToRecord.getSchemaCacheHits() + documentToRecord.getSchemaCacheMisses() > 0) {
+            log.info("Document schema cache : {} hits, {} misses, hit ratio {}", documentToRecord.getSchemaCacheHits(),
+                    documentToRecord.getSchemaCacheMisses(),
+                    String.format("%.2f", documentToRecord.getSchemaCacheHitRatio()));
+        }
         service.closeClient(client);
     }
 
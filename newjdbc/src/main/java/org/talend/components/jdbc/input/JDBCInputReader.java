@@ -14,6 +14,7 @@ package org.talend.components.jdbc.input;
 
 import lombok.extern.slf4j.Slf4j;
 import org.talend.components.jdbc.common.DBType;
+import org.talend.components.jdbc.common.PreparedStatementParameter;
 import org.talend.components.jdbc.common.SchemaInfo;
 import org.talend.components.jdbc.platforms.GenericPlatform;
 import org.talend.components.jdbc.platforms.Platform;
@@ -64,10 +65,20 @@ public class JDBCInputReader {
 
     private final boolean isCloud;
 
+    private final JDBCInputPartition partition;
+
     public JDBCInputReader(final BaseInputConfig config, final JDBCService jdbcService,
             final boolean useExistedConnection, final JDBCService.DataSourceWrapper conn,
             final RecordBuilderFactory recordBuilderFactory, final RuntimeContextHolder context) {
+        this(config, jdbcService, useExistedConnection, conn, recordBuilderFactory, context, null);
+    }
+
+    public JDBCInputReader(final BaseInputConfig config, final JDBCService jdbcService,
+            final boolean useExistedConnection, final JDBCService.DataSourceWrapper conn,
+            final RecordBuilderFactory recordBuilderFactory, final RuntimeContextHolder context,
+            final JDBCInputPartition partition) {
         this.config = config;
+        this.partition = partition;
         this.jdbcService = jdbcService;
         this.useExistedConnection = useExistedConnection;
         this.conn = conn;
@@ -98,13 +109,10 @@ public class JDBCInputReader {
 
             talendTypeList = SchemaInferer.convertSchemaToTalendTypeList(querySchema);
 
+            List<ColumnTrim> columnTrims = config.getConfig().getColumnTrims();
             if (config.getConfig().isTrimAllStringOrCharColumns()) {
                 isTrimAll = true;
-                return querySchema;
-            }
-
-            List<ColumnTrim> columnTrims = config.getConfig().getColumnTrims();
-            if (columnTrims != null && !columnTrims.isEmpty()) {
+            } else if (columnTrims != null && !columnTrims.isEmpty()) {
                 boolean defaultTrim =
                         ((dynamicIndex > -1) && !columnTrims.isEmpty()) ? columnTrims.get(dynamicIndex).isTrim()
                                 : false;
@@ -122,6 +130,9 @@ public class JDBCInputReader {
                     }
                 }
             }
+
+            columnExtractors =
+                    SchemaInferer.createColumnExtractors(querySchema, talendTypeList, isTrimAll, trimMap);
         }
 
         return querySchema;
@@ -129,6 +140,8 @@ public class JDBCInputReader {
 
     private List<TalendType> talendTypeList;
 
+    private ColumnExtractor[] columnExtractors;
+
     private Schema getRuntimeSchema() throws SQLException {
         URL mappingFileDir = null;
         if (context != null) {
@@ -174,9 +187,13 @@ public class JDBCInputReader {
         } else {
             platform = new GenericPlatform(jdbcService.getI18n(), null);
         }
-        final String query = config.getDataSet().getSqlQuery(platform);
+        String query = config.getDataSet().getSqlQuery(platform);
+        if (partition != null) {
+            query = query + " where " + partition.getCondition();
+        }
 
-        boolean usePreparedStatement = config.getConfig().isUsePreparedStatement();
+        // the partition bounds are always bound as parameters
+        boolean usePreparedStatement = config.getConfig().isUsePreparedStatement() || partition != null;
         try {
             String driverClass = config.getDataSet().getDataStore().getJdbcClass();
             if (driverClass != null && driverClass.toLowerCase().contains("mysql")) {
@@ -185,8 +202,7 @@ public class JDBCInputReader {
                     PreparedStatement preparedStatement = conn.getConnection()
                             .prepareStatement(query,
                                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-                    JDBCRuntimeUtils.setPreparedStatement(preparedStatement,
-                            config.getConfig().getPreparedStatementParameters());
+                    setParameters(preparedStatement);
                     statement = preparedStatement;
                 } else {
                     log.debug("Create statement.");
@@ -208,8 +224,7 @@ public class JDBCInputReader {
                     log.debug("Prepared statement: " + query);
                     PreparedStatement preparedStatement =
                             conn.getConnection().prepareStatement(query);
-                    JDBCRuntimeUtils.setPreparedStatement(preparedStatement,
-                            config.getConfig().getPreparedStatementParameters());
+                    setParameters(preparedStatement);
                     statement = preparedStatement;
 
                 } else {
@@ -239,18 +254,35 @@ public class JDBCInputReader {
         }
     }
 
+    private void setParameters(final PreparedStatement preparedStatement) throws SQLException {
+        int index = 0;
+        if (config.getConfig().isUsePreparedStatement()) {
+            final List<PreparedStatementParameter> parameters = config.getConfig().getPreparedStatementParameters();
+            JDBCRuntimeUtils.setPreparedStatement(preparedStatement, parameters);
+            index = parameters.stream().mapToInt(PreparedStatementParameter::getIndex).max().orElse(0);
+        }
+
+        if (partition != null) {
+            for (Object value : partition.getParameters()) {
+                preparedStatement.setObject(++index, value);
+            }
+        }
+    }
+
     private boolean haveNext() throws SQLException {
         boolean haveNext = resultSet.next();
 
         if (haveNext) {
             totalCount++;
-            log.debug("Retrieving the record: " + totalCount);
+            log.debug("Retrieving the record: {}", totalCount);
 
             final Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(getSchema());
             // final Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder();// test prove this is low
             // performance
 
-            SchemaInferer.fillValue(recordBuilder, getSchema(), talendTypeList, resultSet, isTrimAll, trimMap);
+            for (ColumnExtractor extractor : columnExtractors) {
+                extractor.extract(resultSet, recordBuilder);
+            }
 
             currentRecord = recordBuilder.build();
         }
@@ -15,6 +15,8 @@ package org.talend.components.jdbc.input;
 import lombok.Data;
 import org.talend.components.jdbc.dataset.JDBCTableDataSet;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.action.Suggestable;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -26,7 +28,10 @@ import java.io.Serializable;
 })
 @GridLayout(names = GridLayout.FormType.ADVANCED, value = {
         @GridLayout.Row("dataSet"),
-        @GridLayout.Row("config")
+        @GridLayout.Row("config"),
+        @GridLayout.Row("enablePartitioning"),
+        @GridLayout.Row({ "partitionColumn", "partitionCount" }),
+        @GridLayout.Row("partitionStrategy")
 })
 @Documentation("jdbc table input")
 public class JDBCTableInputConfig implements BaseInputConfig, Serializable {
@@ -39,4 +44,24 @@ public class JDBCTableInputConfig implements BaseInputConfig, Serializable {
     @Documentation("common input config")
     private JDBCCommonInputConfig config = new JDBCCommonInputConfig();
 
+    @Option
+    @Documentation("split the table read into several where bounded queries on one column")
+    private boolean enablePartitioning;
+
+    @Option
+    @ActiveIf(target = "enablePartitioning", value = { "true" })
+    @Suggestable(value = "ACTION_SUGGESTION_TABLE_COLUMNS_NAMES", parameters = { "../dataSet" })
+    @Documentation("numeric or date column used to split the table")
+    private String partitionColumn;
+
+    @Option
+    @ActiveIf(target = "enablePartitioning", value = { "true" })
+    @Documentation("number of partitions")
+    private int partitionCount = 4;
+
+    @Option
+    @ActiveIf(target = "enablePartitioning", value = { "true" })
+    @Documentation("how the partition bounds are computed")
+    private PartitionStrategy partitionStrategy = PartitionStrategy.MIN_MAX;
+
 }
@@ -41,12 +41,20 @@ public class TableEmitter implements Serializable {
 
     private transient JDBCInputReader reader;
 
+    private final JDBCInputPartition partition;
+
     public TableEmitter(@Option("configuration") final JDBCTableInputConfig configuration,
             final JDBCService jdbcService,
             final RecordBuilderFactory recordBuilderFactory/* .final I18nMessage i18nMessage */) {
+        this(configuration, jdbcService, recordBuilderFactory, null);
+    }
+
+    public TableEmitter(final JDBCTableInputConfig configuration, final JDBCService jdbcService,
+            final RecordBuilderFactory recordBuilderFactory, final JDBCInputPartition partition) {
         this.configuration = configuration;
         this.recordBuilderFactory = recordBuilderFactory;
         this.jdbcService = jdbcService;
+        this.partition = partition;
         // this.i18n = i18nMessage;
     }
 
@@ -55,7 +63,8 @@ public class TableEmitter implements Serializable {
         dataSource = jdbcService.createConnectionOrGetFromSharedConnectionPoolOrDataSource(
                 configuration.getDataSet().getDataStore(), null, false);
 
-        reader = new JDBCInputReader(configuration, jdbcService, false, dataSource, recordBuilderFactory, null);
+        reader = new JDBCInputReader(configuration, jdbcService, false, dataSource, recordBuilderFactory, null,
+                partition);
         reader.open();
     }
 
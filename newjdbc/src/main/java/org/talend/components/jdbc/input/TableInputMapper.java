@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.jdbc.platforms.GenericPlatform;
+import org.talend.components.jdbc.platforms.Platform;
+import org.talend.components.jdbc.platforms.RuntimeEnvUtil;
+import org.talend.components.jdbc.service.JDBCService;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * table input which can split the read into several where bounded queries on one numeric or date column, every split
+ * runs in its own {@link JDBCInputReader} with its own connection
+ */
+@Slf4j
+@Version(1)
+@Icon(value = Icon.IconType.CUSTOM, custom = "JDBCInput")
+@PartitionMapper(name = "TableInput")
+@Documentation("JDBC table input")
+public class TableInputMapper implements Serializable {
+
+    private static final long serialVersionUID = 1;
+
+    private final JDBCTableInputConfig configuration;
+
+    private final JDBCService jdbcService;
+
+    private final RecordBuilderFactory recordBuilderFactory;
+
+    @Setter
+    private JDBCInputPartition partition;
+
+    public TableInputMapper(@Option("configuration") final JDBCTableInputConfig configuration,
+            final JDBCService jdbcService, final RecordBuilderFactory recordBuilderFactory) {
+        this.configuration = configuration;
+        this.jdbcService = jdbcService;
+        this.recordBuilderFactory = recordBuilderFactory;
+    }
+
+    private boolean isPartitioned() {
+        return configuration.isEnablePartitioning() && configuration.getPartitionCount() > 1
+                && configuration.getPartitionColumn() != null && !configuration.getPartitionColumn().isEmpty();
+    }
+
+    /**
+     * The size is not the table size in bytes: it would need a query on the table at every assessment while the
+     * number of partitions is only driven by the configured partition count. It is that count, so the runtime asks for
+     * a split when the table input is partitioned.
+     */
+    @Assessor
+    public long estimateSize() {
+        return isPartitioned() && partition == null ? configuration.getPartitionCount() : 1L;
+    }
+
+    /**
+     * @param bundles ignored, the runtime derives it from {@link #estimateSize()} which is not a size in bytes, the
+     * table is split in the configured partition count
+     */
+    @Split
+    public List<TableInputMapper> split(@PartitionSize final long bundles) {
+        if (!isPartitioned() || partition != null) {
+            return singletonList(this);
+        }
+
+        log.info("split number : {}", configuration.getPartitionCount());
+
+        final List<JDBCInputPartition> partitions;
+        try {
+            partitions = computePartitions();
+        } catch (SQLException e) {
+            // the reader still works on the whole table, and reports the connection issues if any
+            log.warn("can't compute the partition bounds, the table is read without split: {}", e.getMessage());
+            return singletonList(this);
+        }
+
+        if (partitions.size() < 2) {
+            return singletonList(this);
+        }
+
+        return partitions.stream().map(this::cloneMapperAndSetPartition).collect(Collectors.toList());
+    }
+
+    private TableInputMapper cloneMapperAndSetPartition(final JDBCInputPartition partition) {
+        final TableInputMapper mapper = new TableInputMapper(configuration, jdbcService, recordBuilderFactory);
+        mapper.setPartition(partition);
+        return mapper;
+    }
+
+    private List<JDBCInputPartition> computePartitions() throws SQLException {
+        final boolean isCloud = RuntimeEnvUtil.isCloud(configuration.getDataSet().getDataStore());
+        // names are written as the reader writes its query, which is not quoted outside cloud
+        final Platform naming;
+        if (isCloud) {
+            naming = jdbcService.getPlatformService().getPlatform(configuration.getDataSet().getDataStore());
+        } else {
+            naming = new GenericPlatform(jdbcService.getI18n(), null);
+        }
+
+        final String table = naming.identifier(configuration.getDataSet().getTableName());
+        final String column = naming.identifier(configuration.getPartitionColumn());
+        final int count = configuration.getPartitionCount();
+
+        final List<Serializable> bounds;
+        try (JDBCService.DataSourceWrapper dataSource = jdbcService
+                .createConnectionOrGetFromSharedConnectionPoolOrDataSource(
+                        configuration.getDataSet().getDataStore(), null, true);
+                Statement statement = dataSource.getConnection().createStatement()) {
+            // the bound queries need the SQL dialect, outside cloud only the connection knows the database
+            final Platform dialect = isCloud ? naming
+                    : jdbcService.getPlatformService().getPlatform(dataSource.getConnection().getMetaData());
+            bounds = computeBounds(dialect, statement, table, column, count, configuration.getPartitionStrategy());
+        }
+
+        return toPartitions(column, bounds.stream().distinct().collect(Collectors.toList()));
+    }
+
+    /**
+     * @param table the table identifier
+     * @param column the partition column identifier
+     * @return the inner partition bounds, from NTILE buckets when asked and supported, from equal width ranges between
+     * min and max otherwise or when the NTILE query doesn't give a bound per partition
+     */
+    static List<Serializable> computeBounds(final Platform platform, final Statement statement, final String table,
+            final String column, final int count, final PartitionStrategy strategy) throws SQLException {
+        if (strategy == PartitionStrategy.NTILE && platform.supportsNtile()) {
+            final String query = platform.ntileBoundaryQuery(table, column, count);
+            log.debug("Partition bounds query: '{}'", query);
+            final List<Serializable> bounds = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                while (resultSet.next()) {
+                    final Object value = resultSet.getObject(1);
+                    if (!(value instanceof Serializable)) {
+                        log.warn("can't use the partition column value {} as split bound", value);
+                        return Collections.emptyList();
+                    }
+                    bounds.add((Serializable) value);
+                }
+            }
+            // the last bucket upper bound is the max value, the last partition has no upper bound
+            if (!bounds.isEmpty()) {
+                bounds.remove(bounds.size() - 1);
+            }
+            // a sampled table can give less rows than buckets, or none at all on a small table
+            if (bounds.size() >= count - 1) {
+                return bounds;
+            }
+            log.info("NTILE query gave {} partition bounds out of {}, use min/max partition bounds", bounds.size(),
+                    count - 1);
+        } else if (strategy == PartitionStrategy.NTILE) {
+            log.warn("{} doesn't support NTILE, use min/max partition bounds", platform.name());
+        }
+
+        final String query = platform.minMaxBoundaryQuery(table, column);
+        log.debug("Partition bounds query: '{}'", query);
+        try (ResultSet resultSet = statement.executeQuery(query)) {
+            return resultSet.next() ? interpolate(resultSet.getObject(1), resultSet.getObject(2), count)
+                    : Collections.emptyList();
+        }
+    }
+
+    /**
+     * @return the count - 1 inner bounds of equal width ranges between min and max
+     */
+    static List<Serializable> interpolate(final Object min, final Object max, final int count) {
+        if (min instanceof Number && max instanceof Number) {
+            final BigDecimal low = toBigDecimal((Number) min);
+            final BigDecimal high = toBigDecimal((Number) max);
+            final boolean integral = low.scale() <= 0 && high.scale() <= 0;
+            final BigDecimal step = high.subtract(low).divide(BigDecimal.valueOf(count), 10, RoundingMode.FLOOR);
+            final List<Serializable> bounds = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                BigDecimal bound = low.add(step.multiply(BigDecimal.valueOf(i)));
+                if (integral) {
+                    bound = bound.setScale(0, RoundingMode.FLOOR);
+                }
+                if (bound.compareTo(low) >= 0 && bound.compareTo(high) < 0) {
+                    bounds.add(bound);
+                }
+            }
+            return bounds;
+        } else if (min instanceof Date && max instanceof Date) {
+            final long low = ((Date) min).getTime();
+            final long high = ((Date) max).getTime();
+            final List<Serializable> bounds = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                final long bound = low + (high - low) / count * i;
+                if (bound < high) {
+                    bounds.add(new Timestamp(bound));
+                }
+            }
+            return bounds;
+        }
+
+        log.warn("can't compute min/max partition bounds for the values {} and {}, only numeric or date column works",
+                min, max);
+        return Collections.emptyList();
+    }
+
+    private static BigDecimal toBigDecimal(final Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    /**
+     * every bound is the inclusive upper bound of one partition, null values go to the first partition
+     */
+    static List<JDBCInputPartition> toPartitions(final String column, final List<Serializable> bounds) {
+        if (bounds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<JDBCInputPartition> partitions = new ArrayList<>();
+        partitions.add(new JDBCInputPartition("(" + column + " <= ? or " + column + " is null)",
+                singletonList(bounds.get(0))));
+        for (int i = 1; i < bounds.size(); i++) {
+            partitions.add(new JDBCInputPartition(column + " > ? and " + column + " <= ?",
+                    Arrays.asList(bounds.get(i - 1), bounds.get(i))));
+        }
+        partitions.add(new JDBCInputPartition(column + " > ?", singletonList(bounds.get(bounds.size() - 1))));
+        return partitions;
+    }
+
+    @Emitter
+    public TableEmitter createWorker() {
+        return new TableEmitter(configuration, jdbcService, recordBuilderFactory, partition);
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.jdbc.service.JDBCService;
+import org.talend.sdk.component.api.context.RuntimeContextHolder;
+import org.talend.sdk.component.api.record.Record;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelined batch execution for {@link JDBCOutputWriter}.
+ * <p>
+ * The caller thread binds the rows on a recording statement, every full batch is then replayed and executed by one of
+ * the worker connections while the next batch is bound. When all the workers are busy, the caller waits for one of
+ * them, so no more than one pending batch per worker is kept in memory. Each worker commits its own rows every
+ * "commit every" rows and when the pipeline is flushed.
+ * <p>
+ * A worker which fails rolls back its transaction, the failure is then reported with the records of all the batches
+ * it lost so that the writer can reject them. The records and the update counts of the other batches are only reported
+ * once their rows are committed, so that a record is either written or rejected.
+ */
+@Slf4j
+class BatchPipeline implements AutoCloseable {
+
+    @FunctionalInterface
+    interface BatchExecutor {
+
+        int executeBatch(PreparedStatement statement) throws SQLException;
+    }
+
+    private final JDBCOutputConfig config;
+
+    private final JDBCService jdbcService;
+
+    private final RuntimeContextHolder context;
+
+    private final BatchExecutor batchExecutor;
+
+    private final int commitEvery;
+
+    private final int workerCount;
+
+    private final BlockingQueue<Worker> idleWorkers;
+
+    private final List<Worker> workers = new ArrayList<>();
+
+    private final ExecutorService executor;
+
+    private final Deque<Future<Void>> pendingBatches = new ArrayDeque<>();
+
+    private final List<BatchFailure> failures = new ArrayList<>();
+
+    // filled by the workers as they commit
+    private final Queue<Batch> committedBatches = new ConcurrentLinkedQueue<>();
+
+    private final List<Record> writtenRecords = new ArrayList<>();
+
+    private String sql;
+
+    private Batch batch = new Batch();
+
+    private List<Object[]> row = new ArrayList<>();
+
+    BatchPipeline(final JDBCOutputConfig config, final JDBCService jdbcService, final RuntimeContextHolder context,
+            final BatchExecutor batchExecutor, final int commitEvery) {
+        this.config = config;
+        this.jdbcService = jdbcService;
+        this.context = context;
+        this.batchExecutor = batchExecutor;
+        this.commitEvery = commitEvery;
+        this.workerCount = Math.max(1, config.getPipelineWorkers());
+        this.idleWorkers = new ArrayBlockingQueue<>(workerCount);
+        this.executor = Executors.newFixedThreadPool(workerCount, r -> {
+            final Thread thread = new Thread(r, "talend-jdbc-batch-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return a statement which only records the parameters and the addBatch calls of the sql, the rows are executed
+     * by the workers when the batch is submitted
+     */
+    PreparedStatement prepareStatement(final String sql) {
+        this.sql = sql;
+        return (PreparedStatement) Proxy.newProxyInstance(BatchPipeline.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    final String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                        row.add(new Object[] { method, args });
+                    } else if ("addBatch".equals(name) && args == null) {
+                        batch.rows.add(row);
+                        row = new ArrayList<>();
+                    } else if ("clearParameters".equals(name)) {
+                        row.clear();
+                    } else if ("clearBatch".equals(name)) {
+                        batch = new Batch();
+                    } else if ("close".equals(name) || "setQueryTimeout".equals(name)) {
+                        // the worker statements are closed with the pipeline and get the timeout from the config
+                    } else if ("toString".equals(name)) {
+                        return "BatchPipeline statement: " + this.sql;
+                    } else if ("hashCode".equals(name)) {
+                        return System.identityHashCode(proxy);
+                    } else if ("equals".equals(name)) {
+                        return proxy == args[0];
+                    } else {
+                        throw new SQLException("Unsupported operation on a pipelined statement: " + name);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Attaches the input record to the row just added to the batch, so that it can be rejected if its batch fails.
+     *
+     * @param line the line number of the record for the reject message
+     */
+    void addRecord(final Record record, final int line) {
+        if (batch.records.isEmpty()) {
+            batch.firstLine = line;
+        }
+        batch.records.add(record);
+    }
+
+    /**
+     * Hands the recorded rows to the first idle worker, waiting for one if all of them are busy.
+     *
+     * @return the update count of the batches committed in the meantime, their records are kept for
+     * {@link #takeWrittenRecords()} and the failures for {@link #takeFailures()}
+     */
+    int submit() throws SQLException {
+        if (!batch.rows.isEmpty()) {
+            // get the worker first so that the rows are kept for the next call if its connection can't be created
+            final Worker worker = nextWorker();
+            final Batch rows = batch;
+            batch = new Batch();
+            pendingBatches.add(executor.submit(() -> {
+                try {
+                    worker.execute(rows);
+                    return null;
+                } finally {
+                    idleWorkers.add(worker);
+                }
+            }));
+        }
+        return collect(false);
+    }
+
+    /**
+     * Submits the last rows, waits for all the batches and commits the workers.
+     *
+     * @return the update count of the remaining batches
+     */
+    int flush() throws SQLException {
+        final int count = submit() + collect(true);
+        for (final Worker worker : workers) {
+            try {
+                worker.commit();
+            } catch (final BatchFailure e) {
+                failures.add(e);
+            }
+        }
+        return count + takeCommitted();
+    }
+
+    /**
+     * @return the records committed since the last call
+     */
+    List<Record> takeWrittenRecords() {
+        if (writtenRecords.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Record> taken = new ArrayList<>(writtenRecords);
+        writtenRecords.clear();
+        return taken;
+    }
+
+    /**
+     * @return the failures reported since the last call, in submit order
+     */
+    List<BatchFailure> takeFailures() {
+        if (failures.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<BatchFailure> taken = new ArrayList<>(failures);
+        failures.clear();
+        return taken;
+    }
+
+    private Worker nextWorker() throws SQLException {
+        Worker worker = idleWorkers.poll();
+        if (worker == null && workers.size() < workerCount) {
+            worker = new Worker(jdbcService.createConnectionOrGetFromSharedConnectionPoolOrDataSource(
+                    config.getDataSet().getDataStore(), context, false));
+            workers.add(worker);
+        }
+        if (worker == null) {
+            try {
+                worker = idleWorkers.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+        }
+        return worker;
+    }
+
+    // in submit order, so the failures are reported in the order of the records
+    private int collect(final boolean wait) throws SQLException {
+        while (!pendingBatches.isEmpty() && (wait || pendingBatches.peek().isDone())) {
+            try {
+                pendingBatches.poll().get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof BatchFailure) {
+                    failures.add((BatchFailure) e.getCause());
+                } else {
+                    throw new SQLException(e.getCause());
+                }
+            }
+        }
+        return takeCommitted();
+    }
+
+    private int takeCommitted() {
+        int count = 0;
+        Batch committed;
+        while ((committed = committedBatches.poll()) != null) {
+            count += committed.count;
+            writtenRecords.addAll(committed.records);
+        }
+        return count;
+    }
+
+    /**
+     * Stops the workers and releases their connections, what they did not commit in {@link #flush()} is rolled back.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(config.isUseQueryTimeout() ? config.getQueryTimeout() : 60,
+                    TimeUnit.SECONDS)) {
+                log.warn("The pipelined batches are still running, their connections are closed anyway.");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (final Worker worker : workers) {
+            worker.close();
+        }
+        workers.clear();
+        idleWorkers.clear();
+        pendingBatches.clear();
+    }
+
+    private static class Batch {
+
+        private final List<List<Object[]>> rows = new ArrayList<>();
+
+        private final List<Record> records = new ArrayList<>();
+
+        private int firstLine;
+
+        private int count;
+    }
+
+    /**
+     * Error of a worker with the records it did not write: the failed batch and, as the worker rolled back, the
+     * batches it executed since its last commit.
+     */
+    static class BatchFailure extends SQLException {
+
+        @Getter
+        private final transient List<Record> records = new ArrayList<>();
+
+        private final List<Integer> lines = new ArrayList<>();
+
+        private BatchFailure(final SQLException cause, final List<Batch> batches) {
+            super(cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause);
+            for (final Batch batch : batches) {
+                for (int i = 0; i < batch.records.size(); i++) {
+                    records.add(batch.records.get(i));
+                    lines.add(batch.firstLine + i);
+                }
+            }
+        }
+
+        int getLine(final int index) {
+            return lines.get(index);
+        }
+    }
+
+    class Worker {
+
+        private final JDBCService.DataSourceWrapper dataSource;
+
+        private final List<Batch> uncommittedBatches = new ArrayList<>();
+
+        private PreparedStatement statement;
+
+        private int uncommittedRows;
+
+        private Worker(final JDBCService.DataSourceWrapper dataSource) throws SQLException {
+            this.dataSource = dataSource;
+            if (commitEvery > 0) {
+                dataSource.getConnection().setAutoCommit(false);
+            }
+        }
+
+        private void execute(final Batch batch) throws BatchFailure {
+            try {
+                if (statement == null) {
+                    statement = dataSource.getConnection().prepareStatement(sql);
+                }
+                for (final List<Object[]> parameters : batch.rows) {
+                    for (final Object[] call : parameters) {
+                        invoke(call);
+                    }
+                    statement.addBatch();
+                }
+                batch.count = batchExecutor.executeBatch(statement);
+            } catch (final SQLException e) {
+                clearBatchQuietly();
+                throw rollback(e, batch);
+            }
+
+            if (commitEvery > 0) {
+                uncommittedBatches.add(batch);
+                uncommittedRows += batch.rows.size();
+                if (uncommittedRows >= commitEvery) {
+                    commit();
+                }
+            } else {
+                committedBatches.add(batch);
+            }
+        }
+
+        private void invoke(final Object[] call) throws SQLException {
+            try {
+                ((Method) call[0]).invoke(statement, (Object[]) call[1]);
+            } catch (final InvocationTargetException e) {
+                if (e.getTargetException() instanceof SQLException) {
+                    throw (SQLException) e.getTargetException();
+                }
+                throw new SQLException(e.getTargetException());
+            } catch (final IllegalAccessException e) {
+                throw new SQLException(e);
+            }
+        }
+
+        private void commit() throws BatchFailure {
+            if (uncommittedBatches.isEmpty()) {
+                return;
+            }
+            try {
+                log.debug("Committing the transaction of the pipelined connection.");
+                dataSource.getConnection().commit();
+                committedBatches.addAll(uncommittedBatches);
+                uncommittedBatches.clear();
+                uncommittedRows = 0;
+            } catch (final SQLException e) {
+                throw rollback(e, null);
+            }
+        }
+
+        private BatchFailure rollback(final SQLException cause, final Batch failedBatch) {
+            final List<Batch> lost = new ArrayList<>(uncommittedBatches);
+            if (failedBatch != null) {
+                lost.add(failedBatch);
+            }
+            uncommittedBatches.clear();
+            uncommittedRows = 0;
+            if (commitEvery > 0) {
+                try {
+                    log.debug("Rolling back the transaction of the pipelined connection.");
+                    dataSource.getConnection().rollback();
+                } catch (final SQLException e) {
+                    cause.addSuppressed(e);
+                }
+            }
+            return new BatchFailure(cause, lost);
+        }
+
+        private void clearBatchQuietly() {
+            if (statement != null) {
+                try {
+                    statement.clearBatch();
+                } catch (final SQLException e) {
+                    // the statement is not reusable, it is closed and prepared again
+                    closeStatementQuietly();
+                }
+            }
+        }
+
+        private void closeStatementQuietly() {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                // close quietly
+            }
+            statement = null;
+        }
+
+        private void close() {
+            if (!uncommittedBatches.isEmpty()) {
+                rollback(new SQLException("The pipeline is closed before being flushed."), null);
+            }
+            if (statement != null) {
+                closeStatementQuietly();
+            }
+            try {
+                dataSource.close();
+            } catch (final SQLException e) {
+                log.warn("Can't close the pipelined connection: {}", e.getMessage());
+            }
+        }
+    }
+}
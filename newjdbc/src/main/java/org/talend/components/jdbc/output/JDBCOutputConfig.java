@@ -63,12 +63,16 @@ import static org.talend.sdk.component.api.configuration.condition.ActiveIfs.Ope
         @GridLayout.Row("debugQuery"),
         @GridLayout.Row("useBatch"),
         @GridLayout.Row("batchSize"),
+        @GridLayout.Row("usePipelinedBatch"),
+        @GridLayout.Row("pipelineWorkers"),
         @GridLayout.Row("useQueryTimeout"),
         @GridLayout.Row("queryTimeout"),
 
         // cloud special
         @GridLayout.Row("rewriteBatchedStatements"),
-        @GridLayout.Row("useOriginColumnName")
+        @GridLayout.Row("useOriginColumnName"),
+        @GridLayout.Row("useStreamingCopy"),
+        @GridLayout.Row("streamingChunkSize")
 
 })
 @Documentation("jdbc output")
@@ -172,6 +176,24 @@ public class JDBCOutputConfig implements Serializable {
     @Documentation("To keep the old behavior that use sanitized name as column name")
     private boolean useOriginColumnName = true;
 
+    @Option
+    @ActiveIfs(operator = AND, value = {
+            @ActiveIf(target = "../dataSet.dataStore.dbType", value = { "Snowflake" }),
+            @ActiveIf(target = "../dataAction", value = { "INSERT" })
+    })
+    @Documentation("Write the records into rolling compressed files uploaded in background and load them with one "
+            + "COPY INTO at the end, instead of buffering every batch in memory")
+    private boolean useStreamingCopy;
+
+    @Option
+    @ActiveIfs(operator = AND, value = {
+            @ActiveIf(target = "../dataSet.dataStore.dbType", value = { "Snowflake" }),
+            @ActiveIf(target = "../dataAction", value = { "INSERT" }),
+            @ActiveIf(target = "../useStreamingCopy", value = { "true" })
+    })
+    @Documentation("Uncompressed size in MB of one uploaded file")
+    private int streamingChunkSize = 16;
+
     // cloud special ui end================
 
     @Option
@@ -233,6 +255,23 @@ public class JDBCOutputConfig implements Serializable {
     @Documentation("")
     private int batchSize = 10000;
 
+    @Option
+    @ActiveIf(target = UIScope.TARGET, value = { UIScope.STUDIO_SCOPE })
+    @ActiveIf(target = "dataAction", value = { "INSERT", "UPDATE", "DELETE" })
+    @ActiveIf(target = "useBatch", value = { "true" })
+    @Documentation("Execute the batches on other connections while the next batch is prepared, "
+            + "each connection commits its own rows.\n"
+            + "A record is sent to the main flow once its row is committed.")
+    private boolean usePipelinedBatch;
+
+    @Option
+    @ActiveIf(target = UIScope.TARGET, value = { UIScope.STUDIO_SCOPE })
+    @ActiveIf(target = "dataAction", value = { "INSERT", "UPDATE", "DELETE" })
+    @ActiveIf(target = "useBatch", value = { "true" })
+    @ActiveIf(target = "usePipelinedBatch", value = { "true" })
+    @Documentation("Number of connections executing the batches in parallel")
+    private int pipelineWorkers = 2;
+
     @Option
     @ActiveIf(target = UIScope.TARGET, value = { UIScope.STUDIO_SCOPE })
     @Documentation("")
@@ -44,7 +44,7 @@ public class JDBCOutputInsertWriter extends JDBCOutputWriter {
             if (!isDynamic) {
                 sql = JDBCSQLBuilder.getInstance()
                         .generateSQL4Insert(platform, config.getDataSet().getTableName(), columnList);
-                statement = conn.getConnection().prepareStatement(sql);
+                statement = prepareStatement(sql);
             }
         } catch (SQLException e) {
             throw e;
@@ -64,7 +64,7 @@ public class JDBCOutputInsertWriter extends JDBCOutputWriter {
                     columnList = JDBCSQLBuilder.getInstance().createColumnList(config, currentSchema);
                     sql = JDBCSQLBuilder.getInstance()
                             .generateSQL4Insert(platform, config.getDataSet().getTableName(), columnList);
-                    statement = conn.getConnection().prepareStatement(sql);
+                    statement = prepareStatement(sql);
                 } catch (SQLException e) {
                     throw e;
                 }
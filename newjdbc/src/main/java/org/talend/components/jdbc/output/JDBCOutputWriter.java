@@ -93,6 +93,8 @@ public abstract class JDBCOutputWriter {
 
     protected final Platform platform;
 
+    protected BatchPipeline pipeline;
+
     public JDBCOutputWriter(final JDBCOutputConfig config, final JDBCService jdbcService,
             final boolean useExistedConnection, final JDBCService.DataSourceWrapper conn,
             final RecordBuilderFactory recordBuilderFactory, final RuntimeContextHolder context) {
@@ -133,6 +135,13 @@ public abstract class JDBCOutputWriter {
 
         dieOnError = config.isDieOnError();
 
+        // the worker connections can't share the transaction of an existed or shared connection
+        if (useBatch && config.isUsePipelinedBatch() && !useExistedConnection
+                && !config.getDataSet().getDataStore().isUseSharedDBConnection()) {
+            pipeline = new BatchPipeline(config, jdbcService, context, this::executeBatchAndGetCount,
+                    useCommit ? commitEvery : 0);
+        }
+
         useQueryTimeout = config.isUseQueryTimeout();
         if (useQueryTimeout) {
             queryTimeout = config.getQueryTimeout();
@@ -168,12 +177,23 @@ public abstract class JDBCOutputWriter {
                 log.debug("Executing the query: '{}'", sql);
                 deleteCount += statement.executeUpdate(sql);
             }
+            // or the worker connections wait for the lock of the deleted rows
+            if (pipeline != null && useCommit) {
+                conn.getConnection().commit();
+            }
         } catch (SQLException e) {
             throw e;
         }
 
     }
 
+    protected PreparedStatement prepareStatement(final String sql) throws SQLException {
+        if (pipeline != null) {
+            return pipeline.prepareStatement(sql);
+        }
+        return conn.getConnection().prepareStatement(sql);
+    }
+
     private String bufferSizeKey4Parallelize;
 
     public void write(Record input) throws SQLException {
@@ -203,6 +223,8 @@ public abstract class JDBCOutputWriter {
     public abstract void close() throws SQLException;
 
     protected void commitAndCloseAtLast() throws SQLException {
+        closePipeline();
+
         if (useExistedConnection) {
             return;
         }
@@ -250,6 +272,10 @@ public abstract class JDBCOutputWriter {
             return;
         }
 
+        reject(input, e, totalCount);
+    }
+
+    private void reject(Record input, SQLException e, int line) {
         rejectCount++;
 
         Record.Builder builder = recordBuilderFactory.newRecordBuilder(rejectSchema);
@@ -263,7 +289,7 @@ public abstract class JDBCOutputWriter {
             } else if ("errorCode".equals(rejectField.getName())) {
                 rejectValue = e.getSQLState();
             } else if ("errorMessage".equals(rejectField.getName())) {
-                rejectValue = e.getMessage() + " - Line: " + totalCount;
+                rejectValue = e.getMessage() + " - Line: " + line;
             }
 
             builder.with(rejectField, rejectValue);
@@ -276,7 +302,8 @@ public abstract class JDBCOutputWriter {
     protected int executeCommit(PreparedStatement statement) throws SQLException {
         int result = 0;
 
-        if (!useCommit) {
+        // the pipelined workers commit their own rows
+        if (!useCommit || pipeline != null) {
             return result;
         }
 
@@ -307,13 +334,17 @@ public abstract class JDBCOutputWriter {
 
             totalCount++;
 
+            if (pipeline != null) {
+                pipeline.addRecord(input, totalCount);
+            }
+
             batchCount++;
 
             if (batchCount < batchSize) {
 
             } else {
                 batchCount = 0;
-                count = executeBatchAndGetCount(statement);
+                count = pipeline != null ? pipeline.submit() : executeBatchAndGetCount(statement);
             }
         } else {
             if (useQueryTimeout) {
@@ -325,11 +356,42 @@ public abstract class JDBCOutputWriter {
             totalCount++;
         }
 
-        handleSuccess(input);
+        if (pipeline != null) {
+            // the record is a success once its batch is committed
+            handlePipelinedBatches();
+        } else {
+            handleSuccess(input);
+        }
 
         return count;
     }
 
+    /**
+     * Accepts the records of the pipelined batches which were committed and rejects the ones of the batches which
+     * failed, none of them has to be the current record.
+     */
+    private void handlePipelinedBatches() throws SQLException {
+        for (Record written : pipeline.takeWrittenRecords()) {
+            handleSuccess(written);
+        }
+        for (BatchPipeline.BatchFailure failure : pipeline.takeFailures()) {
+            log.warn(failure.getMessage());
+            if (dieOnError) {
+                throw failure;
+            }
+            for (int i = 0; i < failure.getRecords().size(); i++) {
+                reject(failure.getRecords().get(i), failure, failure.getLine(i));
+            }
+        }
+    }
+
+    private void closePipeline() {
+        if (pipeline != null) {
+            pipeline.close();
+            pipeline = null;
+        }
+    }
+
     protected int executeBatchAndGetCount(PreparedStatement statement) throws SQLException {
         int result = 0;
 
@@ -388,7 +450,23 @@ public abstract class JDBCOutputWriter {
     }
 
     protected int executeBatchAtLast() throws SQLException {
-        if (useBatch && batchCount > 0) {
+        if (pipeline != null) {
+            try {
+                batchCount = 0;
+                int count = pipeline.flush();
+                handlePipelinedBatches();
+                return count;
+            } catch (SQLException e) {
+                if (dieOnError) {
+                    throw e;
+                } else {
+                    log.warn(e.getMessage());
+                }
+            } finally {
+                // the writers close the connection only when this succeeds
+                closePipeline();
+            }
+        } else if (useBatch && batchCount > 0) {
             try {
                 batchCount = 0;
                 return executeBatchAndGetCount(statement);
@@ -21,6 +21,7 @@ import org.talend.components.jdbc.platforms.RuntimeEnvUtil;
 import org.talend.components.jdbc.platforms.cloud.QueryManager;
 import org.talend.components.jdbc.platforms.cloud.QueryManagerFactory;
 import org.talend.components.jdbc.platforms.cloud.Reject;
+import org.talend.components.jdbc.platforms.cloud.StreamingQueryManager;
 import org.talend.components.jdbc.schema.CommonUtils;
 import org.talend.components.jdbc.schema.Dbms;
 import org.talend.components.jdbc.service.JDBCService;
@@ -90,6 +91,8 @@ public class OutputProcessor implements Serializable {
 
     private transient QueryManager queryManager;
 
+    private transient StreamingQueryManager streamingQueryManager;
+
     private transient List<Record> records;
 
     private transient int batchSize;
@@ -144,6 +147,9 @@ public class OutputProcessor implements Serializable {
                         jdbcService.getPlatformService().getPlatform(configuration.getDataSet().getDataStore());
                 this.queryManager = QueryManagerFactory.getQueryManager(platform, jdbcService.getI18n(), configuration,
                         recordBuilderFactory);
+                if (configuration.isUseStreamingCopy() && queryManager instanceof StreamingQueryManager) {
+                    this.streamingQueryManager = StreamingQueryManager.class.cast(queryManager);
+                }
             }
 
             if (queryManager == null) {
@@ -180,6 +186,21 @@ public class OutputProcessor implements Serializable {
             init = true;
         }
 
+        if (streamingQueryManager != null) {
+            try {
+                if (tableExistsCheck == null) {
+                    // only the first record is needed to create the table
+                    records.add(rec);
+                    createTableIfNeed();
+                    records.clear();
+                }
+                streamingQueryManager.write(rec, dataSource);
+            } catch (final SQLException | IOException e) {
+                throw ErrorFactory.toIllegalStateException(e);
+            }
+            return;
+        }
+
         if (queryManager != null) {
             batchCount++;
             records.add(rec);
@@ -251,7 +272,14 @@ public class OutputProcessor implements Serializable {
     @PreDestroy
     public void release() throws SQLException {
         if (queryManager != null && dataSource != null) {
-            if (batchCount > 0) {
+            if (streamingQueryManager != null) {
+                try {
+                    final List<Reject> discards = streamingQueryManager.finish(dataSource);
+                    discards.stream().map(Object::toString).forEach(log::error);
+                } catch (final SQLException | IOException e) {
+                    throw ErrorFactory.toIllegalStateException(e);
+                }
+            } else if (batchCount > 0) {
                 batchCount = 0;
                 try {
                     createTableIfNeed();
@@ -79,6 +79,11 @@ public class DerbyPlatform extends Platform {
         return e instanceof SQLException && "X0Y32".equals(((SQLException) e).getSQLState());
     }
 
+    @Override
+    public boolean supportsNtile() {
+        return false;
+    }
+
     @Override
     protected String isRequired(final Column column) {
         return column.isNullable() && !column.isPrimaryKey() ? "" : "NOT NULL";
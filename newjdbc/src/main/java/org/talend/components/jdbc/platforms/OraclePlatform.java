@@ -89,6 +89,17 @@ public class OraclePlatform extends Platform {
         dataSource.addDataSourceProperty("oracle.jdbc.J2EE13Compliant", "TRUE");
     }
 
+    /**
+     * NTILE on a block sample only, a full sort of a big table is too expensive for approximate split bounds. A sample
+     * with less rows than buckets makes the mapper use min/max bounds instead
+     */
+    @Override
+    public String ntileBoundaryQuery(final String table, final String column, final int buckets) {
+        return "SELECT MAX(" + column + ") FROM (SELECT " + column + ", NTILE(" + buckets + ") OVER (ORDER BY " + column
+                + ") talend_bucket FROM " + table + " SAMPLE BLOCK (1) WHERE " + column
+                + " IS NOT NULL) talend_split GROUP BY talend_bucket ORDER BY 1";
+    }
+
     @Override
     protected boolean isTableExistsCreationError(final Throwable e) {
         return e instanceof SQLException && "42000".equals(((SQLException) e).getSQLState())
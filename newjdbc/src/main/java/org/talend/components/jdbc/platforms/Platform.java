@@ -318,6 +318,33 @@ public abstract class Platform implements Serializable {
                 .build();
     }
 
+    /**
+     * @param table the table identifier, already quoted when needed
+     * @param column the column identifier, already quoted when needed
+     * @return the query which returns the lowest and the highest value of the column in one row
+     */
+    public String minMaxBoundaryQuery(final String table, final String column) {
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + table;
+    }
+
+    /**
+     * @return true if the database implements the NTILE window function
+     */
+    public boolean supportsNtile() {
+        return true;
+    }
+
+    /**
+     * @param table the table identifier, already quoted when needed
+     * @param column the column identifier, already quoted when needed
+     * @return the query which returns the upper bound of every NTILE bucket of the column, in ascending order
+     */
+    public String ntileBoundaryQuery(final String table, final String column, final int buckets) {
+        return "SELECT MAX(" + column + ") FROM (SELECT " + column + ", NTILE(" + buckets + ") OVER (ORDER BY " + column
+                + ") talend_bucket FROM " + table + " WHERE " + column
+                + " IS NOT NULL) talend_split GROUP BY talend_bucket ORDER BY 1";
+    }
+
     /**
      * Add platform related properties to jdbc connections
      *
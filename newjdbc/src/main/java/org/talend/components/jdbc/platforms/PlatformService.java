@@ -19,6 +19,8 @@ import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.configuration.Configuration;
 import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
 
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.Locale;
 import java.util.function.Supplier;
 
@@ -110,4 +112,32 @@ public class PlatformService {
         }
     }
 
+    /**
+     * Platform of the database a connection is opened on, for a connection which is not configured by its database
+     * type, like a studio one with a custom driver.
+     *
+     * @return the platform matching the database product name, the generic one for an unknown database
+     */
+    public Platform getPlatform(final DatabaseMetaData metaData) throws SQLException {
+        final String product = String.valueOf(metaData.getDatabaseProductName()).toLowerCase(Locale.ROOT);
+        if (product.contains(MARIADB)) {
+            return new MariaDbPlatform(i18n, null);
+        } else if (product.contains(MYSQL)) {
+            return new MySQLPlatform(i18n, null);
+        } else if (product.contains(REDSHIFT)) {
+            return new RedshiftPlatform(i18n, null);
+        } else if (product.contains(POSTGRESQL)) {
+            return new PostgreSQLPlatform(i18n, null);
+        } else if (product.contains(SNOWFLAKE)) {
+            return new SnowflakePlatform(i18n, null);
+        } else if (product.contains(ORACLE)) {
+            return new OraclePlatform(i18n, null);
+        } else if (product.contains("sql server")) {
+            return new MSSQLPlatform(i18n, null);
+        } else if (product.contains(DERBY)) {
+            return new DerbyPlatform(i18n, null);
+        }
+        return new GenericPlatform(i18n, null);
+    }
+
 }
@@ -70,6 +70,17 @@ public class PostgreSQLPlatform extends Platform {
         return sql.toString();
     }
 
+    /**
+     * compute the buckets on a 1% block sample to avoid sorting the whole table, the bounds are only used to balance
+     * the partitions so an approximation is enough, when the sample is too small the mapper uses min/max bounds
+     */
+    @Override
+    public String ntileBoundaryQuery(final String table, final String column, final int buckets) {
+        return "SELECT MAX(" + column + ") FROM (SELECT " + column + ", NTILE(" + buckets + ") OVER (ORDER BY " + column
+                + ") talend_bucket FROM " + table + " TABLESAMPLE SYSTEM (1) WHERE " + column
+                + " IS NOT NULL) talend_split GROUP BY talend_bucket ORDER BY 1";
+    }
+
     @Override
     protected boolean isTableExistsCreationError(final Throwable e) {
         // name space creation issue in distributed exectution is not handled by "IF NOT EXISTS"
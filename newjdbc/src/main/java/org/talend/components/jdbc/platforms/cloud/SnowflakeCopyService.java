@@ -23,8 +23,10 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -38,9 +40,14 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Optional.*;
 import static java.util.Optional.empty;
@@ -52,6 +59,14 @@ public class SnowflakeCopyService implements Serializable {
 
     private static final long MAX_CHUNK = 16L * 1024 * 1024; // 16MB
 
+    // one chunk is uploaded while the next one is written
+    private static final int STREAMING_PARALLEL_UPLOADS = 2;
+
+    // Snowflake refuses a FILES list of more than 1000 names in one COPY INTO
+    private static final int MAX_COPY_FILES = 1000;
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
     private static final String TIMESTAMP_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
     private static final String COPY_INTO_QUERY = "COPY INTO %s%s FROM '@%s' FILES=%s "
@@ -163,9 +178,12 @@ public class SnowflakeCopyService implements Serializable {
 
     private List<CopyError> doCopy(final String fqStageName, final String fqTableName, final Connection connection,
             final List<RecordChunk> chunks) {
-        final String query = String
-                .format(COPY_INTO_QUERY, fqTableName, getColumnNamesList(chunks), fqStageName,
-                        joinFileNamesString(chunks));
+        return doCopy(fqStageName, fqTableName, connection, getColumnNamesList(chunks), joinFileNamesString(chunks));
+    }
+
+    private List<CopyError> doCopy(final String fqStageName, final String fqTableName, final Connection connection,
+            final String columnNames, final String fileNames) {
+        final String query = String.format(COPY_INTO_QUERY, fqTableName, columnNames, fqStageName, fileNames);
         log.debug("Copy query: " + query);
         try (final Statement statement = connection.createStatement();
                 final ResultSet result = statement.executeQuery(query)) {
@@ -218,7 +236,12 @@ public class SnowflakeCopyService implements Serializable {
         return ofNullable(chunks).orElse(Collections.emptyList())
                 .stream()
                 .findFirst()
-                .map(chunk -> chunk.getSchema().getEntries())
+                .map(chunk -> getColumnNamesList(chunk.getSchema()))
+                .orElse("");
+    }
+
+    private String getColumnNamesList(final Schema schema) {
+        return Optional.of(schema.getEntries())
                 .filter(schemaEntries -> !schemaEntries.isEmpty())
                 .map(schemaEntries -> schemaEntries
                         .stream()
@@ -367,6 +390,180 @@ public class SnowflakeCopyService implements Serializable {
         }
     }
 
+    /**
+     * Open a streaming copy : records are written as they come into rolling gzip chunks of about maxChunkSize
+     * uncompressed bytes, every finished chunk is PUT in background while the next one is filled, and the COPY INTO
+     * commands run in {@link StreamingCopy#finish()}, one for each thousand staged files. No record is kept in memory,
+     * so a COPY error is reported with its staged file and line instead of the record.
+     */
+    public StreamingCopy openStreamingCopy(final Connection connection, final String fqStageName,
+            final String fqTableName, final Schema schema, final long maxChunkSize) {
+        return new StreamingCopy(connection, fqStageName, fqTableName, schema, maxChunkSize <= 0 ? MAX_CHUNK
+                : maxChunkSize);
+    }
+
+    public class StreamingCopy implements AutoCloseable {
+
+        private final Connection connection;
+
+        private final String fqStageName;
+
+        private final String fqTableName;
+
+        private final Schema schema;
+
+        private final long maxChunkSize;
+
+        private final Path directory;
+
+        private final ExecutorService uploader = Executors.newFixedThreadPool(STREAMING_PARALLEL_UPLOADS);
+
+        private final Deque<Future<?>> pendingUploads = new ArrayDeque<>();
+
+        private final List<String> uploadedFiles = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<Reject> rejects = Collections.synchronizedList(new ArrayList<>());
+
+        private Path chunk;
+
+        private OutputStream writer;
+
+        private long chunkSize;
+
+        private int chunkRecords;
+
+        private int part;
+
+        private StreamingCopy(final Connection connection, final String fqStageName, final String fqTableName,
+                final Schema schema, final long maxChunkSize) {
+            this.connection = connection;
+            this.fqStageName = fqStageName;
+            this.fqTableName = fqTableName;
+            this.schema = schema;
+            this.maxChunkSize = maxChunkSize;
+            this.directory = createWorkDir();
+        }
+
+        public void write(final Record rec) {
+            final byte[] line = schema
+                    .getEntries()
+                    .stream()
+                    .map(entry -> format(rec, entry))
+                    .collect(joining(","))
+                    .getBytes(StandardCharsets.UTF_8);
+            final int lineSize = line.length + LINE_SEPARATOR.length;
+            if (writer != null && chunkSize + lineSize > maxChunkSize) {
+                rollChunk();
+            }
+            try {
+                if (writer == null) {
+                    chunk = Files.createTempFile(directory, "part_" + part++ + "_", ".csv.gz");
+                    log.debug("Temp file {} created", chunk);
+                    writer = new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(chunk)));
+                }
+                writer.write(line);
+                writer.write(LINE_SEPARATOR);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            chunkSize += lineSize;
+            chunkRecords++;
+        }
+
+        /**
+         * @return the rejects of the PUT and COPY INTO commands, the caller decides to commit or rollback
+         */
+        public List<Reject> finish() {
+            if (writer != null) {
+                rollChunk();
+            }
+            waitForUploads(0);
+            for (int from = 0; from < uploadedFiles.size(); from += MAX_COPY_FILES) {
+                final String fileNames = uploadedFiles
+                        .subList(from, Math.min(from + MAX_COPY_FILES, uploadedFiles.size()))
+                        .stream()
+                        .map(f -> "'" + f + "'")
+                        .collect(joining(",", "(", ")"));
+                doCopy(fqStageName, fqTableName, connection, getColumnNamesList(schema), fileNames)
+                        .stream()
+                        .map(error -> new Reject(error.getError()
+                                + (error.getErrorColumnName() == null || error.getErrorColumnName().isEmpty() ? ""
+                                        : ", columnName=" + error.getErrorColumnName())
+                                + ", file=" + error.getFile() + ", line=" + error.getErrorLine(), null))
+                        .forEach(rejects::add);
+            }
+            return new ArrayList<>(rejects);
+        }
+
+        private void rollChunk() {
+            try {
+                writer.close();
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            writer = null;
+            final Path finished = chunk;
+            final int records = chunkRecords;
+            chunk = null;
+            chunkSize = 0;
+            chunkRecords = 0;
+
+            // never more finished chunks on disk than uploader threads
+            waitForUploads(STREAMING_PARALLEL_UPLOADS - 1);
+            pendingUploads.add(uploader.submit(() -> put(finished, records)));
+        }
+
+        private void put(final Path file, final int records) {
+            try (final Statement statement = connection.createStatement();
+                    final ResultSet result = statement
+                            .executeQuery("PUT '" + file.toUri() + "' '@" + fqStageName
+                                    + "/' AUTO_COMPRESS=FALSE SOURCE_COMPRESSION=GZIP")) {
+                result.next();
+                if ("uploaded".equalsIgnoreCase(result.getString("status"))) {
+                    uploadedFiles.add(file.getFileName().toString());
+                } else {
+                    rejects.add(new Reject(records + " records of " + file.getFileName() + " not uploaded: "
+                            + result.getString("message"), result.getString("status"), null, null));
+                }
+            } catch (final SQLException e) {
+                rejects.add(new Reject(records + " records of " + file.getFileName() + " not uploaded: "
+                        + e.getMessage(), e.getSQLState(), e.getErrorCode(), null));
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (final IOException e) {
+                    log.warn("Cannot clean tmp file '{}'", file);
+                }
+            }
+        }
+
+        private void waitForUploads(final int remaining) {
+            while (pendingUploads.size() > remaining) {
+                try {
+                    pendingUploads.poll().get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } catch (final ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            uploader.shutdownNow();
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (final IOException e) {
+                    log.warn("Cannot close tmp file '{}'", chunk);
+                }
+                tmpFiles.add(chunk);
+            }
+        }
+    }
+
     private String format(final Record input, final Schema.Entry entry) {
         switch (entry.getType()) {
         case INT:
@@ -14,20 +14,25 @@ package org.talend.components.jdbc.platforms.cloud;
 
 import org.talend.components.jdbc.output.JDBCOutputConfig;
 import org.talend.components.jdbc.platforms.Platform;
+import org.talend.components.jdbc.schema.SchemaInferer;
 import org.talend.components.jdbc.service.I18nMessage;
 import org.talend.components.jdbc.service.JDBCService;
 import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class SnowflakeInsert extends Insert {
+public class SnowflakeInsert extends Insert implements StreamingQueryManager {
 
     SnowflakeCopyService snowflakeCopy = new SnowflakeCopyService();
 
+    private transient SnowflakeCopyService.StreamingCopy streamingCopy;
+
     public SnowflakeInsert(Platform platform, JDBCOutputConfig configuration, I18nMessage i18n,
             RecordBuilderFactory recordBuilderFactory) {
         super(platform, configuration, i18n, recordBuilderFactory);
@@ -56,4 +61,41 @@ public class SnowflakeInsert extends Insert {
         return rejects;
     }
 
+    @Override
+    public void write(final Record record, final JDBCService.DataSourceWrapper dataSource) throws SQLException {
+        if (streamingCopy == null) {
+            final Connection connection = dataSource.getConnection();
+            final String tableName = getConfiguration().getDataSet().getTableName();
+            final String fqTableName = namespace(connection) + "." + getPlatform().identifier(tableName);
+            final String fqStageName = namespace(connection) + ".%" + getPlatform().identifier(tableName);
+            // no buffer to merge the schemas of, so the first record decides the columns of the copy
+            final Schema currentSchema = SchemaInferer.mergeRuntimeSchemaAndDesignSchema4Dynamic(
+                    getConfiguration().getDataSet().getSchema(), record.getSchema(), getRecordBuilderFactory());
+            streamingCopy = snowflakeCopy.openStreamingCopy(connection, fqStageName, fqTableName, currentSchema,
+                    getConfiguration().getStreamingChunkSize() * 1024L * 1024L);
+        }
+        streamingCopy.write(record);
+    }
+
+    @Override
+    public List<Reject> finish(final JDBCService.DataSourceWrapper dataSource) throws SQLException {
+        if (streamingCopy == null) {
+            return Collections.emptyList();
+        }
+        try {
+            final List<Reject> rejects = streamingCopy.finish();
+            final Connection connection = dataSource.getConnection();
+            if (rejects.isEmpty()) {
+                connection.commit();
+            } else {
+                connection.rollback();
+            }
+            return rejects;
+        } finally {
+            streamingCopy.close();
+            streamingCopy = null;
+            snowflakeCopy.cleanTmpFiles();
+        }
+    }
+
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.platforms.cloud;
+
+import org.talend.components.jdbc.service.JDBCService;
+import org.talend.sdk.component.api.record.Record;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * query manager which can consume the records one by one instead of a buffered batch
+ */
+public interface StreamingQueryManager extends QueryManager {
+
+    void write(Record record, final JDBCService.DataSourceWrapper dataSource) throws SQLException, IOException;
+
+    /**
+     * @return the rejects of all the records written since the last call
+     */
+    List<Reject> finish(final JDBCService.DataSourceWrapper dataSource) throws SQLException, IOException;
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.schema;
+
+import org.talend.sdk.component.api.record.Record;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * read one column of the current result set row into the record builder, the talend type and the trim option are
+ * resolved when the extractor is created, see {@link SchemaInferer#createColumnExtractors}
+ */
+@FunctionalInterface
+public interface ColumnExtractor {
+
+    void extract(ResultSet resultSet, Record.Builder builder) throws SQLException;
+
+}
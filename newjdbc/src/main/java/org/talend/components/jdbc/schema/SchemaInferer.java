@@ -526,6 +526,135 @@ public class SchemaInferer {
         }
     }
 
+    /**
+     * create one extractor by schema entry, to be done once by query, then call them in order for every row instead of
+     * {@link #fillValue}
+     */
+    public static ColumnExtractor[] createColumnExtractors(final Schema schema, final List<TalendType> talendTypeList,
+            final boolean isTrimAll, final Map<Integer, Boolean> trimMap) {
+        final List<Schema.Entry> entries = schema.getEntries();
+        final ColumnExtractor[] extractors = new ColumnExtractor[entries.size()];
+        for (int index = 0; index < entries.size(); index++) {
+            final int jdbcIndex = index + 1;
+            final Boolean isTrim = trimMap.get(jdbcIndex);
+            extractors[index] = createColumnExtractor(entries.get(index), jdbcIndex, talendTypeList.get(index),
+                    isTrimAll || (isTrim != null && isTrim));
+        }
+        return extractors;
+    }
+
+    private static ColumnExtractor createColumnExtractor(final Schema.Entry entry, final int jdbcIndex,
+            final TalendType talendType, final boolean trim) {
+        switch (talendType) {
+        case STRING:
+        case CHARACTER:
+            if (trim) {
+                return (resultSet, builder) -> {
+                    String value = resultSet.getString(jdbcIndex);
+                    if (value != null) {
+                        builder.withString(entry, value.trim());
+                    }
+                };
+            }
+            return (resultSet, builder) -> {
+                String value = resultSet.getString(jdbcIndex);
+                if (value != null) {
+                    builder.withString(entry, value);
+                }
+            };
+        case INTEGER:
+            return (resultSet, builder) -> {
+                int value = resultSet.getInt(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withInt(entry, value);
+                }
+            };
+        case LONG:
+            return (resultSet, builder) -> {
+                long value = resultSet.getLong(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withLong(entry, value);
+                }
+            };
+        case BOOLEAN:
+            return (resultSet, builder) -> {
+                boolean value = resultSet.getBoolean(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withBoolean(entry, value);
+                }
+            };
+        case DATE:
+            // same fallback as fillValue, row by row as a driver can fail on a single value only
+            return (resultSet, builder) -> {
+                try {
+                    Timestamp timestampValue = resultSet.getTimestamp(jdbcIndex);
+                    if (timestampValue != null) {
+                        builder.withInstant(entry, timestampValue.toInstant());
+                    }
+                } catch (Exception e) {
+                    Date dateValue = resultSet.getDate(jdbcIndex);
+                    if (dateValue != null) {
+                        builder.withTimestamp(entry, dateValue.getTime());
+                    }
+                }
+            };
+        case BIG_DECIMAL:
+            return (resultSet, builder) -> {
+                BigDecimal value = resultSet.getBigDecimal(jdbcIndex);
+                if (value != null) {
+                    builder.withDecimal(entry, value);
+                }
+            };
+        case FLOAT:
+            return (resultSet, builder) -> {
+                float value = resultSet.getFloat(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withFloat(entry, value);
+                }
+            };
+        case DOUBLE:
+            return (resultSet, builder) -> {
+                double value = resultSet.getDouble(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withDouble(entry, value);
+                }
+            };
+        case BYTES:
+            return (resultSet, builder) -> {
+                byte[] value = resultSet.getBytes(jdbcIndex);
+                if (value != null) {
+                    builder.withBytes(entry, value);
+                }
+            };
+        case SHORT:
+            return (resultSet, builder) -> {
+                short value = resultSet.getShort(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withInt(entry, value);
+                }
+            };
+        case BYTE:
+            return (resultSet, builder) -> {
+                byte value = resultSet.getByte(jdbcIndex);
+                if (!resultSet.wasNull()) {
+                    builder.withInt(entry, value);
+                }
+            };
+        case OBJECT:
+            return (resultSet, builder) -> {
+                Object value = resultSet.getObject(jdbcIndex);
+                if (value != null) {
+                    builder.with(entry, value);
+                }
+            };
+        default:
+            return (resultSet, builder) -> {
+                String value = resultSet.getString(jdbcIndex);
+                builder.with(entry, trim && value != null ? value.trim() : value);
+            };
+        }
+    }
+
     public static Schema convertSchemaInfoList2TckSchema(List<SchemaInfo> infos,
             RecordBuilderFactory recordBuilderFactory) {
         final Schema.Builder schemaBuilder = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD);
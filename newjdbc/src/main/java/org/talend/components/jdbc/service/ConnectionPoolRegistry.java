@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.jdbc.common.JDBCConfiguration;
+import org.talend.components.jdbc.datastore.JDBCDataStore;
+import org.talend.sdk.component.api.service.dependency.Resolver;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * JVM wide registry of the HikariCP pools used by the cloud runtime.
+ * <p>
+ * All the {@link JDBCService.JDBCDataSource} opened with the same connection settings share one pool. The pool is
+ * reference counted, it has one connection per component using it as they keep their connection for their whole
+ * lifecycle, and is closed when it was not used anymore during the idle timeout, so that the next subjob on the same
+ * database can still reuse it.
+ * <p>
+ * Both values can be set with system properties : {@value #MAX_POOL_SIZE_PROPERTY} (default 0, no limit), a new user
+ * fails at once when the pool already has that many users, and {@value #IDLE_TIMEOUT_PROPERTY} in milliseconds
+ * (default 60000, 0 closes the pool with its last user).
+ */
+@Slf4j
+public final class ConnectionPoolRegistry {
+
+    public static final String MAX_POOL_SIZE_PROPERTY = "talend.components.jdbc.pool.maxSize";
+
+    public static final String IDLE_TIMEOUT_PROPERTY = "talend.components.jdbc.pool.idleTimeout";
+
+    // hikari doesn't accept a lower idle timeout for the connections themselves
+    private static final long MIN_CONNECTION_IDLE_TIMEOUT = 10_000L;
+
+    private static final ConnectionPoolRegistry INSTANCE = new ConnectionPoolRegistry(
+            Integer.getInteger(MAX_POOL_SIZE_PROPERTY, 0), Long.getLong(IDLE_TIMEOUT_PROPERTY, 60_000L));
+
+    @Getter
+    private final int maxPoolSize;
+
+    @Getter
+    private final long idleTimeout;
+
+    @Getter
+    private final Metrics metrics = new Metrics();
+
+    private final Map<PoolKey, PooledDataSource> pools = new HashMap<>();
+
+    private ScheduledExecutorService evictor;
+
+    ConnectionPoolRegistry(final int maxPoolSize, final long idleTimeout) {
+        this.maxPoolSize = Math.max(0, maxPoolSize);
+        this.idleTimeout = Math.max(0, idleTimeout);
+    }
+
+    public static ConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param key the normalized connection settings
+     * @param factory creates the pool when no pool is registered for the key yet
+     * @return a lease on the pool, to release once the caller doesn't need connections anymore
+     * @throws IllegalStateException when the pool already has max pool size users, rather than letting the new user
+     * wait for a connection which is only released at the end of another component
+     */
+    synchronized Lease acquire(final PoolKey key, final Supplier<PooledDataSource> factory) {
+        PooledDataSource pool = pools.get(key);
+        if (pool == null) {
+            pool = factory.get();
+            if (idleTimeout > 0) {
+                pool.getDataSource().setMinimumIdle(0);
+                pool.getDataSource().setIdleTimeout(Math.max(idleTimeout, MIN_CONNECTION_IDLE_TIMEOUT));
+            }
+            pools.put(key, pool);
+            metrics.poolCreations.increment();
+            log.debug("Connection pool created for {}", key);
+        } else {
+            if (maxPoolSize > 0 && pool.references >= maxPoolSize) {
+                throw new IllegalStateException("The connection pool for " + key + " already has " + pool.references
+                        + " users, increase its max size with the " + MAX_POOL_SIZE_PROPERTY
+                        + " system property or reduce the number of parallel connections.");
+            }
+            metrics.poolHits.increment();
+            log.debug("Connection pool reused for {}", key);
+        }
+        pool.references++;
+        pool.resize();
+        return new Lease(key, pool);
+    }
+
+    private synchronized void release(final PoolKey key, final PooledDataSource pool) {
+        pool.references--;
+        if (pool.references > 0) {
+            pool.resize();
+            return;
+        }
+        pool.idleSince = System.nanoTime();
+        if (idleTimeout == 0) {
+            pools.remove(key);
+            pool.close();
+        } else {
+            if (evictor == null) {
+                evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    final Thread thread = new Thread(r, "talend-jdbc-pool-evictor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            evictor.schedule(this::evictIdlePools, idleTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void evictIdlePools() {
+        final long now = System.nanoTime();
+        final Iterator<Map.Entry<PoolKey, PooledDataSource>> iterator = pools.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<PoolKey, PooledDataSource> entry = iterator.next();
+            final PooledDataSource pool = entry.getValue();
+            if (pool.references == 0 && now - pool.idleSince >= TimeUnit.MILLISECONDS.toNanos(idleTimeout)) {
+                iterator.remove();
+                pool.close();
+                metrics.poolEvictions.increment();
+                log.debug("Idle connection pool closed for {}, {}", entry.getKey(), metrics);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return pools.size();
+    }
+
+    /**
+     * The connection settings identifying a pool, whatever the way they were entered in the datastore.
+     */
+    @Value
+    @ToString(of = { "driverId", "jdbcUrl", "userId" })
+    static class PoolKey {
+
+        String driverId;
+
+        String driverClassName;
+
+        String jdbcUrl;
+
+        String userId;
+
+        // password, private key or oauth settings, whatever is used by the authentication type
+        List<Object> credentials;
+
+        long connectionTimeOut;
+
+        long connectionValidationTimeOut;
+
+        Map<String, String> properties;
+
+        List<String> driverPaths;
+
+        static PoolKey of(final JDBCDataStore dataStore, final JDBCConfiguration.Driver driver, final String jdbcUrl,
+                final Map<String, String> additionalJDBCProperties) {
+            return new PoolKey(driver.getId(), driver.getClassName(), jdbcUrl, dataStore.getUserId(),
+                    Arrays.asList(dataStore.getAuthenticationType(), dataStore.getPassword(),
+                            dataStore.getPrivateKey(), dataStore.getPrivateKeyPassword(),
+                            dataStore.getOauthTokenEndpoint(), dataStore.getClientId(), dataStore.getClientSecret(),
+                            dataStore.getGrantType(), dataStore.getOauthUsername(), dataStore.getOauthPassword(),
+                            dataStore.getScope()),
+                    dataStore.getConnectionTimeOut(), dataStore.getConnectionValidationTimeOut(),
+                    new TreeMap<>(additionalJDBCProperties), new ArrayList<>(driver.getPaths()));
+        }
+    }
+
+    /**
+     * A hikari pool with the classloader its driver was loaded from, both are closed together.
+     */
+    static class PooledDataSource {
+
+        @Getter
+        private final HikariDataSource dataSource;
+
+        @Getter
+        private final Resolver.ClassLoaderDescriptor classLoaderDescriptor;
+
+        private int references;
+
+        private long idleSince;
+
+        PooledDataSource(final HikariDataSource dataSource,
+                final Resolver.ClassLoaderDescriptor classLoaderDescriptor) {
+            this.dataSource = dataSource;
+            this.classLoaderDescriptor = classLoaderDescriptor;
+        }
+
+        // one connection per user, components keep theirs for their whole lifecycle
+        private void resize() {
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(Math.max(1, references));
+        }
+
+        private void close() {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader prev = thread.getContextClassLoader();
+            try {
+                if (classLoaderDescriptor != null) {
+                    thread.setContextClassLoader(classLoaderDescriptor.asClassLoader());
+                }
+                dataSource.close();
+            } finally {
+                thread.setContextClassLoader(prev);
+                try {
+                    if (classLoaderDescriptor != null) {
+                        classLoaderDescriptor.close();
+                    }
+                } catch (final Exception e) {
+                    log.error("can't close driver classloader properly", e);
+                }
+            }
+        }
+    }
+
+    public class Lease {
+
+        private final PoolKey key;
+
+        private final PooledDataSource pool;
+
+        private boolean released;
+
+        private Lease(final PoolKey key, final PooledDataSource pool) {
+            this.key = key;
+            this.pool = pool;
+        }
+
+        public Resolver.ClassLoaderDescriptor getClassLoaderDescriptor() {
+            return pool.getClassLoaderDescriptor();
+        }
+
+        public Connection getConnection() throws SQLException {
+            final HikariPoolMXBean state = pool.getDataSource().getHikariPoolMXBean();
+            final boolean idleConnection = state != null && state.getIdleConnections() > 0;
+            final long start = System.nanoTime();
+            final Connection connection = pool.getDataSource().getConnection();
+            if (!idleConnection) {
+                metrics.connectionWaits.increment();
+                metrics.connectionWaitTime.add(System.nanoTime() - start);
+            }
+            return connection;
+        }
+
+        public void release() {
+            if (!released) {
+                released = true;
+                ConnectionPoolRegistry.this.release(key, pool);
+            }
+        }
+    }
+
+    /**
+     * Counters since the JVM start.
+     */
+    @ToString
+    public static class Metrics {
+
+        private final LongAdder poolCreations = new LongAdder();
+
+        private final LongAdder poolHits = new LongAdder();
+
+        private final LongAdder poolEvictions = new LongAdder();
+
+        private final LongAdder connectionWaits = new LongAdder();
+
+        private final LongAdder connectionWaitTime = new LongAdder();
+
+        /**
+         * @return the number of pools opened
+         */
+        public long getPoolCreations() {
+            return poolCreations.sum();
+        }
+
+        /**
+         * @return the number of times a component got an already opened pool
+         */
+        public long getPoolHits() {
+            return poolHits.sum();
+        }
+
+        /**
+         * @return the number of pools closed after the idle timeout
+         */
+        public long getPoolEvictions() {
+            return poolEvictions.sum();
+        }
+
+        /**
+         * @return the number of connection requests which found no idle connection and waited for one to be opened or
+         * released
+         */
+        public long getConnectionWaits() {
+            return connectionWaits.sum();
+        }
+
+        /**
+         * @return the total time spent in those waits, in milliseconds
+         */
+        public long getConnectionWaitTime() {
+            return TimeUnit.NANOSECONDS.toMillis(connectionWaitTime.sum());
+        }
+    }
+}
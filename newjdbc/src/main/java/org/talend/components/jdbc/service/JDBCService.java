@@ -463,18 +463,22 @@ public class JDBCService implements Serializable {
     // HikariCP or java jdbc api directly
     private static class ConnectionPool {
 
-        private HikariDataSource dataSource;
+        private ConnectionPoolRegistry.Lease lease;
 
         private java.sql.Connection connection;
 
-        private void initConnectionPool(final JDBCDataStore dataStore, final List<String> driverPaths,
-                final JDBCService jdbcService, final Map<String, String> additionalJDBCProperties) {
-            dataSource = new HikariDataSource();
+        private static ConnectionPoolRegistry.PooledDataSource createPooledDataSource(final JDBCDataStore dataStore,
+                final List<String> driverPaths, final JDBCService jdbcService,
+                final Map<String, String> additionalJDBCProperties,
+                final Resolver.ClassLoaderDescriptor classLoaderDescriptor) {
+            final HikariDataSource dataSource = new HikariDataSource();
 
             DatabaseSpecial.doConfig4DifferentDatabaseAndDifferentRuntimeEnv(dataSource, dataStore, driverPaths,
                     jdbcService, additionalJDBCProperties);
 
+            // the registry resizes it with the number of components sharing the pool
             dataSource.setMaximumPoolSize(1);
+            return new ConnectionPoolRegistry.PooledDataSource(dataSource, classLoaderDescriptor);
         }
 
         private void initSingleConnection(final JDBCDataStore dataStore) {
@@ -526,20 +530,19 @@ public class JDBCService implements Serializable {
             }
         }
 
-        ConnectionPool(final JDBCDataStore dataStore, final List<String> driverPaths, final boolean useConnectionPool,
-                final JDBCService jdbcService, final Map<String, String> additionalJDBCProperties) {
-            if (useConnectionPool) {
-                initConnectionPool(dataStore, driverPaths, jdbcService, additionalJDBCProperties);
-            } else {
-                initSingleConnection(dataStore);
-            }
+        ConnectionPool(final ConnectionPoolRegistry.Lease lease) {
+            this.lease = lease;
+        }
+
+        ConnectionPool(final JDBCDataStore dataStore) {
+            initSingleConnection(dataStore);
         }
 
         java.sql.Connection getConnection() throws SQLException {
             if (connection != null) {
                 return connection;
             } else {
-                return dataSource.getConnection();
+                return lease.getConnection();
             }
         }
 
@@ -553,7 +556,7 @@ public class JDBCService implements Serializable {
                     throw new RuntimeException(e);
                 }
             } else {
-                dataSource.close();
+                lease.release();
             }
         }
 
@@ -592,29 +595,20 @@ public class JDBCService implements Serializable {
 
             originClassLoaderContainJDBCClass = !isCloud && originClassLoaderContainJDBCClass(dataStore);
 
-            final Thread thread = Thread.currentThread();
-            final ClassLoader prev = thread.getContextClassLoader();
-
-            List<String> paths = null;
-
             if (isCloud) {
+                // the driver classloader belongs to the shared pool, it is closed with it
                 final JDBCConfiguration.Driver driver = jdbcService.getPlatformService().getDriver(dataStore);
-                paths = driver.getPaths();
-                if (!originClassLoaderContainJDBCClass) {
-                    classLoaderDescriptor = resolver.mapDescriptorToClassLoader(paths);
-                    if (!classLoaderDescriptor.resolvedDependencies().containsAll(driver.getPaths())) {
-                        String missingJars = driver
-                                .getPaths()
-                                .stream()
-                                .filter(p -> !classLoaderDescriptor.resolvedDependencies().contains(p))
-                                .collect(joining("\n"));
-                        throw new IllegalStateException(
-                                jdbcService.getI18n().errorDriverLoad(driver.getId(), missingJars));
-                    }
-                }
+                final ConnectionPoolRegistry.Lease lease = ConnectionPoolRegistry.getInstance()
+                        .acquire(ConnectionPoolRegistry.PoolKey.of(dataStore, driver,
+                                jdbcService.getPlatformService().getPlatform(dataStore).buildUrl(dataStore),
+                                additionalJDBCProperties),
+                                () -> createPooledDataSource(resolver, dataStore, driver, jdbcService,
+                                        additionalJDBCProperties));
+                classLoaderDescriptor = lease.getClassLoaderDescriptor();
+                connectionPool = new ConnectionPool(lease);
             } else {
                 final List<org.talend.components.jdbc.common.Driver> drivers = dataStore.getJdbcDriver();
-                paths = Optional.ofNullable(drivers)
+                final List<String> paths = Optional.ofNullable(drivers)
                         .orElse(Collections.emptyList())
                         .stream()
                         .map(driver -> convertMvnPath2TckPath(driver.getPath()))
@@ -622,13 +616,41 @@ public class JDBCService implements Serializable {
                 if (!originClassLoaderContainJDBCClass) {
                     classLoaderDescriptor = resolver.mapDescriptorToClassLoader(paths);
                 }
+
+                final Thread thread = Thread.currentThread();
+                final ClassLoader prev = thread.getContextClassLoader();
+                try {
+                    if (!originClassLoaderContainJDBCClass) {
+                        thread.setContextClassLoader(classLoaderDescriptor.asClassLoader());
+                    }
+                    connectionPool = new ConnectionPool(dataStore);
+                } finally {
+                    thread.setContextClassLoader(prev);
+                }
+            }
+        }
+
+        private static ConnectionPoolRegistry.PooledDataSource createPooledDataSource(final Resolver resolver,
+                final JDBCDataStore dataStore, final JDBCConfiguration.Driver driver, final JDBCService jdbcService,
+                final Map<String, String> additionalJDBCProperties) {
+            final Resolver.ClassLoaderDescriptor classLoaderDescriptor =
+                    resolver.mapDescriptorToClassLoader(driver.getPaths());
+            if (!classLoaderDescriptor.resolvedDependencies().containsAll(driver.getPaths())) {
+                String missingJars = driver
+                        .getPaths()
+                        .stream()
+                        .filter(p -> !classLoaderDescriptor.resolvedDependencies().contains(p))
+                        .collect(joining("\n"));
+                throw new IllegalStateException(
+                        jdbcService.getI18n().errorDriverLoad(driver.getId(), missingJars));
             }
 
+            final Thread thread = Thread.currentThread();
+            final ClassLoader prev = thread.getContextClassLoader();
             try {
-                if (!originClassLoaderContainJDBCClass) {
-                    thread.setContextClassLoader(classLoaderDescriptor.asClassLoader());
-                }
-                connectionPool = new ConnectionPool(dataStore, paths, isCloud, jdbcService, additionalJDBCProperties);
+                thread.setContextClassLoader(classLoaderDescriptor.asClassLoader());
+                return ConnectionPool.createPooledDataSource(dataStore, driver.getPaths(), jdbcService,
+                        additionalJDBCProperties, classLoaderDescriptor);
             } finally {
                 thread.setContextClassLoader(prev);
             }
@@ -664,7 +686,7 @@ public class JDBCService implements Serializable {
             } finally {
                 thread.setContextClassLoader(prev);
                 try {
-                    if (!originClassLoaderContainJDBCClass) {
+                    if (!originClassLoaderContainJDBCClass && !isCloud) {
                         classLoaderDescriptor.close();
                     }
                 } catch (final Exception e) {
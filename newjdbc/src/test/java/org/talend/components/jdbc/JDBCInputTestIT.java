@@ -560,4 +560,42 @@ class JDBCInputTestIT {
         assertEquals(Schema.Type.STRING, records.get(0).getSchema().getEntries().get(1).getType());
     }
 
+    @Test
+    void testTableInputPartitions() throws SQLException {
+        JDBCTableDataSet dataSet = new JDBCTableDataSet();
+        dataSet.setDataStore(dataStore);
+        dataSet.setTableName(tableName);
+        dataSet.setSchema(DBTestUtils.createTestSchemaInfos());
+
+        JDBCTableInputConfig config = new JDBCTableInputConfig();
+        config.setDataSet(dataSet);
+        config.setEnablePartitioning(true);
+        config.setPartitionColumn("ID");
+        config.setPartitionCount(2);
+
+        TableInputMapper mapper = new TableInputMapper(config, jdbcService, recordBuilderFactory);
+        List<TableInputMapper> splits = mapper.split(mapper.estimateSize());
+
+        assertEquals(2, splits.size());
+
+        List<Record> records = new ArrayList<>();
+        for (TableInputMapper split : splits) {
+            TableEmitter emitter = split.createWorker();
+            try {
+                emitter.init();
+                Record r;
+                while ((r = emitter.next()) != null) {
+                    records.add(r);
+                }
+            } finally {
+                emitter.release();
+            }
+        }
+
+        assertEquals(3, records.size());
+        assertEquals(1, getValueByIndex(records.get(0), 0));
+        assertEquals(2, getValueByIndex(records.get(1), 0));
+        assertEquals(3, getValueByIndex(records.get(2), 0));
+    }
+
 }
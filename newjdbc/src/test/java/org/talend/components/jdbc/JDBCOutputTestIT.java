@@ -14,6 +14,7 @@ package org.talend.components.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.talend.components.jdbc.DBTestUtils.createTestSchemaInfos;
 import static org.talend.components.jdbc.DBTestUtils.getValueByIndex;
@@ -21,7 +22,10 @@ import static org.talend.components.jdbc.DBTestUtils.getValueByIndex;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -217,6 +221,90 @@ class JDBCOutputTestIT {
         assertEquals("xiaohei", getValueByIndex(result.get(7), 1));
     }
 
+    @Test
+    void testPipelinedBatch() {
+        Schema schema = DBTestUtils.createTestSchema(recordBuilderFactory);
+        List<Record> records = new ArrayList<>();
+        for (int i = 4; i < 11; i++) {
+            records.add(recordBuilderFactory.newRecordBuilder(schema).withInt("ID", i).withString("NAME", "name" + i)
+                    .build());
+        }
+
+        List<SchemaInfo> schemaInfos = createTestSchemaInfos();
+
+        JDBCOutputConfig config = new JDBCOutputConfig();
+        JDBCTableDataSet dataSet4Output = new JDBCTableDataSet();
+        dataSet4Output.setTableName(tableName);
+        dataSet4Output.setDataStore(dataStore);
+        dataSet4Output.setSchema(schemaInfos);
+        config.setDataSet(dataSet4Output);
+
+        config.setDataAction(DataAction.INSERT);
+        config.setDieOnError(true);
+        config.setUseBatch(true);
+        config.setBatchSize(2);
+        config.setCommitEvery(3);
+        config.setUsePipelinedBatch(true);
+        config.setPipelineWorkers(2);
+
+        BaseComponentsHandler.Outputs outputs = DBTestUtils.runProcessor(records, componentsHandler, config);
+        // a record goes to the main flow once committed, the rows committed when the output closes can't be emitted
+        List<Record> emitted = outputs.get(Record.class, Branches.DEFAULT_BRANCH);
+        assertTrue(records.containsAll(emitted));
+        assertEquals(emitted.size(), new HashSet<>(emitted).size());
+
+        List<Record> result = DBTestUtils.runInput(componentsHandler, dataStore, tableName, schemaInfos);
+
+        // the batches are executed by several connections, so the rows order is not guaranteed
+        assertEquals(10, result.size());
+        Map<Object, Object> names = new HashMap<>();
+        result.forEach(r -> names.put(getValueByIndex(r, 0), getValueByIndex(r, 1)));
+        for (int i = 4; i < 11; i++) {
+            assertEquals("name" + i, names.get(i));
+        }
+    }
+
+    @Test
+    void testPipelinedBatchRollbackOnError() {
+        Schema schema = DBTestUtils.createTestSchema(recordBuilderFactory);
+        List<Record> records = new ArrayList<>();
+        for (int i = 4; i < 7; i++) {
+            records.add(recordBuilderFactory.newRecordBuilder(schema).withInt("ID", i).withString("NAME", "name" + i)
+                    .build());
+        }
+        records.add(recordBuilderFactory.newRecordBuilder(schema)
+                .withInt("ID", 7)
+                .withString("NAME", "too long value")
+                .build());
+
+        List<SchemaInfo> schemaInfos = createTestSchemaInfos();
+
+        JDBCOutputConfig config = new JDBCOutputConfig();
+        JDBCTableDataSet dataSet4Output = new JDBCTableDataSet();
+        dataSet4Output.setTableName(tableName);
+        dataSet4Output.setDataStore(dataStore);
+        dataSet4Output.setSchema(schemaInfos);
+        config.setDataSet(dataSet4Output);
+
+        config.setDataAction(DataAction.INSERT);
+        config.setDieOnError(true);
+        config.setUseBatch(true);
+        config.setBatchSize(2);
+        config.setCommitEvery(10);
+        config.setUsePipelinedBatch(true);
+        config.setPipelineWorkers(1);
+
+        try {
+            DBTestUtils.runProcessor(records, componentsHandler, config);
+            fail();
+        } catch (Exception e) {
+        }
+
+        // the worker rolls back the failed batch and the one it didn't commit yet
+        List<Record> result = DBTestUtils.runInput(componentsHandler, dataStore, tableName, schemaInfos);
+        assertEquals(3, result.size());
+    }
+
     @Test
     void testInsertReject() {
         Schema schema = DBTestUtils.createTestSchema(recordBuilderFactory);
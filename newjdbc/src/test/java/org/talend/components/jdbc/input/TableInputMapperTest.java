@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import org.junit.jupiter.api.Test;
+import org.talend.components.jdbc.dataset.JDBCTableDataSet;
+import org.talend.components.jdbc.datastore.JDBCDataStore;
+import org.talend.components.jdbc.platforms.OraclePlatform;
+import org.talend.components.jdbc.platforms.Platform;
+import org.talend.components.jdbc.platforms.PlatformService;
+import org.talend.components.jdbc.platforms.PostgreSQLPlatform;
+import org.talend.components.jdbc.service.JDBCService;
+import org.talend.sdk.component.api.context.RuntimeContextHolder;
+
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableInputMapperTest {
+
+    private final List<String> queries = new ArrayList<>();
+
+    @Test
+    void emptyOracleSampleFallsBackOnMinMax() throws SQLException {
+        final List<Serializable> bounds = computeBounds(new OraclePlatform(null, null), Collections.emptyList());
+
+        assertEquals(Arrays.asList("25", "50", "75"), toStrings(bounds));
+        assertEquals(2, queries.size());
+        assertTrue(queries.get(0).contains("SAMPLE BLOCK (1)"), queries.get(0));
+        assertTrue(queries.get(1).startsWith("SELECT MIN("), queries.get(1));
+    }
+
+    @Test
+    void smallPostgreSQLSampleFallsBackOnMinMax() throws SQLException {
+        final List<Serializable> bounds =
+                computeBounds(new PostgreSQLPlatform(null, null), Arrays.asList(BigDecimal.valueOf(40),
+                        BigDecimal.valueOf(90)));
+
+        assertEquals(Arrays.asList("25", "50", "75"), toStrings(bounds));
+        assertEquals(2, queries.size());
+        assertTrue(queries.get(0).contains("TABLESAMPLE SYSTEM (1)"), queries.get(0));
+    }
+
+    @Test
+    void sampleWithABucketPerPartition() throws SQLException {
+        final List<Serializable> bounds = computeBounds(new OraclePlatform(null, null),
+                Arrays.asList(BigDecimal.valueOf(10), BigDecimal.valueOf(20), BigDecimal.valueOf(30),
+                        BigDecimal.valueOf(40)));
+
+        // the last bucket upper bound is the max value, it is not a bound
+        assertEquals(Arrays.asList("10", "20", "30"), toStrings(bounds));
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void studioConnectionSplitsWithTheDatabaseDialect() {
+        final List<TableInputMapper> mappers = mapper("Oracle", statement(Arrays.asList(BigDecimal.valueOf(10),
+                BigDecimal.valueOf(20), BigDecimal.valueOf(30), BigDecimal.valueOf(40)))).split(1);
+
+        assertEquals(4, mappers.size());
+        assertEquals(1, queries.size());
+        // the names are not quoted, as in the query of the reader
+        assertTrue(queries.get(0).contains("FROM T SAMPLE BLOCK (1) WHERE ID IS NOT NULL"), queries.get(0));
+    }
+
+    @Test
+    void failedBoundQueryKeepsTheTableUnsplit() {
+        final Statement failing = (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        return null;
+                    }
+                    queries.add((String) args[0]);
+                    throw new SQLException("Syntax error", "42X01");
+                });
+        final TableInputMapper mapper = mapper("Apache Derby", failing);
+
+        assertEquals(Collections.singletonList(mapper), mapper.split(1));
+        // derby has no NTILE, only the min/max query runs
+        assertEquals(1, queries.size());
+        assertTrue(queries.get(0).startsWith("SELECT MIN("), queries.get(0));
+    }
+
+    /**
+     * A table input split in 4 by NTILE on a studio connection, with a custom driver class, to the given database.
+     */
+    private TableInputMapper mapper(final String databaseProductName, final Statement statement) {
+        final JDBCDataStore dataStore = new JDBCDataStore();
+        dataStore.setJdbcClass("custom.Driver");
+        final JDBCTableDataSet dataSet = new JDBCTableDataSet();
+        dataSet.setTableName("T");
+        dataSet.setDataStore(dataStore);
+        final JDBCTableInputConfig config = new JDBCTableInputConfig();
+        config.setDataSet(dataSet);
+        config.setEnablePartitioning(true);
+        config.setPartitionColumn("ID");
+        config.setPartitionCount(4);
+        config.setPartitionStrategy(PartitionStrategy.NTILE);
+
+        final DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { DatabaseMetaData.class }, (proxy, method, args) -> databaseProductName);
+        final Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getMetaData":
+                        return metaData;
+                    case "createStatement":
+                        return statement;
+                    case "isClosed":
+                        return true;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        final JDBCService jdbcService = new JDBCService() {
+
+            @Override
+            public PlatformService getPlatformService() {
+                return new PlatformService();
+            }
+
+            @Override
+            public DataSourceWrapper createConnectionOrGetFromSharedConnectionPoolOrDataSource(
+                    final JDBCDataStore dataStore, final RuntimeContextHolder context, final boolean readonly) {
+                return new DataSourceWrapper(null, connection);
+            }
+        };
+        return new TableInputMapper(config, jdbcService, null);
+    }
+
+    /**
+     * Compute 4 partition bounds on the {@link #statement(List)}.
+     */
+    private List<Serializable> computeBounds(final Platform platform, final List<Object> ntileRows)
+            throws SQLException {
+        return TableInputMapper.computeBounds(platform, statement(ntileRows), "T", "ID", 4, PartitionStrategy.NTILE);
+    }
+
+    /**
+     * The NTILE query returns the given bucket upper bounds and the min/max query returns 1 and 100.
+     */
+    private Statement statement(final List<Object> ntileRows) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        return null;
+                    }
+                    if (!"executeQuery".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    final String query = (String) args[0];
+                    queries.add(query);
+                    if (query.contains("NTILE")) {
+                        return resultSet(ntileRows.stream().map(v -> new Object[] { v }).collect(Collectors.toList()));
+                    }
+                    return resultSet(Collections.singletonList(new Object[] { 1, 100 }));
+                });
+    }
+
+    private ResultSet resultSet(final List<Object[]> rows) {
+        final Iterator<Object[]> iterator = rows.iterator();
+        final Object[][] current = new Object[1][];
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "next":
+                        current[0] = iterator.hasNext() ? iterator.next() : null;
+                        return current[0] != null;
+                    case "getObject":
+                        return current[0][(int) args[0] - 1];
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static List<String> toStrings(final List<Serializable> bounds) {
+        return bounds.stream().map(String::valueOf).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output;
+
+import org.junit.jupiter.api.Test;
+import org.talend.components.jdbc.common.SchemaInfo;
+import org.talend.components.jdbc.dataset.JDBCTableDataSet;
+import org.talend.components.jdbc.datastore.JDBCDataStore;
+import org.talend.components.jdbc.service.JDBCService;
+import org.talend.sdk.component.api.context.RuntimeContextHolder;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JDBCOutputInsertWriterTest {
+
+    private static final int FAILING_ID = 3;
+
+    private final RecordBuilderFactory recordBuilderFactory = new RecordBuilderFactoryImpl("test");
+
+    private final Set<Object> written = new HashSet<>();
+
+    private final Set<Object> rejected = new HashSet<>();
+
+    private final AtomicInteger rollbacks = new AtomicInteger();
+
+    @Test
+    void failedBatchRejectsTheUncommittedRecordsOnly() throws SQLException {
+        // [1, 2] is not committed yet when [3, 4] fails, the worker rolls both back
+        final JDBCOutputInsertWriter writer = write(3, 6);
+
+        assertEquals(new HashSet<>(Arrays.asList(5, 6)), written);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), rejected);
+        assertEquals(2, writer.successCount);
+        assertEquals(4, writer.rejectCount);
+        assertEquals(2, writer.insertCount);
+        assertEquals(1, rollbacks.get());
+    }
+
+    @Test
+    void failedBatchWithoutCommitEvery() throws SQLException {
+        final JDBCOutputInsertWriter writer = write(0, 6);
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 5, 6)), written);
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), rejected);
+        assertEquals(4, writer.successCount);
+        assertEquals(2, writer.rejectCount);
+        assertEquals(4, writer.insertCount);
+    }
+
+    /**
+     * Inserts the records 1 to count by batches of 2 with a single pipelined worker, the batch of the record
+     * {@value #FAILING_ID} fails.
+     */
+    private JDBCOutputInsertWriter write(final int commitEvery, final int count) throws SQLException {
+        final JDBCDataStore dataStore = new JDBCDataStore();
+        final JDBCTableDataSet dataSet = new JDBCTableDataSet();
+        dataSet.setTableName("TEST");
+        dataSet.setDataStore(dataStore);
+        dataSet.setSchema(Arrays.asList(
+                new SchemaInfo("ID", "ID", true, "INT", "id_Integer", false, null, 10, null, null, null),
+                new SchemaInfo("NAME", "NAME", false, "VARCHAR", "id_String", true, null, 64, null, null, null)));
+        final JDBCOutputConfig config = new JDBCOutputConfig();
+        config.setDataSet(dataSet);
+        config.setDataAction(DataAction.INSERT);
+        config.setDieOnError(false);
+        config.setUseBatch(true);
+        config.setBatchSize(2);
+        config.setCommitEvery(commitEvery);
+        config.setUsePipelinedBatch(true);
+        config.setPipelineWorkers(1);
+
+        final JDBCService jdbcService = new JDBCService() {
+
+            @Override
+            public DataSourceWrapper createConnectionOrGetFromSharedConnectionPoolOrDataSource(
+                    final JDBCDataStore dataStore, final RuntimeContextHolder context, final boolean readonly) {
+                return new DataSourceWrapper(null, connection());
+            }
+        };
+        final JDBCOutputInsertWriter writer = new JDBCOutputInsertWriter(config, jdbcService, false,
+                new JDBCService.DataSourceWrapper(null, connection()), recordBuilderFactory,
+                new RuntimeContextHolder("output", new HashMap<>()));
+
+        writer.open();
+        for (int id = 1; id <= count; id++) {
+            writer.write(recordBuilderFactory.newRecordBuilder()
+                    .withInt("ID", id)
+                    .withString("NAME", "name" + id)
+                    .build());
+            collect(writer);
+        }
+        writer.close();
+        collect(writer);
+        return writer;
+    }
+
+    private void collect(final JDBCOutputWriter writer) {
+        writer.getSuccessfulWrites().forEach(r -> written.add(r.get(Object.class, "ID")));
+        writer.getRejectedWrites().forEach(r -> rejected.add(r.get(Object.class, "ID")));
+    }
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "prepareStatement":
+                        return statement();
+                    case "isClosed":
+                        return false;
+                    case "rollback":
+                        rollbacks.incrementAndGet();
+                        return null;
+                    case "setAutoCommit":
+                    case "commit":
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Statement failing the batches which contain the row {@value #FAILING_ID}.
+     */
+    private PreparedStatement statement() {
+        final Object[] id = new Object[1];
+        final List<Object> batch = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    final String name = method.getName();
+                    if (name.startsWith("set") && args.length > 1 && Integer.valueOf(1).equals(args[0])) {
+                        id[0] = args[1];
+                        return null;
+                    }
+                    switch (name) {
+                    case "addBatch":
+                        batch.add(id[0]);
+                        return null;
+                    case "executeBatch":
+                        final boolean fails = batch.contains(FAILING_ID);
+                        final int[] counts = new int[batch.size()];
+                        Arrays.fill(counts, 1);
+                        batch.clear();
+                        if (fails) {
+                            throw new SQLException("Connection reset", "08006");
+                        }
+                        return counts;
+                    case "getUpdateCount":
+                        return -1;
+                    case "clearBatch":
+                        batch.clear();
+                        return null;
+                    default:
+                        if (name.startsWith("set") || "close".equals(name)) {
+                            return null;
+                        }
+                        throw new UnsupportedOperationException(name);
+                    }
+                });
+    }
+}
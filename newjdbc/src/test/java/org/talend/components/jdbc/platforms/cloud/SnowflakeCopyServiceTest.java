@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.platforms.cloud;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeCopyServiceTest {
+
+    private final RecordBuilderFactory recordBuilderFactory = new RecordBuilderFactoryImpl("test");
+
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger uploadedLines = new AtomicInteger();
+
+    @Test
+    void streamingCopyRollsChunksAndCopiesOnce() {
+        final Schema schema = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(recordBuilderFactory.newEntryBuilder().withName("id").withType(Schema.Type.INT).build())
+                .withEntry(
+                        recordBuilderFactory.newEntryBuilder().withName("name").withType(Schema.Type.STRING).build())
+                .build();
+
+        final SnowflakeCopyService service = new SnowflakeCopyService();
+        try (SnowflakeCopyService.StreamingCopy copy =
+                service.openStreamingCopy(snowflakeStandIn(), "DB.PUBLIC.%\"T\"", "DB.PUBLIC.\"T\"", schema, 100)) {
+            for (int i = 0; i < 50; i++) {
+                copy.write(recordBuilderFactory.newRecordBuilder(schema)
+                        .withInt("id", i)
+                        .withString("name", "name_" + i)
+                        .build());
+            }
+            assertTrue(copy.finish().isEmpty());
+        } finally {
+            service.cleanTmpFiles();
+        }
+
+        final long puts = queries.stream().filter(q -> q.startsWith("PUT")).count();
+        final List<String> copies = new ArrayList<>();
+        queries.stream().filter(q -> q.startsWith("COPY INTO")).forEach(copies::add);
+
+        assertTrue(puts > 1, "expected several chunks, got " + puts);
+        assertEquals(50, uploadedLines.get());
+        assertEquals(1, copies.size());
+        assertTrue(queries.get(queries.size() - 1).startsWith("COPY INTO DB.PUBLIC.\"T\"(\"id\",\"name\")"));
+        queries.stream()
+                .filter(q -> q.startsWith("PUT"))
+                .map(q -> Paths.get(URI.create(q.substring(5, q.indexOf('\'', 5)))).getFileName().toString())
+                .forEach(file -> assertTrue(copies.get(0).contains("'" + file + "'"), file));
+    }
+
+    @Test
+    void streamingCopyCopiesAThousandFilesAtMost() {
+        final Schema schema = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(recordBuilderFactory.newEntryBuilder().withName("id").withType(Schema.Type.INT).build())
+                .build();
+
+        final SnowflakeCopyService service = new SnowflakeCopyService();
+        try (SnowflakeCopyService.StreamingCopy copy =
+                service.openStreamingCopy(snowflakeStandIn(), "DB.PUBLIC.%\"T\"", "DB.PUBLIC.\"T\"", schema, 1)) {
+            for (int i = 0; i < 1001; i++) {
+                copy.write(recordBuilderFactory.newRecordBuilder(schema).withInt("id", i).build());
+            }
+            assertTrue(copy.finish().isEmpty());
+        } finally {
+            service.cleanTmpFiles();
+        }
+
+        final List<String> copies = new ArrayList<>();
+        queries.stream().filter(q -> q.startsWith("COPY INTO")).forEach(copies::add);
+        assertEquals(1001, queries.stream().filter(q -> q.startsWith("PUT")).count());
+        assertEquals(2, copies.size());
+        assertEquals(1000, stagedFiles(copies.get(0)));
+        assertEquals(1, stagedFiles(copies.get(1)));
+    }
+
+    @Test
+    void streamingChunkSizeCountsEncodedBytes() {
+        final Schema schema = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(
+                        recordBuilderFactory.newEntryBuilder().withName("name").withType(Schema.Type.STRING).build())
+                .build();
+
+        final SnowflakeCopyService service = new SnowflakeCopyService();
+        // a line is 7 chars but 12 bytes long with its separator, two of them go over the limit
+        try (SnowflakeCopyService.StreamingCopy copy =
+                service.openStreamingCopy(snowflakeStandIn(), "DB.PUBLIC.%\"T\"", "DB.PUBLIC.\"T\"", schema, 20)) {
+            for (int i = 0; i < 4; i++) {
+                copy.write(recordBuilderFactory.newRecordBuilder(schema)
+                        .withString("name", "\u00e9\u00e9\u00e9\u00e9\u00e9" + i)
+                        .build());
+            }
+            assertTrue(copy.finish().isEmpty());
+        } finally {
+            service.cleanTmpFiles();
+        }
+
+        assertEquals(4, queries.stream().filter(q -> q.startsWith("PUT")).count());
+        assertEquals(4, uploadedLines.get());
+    }
+
+    private static int stagedFiles(final String copy) {
+        final int start = copy.indexOf("FILES=(") + "FILES=(".length();
+        return copy.substring(start, copy.indexOf(')', start)).split(",").length;
+    }
+
+    /**
+     * a connection which only answers the PUT and COPY INTO commands, PUT reads the staged file to count its lines
+     */
+    private Connection snowflakeStandIn() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("createStatement".equals(method.getName())) {
+                        return statement();
+                    }
+                    return null;
+                });
+    }
+
+    private Statement statement() {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Statement.class },
+                (proxy, method, args) -> {
+                    if ("executeQuery".equals(method.getName())) {
+                        final String sql = (String) args[0];
+                        queries.add(sql);
+                        if (sql.startsWith("PUT")) {
+                            uploadedLines.addAndGet(countLines(
+                                    Paths.get(URI.create(sql.substring(5, sql.indexOf('\'', 5))))));
+                            return resultSet(true);
+                        }
+                        return resultSet(false);
+                    }
+                    return null;
+                });
+    }
+
+    private ResultSet resultSet(final boolean uploaded) {
+        final AtomicBoolean consumed = new AtomicBoolean();
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "next":
+                        return uploaded && !consumed.getAndSet(true);
+                    case "getString":
+                        return "UPLOADED";
+                    default:
+                        return null;
+                    }
+                });
+    }
+
+    private static int countLines(final Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return (int) reader.lines().count();
+        }
+    }
+}
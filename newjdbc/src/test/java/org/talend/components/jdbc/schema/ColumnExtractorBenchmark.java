@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.schema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.record.SchemaProperty;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compare {@link SchemaInferer#fillValue} with the precompiled {@link ColumnExtractor} array on a wide table of an
+ * embedded derby database, run it with the main method from the ide or with :
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.talend.components.jdbc.schema.ColumnExtractorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColumnExtractorBenchmark {
+
+    private static final String TABLE = "WIDE_TABLE";
+
+    @Param({ "200" })
+    private int columns;
+
+    @Param({ "5000" })
+    private int rows;
+
+    private final RecordBuilderFactory recordBuilderFactory = new RecordBuilderFactoryImpl("benchmark");
+
+    private Connection connection;
+
+    private Schema schema;
+
+    private List<TalendType> talendTypes;
+
+    private final Map<Integer, Boolean> trimMap = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:derby:memory:benchmark;create=true");
+
+        final Schema.Builder schemaBuilder = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD);
+        final StringBuilder ddl = new StringBuilder("create table " + TABLE + " (");
+        final StringBuilder insert = new StringBuilder("insert into " + TABLE + " values (");
+        for (int i = 0; i < columns; i++) {
+            final TalendType talendType;
+            switch (i % 4) {
+            case 0:
+                ddl.append("C").append(i).append(" int");
+                talendType = TalendType.INTEGER;
+                break;
+            case 1:
+                ddl.append("C").append(i).append(" varchar(32)");
+                talendType = TalendType.STRING;
+                // half of the string columns are trimmed
+                trimMap.put(i + 1, i % 8 == 1);
+                break;
+            case 2:
+                ddl.append("C").append(i).append(" decimal(18,4)");
+                talendType = TalendType.BIG_DECIMAL;
+                break;
+            default:
+                ddl.append("C").append(i).append(" timestamp");
+                talendType = TalendType.DATE;
+                break;
+            }
+            ddl.append(i < columns - 1 ? ", " : ")");
+            insert.append(i < columns - 1 ? "?, " : "?)");
+            schemaBuilder.withEntry(recordBuilderFactory.newEntryBuilder()
+                    .withName("C" + i)
+                    .withType(TalendTypeAndTckTypeConverter.convertTalendType2TckType(talendType))
+                    .withNullable(true)
+                    .withProp(SchemaProperty.STUDIO_TYPE, talendType.getName())
+                    .build());
+        }
+        schema = schemaBuilder.build();
+        talendTypes = SchemaInferer.convertSchemaToTalendTypeList(schema);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ddl.toString());
+        }
+        try (PreparedStatement statement = connection.prepareStatement(insert.toString())) {
+            for (int row = 0; row < rows; row++) {
+                for (int i = 0; i < columns; i++) {
+                    switch (i % 4) {
+                    case 0:
+                        statement.setInt(i + 1, row);
+                        break;
+                    case 1:
+                        statement.setString(i + 1, " value " + row + " ");
+                        break;
+                    case 2:
+                        statement.setBigDecimal(i + 1, BigDecimal.valueOf(row, 2));
+                        break;
+                    default:
+                        statement.setTimestamp(i + 1, new Timestamp(row * 1000L));
+                        break;
+                    }
+                }
+                statement.addBatch();
+                if (row % 500 == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void fillValue(final Blackhole blackhole) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select * from " + TABLE)) {
+            while (resultSet.next()) {
+                final Record.Builder builder = recordBuilderFactory.newRecordBuilder(schema);
+                SchemaInferer.fillValue(builder, schema, talendTypes, resultSet, false, trimMap);
+                blackhole.consume(builder.build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void columnExtractors(final Blackhole blackhole) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select * from " + TABLE)) {
+            final ColumnExtractor[] extractors =
+                    SchemaInferer.createColumnExtractors(schema, talendTypes, false, trimMap);
+            while (resultSet.next()) {
+                final Record.Builder builder = recordBuilderFactory.newRecordBuilder(schema);
+                for (ColumnExtractor extractor : extractors) {
+                    extractor.extract(resultSet, builder);
+                }
+                blackhole.consume(builder.build());
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ColumnExtractorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
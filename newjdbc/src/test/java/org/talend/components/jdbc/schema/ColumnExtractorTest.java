@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.schema;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.record.SchemaProperty;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnExtractorTest {
+
+    private final RecordBuilderFactory recordBuilderFactory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void dateFallbackIsDecidedRowByRow() throws SQLException {
+        final Schema schema = recordBuilderFactory.newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(recordBuilderFactory.newEntryBuilder()
+                        .withName("D")
+                        .withType(TalendTypeAndTckTypeConverter.convertTalendType2TckType(TalendType.DATE))
+                        .withNullable(true)
+                        .withProp(SchemaProperty.STUDIO_TYPE, TalendType.DATE.getName())
+                        .build())
+                .build();
+        final ColumnExtractor[] extractors = SchemaInferer.createColumnExtractors(schema,
+                SchemaInferer.convertSchemaToTalendTypeList(schema), false, Collections.emptyMap());
+
+        // the driver can't return the first value as a timestamp, only as a date
+        final AtomicInteger row = new AtomicInteger();
+        final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getTimestamp":
+                        if (row.get() == 0) {
+                            throw new SQLException("invalid timestamp value");
+                        }
+                        return new Timestamp(3_723_000L);
+                    case "getDate":
+                        return new Date(86_400_000L);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        final Record first = extract(schema, extractors, resultSet);
+        row.incrementAndGet();
+        final Record second = extract(schema, extractors, resultSet);
+
+        assertEquals(86_400_000L, first.getDateTime("D").toInstant().toEpochMilli());
+        // the time of the next rows is kept
+        assertEquals(3_723_000L, second.getDateTime("D").toInstant().toEpochMilli());
+    }
+
+    private Record extract(final Schema schema, final ColumnExtractor[] extractors, final ResultSet resultSet)
+            throws SQLException {
+        final Record.Builder builder = recordBuilderFactory.newRecordBuilder(schema);
+        for (ColumnExtractor extractor : extractors) {
+            extractor.extract(resultSet, builder);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolRegistryTest {
+
+    private static ConnectionPoolRegistry.PoolKey key(final String database) {
+        return new ConnectionPoolRegistry.PoolKey("Derby", "org.apache.derby.jdbc.EmbeddedDriver",
+                "jdbc:derby:memory:" + database + ";create=true", "sa", Collections.emptyList(), 30, 10,
+                Collections.emptyMap(), Collections.emptyList());
+    }
+
+    private static ConnectionPoolRegistry.PooledDataSource pool(final ConnectionPoolRegistry.PoolKey key) {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(key.getDriverClassName());
+        dataSource.setJdbcUrl(key.getJdbcUrl());
+        dataSource.setMaximumPoolSize(1);
+        return new ConnectionPoolRegistry.PooledDataSource(dataSource, null);
+    }
+
+    @Test
+    void sharePoolBetweenLeases() throws Exception {
+        final ConnectionPoolRegistry registry = new ConnectionPoolRegistry(4, 0);
+        final ConnectionPoolRegistry.Lease first = registry.acquire(key("registry1"), () -> pool(key("registry1")));
+        final ConnectionPoolRegistry.Lease second = registry.acquire(key("registry1"), () -> pool(key("registry1")));
+
+        assertEquals(1, registry.size());
+        assertEquals(1, registry.getMetrics().getPoolCreations());
+        assertEquals(1, registry.getMetrics().getPoolHits());
+
+        // both leases keep their connection at the same time, the pool grew to 2
+        try (Connection c1 = first.getConnection(); Connection c2 = second.getConnection()) {
+            assertTrue(c1.isValid(1));
+            assertTrue(c2.isValid(1));
+        }
+        assertEquals(2, registry.getMetrics().getConnectionWaits());
+
+        try (Connection c1 = first.getConnection()) {
+            assertTrue(c1.isValid(1));
+        }
+        assertEquals(2, registry.getMetrics().getConnectionWaits());
+
+        first.release();
+        first.release();
+        assertEquals(1, registry.size());
+        second.release();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void growPoolWithUsers() throws Exception {
+        final ConnectionPoolRegistry registry = new ConnectionPoolRegistry(0, 0);
+        final List<ConnectionPoolRegistry.Lease> leases = new ArrayList<>();
+        final List<Connection> connections = new ArrayList<>();
+        try {
+            // more users than the former default max size, each one keeping its connection
+            for (int i = 0; i < 12; i++) {
+                final ConnectionPoolRegistry.Lease lease =
+                        registry.acquire(key("registry3"), () -> pool(key("registry3")));
+                leases.add(lease);
+                connections.add(lease.getConnection());
+            }
+            assertEquals(12, connections.size());
+        } finally {
+            for (final Connection connection : connections) {
+                connection.close();
+            }
+            leases.forEach(ConnectionPoolRegistry.Lease::release);
+        }
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void failFastWhenMaxPoolSizeIsReached() {
+        final ConnectionPoolRegistry registry = new ConnectionPoolRegistry(2, 0);
+        final ConnectionPoolRegistry.Lease first = registry.acquire(key("registry4"), () -> pool(key("registry4")));
+        final ConnectionPoolRegistry.Lease second = registry.acquire(key("registry4"), () -> pool(key("registry4")));
+
+        final IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> registry.acquire(key("registry4"), () -> pool(key("registry4"))));
+        assertTrue(error.getMessage().contains(ConnectionPoolRegistry.MAX_POOL_SIZE_PROPERTY));
+
+        // a released slot can be taken again
+        second.release();
+        registry.acquire(key("registry4"), () -> pool(key("registry4"))).release();
+        first.release();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void evictIdlePoolAfterTimeout() throws Exception {
+        final ConnectionPoolRegistry registry = new ConnectionPoolRegistry(4, 50);
+        final ConnectionPoolRegistry.PooledDataSource pool = pool(key("registry2"));
+        registry.acquire(key("registry2"), () -> pool).release();
+        assertEquals(1, registry.size());
+
+        // a new user in the idle timeout gets the same pool
+        final ConnectionPoolRegistry.Lease lease = registry.acquire(key("registry2"), () -> pool(key("registry2")));
+        assertEquals(1, registry.getMetrics().getPoolHits());
+        lease.release();
+
+        Thread.sleep(100);
+        registry.evictIdlePools();
+        assertEquals(0, registry.size());
+        assertEquals(1, registry.getMetrics().getPoolEvictions());
+        assertTrue(pool.getDataSource().isClosed());
+    }
+}
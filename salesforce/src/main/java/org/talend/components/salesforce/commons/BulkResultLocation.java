@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.commons;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+/**
+ * Address of one result file of a bulk query job. A job holds one or more batches (several when pk chunking is on)
+ * and every completed batch exposes one or more result files, each of which can be downloaded independently.
+ */
+@Value
+public class BulkResultLocation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    String jobId;
+
+    String batchId;
+
+    String resultId;
+}
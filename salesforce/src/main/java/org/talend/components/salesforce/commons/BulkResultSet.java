@@ -28,28 +28,24 @@ public class BulkResultSet {
         this.header = header;
     }
 
-    public Map<String, String> next() {
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Read the next row as it comes from the csv file, values are in header order
+     *
+     * @return the values of the row or null when the result is exhausted
+     */
+    public String[] nextRow() {
         try {
-            boolean hasNext = reader.readRecord();
-            Map<String, String> result = null;
-            String[] row;
-            if (hasNext) {
-                if ((row = reader.getValues()) != null) {
-                    result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-                    for (int i = 0; i < this.header.size(); i++) {
-                        // We replace the . with _ to add support of relationShip Queries
-                        // The relationShip Queries Use . in Salesforce and we use _ in Talend (Studio)
-                        // So Account.Name in SF will be Account_Name in Talend
-                        result.put(header.get(i).replace('.', '_'), row[i]);
-
-                    }
-                    return result;
-                } else {
-                    return next();
+            while (reader.readRecord()) {
+                String[] row = reader.getValues();
+                if (row != null) {
+                    return row;
                 }
-            } else {
-                this.reader.close();
             }
+            this.reader.close();
             return null;
         } catch (IOException e) {
             this.reader.close();
@@ -57,4 +53,26 @@ public class BulkResultSet {
         }
     }
 
-}
\ No newline at end of file
+    public Map<String, String> next() {
+        String[] row = nextRow();
+        if (row == null) {
+            return null;
+        }
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < this.header.size(); i++) {
+            // We replace the . with _ to add support of relationShip Queries
+            // The relationShip Queries Use . in Salesforce and we use _ in Talend (Studio)
+            // So Account.Name in SF will be Account_Name in Talend
+            result.put(header.get(i).replace('.', '_'), row[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Release the underlying reader when the caller stops before the end of the result
+     */
+    public void close() {
+        this.reader.close();
+    }
+
+}
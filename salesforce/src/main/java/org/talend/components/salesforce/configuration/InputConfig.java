@@ -19,4 +19,6 @@ import org.talend.components.salesforce.dataset.QueryDataSet;
 public interface InputConfig extends Serializable {
 
     QueryDataSet getDataSet();
+
+    boolean isPrefetchResults();
 }
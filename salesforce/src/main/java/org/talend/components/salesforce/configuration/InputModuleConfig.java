@@ -21,6 +21,7 @@ import lombok.Data;
 
 @Data
 @GridLayout(value = { @GridLayout.Row({ "dataSet" }) })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "prefetchResults" }) })
 @Documentation("Query input configuration")
 public class InputModuleConfig implements InputConfig {
 
@@ -28,4 +29,8 @@ public class InputModuleConfig implements InputConfig {
     @Documentation("SQL query dataset")
     private ModuleDataSet dataSet;
 
+    @Option
+    @Documentation("Download the next bulk result file in the background while the current one is being read")
+    private boolean prefetchResults;
+
 }
@@ -13,9 +13,19 @@
 package org.talend.components.salesforce.input;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -25,6 +35,7 @@ import com.sforce.async.BulkConnection;
 import com.sforce.soap.partner.IField;
 import com.sforce.ws.ConnectionException;
 
+import org.talend.components.salesforce.commons.BulkResultLocation;
 import org.talend.components.salesforce.commons.BulkResultSet;
 import org.talend.components.salesforce.configuration.InputConfig;
 import org.talend.components.salesforce.service.BulkQueryService;
@@ -59,6 +70,19 @@ public abstract class AbstractQueryEmitter implements Serializable {
 
     private boolean preBuildSchema;
 
+    /**
+     * Result files handed over by the partition mapper, null when this emitter runs the bulk query itself.
+     */
+    private List<BulkResultLocation> assignedResults;
+
+    private transient Iterator<BulkResultLocation> pendingResults;
+
+    private transient ExecutorService prefetchExecutor;
+
+    private transient Future<Path> prefetchedResult;
+
+    private transient Path currentResultFile;
+
     public AbstractQueryEmitter(final InputConfig inputConfig, final SalesforceService service,
             LocalConfiguration configuration,
             final RecordBuilderFactory recordBuilderFactory, final Messages messages) {
@@ -69,6 +93,36 @@ public abstract class AbstractQueryEmitter implements Serializable {
         this.messages = messages;
     }
 
+    /**
+     * Restrict this emitter to result files of a job the partition mapper already ran and closed.
+     */
+    void assignResults(final List<BulkResultLocation> results) {
+        this.assignedResults = results;
+    }
+
+    /**
+     * Run the bulk query and list its result files without reading them. The job is closed straight away: closing a
+     * job only forbids new batches, its results stay downloadable by the emitters they are dispatched to.
+     */
+    List<BulkResultLocation> submitQuery() {
+        try {
+            final BulkQueryService queryService = new BulkQueryService(
+                    service.bulkConnect(inputConfig.getDataSet().getDataStore(), localConfiguration),
+                    recordBuilderFactory, messages);
+            queryService.doBulkQuery(getModuleName(), getQuery());
+            final List<BulkResultLocation> results = new ArrayList<>(queryService.getQueryResults());
+            queryService.closeJob();
+            return results;
+        } catch (ConnectionException e) {
+            throw service.handleConnectionException(e);
+        } catch (AsyncApiException e) {
+            throw new IllegalStateException(e.getExceptionMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     @PostConstruct
     public void init() {
         try {
@@ -76,7 +130,20 @@ public abstract class AbstractQueryEmitter implements Serializable {
                     .bulkConnect(inputConfig.getDataSet().getDataStore(),
                             localConfiguration);
             bulkQueryService = new BulkQueryService(bulkConnection, recordBuilderFactory, messages);
-            bulkQueryService.doBulkQuery(getModuleName(), getQuery());
+            if (assignedResults == null) {
+                bulkQueryService.doBulkQuery(getModuleName(), getQuery());
+                pendingResults = bulkQueryService.getQueryResults().iterator();
+            } else {
+                pendingResults = assignedResults.iterator();
+            }
+            if (inputConfig.isPrefetchResults()) {
+                prefetchExecutor = Executors.newSingleThreadExecutor(r -> {
+                    final Thread thread = new Thread(r, "salesforce-bulk-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                prefetchedResult = prefetchNextResult();
+            }
         } catch (ConnectionException e) {
             throw service.handleConnectionException(e);
         } catch (AsyncApiException e) {
@@ -98,18 +165,20 @@ public abstract class AbstractQueryEmitter implements Serializable {
                 Schema schema = service.guessSchema(getColumnNames(), fieldMap, recordBuilderFactory);
                 bulkQueryService.setRecordSchema(schema);
             }
-            if (bulkResultSet == null) {
-                bulkResultSet = bulkQueryService.getQueryResultSet(bulkQueryService.nextResultId());
-            }
-            Map<String, String> currentRecord = bulkResultSet.next();
-            if (currentRecord == null) {
-                String resultId = bulkQueryService.nextResultId();
-                if (resultId != null) {
-                    bulkResultSet = bulkQueryService.getQueryResultSet(resultId);
-                    currentRecord = bulkResultSet.next();
+            String[] currentRow = null;
+            while (currentRow == null) {
+                if (bulkResultSet == null) {
+                    bulkResultSet = openNextResultSet();
+                    if (bulkResultSet == null) {
+                        return null;
+                    }
+                }
+                currentRow = bulkResultSet.nextRow();
+                if (currentRow == null) {
+                    bulkResultSet = null;
                 }
             }
-            return bulkQueryService.convertToRecord(currentRecord);
+            return bulkQueryService.convertToRecord(bulkResultSet.getHeader(), currentRow);
         } catch (ConnectionException e) {
             throw service.handleConnectionException(e);
         } catch (AsyncApiException e) {
@@ -119,8 +188,92 @@ public abstract class AbstractQueryEmitter implements Serializable {
         }
     }
 
+    /**
+     * Open the next result file, or return null once all of them were read. With prefetching enabled the file was
+     * spooled to disk in the background and the download of the following one starts before this one is converted.
+     */
+    private BulkResultSet openNextResultSet() throws AsyncApiException, ConnectionException, IOException {
+        if (prefetchExecutor == null) {
+            return pendingResults.hasNext() ? bulkQueryService.getQueryResultSet(pendingResults.next()) : null;
+        }
+        if (prefetchedResult == null) {
+            return null;
+        }
+        final Path resultFile;
+        try {
+            resultFile = prefetchedResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof AsyncApiException) {
+                throw (AsyncApiException) cause;
+            } else if (cause instanceof ConnectionException) {
+                throw (ConnectionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        deleteCurrentResultFile();
+        currentResultFile = resultFile;
+        prefetchedResult = prefetchNextResult();
+        return bulkQueryService.getQueryResultSet(Files.newInputStream(resultFile));
+    }
+
+    private Future<Path> prefetchNextResult() {
+        if (!pendingResults.hasNext()) {
+            return null;
+        }
+        final BulkResultLocation location = pendingResults.next();
+        return prefetchExecutor.submit(() -> {
+            final Path file = Files.createTempFile("salesforce-bulk-", ".csv");
+            try (InputStream result = bulkQueryService.openQueryResult(location)) {
+                Files.copy(result, file, StandardCopyOption.REPLACE_EXISTING);
+                return file;
+            } catch (Exception e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        });
+    }
+
+    private void deleteCurrentResultFile() {
+        if (currentResultFile != null) {
+            try {
+                Files.deleteIfExists(currentResultFile);
+            } catch (IOException e) {
+                log.warn("Can't delete bulk result file {}: {}", currentResultFile, e.getMessage());
+            }
+            currentResultFile = null;
+        }
+    }
+
     @PreDestroy
     public void release() {
+        if (bulkResultSet != null) {
+            bulkResultSet.close();
+            bulkResultSet = null;
+        }
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+            deleteCurrentResultFile();
+            if (prefetchedResult != null && !prefetchedResult.cancel(true)) {
+                try {
+                    currentResultFile = prefetchedResult.get();
+                    deleteCurrentResultFile();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    // the download failed and already removed its file
+                }
+            }
+        }
+        if (assignedResults != null) {
+            // the partition mapper owns the job and closed it once its results were listed
+            return;
+        }
         try {
             bulkQueryService.closeJob();
         } catch (AsyncApiException | ConnectionException e) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.input;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.talend.components.salesforce.commons.BulkResultLocation;
+import org.talend.components.salesforce.configuration.InputConfig;
+import org.talend.components.salesforce.service.Messages;
+import org.talend.components.salesforce.service.SalesforceService;
+import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Splits a bulk query by result file. The job is executed once while splitting and every result file (one or more
+ * per batch, a batch per chunk when pk chunking is enabled) is read by its own emitter. Runtimes which don't split
+ * fall back on a single emitter running the job itself.
+ */
+@Slf4j
+public abstract class AbstractQueryMapper implements Serializable {
+
+    protected final InputConfig inputConfig;
+
+    protected final SalesforceService service;
+
+    protected final LocalConfiguration localConfiguration;
+
+    protected final RecordBuilderFactory recordBuilderFactory;
+
+    protected final Messages messages;
+
+    private List<BulkResultLocation> results;
+
+    protected AbstractQueryMapper(final InputConfig inputConfig, final SalesforceService service,
+            final LocalConfiguration localConfiguration, final RecordBuilderFactory recordBuilderFactory,
+            final Messages messages) {
+        this.inputConfig = inputConfig;
+        this.service = service;
+        this.localConfiguration = localConfiguration;
+        this.recordBuilderFactory = recordBuilderFactory;
+        this.messages = messages;
+    }
+
+    protected <T extends AbstractQueryMapper> List<T> splitByResult(final T self, final Supplier<T> copies) {
+        if (results != null) {
+            // already a split of a job
+            return singletonList(self);
+        }
+        final List<BulkResultLocation> jobResults = newEmitter().submitQuery();
+        log.debug("Bulk query returned {} result file(s)", jobResults.size());
+        if (jobResults.size() < 2) {
+            self.assignResults(new ArrayList<>(jobResults));
+            return singletonList(self);
+        }
+        return jobResults.stream().map(location -> {
+            final T mapper = copies.get();
+            mapper.assignResults(new ArrayList<>(singletonList(location)));
+            return mapper;
+        }).collect(toList());
+    }
+
+    protected <E extends AbstractQueryEmitter> E withAssignedResults(final E emitter) {
+        if (results != null) {
+            emitter.assignResults(results);
+        }
+        return emitter;
+    }
+
+    void assignResults(final List<BulkResultLocation> results) {
+        this.results = results;
+    }
+
+    protected abstract AbstractQueryEmitter newEmitter();
+}
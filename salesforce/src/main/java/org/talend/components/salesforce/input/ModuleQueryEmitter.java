@@ -28,10 +28,6 @@ import org.talend.components.salesforce.configuration.InputModuleConfig;
 import org.talend.components.salesforce.dataset.ModuleDataSet;
 import org.talend.components.salesforce.service.Messages;
 import org.talend.components.salesforce.service.SalesforceService;
-import org.talend.sdk.component.api.component.Icon;
-import org.talend.sdk.component.api.component.Version;
-import org.talend.sdk.component.api.configuration.Option;
-import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
@@ -39,15 +35,12 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@Version
-@Icon(value = Icon.IconType.CUSTOM, custom = "file-salesforce-input")
-@Emitter(name = "ModuleQueryInput")
 @Documentation("Salesforce module query input ")
 public class ModuleQueryEmitter extends AbstractQueryEmitter implements Serializable {
 
     private transient List<String> allModuleFields;
 
-    public ModuleQueryEmitter(@Option("configuration") final InputModuleConfig inputModuleConfig,
+    public ModuleQueryEmitter(final InputModuleConfig inputModuleConfig,
             final SalesforceService service,
             LocalConfiguration configuration, final RecordBuilderFactory recordBuilderFactory,
             final Messages messages) {
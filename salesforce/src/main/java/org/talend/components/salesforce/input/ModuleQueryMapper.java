@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.input;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.talend.components.salesforce.configuration.InputModuleConfig;
+import org.talend.components.salesforce.service.Messages;
+import org.talend.components.salesforce.service.SalesforceService;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+@Version
+@Icon(value = Icon.IconType.CUSTOM, custom = "file-salesforce-input")
+@PartitionMapper(name = "ModuleQueryInput")
+@Documentation("Salesforce module query input ")
+public class ModuleQueryMapper extends AbstractQueryMapper implements Serializable {
+
+    private final InputModuleConfig configuration;
+
+    public ModuleQueryMapper(@Option("configuration") final InputModuleConfig configuration,
+            final SalesforceService service, final LocalConfiguration localConfiguration,
+            final RecordBuilderFactory recordBuilderFactory, final Messages messages) {
+        super(configuration, service, localConfiguration, recordBuilderFactory, messages);
+        this.configuration = configuration;
+    }
+
+    @Assessor
+    public long estimateSize() {
+        // the size is only known once the job ran, split() dispatches one result file per emitter
+        return 1L;
+    }
+
+    @Split
+    public List<ModuleQueryMapper> split(@PartitionSize final long bundles) {
+        return splitByResult(this, () -> new ModuleQueryMapper(configuration, service, localConfiguration,
+                recordBuilderFactory, messages));
+    }
+
+    @Emitter
+    public ModuleQueryEmitter createWorker() {
+        return withAssignedResults(newEmitter());
+    }
+
+    @Override
+    protected ModuleQueryEmitter newEmitter() {
+        return new ModuleQueryEmitter(configuration, service, localConfiguration, recordBuilderFactory, messages);
+    }
+}
@@ -19,10 +19,6 @@ import org.talend.components.salesforce.configuration.InputSOQLConfig;
 import org.talend.components.salesforce.dataset.SOQLQueryDataSet;
 import org.talend.components.salesforce.service.Messages;
 import org.talend.components.salesforce.service.SalesforceService;
-import org.talend.sdk.component.api.component.Icon;
-import org.talend.sdk.component.api.component.Version;
-import org.talend.sdk.component.api.configuration.Option;
-import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
@@ -30,13 +26,10 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@Version
-@Icon(value = Icon.IconType.CUSTOM, custom = "file-salesforce-input")
-@Emitter(name = "SOQLQueryInput")
 @Documentation("Salesforce soql query input ")
 public class SOQLQueryEmitter extends AbstractQueryEmitter implements Serializable {
 
-    public SOQLQueryEmitter(@Option("configuration") final InputSOQLConfig inputSOQLConfig,
+    public SOQLQueryEmitter(final InputSOQLConfig inputSOQLConfig,
             final SalesforceService service,
             LocalConfiguration configuration, final RecordBuilderFactory recordBuilderFactory,
             final Messages messages) {
@@ -18,15 +18,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import com.sforce.async.AsyncApiException;
 import com.sforce.async.AsyncExceptionCode;
@@ -40,9 +45,11 @@ import com.sforce.async.JobInfo;
 import com.sforce.async.JobStateEnum;
 import com.sforce.async.OperationEnum;
 import com.sforce.async.QueryResultList;
+import com.sforce.soap.partner.FieldType;
 import com.sforce.soap.partner.IField;
 import com.sforce.ws.ConnectionException;
 
+import org.talend.components.salesforce.commons.BulkResultLocation;
 import org.talend.components.salesforce.commons.BulkResultSet;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
@@ -66,11 +73,13 @@ public class BulkQueryService {
 
     private static final int MAX_BATCH_EXECUTION_TIME = 600 * 1000;
 
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    private static final SimpleDateFormat DATETIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'.000Z'");
+    // the trailing Z is matched as a literal, values are read in the JVM time zone
+    private static final DateTimeFormatter DATETIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss[.SSS]'Z'");
 
-    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss.SSS'Z'");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS'Z'");
 
     private final String FILE_ENCODING = "UTF-8";
 
@@ -82,15 +91,13 @@ public class BulkQueryService {
 
     private Map<String, IField> fieldMap;
 
-    private List<BatchInfo> batchInfoList;
-
     private JobInfo job;
 
     private List<String> baseFileHeader;
 
     private ConcurrencyMode concurrencyMode = null;
 
-    private Iterator<String> queryResultIDs = null;
+    private List<BulkResultLocation> queryResults = Collections.emptyList();
     // Default : no timeout to wait until the job fails or is in success
 
     private boolean safetySwitch = true;
@@ -104,6 +111,10 @@ public class BulkQueryService {
     // pre build record schema
     private Schema recordSchema;
 
+    private List<String> rowPlanHeader;
+
+    private RowPlan rowPlan;
+
     public BulkQueryService(final BulkConnection bulkConnection, final RecordBuilderFactory recordBuilderFactory,
             final Messages messages) {
         this.bulkConnection = bulkConnection;
@@ -185,13 +196,27 @@ public class BulkQueryService {
     }
 
     /**
-     * Get bulk resultset base on the resultId
+     * Get bulk resultset for the given result file
+     */
+    public BulkResultSet getQueryResultSet(BulkResultLocation location)
+            throws AsyncApiException, IOException, ConnectionException {
+        return getQueryResultSet(openQueryResult(location));
+    }
+
+    /**
+     * Open the raw csv stream of a result file. The stream can be consumed on any thread, which lets callers download
+     * the next result while the current one is still being converted.
      */
-    public BulkResultSet getQueryResultSet(String resultId) throws AsyncApiException, IOException, ConnectionException {
-        final com.csvreader.CsvReader baseFileReader = new com.csvreader.CsvReader(new BufferedReader(
-                new InputStreamReader(getQueryResultStream(job.getId(), batchInfoList.get(0).getId(), resultId),
-                        FILE_ENCODING)),
-                ',');
+    public InputStream openQueryResult(BulkResultLocation location) throws AsyncApiException, ConnectionException {
+        return getQueryResultStream(location.getJobId(), location.getBatchId(), location.getResultId());
+    }
+
+    /**
+     * Get bulk resultset reading the csv content of a result file
+     */
+    public BulkResultSet getQueryResultSet(InputStream resultStream) throws IOException {
+        final com.csvreader.CsvReader baseFileReader = new com.csvreader.CsvReader(
+                new BufferedReader(new InputStreamReader(resultStream, FILE_ENCODING)), ',');
         baseFileReader.setSafetySwitch(safetySwitch);
         if (baseFileReader.readRecord()) {
             baseFileHeader = Arrays.asList(baseFileReader.getValues());
@@ -323,13 +348,11 @@ public class BulkQueryService {
             throws AsyncApiException, ConnectionException, InterruptedException {
 
         if (BatchStateEnum.Completed == info.getState()) {
-            QueryResultList list = getQueryResultList(job.getId(), info.getId());
-            queryResultIDs = new HashSet<String>(Arrays.asList(list.getResult())).iterator();
-            this.batchInfoList = Collections.singletonList(info);
+            queryResults = listResults(info);
             return;
         }
         BatchInfoList batchInfoList = null;
-        Set<String> resultSet = new HashSet<>();
+        Set<BulkResultLocation> resultSet = new LinkedHashSet<>();
         boolean isInProgress = true;
         while (isInProgress) {
             batchInfoList = getBatchInfoList(job.getId());
@@ -348,11 +371,19 @@ public class BulkQueryService {
             if (batch.getId().equals(info.getId())) {
                 continue;
             }
-            resultSet.addAll(Arrays.asList(getQueryResultList(job.getId(), batch.getId()).getResult()));
+            resultSet.addAll(listResults(batch));
         }
 
-        queryResultIDs = resultSet.iterator();
-        this.batchInfoList = Arrays.asList(batchInfoList.getBatchInfo());
+        queryResults = new ArrayList<>(resultSet);
+    }
+
+    private List<BulkResultLocation> listResults(BatchInfo batch) throws AsyncApiException, ConnectionException {
+        QueryResultList list = getQueryResultList(job.getId(), batch.getId());
+        Set<BulkResultLocation> locations = new LinkedHashSet<>();
+        for (String resultId : list.getResult()) {
+            locations.add(new BulkResultLocation(job.getId(), batch.getId(), resultId));
+        }
+        return new ArrayList<>(locations);
     }
 
     /**
@@ -397,14 +428,10 @@ public class BulkQueryService {
     }
 
     /**
-     * Get next result Id
+     * Get the result files of the last executed query, in the order Salesforce listed them
      */
-    public String nextResultId() {
-        String resultId = null;
-        if (queryResultIDs != null && queryResultIDs.hasNext()) {
-            resultId = queryResultIDs.next();
-        }
-        return resultId;
+    public List<BulkResultLocation> getQueryResults() {
+        return queryResults;
     }
 
     /**
@@ -432,78 +459,122 @@ public class BulkQueryService {
     }
 
     /**
-     * Convert result to record
+     * Convert a row of the given result header to record
      */
-    public Record convertToRecord(Map<String, String> result) throws IOException {
-        if (result == null) {
+    public Record convertToRecord(List<String> header, String[] row) throws IOException {
+        if (row == null) {
             return null;
         }
-        Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(recordSchema);
-        for (Schema.Entry fieldEntry : recordSchema.getEntries()) {
-            String columnName = fieldEntry.getName();
-            String resultValue = result.get(columnName);
-            if (resultValue == null) {
-                // for query module with filed name: "Contact.Name" from Contact
-                // guess schema: "Contact_Name", result mapping is with value of "Name", instead of "Contact_Name"
-                resultValue = result.get(columnName.substring(columnName.indexOf("_") + 1));
-            }
-            addField(recordBuilder, columnName, resultValue);
+        if (rowPlan == null || rowPlanHeader != header) {
+            rowPlan = new RowPlan(header, recordSchema, fieldMap);
+            rowPlanHeader = header;
         }
+        Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(recordSchema);
+        rowPlan.fill(recordBuilder, row);
         return recordBuilder.build();
     }
 
     public void setFieldMap(Map<String, IField> fieldMap) {
         this.fieldMap = fieldMap;
+        this.rowPlan = null;
+    }
+
+    public void setRecordSchema(Schema recordSchema) {
+        this.recordSchema = recordSchema;
+        this.rowPlan = null;
     }
 
     /**
-     * Add field to record
+     * Resolves, once per result header, the csv column and the salesforce field type of every schema entry so rows
+     * are converted by index instead of going through a map of column names.
      */
-    private void addField(final Record.Builder builder, String fieldName, final String value) throws IOException {
-        if (value == null || value.isEmpty()) {
-            return;
+    private static class RowPlan {
+
+        private final String[] names;
+
+        private final int[] columns;
+
+        private final FieldType[] types;
+
+        RowPlan(final List<String> header, final Schema schema, final Map<String, IField> fieldMap) {
+            // relationship columns are named Account.Name in salesforce and Account_Name in the schema
+            final Map<String, Integer> headerIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 0; i < header.size(); i++) {
+                headerIndex.put(header.get(i).replace('.', '_'), i);
+            }
+            final List<Schema.Entry> entries = schema.getEntries();
+            names = new String[entries.size()];
+            columns = new int[entries.size()];
+            types = new FieldType[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                final String columnName = entries.get(i).getName();
+                Integer column = headerIndex.get(columnName);
+                if (column == null) {
+                    // for query module with filed name: "Contact.Name" from Contact
+                    // guess schema: "Contact_Name", result mapping is with value of "Name", instead of "Contact_Name"
+                    column = headerIndex.get(columnName.substring(columnName.indexOf("_") + 1));
+                }
+                columns[i] = column == null ? -1 : column;
+                // Get field from module field mapping, if null means not a field of module
+                final IField field = fieldMap.get(columnName);
+                names[i] = field == null ? columnName : field.getName();
+                types[i] = field == null ? FieldType.string : field.getType();
+            }
         }
-        try {
-            // Get field from module field mapping, if null means not a field of module
-            IField field = fieldMap.get(fieldName);
-            if (field != null) {
-                switch (field.getType()) {
-                case _boolean:
-                    builder.withBoolean(field.getName(), Boolean.valueOf(value));
-                    break;
-                case _double:
-                case percent:
-                case currency:
-                    builder.withDouble(field.getName(), Double.parseDouble(value));
-                    break;
-                case _int:
-                    builder.withInt(field.getName(), Integer.valueOf(value));
-                    break;
-                case date:
-                    builder.withDateTime(field.getName(), DATE_FORMAT.parse(value));
-                    break;
-                case datetime:
-                    builder.withTimestamp(field.getName(), DATETIME_FORMAT.parse(value).getTime());
-                    break;
-                case time:
-                    builder.withTimestamp(field.getName(), TIME_FORMAT.parse(value).getTime());
-                    break;
-                case base64:
-                default:
-                    builder.withString(field.getName(), value);
-                    break;
+
+        void fill(final Record.Builder builder, final String[] row) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                final int column = columns[i];
+                if (column < 0 || column >= row.length || row[column] == null || row[column].isEmpty()) {
+                    continue;
                 }
-            } else {
-                // if field not exist in the field mapping of module, put string type as default
-                builder.withString(fieldName, value);
+                addField(builder, names[i], types[i], row[column]);
             }
-        } catch (ParseException e) {
-            // TODO
-            throw new IOException(e);
         }
     }
 
-    public void setRecordSchema(Schema recordSchema) {
-        this.recordSchema = recordSchema;
+    /**
+     * Add field to record
+     */
+    private static void addField(final Record.Builder builder, final String fieldName, final FieldType type,
+            final String value) throws IOException {
+        try {
+            switch (type) {
+            case _boolean:
+                builder.withBoolean(fieldName, Boolean.valueOf(value));
+                break;
+            case _double:
+            case percent:
+            case currency:
+                builder.withDouble(fieldName, Double.parseDouble(value));
+                break;
+            case _int:
+                builder.withInt(fieldName, Integer.valueOf(value));
+                break;
+            case date:
+                builder.withDateTime(fieldName,
+                        LocalDate.parse(value, DATE_FORMAT).atStartOfDay(ZoneId.systemDefault()));
+                break;
+            case datetime:
+                builder.withTimestamp(fieldName, LocalDateTime.parse(value, DATETIME_FORMAT)
+                        .atZone(ZoneId.systemDefault())
+                        .toInstant()
+                        .toEpochMilli());
+                break;
+            case time:
+                builder.withTimestamp(fieldName, LocalTime.parse(value, TIME_FORMAT)
+                        .atDate(LocalDate.ofEpochDay(0))
+                        .atZone(ZoneId.systemDefault())
+                        .toInstant()
+                        .toEpochMilli());
+                break;
+            case base64:
+            default:
+                builder.withString(fieldName, value);
+                break;
+            }
+        } catch (DateTimeParseException e) {
+            throw new IOException(e);
+        }
     }
 }
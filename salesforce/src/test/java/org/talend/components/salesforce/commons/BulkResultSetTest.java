@@ -74,6 +74,25 @@ class BulkResultSetTest {
         assertEquals(recordCount, count);
     }
 
+    @Test
+    @DisplayName("Test raw rows")
+    void testNextRow() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter csvWriter = new CsvWriter(new BufferedOutputStream(out), ',', StandardCharsets.UTF_8);
+        csvWriter.writeRecord(new String[] { "a0", "b0" });
+        csvWriter.writeRecord(new String[] { "a1", "" });
+        csvWriter.close();
+
+        CsvReader csvReader = new CsvReader(new BufferedInputStream(new ByteArrayInputStream(out.toByteArray())), ',',
+                StandardCharsets.UTF_8);
+        BulkResultSet resultSet = new BulkResultSet(csvReader, Arrays.asList("Account.Name", "fieldB"));
+
+        assertEquals(Arrays.asList("Account.Name", "fieldB"), resultSet.getHeader());
+        Assertions.assertArrayEquals(new String[] { "a0", "b0" }, resultSet.nextRow());
+        Assertions.assertArrayEquals(new String[] { "a1", "" }, resultSet.nextRow());
+        Assertions.assertNull(resultSet.nextRow());
+    }
+
     @Test
     @DisplayName("Test resultset")
     void testSafetySwitchTrueFailure() {
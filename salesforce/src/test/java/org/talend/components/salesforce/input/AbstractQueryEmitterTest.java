@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.input;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.sforce.async.AsyncApiException;
+import com.sforce.async.AsyncExceptionCode;
+import com.sforce.async.BulkConnection;
+import com.sforce.async.JobInfo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.components.salesforce.commons.BulkResultLocation;
+import org.talend.components.salesforce.configuration.InputSOQLConfig;
+import org.talend.components.salesforce.dataset.SOQLQueryDataSet;
+import org.talend.components.salesforce.datastore.BasicDataStore;
+import org.talend.components.salesforce.service.SalesforceService;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class AbstractQueryEmitterTest {
+
+    private static final String PREFETCH_THREAD = "salesforce-bulk-prefetch";
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private final List<BulkResultLocation> results = asList(new BulkResultLocation("job", "batch", "result1"),
+            new BulkResultLocation("job", "batch", "result2"), new BulkResultLocation("job", "batch", "result3"));
+
+    private SalesforceService service;
+
+    private BulkConnection bulkConnection;
+
+    private List<Path> tempFilesBefore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bulkConnection = mock(BulkConnection.class);
+        service = mock(SalesforceService.class);
+        when(service.bulkConnect(any(BasicDataStore.class), any(LocalConfiguration.class))).thenReturn(bulkConnection);
+        final Schema schema = factory.newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(factory.newEntryBuilder().withName("Id").withType(Schema.Type.STRING).build())
+                .build();
+        when(service.guessSchema(any(List.class), any(Map.class), any(RecordBuilderFactory.class)))
+                .thenReturn(schema);
+        tempFilesBefore = prefetchFiles();
+    }
+
+    @Test
+    void prefetchAllResultFiles() throws Exception {
+        resultFile("result1", "1", "2");
+        resultFile("result2");
+        resultFile("result3", "3");
+        final TestEmitter emitter = emitter(true);
+
+        emitter.init();
+        assertEquals(asList("1", "2", "3"), readAll(emitter));
+        emitter.release();
+
+        assertPrefetchStopped();
+        verify(bulkConnection, never()).updateJob(any(JobInfo.class));
+    }
+
+    @Test
+    void sameRecordsWithoutPrefetch() throws Exception {
+        resultFile("result1", "1", "2");
+        resultFile("result2");
+        resultFile("result3", "3");
+        final TestEmitter emitter = emitter(false);
+
+        emitter.init();
+        assertEquals(asList("1", "2", "3"), readAll(emitter));
+        emitter.release();
+
+        assertTrue(prefetchThreads().isEmpty());
+    }
+
+    @Test
+    void earlyStopInterruptsTheDownload() throws Exception {
+        resultFile("result1", "1", "2");
+        final CountDownLatch downloading = new CountDownLatch(1);
+        // the second result file never ends, until the download is interrupted
+        when(bulkConnection.getQueryResultStream(anyString(), anyString(), eq("result2")))
+                .thenReturn(new InputStream() {
+
+                    @Override
+                    public int read() throws IOException {
+                        downloading.countDown();
+                        try {
+                            Thread.sleep(Long.MAX_VALUE);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new InterruptedIOException();
+                        }
+                        return -1;
+                    }
+                });
+        final TestEmitter emitter = emitter(true);
+
+        emitter.init();
+        assertEquals("1", emitter.next().getString("Id"));
+        assertTrue(downloading.await(10, TimeUnit.SECONDS));
+        emitter.release();
+
+        assertPrefetchStopped();
+    }
+
+    @Test
+    void failedDownloadStopsTheRead() throws Exception {
+        resultFile("result1", "1");
+        when(bulkConnection.getQueryResultStream(anyString(), anyString(), eq("result2")))
+                .thenThrow(new AsyncApiException("download failed", AsyncExceptionCode.InvalidBatch));
+        resultFile("result3", "3");
+        final TestEmitter emitter = emitter(true);
+
+        emitter.init();
+        assertEquals("1", emitter.next().getString("Id"));
+        final IllegalStateException e = assertThrows(IllegalStateException.class, emitter::next);
+        assertEquals("download failed", e.getMessage());
+        emitter.release();
+
+        assertPrefetchStopped();
+    }
+
+    private void resultFile(final String resultId, final String... ids) throws Exception {
+        final StringBuilder csv = new StringBuilder("Id\n");
+        for (String id : ids) {
+            csv.append(id).append('\n');
+        }
+        when(bulkConnection.getQueryResultStream(anyString(), anyString(), eq(resultId)))
+                .thenReturn(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private TestEmitter emitter(final boolean prefetch) {
+        final SOQLQueryDataSet dataSet = new SOQLQueryDataSet();
+        dataSet.setDataStore(new BasicDataStore());
+        dataSet.setQuery("SELECT Id FROM Account");
+        final InputSOQLConfig config = new InputSOQLConfig();
+        config.setDataSet(dataSet);
+        config.setPrefetchResults(prefetch);
+
+        final TestEmitter emitter = new TestEmitter(config, service, factory);
+        emitter.assignResults(results);
+        return emitter;
+    }
+
+    private static List<String> readAll(final AbstractQueryEmitter emitter) {
+        final List<String> ids = new ArrayList<>();
+        Record record;
+        while ((record = emitter.next()) != null) {
+            ids.add(record.getString("Id"));
+        }
+        return ids;
+    }
+
+    /**
+     * The prefetch thread ends and no downloaded file is left behind.
+     */
+    private void assertPrefetchStopped() throws Exception {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!prefetchThreads().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(prefetchThreads().isEmpty(), "The prefetch thread should be stopped");
+        final List<Path> left = prefetchFiles();
+        left.removeAll(tempFilesBefore);
+        assertTrue(left.isEmpty(), "Result files left: " + left);
+    }
+
+    private static List<Thread> prefetchThreads() {
+        final List<Thread> threads = new ArrayList<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (PREFETCH_THREAD.equals(thread.getName()) && thread.isAlive()) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    private static List<Path> prefetchFiles() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        final Path tmp = Paths.get(System.getProperty("java.io.tmpdir"));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(tmp, "salesforce-bulk-*.csv")) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    private static class TestEmitter extends AbstractQueryEmitter {
+
+        TestEmitter(final InputSOQLConfig config, final SalesforceService service,
+                final RecordBuilderFactory factory) {
+            super(config, service, null, factory, null);
+        }
+
+        @Override
+        String getQuery() {
+            return "SELECT Id FROM Account";
+        }
+
+        @Override
+        String getModuleName() {
+            return "Account";
+        }
+
+        @Override
+        List<String> getColumnNames() {
+            return asList("Id");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.input;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.talend.components.salesforce.commons.BulkResultLocation;
+import org.talend.components.salesforce.configuration.InputSOQLConfig;
+
+class AbstractQueryMapperTest {
+
+    private static final BulkResultLocation RESULT_1 = new BulkResultLocation("job", "batch1", "result1");
+
+    private static final BulkResultLocation RESULT_2 = new BulkResultLocation("job", "batch1", "result2");
+
+    private static final BulkResultLocation RESULT_3 = new BulkResultLocation("job", "batch2", "result1");
+
+    private int submittedQueries;
+
+    @Test
+    void oneMapperPerResultFile() {
+        final TestMapper mapper = new TestMapper(asList(RESULT_1, RESULT_2, RESULT_3));
+
+        final List<TestMapper> mappers = mapper.split(1L);
+
+        assertEquals(1, submittedQueries);
+        assertEquals(3, mappers.size());
+        assertEquals(singletonList(RESULT_1), mappers.get(0).createWorker().assigned);
+        assertEquals(singletonList(RESULT_2), mappers.get(1).createWorker().assigned);
+        assertEquals(singletonList(RESULT_3), mappers.get(2).createWorker().assigned);
+
+        // a split mapper doesn't run the job again
+        assertEquals(singletonList(mappers.get(1)), mappers.get(1).split(1L));
+        assertEquals(1, submittedQueries);
+    }
+
+    @Test
+    void singleResultFileIsNotSplit() {
+        final TestMapper mapper = new TestMapper(singletonList(RESULT_1));
+
+        final List<TestMapper> mappers = mapper.split(1L);
+
+        assertEquals(1, mappers.size());
+        assertSame(mapper, mappers.get(0));
+        assertEquals(singletonList(RESULT_1), mapper.createWorker().assigned);
+    }
+
+    @Test
+    void emptyJobIsNotRunAgain() {
+        final TestMapper mapper = new TestMapper(emptyList());
+
+        mapper.split(1L);
+
+        // the emitter reads the (empty) results of the job instead of submitting the query
+        assertEquals(emptyList(), mapper.createWorker().assigned);
+        assertEquals(1, submittedQueries);
+    }
+
+    @Test
+    void notSplitMapperRunsTheJobInItsEmitter() {
+        final TestMapper mapper = new TestMapper(asList(RESULT_1, RESULT_2));
+
+        assertNull(mapper.createWorker().assigned);
+        assertEquals(0, submittedQueries);
+    }
+
+    private class TestMapper extends AbstractQueryMapper {
+
+        private final List<BulkResultLocation> jobResults;
+
+        TestMapper(final List<BulkResultLocation> jobResults) {
+            super(new InputSOQLConfig(), null, null, null, null);
+            this.jobResults = jobResults;
+        }
+
+        List<TestMapper> split(final long bundles) {
+            return splitByResult(this, () -> new TestMapper(jobResults));
+        }
+
+        TestEmitter createWorker() {
+            return withAssignedResults(newEmitter());
+        }
+
+        @Override
+        protected TestEmitter newEmitter() {
+            return new TestEmitter(jobResults);
+        }
+    }
+
+    private class TestEmitter extends AbstractQueryEmitter {
+
+        private final List<BulkResultLocation> jobResults;
+
+        private List<BulkResultLocation> assigned;
+
+        TestEmitter(final List<BulkResultLocation> jobResults) {
+            super(new InputSOQLConfig(), null, null, null, null);
+            this.jobResults = jobResults;
+        }
+
+        @Override
+        List<BulkResultLocation> submitQuery() {
+            submittedQueries++;
+            return jobResults;
+        }
+
+        @Override
+        void assignResults(final List<BulkResultLocation> results) {
+            super.assignResults(results);
+            assigned = results;
+        }
+
+        @Override
+        String getQuery() {
+            return "SELECT Id FROM Account";
+        }
+
+        @Override
+        String getModuleName() {
+            return "Account";
+        }
+
+        @Override
+        List<String> getColumnNames() {
+            return singletonList("Id");
+        }
+    }
+}
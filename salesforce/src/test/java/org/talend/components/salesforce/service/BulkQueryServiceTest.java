@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.salesforce.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sforce.soap.partner.Field;
+import com.sforce.soap.partner.FieldType;
+import com.sforce.soap.partner.IField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class BulkQueryServiceTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private BulkQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkQueryService(null, factory, null);
+
+        final Map<String, IField> fieldMap = new HashMap<>();
+        fieldMap.put("Name", field("Name", FieldType.string));
+        fieldMap.put("NumberOfEmployees", field("NumberOfEmployees", FieldType._int));
+        fieldMap.put("CreatedDate", field("CreatedDate", FieldType.datetime));
+        fieldMap.put("Birthdate", field("Birthdate", FieldType.date));
+        service.setFieldMap(fieldMap);
+
+        service.setRecordSchema(factory
+                .newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(entry("Name", Schema.Type.STRING))
+                .withEntry(entry("NumberOfEmployees", Schema.Type.INT))
+                .withEntry(entry("CreatedDate", Schema.Type.DATETIME))
+                .withEntry(entry("Birthdate", Schema.Type.DATETIME))
+                .withEntry(entry("Account_Name", Schema.Type.STRING))
+                .build());
+    }
+
+    @Test
+    void convertRows() throws IOException {
+        final List<String> header =
+                Arrays.asList("Account.Name", "Birthdate", "CreatedDate", "name", "NumberOfEmployees");
+
+        final Record first = service.convertToRecord(header,
+                new String[] { "Talend", "1990-05-17", "2020-01-02T03:04:05.000Z", "John", "42" });
+        assertEquals("John", first.getString("Name"));
+        assertEquals(42, first.getInt("NumberOfEmployees"));
+        assertEquals("Talend", first.getString("Account_Name"));
+        assertEquals(LocalDateTime.of(2020, 1, 2, 3, 4, 5).atZone(ZoneId.systemDefault()).toInstant(),
+                first.getDateTime("CreatedDate").toInstant());
+        assertEquals(LocalDate.of(1990, 5, 17).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                first.getDateTime("Birthdate").toInstant());
+
+        final Record second = service.convertToRecord(header, new String[] { "", "", "", "Jane", "" });
+        assertEquals("Jane", second.getString("Name"));
+        assertFalse(second.getOptionalInt("NumberOfEmployees").isPresent());
+        assertFalse(second.getOptionalString("Account_Name").isPresent());
+    }
+
+    @Test
+    void invalidDate() {
+        final List<String> header = Arrays.asList("Name", "CreatedDate");
+        assertThrows(IOException.class,
+                () -> service.convertToRecord(header, new String[] { "John", "02/01/2020" }));
+    }
+
+    private Schema.Entry entry(final String name, final Schema.Type type) {
+        return factory.newEntryBuilder().withName(name).withType(type).withNullable(true).build();
+    }
+
+    private static Field field(final String name, final FieldType type) {
+        final Field field = new Field();
+        field.setName(name);
+        field.setType(type);
+        return field;
+    }
+}